@@ -0,0 +1,63 @@
+package ca.ulaval.glo4002.reservation.benchmark;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import ca.ulaval.glo4002.reservation.domain.fullcourse.FullCourse;
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+import ca.ulaval.glo4002.reservation.domain.reservation.ingredient.ReservationIngredientCalculator;
+import ca.ulaval.glo4002.reservation.domain.util.MapUtil;
+import ca.ulaval.glo4002.reservation.infra.inmemory.CourseRecipeFactory;
+import ca.ulaval.glo4002.reservation.infra.inmemory.FullCourseFactory;
+import ca.ulaval.glo4002.reservation.infra.inmemory.InMemoryMenuRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IngredientCalculatorBenchmark {
+  @Param({ "1", "3", "5" })
+  private int numberOfRestrictionTypes;
+
+  private Map<RestrictionType, FullCourse> fullCourses;
+  private ReservationIngredientCalculator ingredientCalculator;
+  private Map<RestrictionType, Integer> restrictionTypeCount;
+
+  @Setup(Level.Trial)
+  public void createMenu() {
+    FullCourseFactory fullCourseFactory = new FullCourseFactory(new CourseRecipeFactory());
+    fullCourses = fullCourseFactory.create();
+    ingredientCalculator = new ReservationIngredientCalculator(new InMemoryMenuRepository(fullCourseFactory));
+    restrictionTypeCount = new EnumMap<>(RestrictionType.class);
+    RestrictionType[] restrictionTypes = RestrictionType.values();
+    for (int restrictionType = 0; restrictionType < numberOfRestrictionTypes; restrictionType++) {
+      restrictionTypeCount.put(restrictionTypes[restrictionType], restrictionType + 1);
+    }
+  }
+
+  @Benchmark
+  public Map<IngredientName, BigDecimal> mergeFullCourseMaps() {
+    Map<IngredientName, BigDecimal> reservationIngredientsQuantity = new HashMap<>();
+    for (Map.Entry<RestrictionType, Integer> count : restrictionTypeCount.entrySet()) {
+      Map<IngredientName, BigDecimal> ingredientsQuantity = fullCourses.get(count.getKey()).getIngredientQuantities();
+      for (Map.Entry<IngredientName, BigDecimal> ingredientQuantity : ingredientsQuantity.entrySet()) {
+        ingredientQuantity.setValue(ingredientQuantity.getValue().multiply(BigDecimal.valueOf(count.getValue())));
+      }
+      MapUtil.merge(reservationIngredientsQuantity, ingredientsQuantity);
+    }
+    return reservationIngredientsQuantity;
+  }
+
+  @Benchmark
+  public Map<IngredientName, BigDecimal> multiplyAddIngredientVectors() {
+    return ingredientCalculator.getIngredientsQuantity(restrictionTypeCount);
+  }
+}
@@ -0,0 +1,109 @@
+package ca.ulaval.glo4002.reservation.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.*;
+
+import ca.ulaval.glo4002.reservation.domain.date.DinnerDate;
+import ca.ulaval.glo4002.reservation.domain.date.ReservationDate;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationRepository;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
+import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.VendorId;
+import ca.ulaval.glo4002.reservation.infra.inmemory.InMemoryReservationRepository;
+import ca.ulaval.glo4002.reservation.infra.jdbc.JdbcReservationRepository;
+import ca.ulaval.glo4002.reservation.infra.jdbc.JdbcWriteMode;
+import ca.ulaval.glo4002.reservation.infra.jdbc.JdbcWriter;
+import ca.ulaval.glo4002.reservation.infra.journal.ReservationRecordCodec;
+
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class JdbcRepositoryBenchmark {
+  private static final LocalDateTime FIRST_DINNER_DATE = LocalDateTime.of(2150, 7, 20, 20, 0);
+  private static final int NUMBER_OF_DINNER_DAYS = 11;
+  private static final int INITIAL_NUMBER_OF_RESERVATIONS = 10000;
+  private static final int MAXIMUM_BATCH_SIZE = 512;
+
+  @Param({ "IN_MEMORY", "IMMEDIATE", "WRITE_BEHIND" })
+  private String reservationStore;
+
+  private final AtomicLong nextReservationNumber = new AtomicLong();
+  private Path databaseDirectory;
+  private JdbcWriter jdbcWriter;
+  private ReservationRepository reservationRepository;
+
+  @Setup(Level.Trial)
+  public void fillRepository() throws IOException, SQLException {
+    databaseDirectory = Files.createTempDirectory("restaurant-database");
+    reservationRepository = createRepository();
+    for (int index = 0; index < INITIAL_NUMBER_OF_RESERVATIONS; index++) {
+      reservationRepository.saveReservation(createReservation());
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteDatabase() throws IOException {
+    if (jdbcWriter != null) {
+      jdbcWriter.close();
+    }
+    try (Stream<Path> databaseFiles = Files.list(databaseDirectory)) {
+      for (Path databaseFile : (Iterable<Path>) databaseFiles::iterator) {
+        Files.delete(databaseFile);
+      }
+    }
+    Files.delete(databaseDirectory);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public void saveReservation() {
+    reservationRepository.saveReservation(createReservation());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public List<Reservation> getReservationsByDate() {
+    return reservationRepository.getReservationsByDate(FIRST_DINNER_DATE.plusDays(ThreadLocalRandom.current()
+                                                                                                   .nextInt(NUMBER_OF_DINNER_DAYS)));
+  }
+
+  private ReservationRepository createRepository() throws SQLException {
+    if (reservationStore.equals("IN_MEMORY")) {
+      return new InMemoryReservationRepository();
+    }
+    jdbcWriter = new JdbcWriter(DriverManager.getConnection("jdbc:h2:" + databaseDirectory.resolve("restaurant")),
+                                JdbcWriteMode.valueOf(reservationStore),
+                                MAXIMUM_BATCH_SIZE);
+    return new JdbcReservationRepository(jdbcWriter, new ReservationRecordCodec());
+  }
+
+  private Reservation createReservation() {
+    long reservationNumber = nextReservationNumber.getAndIncrement();
+    VendorId reservationId = new VendorId();
+    reservationId.setReservationNumber("TEAM-" + reservationNumber);
+    Table table = new Table(List.of(new Customer("John", Set.of(RestrictionType.NONE)),
+                                    new Customer("Jane", Set.of(RestrictionType.VEGAN))));
+    return new Reservation(reservationId,
+                           new DinnerDate(FIRST_DINNER_DATE.plusDays(reservationNumber % NUMBER_OF_DINNER_DAYS)),
+                           List.of(table),
+                           new ReservationDate(FIRST_DINNER_DATE.minusMonths(1)));
+  }
+}
@@ -0,0 +1,72 @@
+package ca.ulaval.glo4002.reservation.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import ca.ulaval.glo4002.reservation.domain.date.DinnerDate;
+import ca.ulaval.glo4002.reservation.domain.date.ReservationDate;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
+import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.VendorId;
+import ca.ulaval.glo4002.reservation.infra.journal.FileRestaurantJournal;
+import ca.ulaval.glo4002.reservation.infra.journal.JournalRecordCodec;
+import ca.ulaval.glo4002.reservation.infra.journal.JournalSyncPolicy;
+import ca.ulaval.glo4002.reservation.infra.journal.ReservationRecordCodec;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(16)
+@Fork(1)
+public class JournalBenchmark {
+  private static final LocalDateTime A_DINNER_DATE = LocalDateTime.of(2150, 7, 21, 19, 30);
+  private static final LocalDateTime A_RESERVATION_DATE = LocalDateTime.of(2150, 5, 21, 15, 23);
+
+  @Param({ "1", "10", "100" })
+  private long groupCommitWindowMillis;
+
+  @Param({ "DATA", "NONE" })
+  private JournalSyncPolicy journalSyncPolicy;
+
+  private Path journalDirectory;
+  private FileRestaurantJournal restaurantJournal;
+  private Reservation reservation;
+
+  @Setup(Level.Trial)
+  public void openJournal() throws IOException {
+    journalDirectory = Files.createTempDirectory("restaurant-journal");
+    restaurantJournal = new FileRestaurantJournal(journalDirectory.resolve("restaurant.journal"),
+                                                  new JournalRecordCodec(new ReservationRecordCodec()),
+                                                  Duration.ofMillis(groupCommitWindowMillis),
+                                                  journalSyncPolicy);
+    reservation = new Reservation(new VendorId("TEAM"),
+                                  new DinnerDate(A_DINNER_DATE),
+                                  List.of(new Table(List.of(new Customer("John", Set.of(RestrictionType.NONE)),
+                                                            new Customer("Jane", Set.of(RestrictionType.VEGETARIAN))))),
+                                  new ReservationDate(A_RESERVATION_DATE));
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteJournal() throws IOException {
+    restaurantJournal.close();
+    Files.deleteIfExists(journalDirectory.resolve("restaurant.journal"));
+    Files.deleteIfExists(journalDirectory);
+  }
+
+  @Benchmark
+  public void recordReservation() {
+    restaurantJournal.recordReservation(reservation).awaitDurability();
+  }
+}
@@ -0,0 +1,78 @@
+package ca.ulaval.glo4002.reservation.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.report.IngredientCostLedger;
+import ca.ulaval.glo4002.reservation.domain.report.IngredientPrices;
+import ca.ulaval.glo4002.reservation.domain.report.IngredientReport;
+import ca.ulaval.glo4002.reservation.domain.report.ParallelDailyReportEngine;
+import ca.ulaval.glo4002.reservation.domain.report.ReportPeriod;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelReportBenchmark {
+  private static final LocalDate FIRST_DAY = LocalDate.of(2150, 1, 1);
+  private static final int NUMBER_OF_DAYS_PER_TASK = 32;
+
+  @Param({ "1", "2", "4", "8" })
+  private int parallelism;
+
+  @Param({ "3650", "36500" })
+  private int numberOfDays;
+
+  private ForkJoinPool forkJoinPool;
+  private IngredientCostLedger ingredientCostLedger;
+  private ReportPeriod reportPeriod;
+  private IngredientPrices[] alternatingPrices;
+  private int report;
+
+  @Setup(Level.Trial)
+  public void createReportData() {
+    forkJoinPool = new ForkJoinPool(parallelism);
+    ingredientCostLedger = new IngredientCostLedger(new ParallelDailyReportEngine(forkJoinPool, NUMBER_OF_DAYS_PER_TASK));
+    reportPeriod = new ReportPeriod(FIRST_DAY, FIRST_DAY.plusDays(numberOfDays - 1));
+
+    Random random = new Random(4002L);
+    alternatingPrices = new IngredientPrices[] { createPrices(random), createPrices(random) };
+    for (int day = 0; day < numberOfDays; day++) {
+      Map<IngredientName, BigDecimal> quantities = new EnumMap<>(IngredientName.class);
+      for (IngredientName ingredientName : IngredientName.values()) {
+        quantities.put(ingredientName, BigDecimal.valueOf(random.nextInt(100000), 3));
+      }
+      ingredientCostLedger.record(FIRST_DAY.plusDays(day), quantities);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void shutDownPool() {
+    forkJoinPool.shutdown();
+  }
+
+  @Benchmark
+  public BigDecimal ingredientReport() {
+    IngredientPrices ingredientPrices = alternatingPrices[report++ & 1];
+    IngredientReport ingredientReport = ingredientCostLedger.getReport(reportPeriod, ingredientPrices);
+    return ingredientReport.calculateTotalPriceForEntireReport();
+  }
+
+  private IngredientPrices createPrices(Random random) {
+    Map<IngredientName, BigDecimal> prices = new EnumMap<>(IngredientName.class);
+    for (IngredientName ingredientName : IngredientName.values()) {
+      prices.put(ingredientName, BigDecimal.valueOf(random.nextInt(10000), 2));
+    }
+    return IngredientPrices.of(prices);
+  }
+}
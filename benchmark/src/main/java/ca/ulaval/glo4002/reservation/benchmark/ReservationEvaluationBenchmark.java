@@ -0,0 +1,91 @@
+package ca.ulaval.glo4002.reservation.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ca.ulaval.glo4002.reservation.domain.date.DinnerDate;
+import ca.ulaval.glo4002.reservation.domain.date.ReservationDate;
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationEvaluation;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationEvaluator;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
+import ca.ulaval.glo4002.reservation.domain.reservation.ingredient.ReservationIngredientCalculator;
+import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.VendorId;
+import ca.ulaval.glo4002.reservation.infra.inmemory.CourseRecipeFactory;
+import ca.ulaval.glo4002.reservation.infra.inmemory.FullCourseFactory;
+import ca.ulaval.glo4002.reservation.infra.inmemory.InMemoryMenuRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservationEvaluationBenchmark {
+  private static final LocalDateTime A_DINNER_DATE = LocalDateTime.of(2150, 7, 22, 20, 0);
+  private static final int NUMBER_OF_AVAILABILITY_CHECKS = 1;
+
+  private ReservationIngredientCalculator ingredientCalculator;
+  private ReservationEvaluator reservationEvaluator;
+  private Reservation reservation;
+
+  @Setup(Level.Trial)
+  public void createReservation() {
+    ingredientCalculator = new ReservationIngredientCalculator(new InMemoryMenuRepository(new FullCourseFactory(new CourseRecipeFactory())));
+    reservationEvaluator = new ReservationEvaluator(ingredientCalculator);
+    Table aTable = new Table(List.of(new Customer("Roger", Set.of(RestrictionType.ALLERGIES)),
+                                     new Customer("Rogette", Set.of(RestrictionType.VEGETARIAN, RestrictionType.ILLNESS)),
+                                     new Customer("John", Set.of())));
+    Table anotherTable = new Table(List.of(new Customer("Jane", Set.of(RestrictionType.VEGAN)),
+                                           new Customer("Luce", Set.of())));
+    VendorId reservationId = new VendorId();
+    reservationId.setReservationNumber("TEAM-1");
+    reservation = new Reservation(reservationId,
+                                  new DinnerDate(A_DINNER_DATE),
+                                  List.of(aTable, anotherTable),
+                                  new ReservationDate(A_DINNER_DATE.minusMonths(1)));
+  }
+
+  @Benchmark
+  public void recomputePerCheck(Blackhole blackhole) {
+    Map<IngredientName, BigDecimal> allergyCheckIngredients = ingredientCalculator.getIngredientsQuantity(reservation.getRestrictionTypeCount());
+    blackhole.consume(allergyCheckIngredients.containsKey(IngredientName.CARROTS));
+    blackhole.consume(reservation.getRestrictionTypes().contains(RestrictionType.ALLERGIES));
+    for (int check = 0; check < NUMBER_OF_AVAILABILITY_CHECKS; check++) {
+      blackhole.consume(ingredientCalculator.getIngredientsQuantity(reservation.getRestrictionTypeCount())
+                                            .containsKey(IngredientName.TOMATO));
+    }
+    blackhole.consume(reservation.getNumberOfCustomers());
+    blackhole.consume(reservation.getRestrictionTypeCount());
+    blackhole.consume(reservation.getNumberOfCustomers());
+    blackhole.consume(reservation.getNumberOfRestrictions());
+    blackhole.consume(ingredientCalculator.getIngredientsQuantity(reservation.getRestrictionTypeCount()));
+    blackhole.consume(reservation.getReservationFees());
+  }
+
+  @Benchmark
+  public void evaluateOnce(Blackhole blackhole) {
+    ReservationEvaluation reservationEvaluation = reservationEvaluator.evaluate(reservation);
+    blackhole.consume(reservationEvaluation.containsIngredient(IngredientName.CARROTS));
+    blackhole.consume(reservationEvaluation.hasAllergicCustomer());
+    for (int check = 0; check < NUMBER_OF_AVAILABILITY_CHECKS; check++) {
+      blackhole.consume(reservationEvaluation.containsIngredient(IngredientName.TOMATO));
+    }
+    blackhole.consume(reservationEvaluation.getNumberOfCustomers());
+    blackhole.consume(reservationEvaluation.getRestrictionTypeCount());
+    blackhole.consume(reservationEvaluation.getNumberOfCustomers());
+    blackhole.consume(reservationEvaluation.getNumberOfRestrictions());
+    blackhole.consume(reservationEvaluation.getIngredientsQuantity());
+    blackhole.consume(reservationEvaluation.getReservationFees());
+  }
+}
@@ -0,0 +1,109 @@
+package ca.ulaval.glo4002.reservation.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.*;
+
+import ca.ulaval.glo4002.reservation.domain.date.DinnerDate;
+import ca.ulaval.glo4002.reservation.domain.date.ReservationDate;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationRepository;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
+import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.VendorId;
+import ca.ulaval.glo4002.reservation.infra.inmemory.InMemoryReservationRepository;
+import ca.ulaval.glo4002.reservation.infra.mapped.MappedReservationRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservationRepositoryBenchmark {
+  private static final LocalDateTime FIRST_DINNER_DATE = LocalDateTime.of(2150, 7, 20, 20, 0);
+  private static final int RESERVATIONS_PER_DAY = 20;
+  private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  @Param({ "IN_MEMORY", "MAPPED" })
+  private String reservationStore;
+
+  @Param({ "1000", "10000", "100000", "1000000" })
+  private int numberOfReservations;
+
+  private Path segmentDirectory;
+  private ReservationRepository reservationRepository;
+  private ReservationNumber[] reservationIds;
+  private LocalDateTime[] dinnerDates;
+
+  @Setup(Level.Trial)
+  public void fillRepository() throws IOException {
+    segmentDirectory = Files.createTempDirectory("reservation-segments");
+    reservationRepository = createRepository();
+    reservationIds = new ReservationNumber[numberOfReservations];
+    int numberOfDays = Math.max(1, numberOfReservations / RESERVATIONS_PER_DAY);
+    dinnerDates = new LocalDateTime[numberOfDays];
+    for (int day = 0; day < numberOfDays; day++) {
+      dinnerDates[day] = FIRST_DINNER_DATE.plusDays(day);
+    }
+    for (int index = 0; index < numberOfReservations; index++) {
+      Reservation reservation = createReservation(index, dinnerDates[index % numberOfDays]);
+      reservationRepository.saveReservation(reservation);
+      reservationIds[index] = reservation.getReservationId();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void closeRepository() throws IOException {
+    if (reservationRepository instanceof MappedReservationRepository) {
+      ((MappedReservationRepository) reservationRepository).close();
+    }
+    try (Stream<Path> segmentFiles = Files.list(segmentDirectory)) {
+      for (Path segmentFile : (Iterable<Path>) segmentFiles::iterator) {
+        Files.delete(segmentFile);
+      }
+    }
+    Files.delete(segmentDirectory);
+  }
+
+  @Benchmark
+  public Reservation getReservationById() {
+    return reservationRepository.getReservationById(reservationIds[randomIndex(reservationIds.length)]);
+  }
+
+  @Benchmark
+  public List<Reservation> getReservationsByDate() {
+    return reservationRepository.getReservationsByDate(dinnerDates[randomIndex(dinnerDates.length)]);
+  }
+
+  private ReservationRepository createRepository() {
+    if (reservationStore.equals("MAPPED")) {
+      return new MappedReservationRepository(segmentDirectory, SEGMENT_SIZE);
+    }
+    return new InMemoryReservationRepository();
+  }
+
+  private int randomIndex(int bound) {
+    return ThreadLocalRandom.current().nextInt(bound);
+  }
+
+  private Reservation createReservation(int index, LocalDateTime dinnerDate) {
+    VendorId reservationId = new VendorId();
+    reservationId.setReservationNumber("TEAM-" + index);
+    Table table = new Table(List.of(new Customer("Customer " + index, Set.of(RestrictionType.VEGAN))));
+    return new Reservation(reservationId,
+                           new DinnerDate(dinnerDate),
+                           List.of(table),
+                           new ReservationDate(FIRST_DINNER_DATE.minusMonths(1)));
+  }
+}
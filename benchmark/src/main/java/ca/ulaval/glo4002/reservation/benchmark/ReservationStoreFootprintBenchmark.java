@@ -0,0 +1,103 @@
+package ca.ulaval.glo4002.reservation.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.*;
+
+import ca.ulaval.glo4002.reservation.domain.date.DinnerDate;
+import ca.ulaval.glo4002.reservation.domain.date.ReservationDate;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationRepository;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
+import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.VendorId;
+import ca.ulaval.glo4002.reservation.infra.inmemory.InMemoryReservationRepository;
+import ca.ulaval.glo4002.reservation.infra.mapped.MappedReservationRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReservationStoreFootprintBenchmark {
+  private static final LocalDateTime FIRST_DINNER_DATE = LocalDateTime.of(2150, 7, 20, 20, 0);
+  private static final int RESERVATIONS_PER_DAY = 20;
+  private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+  private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+  @Param({ "IN_MEMORY", "MAPPED" })
+  private String reservationStore;
+
+  @Param({ "1000000" })
+  private int numberOfReservations;
+
+  private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+  private Path segmentDirectory;
+  private ReservationRepository reservationRepository;
+  private long usedHeapBeforeFilling;
+
+  @Setup(Level.Iteration)
+  public void measureEmptyHeap() throws IOException {
+    segmentDirectory = Files.createTempDirectory("reservation-segments");
+    usedHeapBeforeFilling = usedHeapAfterCollection();
+  }
+
+  @TearDown(Level.Iteration)
+  public void deleteRepository() throws IOException {
+    long retainedHeapMegabytes = (usedHeapAfterCollection() - usedHeapBeforeFilling) / BYTES_PER_MEGABYTE;
+    System.out.printf("%s retained heap: %d MB%n", reservationStore, retainedHeapMegabytes);
+    if (reservationRepository instanceof MappedReservationRepository) {
+      ((MappedReservationRepository) reservationRepository).close();
+    }
+    reservationRepository = null;
+    try (Stream<Path> segmentFiles = Files.list(segmentDirectory)) {
+      for (Path segmentFile : (Iterable<Path>) segmentFiles::iterator) {
+        Files.delete(segmentFile);
+      }
+    }
+    Files.delete(segmentDirectory);
+  }
+
+  @Benchmark
+  public ReservationRepository fillRepository() {
+    reservationRepository = createRepository();
+    for (int index = 0; index < numberOfReservations; index++) {
+      reservationRepository.saveReservation(createReservation(index));
+    }
+    return reservationRepository;
+  }
+
+  private ReservationRepository createRepository() {
+    if (reservationStore.equals("MAPPED")) {
+      return new MappedReservationRepository(segmentDirectory, SEGMENT_SIZE);
+    }
+    return new InMemoryReservationRepository();
+  }
+
+  private long usedHeapAfterCollection() {
+    System.gc();
+    return memoryBean.getHeapMemoryUsage().getUsed();
+  }
+
+  private Reservation createReservation(int index) {
+    VendorId reservationId = new VendorId();
+    reservationId.setReservationNumber("TEAM-" + index);
+    Table table = new Table(List.of(new Customer("Customer " + index, Set.of(RestrictionType.VEGAN)),
+                                    new Customer("Guest " + index, Set.of())));
+    return new Reservation(reservationId,
+                           new DinnerDate(FIRST_DINNER_DATE.plusDays(index / RESERVATIONS_PER_DAY)),
+                           List.of(table),
+                           new ReservationDate(FIRST_DINNER_DATE.minusMonths(1)));
+  }
+}
@@ -0,0 +1,108 @@
+package ca.ulaval.glo4002.reservation.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import ca.ulaval.glo4002.reservation.domain.chef.Chef;
+import ca.ulaval.glo4002.reservation.domain.date.DinerPeriod;
+import ca.ulaval.glo4002.reservation.domain.date.DinnerDate;
+import ca.ulaval.glo4002.reservation.domain.date.ReservationDate;
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningConfigurationRequest;
+import ca.ulaval.glo4002.reservation.domain.material.Material;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
+import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.VendorId;
+import ca.ulaval.glo4002.reservation.domain.snapshot.RestaurantSnapshot;
+import ca.ulaval.glo4002.reservation.infra.journal.ReservationRecordCodec;
+import ca.ulaval.glo4002.reservation.infra.snapshot.FileRestaurantSnapshotStore;
+import ca.ulaval.glo4002.reservation.infra.snapshot.RestaurantSnapshotCodec;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+  private static final LocalDate OPENING_DINNER_DATE = LocalDate.of(2150, 7, 20);
+  private static final LocalDateTime A_RESERVATION_DATE = LocalDateTime.of(2150, 5, 21, 15, 23);
+  private static final int NUMBER_OF_DINNER_DAYS = 11;
+
+  @Param({ "1000", "100000" })
+  private int numberOfReservations;
+
+  private Path snapshotDirectory;
+  private FileRestaurantSnapshotStore restaurantSnapshotStore;
+  private RestaurantSnapshot restaurantSnapshot;
+
+  @Setup(Level.Trial)
+  public void saveSnapshot() throws IOException {
+    snapshotDirectory = Files.createTempDirectory("restaurant-snapshot");
+    restaurantSnapshotStore = new FileRestaurantSnapshotStore(snapshotDirectory.resolve("restaurant.snapshot"),
+                                                              new RestaurantSnapshotCodec(new ReservationRecordCodec()));
+    restaurantSnapshot = createSnapshot();
+    restaurantSnapshotStore.save(restaurantSnapshot);
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteSnapshot() throws IOException {
+    Files.deleteIfExists(snapshotDirectory.resolve("restaurant.snapshot"));
+    Files.deleteIfExists(snapshotDirectory);
+  }
+
+  @Benchmark
+  public void save() {
+    restaurantSnapshotStore.save(restaurantSnapshot);
+  }
+
+  @Benchmark
+  public Optional<RestaurantSnapshot> loadLatest() {
+    return restaurantSnapshotStore.loadLatest();
+  }
+
+  private RestaurantSnapshot createSnapshot() {
+    List<Reservation> reservations = new ArrayList<>();
+    for (int i = 0; i < numberOfReservations; i++) {
+      LocalDateTime dinnerDate = OPENING_DINNER_DATE.plusDays(i % NUMBER_OF_DINNER_DAYS).atTime(19, 30);
+      reservations.add(new Reservation(new VendorId("TEAM"),
+                                       new DinnerDate(dinnerDate),
+                                       List.of(new Table(List.of(new Customer("John", Set.of(RestrictionType.NONE)),
+                                                                 new Customer("Jane", Set.of(RestrictionType.VEGETARIAN))))),
+                                       new ReservationDate(A_RESERVATION_DATE)));
+    }
+    Map<LocalDate, Map<IngredientName, BigDecimal>> ingredientsQuantityPerDay = new HashMap<>();
+    Map<LocalDate, Map<Material, BigDecimal>> dishesQuantityPerDay = new HashMap<>();
+    Map<LocalDate, Set<Chef>> chefSchedule = new HashMap<>();
+    for (int day = 0; day < NUMBER_OF_DINNER_DAYS; day++) {
+      LocalDate dinnerDay = OPENING_DINNER_DATE.plusDays(day);
+      ingredientsQuantityPerDay.put(dinnerDay, Map.of(IngredientName.TOFU, BigDecimal.valueOf(numberOfReservations)));
+      dishesQuantityPerDay.put(dinnerDay, Map.of(Material.PLATE, BigDecimal.valueOf(numberOfReservations)));
+      chefSchedule.put(dinnerDay, Set.of());
+    }
+    return new RestaurantSnapshot(0,
+                                  new HoppeningConfigurationRequest(new DinerPeriod(OPENING_DINNER_DATE,
+                                                                                    LocalDate.of(2150, 7, 30)),
+                                                                    new DinerPeriod(LocalDate.of(2150, 1, 1),
+                                                                                    LocalDate.of(2150, 7, 16))),
+                                  reservations,
+                                  ingredientsQuantityPerDay,
+                                  dishesQuantityPerDay,
+                                  chefSchedule);
+  }
+}
@@ -1,54 +1,90 @@
 package ca.ulaval.glo4002.reservation;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import ca.ulaval.glo4002.reservation.api.configuration.ConfigurationResource;
 import ca.ulaval.glo4002.reservation.api.configuration.validator.ConfigurationDateFormatValidator;
 import ca.ulaval.glo4002.reservation.api.report.IngredientReportPresenterFactory;
+import ca.ulaval.glo4002.reservation.api.report.ReportCache;
 import ca.ulaval.glo4002.reservation.api.report.ReportResource;
 import ca.ulaval.glo4002.reservation.api.report.assembler.ChefReportDtoAssembler;
 import ca.ulaval.glo4002.reservation.api.report.assembler.RestaurantFinanceDtoAssembler;
 import ca.ulaval.glo4002.reservation.api.report.presenter.material.MaterialReportDtoFactory;
+import ca.ulaval.glo4002.reservation.api.report.presenter.chef.ChefReportPresenter;
 import ca.ulaval.glo4002.reservation.api.report.presenter.material.MaterialReportPresenter;
 import ca.ulaval.glo4002.reservation.api.report.presenter.total.TotalReportDtoFactory;
 import ca.ulaval.glo4002.reservation.api.report.presenter.unit.UnitReportDayDtoFactory;
-import ca.ulaval.glo4002.reservation.api.report.presenter.unit.UnitReportDtoFactory;
 import ca.ulaval.glo4002.reservation.api.report.validator.ReportDateValidator;
 import ca.ulaval.glo4002.reservation.api.reservation.ReservationResource;
+import ca.ulaval.glo4002.reservation.api.reservation.assembler.ReservationAdmissionDtoAssembler;
 import ca.ulaval.glo4002.reservation.api.reservation.validator.DateFormatValidator;
 import ca.ulaval.glo4002.reservation.domain.date.*;
 import ca.ulaval.glo4002.reservation.domain.inventory.IngredientInventory;
 import ca.ulaval.glo4002.reservation.domain.inventory.Inventory;
+import ca.ulaval.glo4002.reservation.domain.DinnerDateLocks;
 import ca.ulaval.glo4002.reservation.domain.ReservationBook;
 import ca.ulaval.glo4002.reservation.domain.Restaurant;
-import ca.ulaval.glo4002.reservation.domain.chef.ChefSelector;
+import ca.ulaval.glo4002.reservation.domain.chef.ChefAssignmentCache;
+import ca.ulaval.glo4002.reservation.domain.chef.ChefAssignmentOptimizer;
+import ca.ulaval.glo4002.reservation.domain.chef.OptimalChefSelector;
+import ca.ulaval.glo4002.reservation.domain.chef.Selectable;
 import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
 import ca.ulaval.glo4002.reservation.domain.fullcourse.MenuRepository;
 import ca.ulaval.glo4002.reservation.domain.fullcourse.stock.Available;
 import ca.ulaval.glo4002.reservation.domain.fullcourse.stock.TomatoStock;
 import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningConfigurationRequestFactory;
 import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningEvent;
+import ca.ulaval.glo4002.reservation.domain.ledger.DailyLedgerBook;
 import ca.ulaval.glo4002.reservation.domain.material.*;
+import ca.ulaval.glo4002.reservation.domain.journal.RestaurantJournal;
 import ca.ulaval.glo4002.reservation.domain.report.*;
-import ca.ulaval.glo4002.reservation.domain.report.chef.ChefReportGenerator;
 import ca.ulaval.glo4002.reservation.domain.report.chef.ChefRepository;
 import ca.ulaval.glo4002.reservation.domain.reservation.*;
 import ca.ulaval.glo4002.reservation.domain.reservation.customer.CustomerFactory;
 import ca.ulaval.glo4002.reservation.domain.reservation.ingredient.IngredientCalculator;
 import ca.ulaval.glo4002.reservation.domain.reservation.ingredient.ReservationIngredientCalculator;
 import ca.ulaval.glo4002.reservation.domain.reservation.table.TableFactory;
+import ca.ulaval.glo4002.reservation.domain.snapshot.RestaurantSnapshotStore;
+import ca.ulaval.glo4002.reservation.domain.snapshot.RestaurantSnapshotter;
 import ca.ulaval.glo4002.reservation.infra.inmemory.*;
+import ca.ulaval.glo4002.reservation.infra.journal.FileRestaurantJournal;
+import ca.ulaval.glo4002.reservation.infra.journal.JournalRecordCodec;
+import ca.ulaval.glo4002.reservation.infra.journal.JournalSyncPolicy;
+import ca.ulaval.glo4002.reservation.infra.journal.ReservationRecordCodec;
+import ca.ulaval.glo4002.reservation.infra.report.CachedIngredientPriceRepository;
 import ca.ulaval.glo4002.reservation.infra.report.IngredientPriceHttpRepository;
+import ca.ulaval.glo4002.reservation.infra.report.IngredientPricesParser;
+import ca.ulaval.glo4002.reservation.infra.snapshot.FileRestaurantSnapshotStore;
+import ca.ulaval.glo4002.reservation.infra.snapshot.RestaurantSnapshotCodec;
 import ca.ulaval.glo4002.reservation.server.ReservationServer;
 import ca.ulaval.glo4002.reservation.service.report.chef.ChefReportService;
 import ca.ulaval.glo4002.reservation.service.report.finance.FinanceService;
 import ca.ulaval.glo4002.reservation.service.report.chef.ReportService;
 import ca.ulaval.glo4002.reservation.service.RestaurantService;
 import ca.ulaval.glo4002.reservation.service.report.finance.RestaurantFinanceService;
+import ca.ulaval.glo4002.reservation.service.reservation.ReservationAdmissionQueue;
 import ca.ulaval.glo4002.reservation.service.reservation.assembler.*;
 
 public class ReservationContext {
@@ -62,39 +98,61 @@ public class ReservationContext {
   private static final LocalDate CLOSING_RESERVATION_LOCAL_DATE = LocalDate.of(2150, 7, 16);
   private static final IngredientName TOMATO = IngredientName.TOMATO;
   private static final int DAY_BEFORE_TOMATO_BECOME_AVAILABLE = 5;
+  private static final int CHEF_ASSIGNMENT_CACHE_CAPACITY = 1024;
+  private static final int DINNER_DATE_LOCK_STRIPES = 64;
+  private static final Duration INGREDIENT_PRICES_TIME_TO_LIVE = Duration.ofMinutes(5);
+  private static final Duration INGREDIENT_PRICES_REFRESH_AHEAD = Duration.ofMinutes(1);
+  private static final Duration WAREHOUSE_CONNECT_TIMEOUT = Duration.ofSeconds(2);
+  private static final Duration WAREHOUSE_REQUEST_TIMEOUT = Duration.ofSeconds(5);
+  private static final int MAXIMUM_CACHED_REPORT_SIZE = 1024 * 1024;
+  private static final int REPORT_DAYS_PER_TASK = 32;
+  private static final Path JOURNAL_FILE = Paths.get("data", "restaurant.journal");
+  private static final Duration JOURNAL_GROUP_COMMIT_WINDOW = Duration.ofMillis(1);
+  private static final JournalSyncPolicy JOURNAL_SYNC_POLICY = JournalSyncPolicy.DATA;
+  private static final Path SNAPSHOT_FILE = Paths.get("data", "restaurant.snapshot");
+  private static final Duration SNAPSHOT_INTERVAL = Duration.ofMinutes(1);
+  private static final int ADMISSION_QUEUES = 64;
+  private static final int ADMISSION_QUEUE_CAPACITY = 256;
+  private static final int ADMISSION_BATCH_SIZE = 64;
+  private static final int MAXIMUM_COMPLETED_ADMISSION_TICKETS = 65536;
 
   private ReservationServer server;
 
   public void start() {
     IngredientCalculator ingredientCalculator = createReservationIngredientCalculator();
     InMemoryIngredientQuantityRepository inMemoryIngredientQuantityRepository = new InMemoryIngredientQuantityRepository();
+    ParallelDailyReportEngine parallelDailyReportEngine = new ParallelDailyReportEngine(new ForkJoinPool(Runtime.getRuntime()
+                                                                                                            .availableProcessors()),
+                                                                                        REPORT_DAYS_PER_TASK);
+    IngredientCostLedger ingredientCostLedger = new IngredientCostLedger(parallelDailyReportEngine);
     ReservationRepository reservationRepository = new InMemoryReservationRepository();
     Set<Available> availableIngredient = createAvailableIngredient();
-    AllergiesDetector allergiesDetector = new AllergiesDetector(ingredientCalculator);
-    Buffet buffet = new Buffet(new DailyDishesQuantityFactory());
-    ChefRepository chefRepository = new InMemoryChefRepository();
-    ChefReportService chefReportService = createChefReportService(chefRepository);
-    ChefSelector chefSelector = new ChefSelector(chefRepository);
-    Restaurant restaurant = createRestaurant(inMemoryIngredientQuantityRepository, reservationRepository, allergiesDetector, buffet,
-            chefSelector, availableIngredient, ingredientCalculator);
-    IngredientPriceRepository ingredientPriceRepository = new IngredientPriceHttpRepository();
-    IngredientPriceCalculatorFactory ingredientPriceCalculatorFactory = new IngredientPriceCalculatorFactory();
-    IngredientReportInformationFactory ingredientReportInformationFactory = new IngredientReportInformationFactory();
-    DailyIngredientReportInformationFactory dailyIngredientReportInformationFactory = new DailyIngredientReportInformationFactory(ingredientReportInformationFactory);
-    IngredientReportFactory ingredientReportFactory = new IngredientReportFactory(dailyIngredientReportInformationFactory);
-    IngredientReportGenerator ingredientReportGenerator = new IngredientReportGenerator(ingredientPriceCalculatorFactory, ingredientReportFactory);
+    AllergiesDetector allergiesDetector = new AllergiesDetector();
     MaterialToBuyPriceCalculator materialToBuyPriceCalculator = new MaterialToBuyPriceCalculator();
     CleanMaterialPriceCalculator cleanMaterialPriceCalculator = new CleanMaterialPriceCalculator();
     MaterialReportGenerator materialReportGenerator = new MaterialReportGenerator(cleanMaterialPriceCalculator, materialToBuyPriceCalculator);
+    Buffet buffet = new Buffet(new DailyDishesQuantityFactory(), new MaterialLedger(materialReportGenerator));
+    ChefRepository chefRepository = new InMemoryChefRepository();
+    ChefReportService chefReportService = new ChefReportService(chefRepository);
+    Selectable chefSelector = new OptimalChefSelector(chefRepository,
+                                                      new ChefAssignmentOptimizer(),
+                                                      new ChefAssignmentCache(CHEF_ASSIGNMENT_CACHE_CAPACITY));
+    ReservationRecordCodec reservationRecordCodec = new ReservationRecordCodec();
+    RestaurantJournal restaurantJournal = createRestaurantJournal(reservationRecordCodec);
+    Restaurant restaurant = createRestaurant(inMemoryIngredientQuantityRepository, ingredientCostLedger, reservationRepository, allergiesDetector, buffet,
+            chefSelector, chefRepository, availableIngredient, ingredientCalculator, restaurantJournal);
+    RestaurantSnapshotStore restaurantSnapshotStore = new FileRestaurantSnapshotStore(SNAPSHOT_FILE,
+                                                                                      new RestaurantSnapshotCodec(reservationRecordCodec));
+    recoverRestaurant(restaurant, restaurantSnapshotStore, restaurantJournal);
+    scheduleSnapshots(new RestaurantSnapshotter(restaurant, restaurantSnapshotStore));
+    IngredientPriceRepository ingredientPriceRepository = createIngredientPriceRepository();
 
 
     RestaurantService restaurantService = createReservationService(restaurant);
 
-    FinanceService financeService = createFinanceService(inMemoryIngredientQuantityRepository, ingredientPriceRepository, ingredientReportGenerator,
-            restaurant, materialReportGenerator, chefReportService);
+    FinanceService financeService = createFinanceService(ingredientCostLedger, ingredientPriceRepository, restaurant, chefReportService);
 
-    ReportService reportService = createReportService(inMemoryIngredientQuantityRepository, restaurant, ingredientPriceRepository,
-            ingredientReportGenerator, materialReportGenerator);
+    ReportService reportService = createReportService(ingredientCostLedger, restaurant, ingredientPriceRepository);
 
     Object[] resources = createResources(restaurantService, reportService, chefReportService, financeService);
 
@@ -103,19 +161,27 @@ public class ReservationContext {
     server.start();
   }
 
-  private FinanceService createFinanceService(InMemoryIngredientQuantityRepository inMemoryIngredientQuantityRepository,
-                                              IngredientPriceRepository ingredientPriceRepository,
-                                              IngredientReportGenerator ingredientReportGenerator, Restaurant restaurant,
-                                              MaterialReportGenerator materialReportGenerator,
+  private FinanceService createFinanceService(IngredientCostLedger ingredientCostLedger,
+                                              IngredientPriceRepository ingredientPriceRepository, Restaurant restaurant,
                                               ChefReportService chefReportService) {
 
-    return new RestaurantFinanceService(inMemoryIngredientQuantityRepository, ingredientPriceRepository, ingredientReportGenerator,
-            restaurant, materialReportGenerator, chefReportService);
+    return new RestaurantFinanceService(ingredientCostLedger, ingredientPriceRepository, restaurant, chefReportService);
   }
 
-  private ChefReportService createChefReportService(ChefRepository chefRepository) {
-    ChefReportGenerator chefReportGenerator = new ChefReportGenerator();
-    return new ChefReportService(chefReportGenerator, chefRepository);
+  private IngredientPriceRepository createIngredientPriceRepository() {
+    HttpClient warehouseClient = HttpClient.newBuilder()
+                                           .proxy(ProxySelector.getDefault())
+                                           .connectTimeout(WAREHOUSE_CONNECT_TIMEOUT)
+                                           .build();
+    IngredientPriceHttpRepository warehouseRepository = new IngredientPriceHttpRepository(warehouseClient,
+                                                                                          new IngredientPricesParser(new JsonFactory()),
+                                                                                          WAREHOUSE_REQUEST_TIMEOUT);
+    CachedIngredientPriceRepository ingredientPriceRepository = new CachedIngredientPriceRepository(warehouseRepository,
+                                                                                                    INGREDIENT_PRICES_TIME_TO_LIVE,
+                                                                                                    INGREDIENT_PRICES_REFRESH_AHEAD,
+                                                                                                    Clock.systemUTC());
+    ingredientPriceRepository.warmUp();
+    return ingredientPriceRepository;
   }
 
   private RestaurantService createReservationService(Restaurant restaurant) {
@@ -134,18 +200,15 @@ public class ReservationContext {
                                  restaurant);
   }
 
-  private ReportService createReportService(InMemoryIngredientQuantityRepository inMemoryIngredientQuantityRepository,
-                                            Restaurant restaurant, IngredientPriceRepository ingredientPriceRepository, IngredientReportGenerator ingredientReportGenerator,
-                                            MaterialReportGenerator materialReportGenerator)
+  private ReportService createReportService(IngredientCostLedger ingredientCostLedger,
+                                            Restaurant restaurant, IngredientPriceRepository ingredientPriceRepository)
   {
 
     ReportPeriodFactory reportPeriodFactory = new ReportPeriodFactory();
 
-    return new ReportService(inMemoryIngredientQuantityRepository,
+    return new ReportService(ingredientCostLedger,
                              ingredientPriceRepository,
-                             ingredientReportGenerator,
                              restaurant,
-                             materialReportGenerator,
                              reportPeriodFactory);
   }
 
@@ -168,31 +231,54 @@ public class ReservationContext {
 
   private ReservationResource createReservationResource(RestaurantService restaurantService) {
     DateFormatValidator dateFormatValidator = new DateFormatValidator(DATE_TIME_REGEX);
-    return new ReservationResource(restaurantService, dateFormatValidator);
+    return new ReservationResource(restaurantService,
+                                   dateFormatValidator,
+                                   new ReservationAdmissionDtoAssembler(),
+                                   createReservationAdmissionQueue(restaurantService));
+  }
+
+  private ReservationAdmissionQueue createReservationAdmissionQueue(RestaurantService restaurantService) {
+    int numberOfAdmissionWorkers = Runtime.getRuntime().availableProcessors();
+    ExecutorService admissionWorkers = Executors.newFixedThreadPool(numberOfAdmissionWorkers, admissionTask -> {
+      Thread admissionWorker = new Thread(admissionTask, "reservation-admission");
+      admissionWorker.setDaemon(true);
+      return admissionWorker;
+    });
+    return new ReservationAdmissionQueue(restaurantService,
+                                         admissionWorkers,
+                                         ADMISSION_QUEUES,
+                                         ADMISSION_QUEUE_CAPACITY,
+                                         ADMISSION_BATCH_SIZE,
+                                         MAXIMUM_COMPLETED_ADMISSION_TICKETS);
   }
 
   private ReportResource createReportResource(ReportService reportService,
                                               ChefReportService chefReportService, FinanceService restaurantFinanceService)
   {
     ReportDateValidator reportDateValidator = new ReportDateValidator(DATE_REGEX, reportService);
+    ObjectMapper reportObjectMapper = new ObjectMapper();
     UnitReportDayDtoFactory unitReportDayDtoFactory = new UnitReportDayDtoFactory();
-    UnitReportDtoFactory unitReportDtoFactory = new UnitReportDtoFactory(unitReportDayDtoFactory);
     TotalReportDtoFactory totalReportDtoFactory = new TotalReportDtoFactory();
     MaterialReportDtoFactory materialReportDtoFactory = new MaterialReportDtoFactory();
-    IngredientReportPresenterFactory ingredientReportPresenterFactory = new IngredientReportPresenterFactory(unitReportDtoFactory,
-                                                                                                             totalReportDtoFactory);
-    ChefReportDtoAssembler chefReportDtoAssembler = new ChefReportDtoAssembler();
-    MaterialReportPresenter materialReportPresenter = new MaterialReportPresenter(materialReportDtoFactory);
+    IngredientReportPresenterFactory ingredientReportPresenterFactory = new IngredientReportPresenterFactory(unitReportDayDtoFactory,
+                                                                                                             totalReportDtoFactory,
+                                                                                                             reportObjectMapper);
+    ChefReportPresenter chefReportPresenter = new ChefReportPresenter(new ChefReportDtoAssembler(), reportObjectMapper);
+    MaterialReportPresenter materialReportPresenter = new MaterialReportPresenter(materialReportDtoFactory,
+                                                                                  reportObjectMapper);
     RestaurantFinanceDtoAssembler restaurantFinanceDtoAssembler = new RestaurantFinanceDtoAssembler();
 
     return new ReportResource(reportService,
                               chefReportService,
                               reportDateValidator,
                               ingredientReportPresenterFactory,
-                              chefReportDtoAssembler,
+                              chefReportPresenter,
                               materialReportPresenter,
                                restaurantFinanceService,
-                                restaurantFinanceDtoAssembler);
+                                restaurantFinanceDtoAssembler,
+                              new ReportCache(reportObjectMapper,
+                                              MAXIMUM_CACHED_REPORT_SIZE,
+                                              UUID.randomUUID().toString()));
   }
 
   private ReservationServer createServer(Object[] resources) {
@@ -212,21 +298,63 @@ public class ReservationContext {
   }
 
   private Restaurant createRestaurant(InMemoryIngredientQuantityRepository inMemoryIngredientQuantityRepository,
+                                      IngredientCostLedger ingredientCostLedger,
                                       ReservationRepository reservationRepository,
                                       AllergiesDetector allergiesDetector,
                                       Buffet buffet,
-                                      ChefSelector chefSelector, Set<Available> availableIngredient, IngredientCalculator reservationIngredientCalculator)
+                                      Selectable chefSelector, ChefRepository chefRepository, Set<Available> availableIngredient, IngredientCalculator reservationIngredientCalculator,
+                                      RestaurantJournal restaurantJournal)
   {
     ReservationFactory reservationFactory = createReservationFactory();
-    ReservationBook reservationBook = new ReservationBook(reservationRepository);
+    ReservationBook reservationBook = new ReservationBook(reservationRepository,
+                                                          new DailyLedgerBook());
     Inventory ingredientInventory = new IngredientInventory(inMemoryIngredientQuantityRepository,
-                                                                      allergiesDetector, reservationIngredientCalculator, availableIngredient);
+                                                            ingredientCostLedger,
+                                                                      allergiesDetector, availableIngredient);
     HoppeningEvent hoppeningEvent = createInitialHoppeningEvent();
     return new Restaurant(reservationFactory,
                           reservationBook,
                           ingredientInventory,
                           hoppeningEvent,
-                          buffet, chefSelector, reservationRepository);
+                          buffet,
+                          chefSelector,
+                          reservationRepository,
+                          chefRepository,
+                          new DinnerDateLocks(DINNER_DATE_LOCK_STRIPES),
+                          new ReservationEvaluator(reservationIngredientCalculator),
+                          restaurantJournal);
+  }
+
+  private void recoverRestaurant(Restaurant restaurant,
+                                 RestaurantSnapshotStore restaurantSnapshotStore,
+                                 RestaurantJournal restaurantJournal)
+  {
+    long journalPosition = restaurantSnapshotStore.loadLatest().map(restaurant::restoreSnapshot).orElse(0L);
+    restaurantJournal.replay(restaurant, journalPosition);
+  }
+
+  private void scheduleSnapshots(RestaurantSnapshotter restaurantSnapshotter) {
+    ScheduledExecutorService snapshotScheduler = Executors.newSingleThreadScheduledExecutor(snapshotTask -> {
+      Thread snapshotWriter = new Thread(snapshotTask, "restaurant-snapshot");
+      snapshotWriter.setDaemon(true);
+      return snapshotWriter;
+    });
+    snapshotScheduler.scheduleWithFixedDelay(restaurantSnapshotter,
+                                             SNAPSHOT_INTERVAL.toMillis(),
+                                             SNAPSHOT_INTERVAL.toMillis(),
+                                             TimeUnit.MILLISECONDS);
+  }
+
+  private RestaurantJournal createRestaurantJournal(ReservationRecordCodec reservationRecordCodec) {
+    try {
+      Files.createDirectories(JOURNAL_FILE.getParent());
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    return new FileRestaurantJournal(JOURNAL_FILE,
+                                     new JournalRecordCodec(reservationRecordCodec),
+                                     JOURNAL_GROUP_COMMIT_WINDOW,
+                                     JOURNAL_SYNC_POLICY);
   }
 
   private ReservationFactory createReservationFactory() {
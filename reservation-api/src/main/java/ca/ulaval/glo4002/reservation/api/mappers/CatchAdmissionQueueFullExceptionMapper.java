@@ -0,0 +1,23 @@
+package ca.ulaval.glo4002.reservation.api.mappers;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+import javax.ws.rs.ext.Provider;
+
+import ca.ulaval.glo4002.reservation.api.reservation.ExceptionResponse;
+import ca.ulaval.glo4002.reservation.service.reservation.exception.AdmissionQueueFullException;
+
+@Provider
+public class CatchAdmissionQueueFullExceptionMapper implements ExceptionMapper<AdmissionQueueFullException> {
+  private static final int STATUS_CODE = Response.Status.SERVICE_UNAVAILABLE.getStatusCode();
+  private static final int RETRY_AFTER_SECONDS = 1;
+
+  @Override
+  public Response toResponse(AdmissionQueueFullException exception) {
+    return Response.status(STATUS_CODE)
+                   .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                   .entity(new ExceptionResponse(exception.getError(), exception.getDescription()))
+                   .build();
+  }
+}
@@ -0,0 +1,20 @@
+package ca.ulaval.glo4002.reservation.api.mappers;
+
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+import javax.ws.rs.ext.Provider;
+
+import ca.ulaval.glo4002.reservation.api.reservation.ExceptionResponse;
+import ca.ulaval.glo4002.reservation.domain.journal.JournalUnavailableException;
+
+@Provider
+public class CatchJournalUnavailableExceptionMapper implements ExceptionMapper<JournalUnavailableException> {
+  private static final int STATUS_CODE = Response.Status.SERVICE_UNAVAILABLE.getStatusCode();
+
+  @Override
+  public Response toResponse(JournalUnavailableException exception) {
+    return Response.status(STATUS_CODE)
+                   .entity(new ExceptionResponse(exception.getError(), exception.getDescription()))
+                   .build();
+  }
+}
@@ -1,26 +1,31 @@
 package ca.ulaval.glo4002.reservation.api.report;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import ca.ulaval.glo4002.reservation.api.report.presenter.total.TotalIngredientReportPresenter;
 import ca.ulaval.glo4002.reservation.api.report.presenter.total.TotalReportDtoFactory;
 import ca.ulaval.glo4002.reservation.api.report.presenter.unit.UnitIngredientReportPresenter;
-import ca.ulaval.glo4002.reservation.api.report.presenter.unit.UnitReportDtoFactory;
+import ca.ulaval.glo4002.reservation.api.report.presenter.unit.UnitReportDayDtoFactory;
 import ca.ulaval.glo4002.reservation.domain.report.IngredientReportPresenter;
 import ca.ulaval.glo4002.reservation.domain.report.IngredientReportType;
 
 public class IngredientReportPresenterFactory {
-  private final UnitReportDtoFactory unitReportDtoFactory;
+  private final UnitReportDayDtoFactory unitReportDayDtoFactory;
   private final TotalReportDtoFactory totalReportDtoFactory;
+  private final ObjectMapper objectMapper;
 
-  public IngredientReportPresenterFactory(UnitReportDtoFactory unitReportDtoFactory,
-                                          TotalReportDtoFactory totalReportDtoFactory)
+  public IngredientReportPresenterFactory(UnitReportDayDtoFactory unitReportDayDtoFactory,
+                                          TotalReportDtoFactory totalReportDtoFactory,
+                                          ObjectMapper objectMapper)
   {
-    this.unitReportDtoFactory = unitReportDtoFactory;
+    this.unitReportDayDtoFactory = unitReportDayDtoFactory;
     this.totalReportDtoFactory = totalReportDtoFactory;
+    this.objectMapper = objectMapper;
   }
 
   public IngredientReportPresenter create(IngredientReportType ingredientReportType) {
     if (ingredientReportType.equals(IngredientReportType.UNIT)) {
-      return new UnitIngredientReportPresenter(unitReportDtoFactory);
+      return new UnitIngredientReportPresenter(unitReportDayDtoFactory, objectMapper);
     } else {
       return new TotalIngredientReportPresenter(totalReportDtoFactory);
     }
@@ -0,0 +1,184 @@
+package ca.ulaval.glo4002.reservation.api.report;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ca.ulaval.glo4002.reservation.domain.report.ReportVersion;
+
+public class ReportCache {
+  private static final int MAXIMUM_NUMBER_OF_REPORTS = 1024;
+  private static final String ANY_ENTITY_TAG = "*";
+  private static final String WEAK_ENTITY_TAG_PREFIX = "W/";
+
+  private final ObjectMapper objectMapper;
+  private final int maximumCachedReportSize;
+  private final String instanceId;
+  private final ConcurrentMap<String, CachedReport> cachedReports = new ConcurrentHashMap<>();
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong notModifiedCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  public ReportCache(ObjectMapper objectMapper, int maximumCachedReportSize, String instanceId) {
+    this.objectMapper = objectMapper;
+    this.maximumCachedReportSize = maximumCachedReportSize;
+    this.instanceId = instanceId;
+  }
+
+  public Response respond(String reportKey,
+                          ReportVersion reportVersion,
+                          String ifNoneMatch,
+                          Supplier<Response> reportSupplier)
+  {
+    EntityTag entityTag = new EntityTag(instanceId + "." + reportVersion);
+    if (matches(ifNoneMatch, entityTag)) {
+      notModifiedCount.incrementAndGet();
+      return Response.notModified(entityTag).build();
+    }
+    CachedReport cachedReport = cachedReports.get(reportKey);
+    if (cachedReport != null && cachedReport.getReportVersion().equals(reportVersion)) {
+      hitCount.incrementAndGet();
+      return createResponse(cachedReport.getBody(), entityTag);
+    }
+    missCount.incrementAndGet();
+    StreamingOutput report = toStreamingOutput(reportSupplier.get().getEntity());
+    StreamingOutput cachingReport = output -> {
+      CachingOutputStream cachingOutput = new CachingOutputStream(output, maximumCachedReportSize);
+      report.write(cachingOutput);
+      cachingOutput.flush();
+      if (cachingOutput.isFullyCached()) {
+        store(reportKey, new CachedReport(reportVersion, cachingOutput.getCachedBody()));
+      }
+    };
+    return Response.ok(cachingReport, MediaType.APPLICATION_JSON_TYPE).tag(entityTag).build();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getNotModifiedCount() {
+    return notModifiedCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  private Response createResponse(byte[] body, EntityTag entityTag) {
+    return Response.ok(body, MediaType.APPLICATION_JSON_TYPE).tag(entityTag).build();
+  }
+
+  private StreamingOutput toStreamingOutput(Object report) {
+    if (report instanceof StreamingOutput) {
+      return (StreamingOutput) report;
+    }
+    return output -> objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(output, report);
+  }
+
+  private void store(String reportKey, CachedReport cachedReport) {
+    if (cachedReports.size() >= MAXIMUM_NUMBER_OF_REPORTS && !cachedReports.containsKey(reportKey)) {
+      cachedReports.clear();
+    }
+    cachedReports.put(reportKey, cachedReport);
+  }
+
+  private boolean matches(String ifNoneMatch, EntityTag entityTag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    String quotedValue = "\"" + entityTag.getValue() + "\"";
+    for (String candidate : ifNoneMatch.split(",")) {
+      String trimmedCandidate = candidate.trim();
+      if (trimmedCandidate.startsWith(WEAK_ENTITY_TAG_PREFIX)) {
+        trimmedCandidate = trimmedCandidate.substring(WEAK_ENTITY_TAG_PREFIX.length());
+      }
+      if (trimmedCandidate.equals(ANY_ENTITY_TAG) || trimmedCandidate.equals(quotedValue)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static final class CachingOutputStream extends OutputStream {
+    private final OutputStream output;
+    private final int maximumCachedSize;
+    private ByteArrayOutputStream cachedBody = new ByteArrayOutputStream();
+
+    CachingOutputStream(OutputStream output, int maximumCachedSize) {
+      this.output = output;
+      this.maximumCachedSize = maximumCachedSize;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      output.write(b);
+      cache(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+      output.write(bytes, offset, length);
+      cache(bytes, offset, length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+
+    boolean isFullyCached() {
+      return cachedBody != null;
+    }
+
+    byte[] getCachedBody() {
+      return cachedBody.toByteArray();
+    }
+
+    private void cache(byte[] bytes, int offset, int length) {
+      if (cachedBody == null) {
+        return;
+      }
+      if (cachedBody.size() + length > maximumCachedSize) {
+        cachedBody = null;
+        return;
+      }
+      cachedBody.write(bytes, offset, length);
+    }
+  }
+
+  private static final class CachedReport {
+    private final ReportVersion reportVersion;
+    private final byte[] body;
+
+    CachedReport(ReportVersion reportVersion, byte[] body) {
+      this.reportVersion = reportVersion;
+      this.body = body;
+    }
+
+    ReportVersion getReportVersion() {
+      return reportVersion;
+    }
+
+    byte[] getBody() {
+      return body;
+    }
+  }
+}
@@ -1,16 +1,17 @@
 package ca.ulaval.glo4002.reservation.api.report;
 
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
-import ca.ulaval.glo4002.reservation.api.report.assembler.ChefReportDtoAssembler;
 import ca.ulaval.glo4002.reservation.api.report.assembler.RestaurantFinanceDtoAssembler;
-import ca.ulaval.glo4002.reservation.api.report.dto.ChefReportDto;
 import ca.ulaval.glo4002.reservation.api.report.dto.RestaurantFinanceDto;
+import ca.ulaval.glo4002.reservation.api.report.presenter.chef.ChefReportPresenter;
 import ca.ulaval.glo4002.reservation.api.report.presenter.material.MaterialReportPresenter;
 import ca.ulaval.glo4002.reservation.api.report.validator.ReportDateValidator;
 import ca.ulaval.glo4002.reservation.domain.RestaurantFinance;
@@ -18,6 +19,7 @@ import ca.ulaval.glo4002.reservation.domain.material.MaterialReport;
 import ca.ulaval.glo4002.reservation.domain.report.IngredientReport;
 import ca.ulaval.glo4002.reservation.domain.report.IngredientReportPresenter;
 import ca.ulaval.glo4002.reservation.domain.report.IngredientReportType;
+import ca.ulaval.glo4002.reservation.domain.report.ReportVersion;
 import ca.ulaval.glo4002.reservation.domain.report.chef.ChefReport;
 import ca.ulaval.glo4002.reservation.service.report.chef.ChefReportService;
 import ca.ulaval.glo4002.reservation.service.report.finance.FinanceService;
@@ -30,66 +32,87 @@ public class ReportResource {
   private final ChefReportService chefReportService;
   private final ReportDateValidator reportDateValidator;
   private final IngredientReportPresenterFactory ingredientReportPresenterFactory;
-  private final ChefReportDtoAssembler chefReportDtoAssembler;
+  private final ChefReportPresenter chefReportPresenter;
   private final MaterialReportPresenter materialReportPresenter;
   private final FinanceService restaurantFinanceService;
   private final RestaurantFinanceDtoAssembler restaurantFinanceDtoAssembler;
+  private final ReportCache reportCache;
 
   public ReportResource(ReportService reportService,
                         ChefReportService chefReportService,
                         ReportDateValidator reportDateValidator,
                         IngredientReportPresenterFactory ingredientReportPresenterFactory,
-                        ChefReportDtoAssembler chefReportDtoAssembler,
+                        ChefReportPresenter chefReportPresenter,
                         MaterialReportPresenter materialReportPresenter,
                         FinanceService restaurantFinanceService,
-                        RestaurantFinanceDtoAssembler restaurantFinanceDtoAssembler)
+                        RestaurantFinanceDtoAssembler restaurantFinanceDtoAssembler,
+                        ReportCache reportCache)
   {
     this.reportService = reportService;
     this.chefReportService = chefReportService;
     this.reportDateValidator = reportDateValidator;
     this.ingredientReportPresenterFactory = ingredientReportPresenterFactory;
-    this.chefReportDtoAssembler = chefReportDtoAssembler;
+    this.chefReportPresenter = chefReportPresenter;
     this.materialReportPresenter = materialReportPresenter;
     this.restaurantFinanceService = restaurantFinanceService;
     this.restaurantFinanceDtoAssembler = restaurantFinanceDtoAssembler;
+    this.reportCache = reportCache;
   }
 
   @GET
   @Path("/total")
   @Produces(MediaType.APPLICATION_JSON)
-  public Response getRestaurantFinance() {
-    RestaurantFinance restaurantFinance = restaurantFinanceService.calculateRestaurantFinance();
-    RestaurantFinanceDto restaurantFinanceDto = restaurantFinanceDtoAssembler.assembleRestaurantFinanceDto(restaurantFinance);
-    return Response.ok().entity(restaurantFinanceDto).build();
+  public Response getRestaurantFinance(@HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+    ReportVersion reportVersion = reportService.getPricedReportVersion();
+    return reportCache.respond("total", reportVersion, ifNoneMatch, () -> {
+      RestaurantFinance restaurantFinance = restaurantFinanceService.calculateRestaurantFinance();
+      RestaurantFinanceDto restaurantFinanceDto = restaurantFinanceDtoAssembler.assembleRestaurantFinanceDto(restaurantFinance);
+      return Response.ok().entity(restaurantFinanceDto).build();
+    });
   }
 
   @GET
   @Path("/chefs")
   @Produces(MediaType.APPLICATION_JSON)
-  public Response getChefReport() {
-    ChefReport chefReport = chefReportService.getChefReport();
-    ChefReportDto chefReportDto = chefReportDtoAssembler.assembleChefReportDto(chefReport);
-    return Response.ok().entity(chefReportDto).build();
+  public Response getChefReport(@HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+    ReportVersion reportVersion = reportService.getReportVersion();
+    return reportCache.respond("chefs", reportVersion, ifNoneMatch, () -> {
+      ChefReport chefReport = chefReportService.getChefReport();
+      return chefReportPresenter.presentReport(chefReport);
+    });
   }
 
   @GET
   @Path("/ingredients")
   @Produces(MediaType.APPLICATION_JSON)
-  public Response getIngredientReport(@QueryParam("startDate") String startDate, @QueryParam("endDate") String endDate, @QueryParam("type") String type)
+  public Response getIngredientReport(@QueryParam("startDate") String startDate,
+                                      @QueryParam("endDate") String endDate,
+                                      @QueryParam("type") String type,
+                                      @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch)
   {
     reportDateValidator.validate(startDate, endDate);
-    IngredientReport ingredientReport = reportService.getIngredientReport(startDate, endDate);
-    IngredientReportPresenter ingredientReportPresenter = ingredientReportPresenterFactory.create(IngredientReportType.valueOfName(type));
-    return ingredientReportPresenter.presentReport(ingredientReport);
+    IngredientReportType ingredientReportType = IngredientReportType.valueOfName(type);
+    ReportVersion reportVersion = reportService.getPricedReportVersion();
+    String reportKey = "ingredients:" + startDate + ":" + endDate + ":" + ingredientReportType;
+    return reportCache.respond(reportKey, reportVersion, ifNoneMatch, () -> {
+      IngredientReport ingredientReport = reportService.getIngredientReport(startDate, endDate, ingredientReportType);
+      IngredientReportPresenter ingredientReportPresenter = ingredientReportPresenterFactory.create(ingredientReportType);
+      return ingredientReportPresenter.presentReport(ingredientReport);
+    });
   }
 
   @GET
   @Path("/material")
   @Produces(MediaType.APPLICATION_JSON)
-  public Response getMaterialReport(@QueryParam("startDate") String startDate, @QueryParam("endDate") String endDate)
+  public Response getMaterialReport(@QueryParam("startDate") String startDate,
+                                    @QueryParam("endDate") String endDate,
+                                    @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch)
   {
     reportDateValidator.validate(startDate, endDate);
-    MaterialReport materialReport = reportService.getMaterialReport(startDate, endDate);
-    return materialReportPresenter.presentReport(materialReport);
+    ReportVersion reportVersion = reportService.getReportVersion();
+    return reportCache.respond("material:" + startDate + ":" + endDate, reportVersion, ifNoneMatch, () -> {
+      MaterialReport materialReport = reportService.getMaterialReport(startDate, endDate);
+      return materialReportPresenter.presentReport(materialReport);
+    });
   }
 }
@@ -0,0 +1,37 @@
+package ca.ulaval.glo4002.reservation.api.report.presenter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Function;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class DatesStreamingOutput<T> implements StreamingOutput {
+  private static final String DATES_FIELD_NAME = "dates";
+
+  private final ObjectMapper objectMapper;
+  private final Iterable<T> days;
+  private final Function<T, Object> dayDtoFactory;
+
+  public DatesStreamingOutput(ObjectMapper objectMapper, Iterable<T> days, Function<T, Object> dayDtoFactory) {
+    this.objectMapper = objectMapper;
+    this.days = days;
+    this.dayDtoFactory = dayDtoFactory;
+  }
+
+  public void write(OutputStream output) throws IOException {
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.writeStartObject();
+      generator.writeArrayFieldStart(DATES_FIELD_NAME);
+      for (T day : days) {
+        generator.writeObject(dayDtoFactory.apply(day));
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package ca.ulaval.glo4002.reservation.api.report.presenter.chef;
+
+import javax.ws.rs.core.Response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ca.ulaval.glo4002.reservation.api.report.assembler.ChefReportDtoAssembler;
+import ca.ulaval.glo4002.reservation.api.report.presenter.DatesStreamingOutput;
+import ca.ulaval.glo4002.reservation.domain.report.chef.ChefReport;
+import ca.ulaval.glo4002.reservation.domain.report.chef.ChefReportInformation;
+
+public class ChefReportPresenter {
+  private final ChefReportDtoAssembler chefReportDtoAssembler;
+  private final ObjectMapper objectMapper;
+
+  public ChefReportPresenter(ChefReportDtoAssembler chefReportDtoAssembler, ObjectMapper objectMapper) {
+    this.chefReportDtoAssembler = chefReportDtoAssembler;
+    this.objectMapper = objectMapper;
+  }
+
+  public Response presentReport(ChefReport chefReport) {
+    DatesStreamingOutput<ChefReportInformation> report = new DatesStreamingOutput<>(objectMapper,
+                                                                                    chefReport.getChefReportInformations(),
+                                                                                    chefReportDtoAssembler::assembleChefReportInformationDto);
+    return Response.ok().entity(report).build();
+  }
+}
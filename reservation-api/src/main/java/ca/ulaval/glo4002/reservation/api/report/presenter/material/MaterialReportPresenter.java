@@ -1,19 +1,32 @@
 package ca.ulaval.glo4002.reservation.api.report.presenter.material;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 import javax.ws.rs.core.Response;
 
-import ca.ulaval.glo4002.reservation.api.report.dto.MaterialReportDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ca.ulaval.glo4002.reservation.api.report.presenter.DatesStreamingOutput;
 import ca.ulaval.glo4002.reservation.domain.material.MaterialReport;
+import ca.ulaval.glo4002.reservation.domain.material.MaterialReportInformation;
 
 public class MaterialReportPresenter {
   private final MaterialReportDtoFactory materialReportDtoFactory;
+  private final ObjectMapper objectMapper;
 
-  public MaterialReportPresenter(MaterialReportDtoFactory materialReportDtoFactory) {
+  public MaterialReportPresenter(MaterialReportDtoFactory materialReportDtoFactory, ObjectMapper objectMapper) {
     this.materialReportDtoFactory = materialReportDtoFactory;
+    this.objectMapper = objectMapper;
   }
 
   public Response presentReport(MaterialReport materialReport) {
-    MaterialReportDto materialReportDto = materialReportDtoFactory.create(materialReport);
-    return Response.ok().entity(materialReportDto).build();
+    List<MaterialReportInformation> days = new ArrayList<>(materialReport.getMaterialReportInformation());
+    days.sort(Comparator.comparing(MaterialReportInformation::getDate));
+    DatesStreamingOutput<MaterialReportInformation> report = new DatesStreamingOutput<>(objectMapper,
+                                                                                        days,
+                                                                                        materialReportDtoFactory::createDay);
+    return Response.ok().entity(report).build();
   }
 }
@@ -1,20 +1,37 @@
 package ca.ulaval.glo4002.reservation.api.report.presenter.unit;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import javax.ws.rs.core.Response;
 
-import ca.ulaval.glo4002.reservation.api.report.dto.UnitReportDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ca.ulaval.glo4002.reservation.api.report.presenter.DatesStreamingOutput;
+import ca.ulaval.glo4002.reservation.domain.report.DailyIngredientReportInformation;
 import ca.ulaval.glo4002.reservation.domain.report.IngredientReport;
 import ca.ulaval.glo4002.reservation.domain.report.IngredientReportPresenter;
 
 public class UnitIngredientReportPresenter implements IngredientReportPresenter {
-  private final UnitReportDtoFactory unitReportDtoFactory;
+  private final UnitReportDayDtoFactory unitReportDayDtoFactory;
+  private final ObjectMapper objectMapper;
 
-  public UnitIngredientReportPresenter(UnitReportDtoFactory unitReportDtoFactory) {
-    this.unitReportDtoFactory = unitReportDtoFactory;
+  public UnitIngredientReportPresenter(UnitReportDayDtoFactory unitReportDayDtoFactory, ObjectMapper objectMapper) {
+    this.unitReportDayDtoFactory = unitReportDayDtoFactory;
+    this.objectMapper = objectMapper;
   }
 
   public Response presentReport(IngredientReport ingredientReport) {
-    UnitReportDto unitReportDto = unitReportDtoFactory.create(ingredientReport);
-    return Response.ok().entity(unitReportDto).build();
+    Map<LocalDate, DailyIngredientReportInformation> dailyIngredientsInformation = ingredientReport.getDailyIngredientsInformation();
+    List<LocalDate> dates = new ArrayList<>(dailyIngredientsInformation.keySet());
+    Collections.sort(dates);
+    DatesStreamingOutput<LocalDate> unitReport = new DatesStreamingOutput<>(objectMapper,
+                                                                            dates,
+                                                                            date -> unitReportDayDtoFactory.create(date,
+                                                                                                                   dailyIngredientsInformation.get(date)));
+    return Response.ok().entity(unitReport).build();
   }
 }
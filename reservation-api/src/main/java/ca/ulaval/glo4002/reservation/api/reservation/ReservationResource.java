@@ -1,43 +1,124 @@
 package ca.ulaval.glo4002.reservation.api.reservation;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
 import javax.ws.rs.*;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import ca.ulaval.glo4002.reservation.api.reservation.assembler.ReservationAdmissionDtoAssembler;
 import ca.ulaval.glo4002.reservation.api.reservation.dto.CreateReservationRequestDto;
+import ca.ulaval.glo4002.reservation.api.reservation.dto.ReservationAdmissionDto;
 import ca.ulaval.glo4002.reservation.api.reservation.dto.ReservationDto;
+import ca.ulaval.glo4002.reservation.api.reservation.exception.InvalidFormatException;
 import ca.ulaval.glo4002.reservation.api.reservation.validator.DateFormatValidator;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationAdmission;
 import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.VendorId;
 import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
 import ca.ulaval.glo4002.reservation.service.RestaurantService;
+import ca.ulaval.glo4002.reservation.service.reservation.ReservationAdmissionQueue;
+import ca.ulaval.glo4002.reservation.service.reservation.ReservationTicket;
 
 @Path("/reservations")
 public class ReservationResource {
+  private static final String RESERVATION_TICKET_LOCATION = "/reservations/requests/%s";
+  private static final int MAXIMUM_WAIT_SECONDS = 30;
 
   private final RestaurantService restaurantService;
   private final DateFormatValidator dateFormatValidator;
+  private final ReservationAdmissionDtoAssembler reservationAdmissionDtoAssembler;
+  private final ReservationAdmissionQueue reservationAdmissionQueue;
 
   public ReservationResource(RestaurantService restaurantService,
-                             DateFormatValidator dateFormatValidator)
+                             DateFormatValidator dateFormatValidator,
+                             ReservationAdmissionDtoAssembler reservationAdmissionDtoAssembler,
+                             ReservationAdmissionQueue reservationAdmissionQueue)
   {
     this.restaurantService = restaurantService;
     this.dateFormatValidator = dateFormatValidator;
+    this.reservationAdmissionDtoAssembler = reservationAdmissionDtoAssembler;
+    this.reservationAdmissionQueue = reservationAdmissionQueue;
   }
 
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
   public Response createReservation(@Valid CreateReservationRequestDto createReservationRequestDto) {
-    dateFormatValidator.validateFormat(createReservationRequestDto.getDinnerDate());
-    dateFormatValidator.validateFormat(createReservationRequestDto.getReservationDetails().getReservationDate());
+    validateDateFormats(createReservationRequestDto);
     ReservationNumber reservationId = restaurantService.makeReservation(createReservationRequestDto);
     URI reservationLocation = URI.create(String.format("/reservations/%s", reservationId.getReservationNumber()));
     return Response.created(reservationLocation).build();
   }
 
+  @POST
+  @Path("/batch")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  public Response createReservations(@Valid @NotNull List<CreateReservationRequestDto> createReservationRequestDtos) {
+    ReservationAdmission[] reservationAdmissions = new ReservationAdmission[createReservationRequestDtos.size()];
+    List<CreateReservationRequestDto> wellFormedRequestDtos = new ArrayList<>();
+    for (int index = 0; index < createReservationRequestDtos.size(); index++) {
+      try {
+        validateDateFormats(createReservationRequestDtos.get(index));
+        wellFormedRequestDtos.add(createReservationRequestDtos.get(index));
+      } catch (InvalidFormatException invalidFormatException) {
+        reservationAdmissions[index] = ReservationAdmission.rejected(invalidFormatException.getError(),
+                                                                     invalidFormatException.getDescription());
+      }
+    }
+
+    Iterator<ReservationAdmission> wellFormedAdmissions = restaurantService.makeReservations(wellFormedRequestDtos)
+                                                                           .iterator();
+    List<ReservationAdmissionDto> reservationAdmissionDtos = new ArrayList<>();
+    for (ReservationAdmission reservationAdmission : reservationAdmissions) {
+      reservationAdmissionDtos.add(reservationAdmissionDtoAssembler.assemble(reservationAdmission == null ? wellFormedAdmissions.next()
+                                                                                                        : reservationAdmission));
+    }
+    return Response.ok().entity(reservationAdmissionDtos).build();
+  }
+
+  @POST
+  @Path("/requests")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  public Response requestReservation(@Valid CreateReservationRequestDto createReservationRequestDto) {
+    validateDateFormats(createReservationRequestDto);
+    ReservationTicket reservationTicket = reservationAdmissionQueue.submit(createReservationRequestDto);
+    URI ticketLocation = URI.create(String.format(RESERVATION_TICKET_LOCATION, reservationTicket.getTicketId()));
+    return Response.accepted().location(ticketLocation).build();
+  }
+
+  @GET
+  @Path("/requests/{ticketId}")
+  @Produces(MediaType.APPLICATION_JSON)
+  public void getReservationRequest(@PathParam("ticketId") String ticketId,
+                                    @QueryParam("wait") @DefaultValue("0") int waitSeconds,
+                                    @Suspended AsyncResponse asyncResponse)
+  {
+    ReservationTicket reservationTicket;
+    try {
+      reservationTicket = reservationAdmissionQueue.getTicket(ticketId);
+    } catch (RuntimeException exception) {
+      asyncResponse.resume(exception);
+      return;
+    }
+    if (!reservationTicket.isPending() || waitSeconds <= 0) {
+      asyncResponse.resume(respondWithTicket(reservationTicket));
+      return;
+    }
+    asyncResponse.setTimeoutHandler(timedOutResponse -> timedOutResponse.resume(respondWithTicket(reservationTicket)));
+    asyncResponse.setTimeout(Math.min(waitSeconds, MAXIMUM_WAIT_SECONDS), TimeUnit.SECONDS);
+    reservationTicket.whenCompleted(() -> asyncResponse.resume(respondWithTicket(reservationTicket)));
+  }
+
   @GET
   @Path("/{reservationId}")
   @Produces(MediaType.APPLICATION_JSON)
@@ -47,4 +128,17 @@ public class ReservationResource {
     ReservationDto reservationDto = restaurantService.getReservationFromRestaurant(reservationId);
     return Response.ok().entity(reservationDto).build();
   }
+
+  private Response respondWithTicket(ReservationTicket reservationTicket) {
+    ReservationAdmissionDto reservationAdmissionDto = reservationAdmissionDtoAssembler.assemble(reservationTicket);
+    if (reservationTicket.isPending()) {
+      return Response.accepted().entity(reservationAdmissionDto).build();
+    }
+    return Response.ok().entity(reservationAdmissionDto).build();
+  }
+
+  private void validateDateFormats(CreateReservationRequestDto createReservationRequestDto) {
+    dateFormatValidator.validateFormat(createReservationRequestDto.getDinnerDate());
+    dateFormatValidator.validateFormat(createReservationRequestDto.getReservationDetails().getReservationDate());
+  }
 }
@@ -0,0 +1,48 @@
+package ca.ulaval.glo4002.reservation.api.reservation.assembler;
+
+import javax.ws.rs.core.Response;
+
+import ca.ulaval.glo4002.reservation.api.reservation.dto.ReservationAdmissionDto;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationAdmission;
+import ca.ulaval.glo4002.reservation.service.reservation.ReservationTicket;
+
+public class ReservationAdmissionDtoAssembler {
+  private static final String RESERVATION_LOCATION = "/reservations/%s";
+  private static final String ADMISSION_FAILED = "ADMISSION_FAILED";
+  private static final String ADMISSION_FAILED_DESCRIPTION = "The reservation could not be admitted, please retry";
+
+  public ReservationAdmissionDto assemble(ReservationTicket reservationTicket) {
+    if (reservationTicket.isPending()) {
+      ReservationAdmissionDto reservationAdmissionDto = new ReservationAdmissionDto();
+      reservationAdmissionDto.setStatus(Response.Status.ACCEPTED.getStatusCode());
+      return reservationAdmissionDto;
+    }
+    if (reservationTicket.hasFailed()) {
+      ReservationAdmissionDto reservationAdmissionDto = new ReservationAdmissionDto();
+      reservationAdmissionDto.setStatus(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode());
+      reservationAdmissionDto.setError(ADMISSION_FAILED);
+      reservationAdmissionDto.setDescription(ADMISSION_FAILED_DESCRIPTION);
+      return reservationAdmissionDto;
+    }
+    return assemble(reservationTicket.getAdmission());
+  }
+
+  public ReservationAdmissionDto assemble(ReservationAdmission reservationAdmission) {
+    ReservationAdmissionDto reservationAdmissionDto = new ReservationAdmissionDto();
+    if (reservationAdmission.isAccepted()) {
+      reservationAdmissionDto.setStatus(Response.Status.CREATED.getStatusCode());
+      reservationAdmissionDto.setLocation(String.format(RESERVATION_LOCATION,
+                                                        reservationAdmission.getReservationId()
+                                                                            .getReservationNumber()));
+    } else if (reservationAdmission.hasFailed()) {
+      reservationAdmissionDto.setStatus(Response.Status.SERVICE_UNAVAILABLE.getStatusCode());
+      reservationAdmissionDto.setError(reservationAdmission.getError());
+      reservationAdmissionDto.setDescription(reservationAdmission.getDescription());
+    } else {
+      reservationAdmissionDto.setStatus(Response.Status.BAD_REQUEST.getStatusCode());
+      reservationAdmissionDto.setError(reservationAdmission.getError());
+      reservationAdmissionDto.setDescription(reservationAdmission.getDescription());
+    }
+    return reservationAdmissionDto;
+  }
+}
@@ -0,0 +1,48 @@
+package ca.ulaval.glo4002.reservation.api.reservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+public class ReservationAdmissionDto {
+  private int status;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String location;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String error;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String description;
+
+  public int getStatus() {
+    return status;
+  }
+
+  public void setStatus(int status) {
+    this.status = status;
+  }
+
+  public String getLocation() {
+    return location;
+  }
+
+  public void setLocation(String location) {
+    this.location = location;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public void setError(String error) {
+    this.error = error;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public void setDescription(String description) {
+    this.description = description;
+  }
+}
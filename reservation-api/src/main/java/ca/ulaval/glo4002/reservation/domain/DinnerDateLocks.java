@@ -0,0 +1,39 @@
+package ca.ulaval.glo4002.reservation.domain;
+
+import java.time.LocalDate;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public class DinnerDateLocks {
+  private final ReentrantLock[] stripes;
+
+  public DinnerDateLocks(int numberOfStripes) {
+    stripes = new ReentrantLock[numberOfStripes];
+    for (int stripe = 0; stripe < numberOfStripes; stripe++) {
+      stripes[stripe] = new ReentrantLock();
+    }
+  }
+
+  public <T> T executeForDate(LocalDate dinnerDate, Supplier<T> action) {
+    ReentrantLock lock = stripes[Math.floorMod(dinnerDate.toEpochDay(), stripes.length)];
+    lock.lock();
+    try {
+      return action.get();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public <T> T executeForAllDates(Supplier<T> action) {
+    for (ReentrantLock stripe : stripes) {
+      stripe.lock();
+    }
+    try {
+      return action.get();
+    } finally {
+      for (int stripe = stripes.length - 1; stripe >= 0; stripe--) {
+        stripes[stripe].unlock();
+      }
+    }
+  }
+}
@@ -1,21 +1,32 @@
 package ca.ulaval.glo4002.reservation.domain;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import ca.ulaval.glo4002.reservation.domain.ledger.DailyLedger;
+import ca.ulaval.glo4002.reservation.domain.ledger.DailyLedgerBook;
 import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationEvaluation;
 import ca.ulaval.glo4002.reservation.domain.reservation.ReservationRepository;
 import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
 
 public class ReservationBook {
   private final ReservationRepository reservationRepository;
+  private final DailyLedgerBook dailyLedgerBook;
 
-  public ReservationBook(ReservationRepository reservationRepository) {
+  public ReservationBook(ReservationRepository reservationRepository, DailyLedgerBook dailyLedgerBook) {
     this.reservationRepository = reservationRepository;
+    this.dailyLedgerBook = dailyLedgerBook;
   }
 
-  public void register(Reservation reservation) {
-    reservationRepository.saveReservation(reservation);
+  public void register(ReservationEvaluation reservationEvaluation) {
+    reservationRepository.saveReservation(reservationEvaluation.getReservation());
+    dailyLedgerBook.commit(reservationEvaluation);
+  }
+
+  public DailyLedger getDailyLedger(LocalDate dinnerDate) {
+    return dailyLedgerBook.getDailyLedger(dinnerDate);
   }
 
   public Reservation getReservation(ReservationNumber reservationId) {
@@ -25,9 +36,4 @@ public class ReservationBook {
   public List<Reservation> getReservationsByDate(LocalDateTime date) {
     return reservationRepository.getReservationsByDate(date);
   }
-
-  public int getNumberOfCustomersForADay(LocalDateTime dinnerDate) {
-    List<Reservation> reservations = reservationRepository.getReservationsByDate(dinnerDate);
-    return reservations.stream().mapToInt(Reservation::getNumberOfCustomers).sum();
-  }
 }
@@ -2,25 +2,44 @@ package ca.ulaval.glo4002.reservation.domain;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import ca.ulaval.glo4002.reservation.domain.chef.Chef;
 import ca.ulaval.glo4002.reservation.domain.chef.Selectable;
+import ca.ulaval.glo4002.reservation.domain.date.DinerPeriod;
+import ca.ulaval.glo4002.reservation.domain.date.Period;
 import ca.ulaval.glo4002.reservation.domain.exception.ForbiddenReservationException;
+import ca.ulaval.glo4002.reservation.domain.exception.ReservationException;
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
 import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningConfigurationRequest;
 import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningEvent;
 import ca.ulaval.glo4002.reservation.domain.inventory.Inventory;
+import ca.ulaval.glo4002.reservation.domain.journal.JournalUnavailableException;
+import ca.ulaval.glo4002.reservation.domain.journal.RestaurantJournal;
+import ca.ulaval.glo4002.reservation.domain.ledger.DailyLedger;
 import ca.ulaval.glo4002.reservation.domain.material.Buffet;
-import ca.ulaval.glo4002.reservation.domain.material.DailyDishesQuantity;
+import ca.ulaval.glo4002.reservation.domain.material.Material;
+import ca.ulaval.glo4002.reservation.domain.material.MaterialReport;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.report.ReportPeriod;
-import ca.ulaval.glo4002.reservation.domain.chef.NoChefsAvailableException;
+import ca.ulaval.glo4002.reservation.domain.report.chef.ChefReportInformation;
+import ca.ulaval.glo4002.reservation.domain.report.chef.ChefRepository;
 import ca.ulaval.glo4002.reservation.domain.reservation.*;
 import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
+import ca.ulaval.glo4002.reservation.domain.snapshot.RestaurantSnapshot;
 import ca.ulaval.glo4002.reservation.service.reservation.exception.TooManyPeopleException;
 
 public class Restaurant {
   private static final int MAX_NUMBER_OF_CUSTOMERS_PER_DAY = 42;
+  private static final String ADMISSION_FAILED = "ADMISSION_FAILED";
+  private static final String ADMISSION_FAILED_DESCRIPTION = "The reservation could not be admitted, please retry later";
 
   private final HoppeningEvent hoppeningEvent;
   private final ReservationFactory reservationFactory;
@@ -29,13 +48,24 @@ public class Restaurant {
   private final Buffet buffet;
   private final Selectable chefSelector;
   private final ReservationRepository reservationRepository;
+  private final ChefRepository chefRepository;
+  private final DinnerDateLocks dinnerDateLocks;
+  private final ReservationEvaluator reservationEvaluator;
+  private final RestaurantJournal restaurantJournal;
+  private final AtomicLong dataVersion = new AtomicLong();
+  private final AtomicLong failedChefHirings = new AtomicLong();
 
   public Restaurant(ReservationFactory reservationFactory,
                     ReservationBook reservationBook,
                     Inventory inventory,
                     HoppeningEvent hoppeningEvent,
                     Buffet buffet,
-                    Selectable chefSelector, ReservationRepository reservationRepository)
+                    Selectable chefSelector,
+                    ReservationRepository reservationRepository,
+                    ChefRepository chefRepository,
+                    DinnerDateLocks dinnerDateLocks,
+                    ReservationEvaluator reservationEvaluator,
+                    RestaurantJournal restaurantJournal)
   {
     this.reservationFactory = reservationFactory;
     this.reservationBook = reservationBook;
@@ -44,30 +74,71 @@ public class Restaurant {
     this.buffet = buffet;
     this.chefSelector = chefSelector;
     this.reservationRepository = reservationRepository;
+    this.chefRepository = chefRepository;
+    this.dinnerDateLocks = dinnerDateLocks;
+    this.reservationEvaluator = reservationEvaluator;
+    this.restaurantJournal = restaurantJournal;
   }
 
-  public BigDecimal getRestaurantIncome() {
+  public Money getRestaurantIncome() {
     return reservationRepository.getTotalReservationIncome();
   }
 
   public ReservationNumber makeReservation(ReservationRequest reservationRequest) {
     Reservation reservation = reservationFactory.create(reservationRequest, hoppeningEvent);
-    verifyReservation(reservation);
-    try {
-      hireChefsForNewReservation(reservation);
-    } catch (NoChefsAvailableException noChefsAvailableException) {
-      throw new ForbiddenReservationException();
+    ReservationEvaluation reservationEvaluation = reservationEvaluator.evaluate(reservation);
+    return dinnerDateLocks.executeForDate(reservationEvaluation.getDinnerDay(),
+                                          () -> admitReservation(reservationEvaluation));
+  }
+
+  public List<ReservationAdmission> makeReservations(List<ReservationRequest> reservationRequests) {
+    ReservationAdmission[] reservationAdmissions = new ReservationAdmission[reservationRequests.size()];
+    ReservationEvaluation[] reservationEvaluations = new ReservationEvaluation[reservationRequests.size()];
+    Map<LocalDate, List<Integer>> requestIndexesPerDinnerDay = new TreeMap<>();
+    for (int index = 0; index < reservationRequests.size(); index++) {
+      try {
+        Reservation reservation = reservationFactory.create(reservationRequests.get(index), hoppeningEvent);
+        reservationEvaluations[index] = reservationEvaluator.evaluate(reservation);
+        requestIndexesPerDinnerDay.computeIfAbsent(reservationEvaluations[index].getDinnerDay(),
+                                                   dinnerDay -> new ArrayList<>())
+                                  .add(index);
+      } catch (ReservationException reservationException) {
+        reservationAdmissions[index] = ReservationAdmission.rejected(reservationException.getError(),
+                                                                     reservationException.getDescription());
+      } catch (InvalidRestrictionException invalidRestrictionException) {
+        reservationAdmissions[index] = ReservationAdmission.rejected(invalidRestrictionException.getError(),
+                                                                     invalidRestrictionException.getDescription());
+      } catch (RuntimeException failure) {
+        reservationAdmissions[index] = ReservationAdmission.failed(ADMISSION_FAILED, ADMISSION_FAILED_DESCRIPTION);
+      }
+    }
+
+    for (Map.Entry<LocalDate, List<Integer>> dinnerDayRequests : requestIndexesPerDinnerDay.entrySet()) {
+      LocalDate dinnerDay = dinnerDayRequests.getKey();
+      dinnerDateLocks.executeForDate(dinnerDay, () -> {
+        admitReservations(dinnerDay, dinnerDayRequests.getValue(), reservationEvaluations, reservationAdmissions);
+        return dinnerDay;
+      });
     }
-    buffet.updateDailyDishesQuantity(reservation);
-    return registerReservation(reservation);
+    return Arrays.asList(reservationAdmissions);
+  }
+
+  public void restoreReservation(Reservation reservation) {
+    ReservationEvaluation reservationEvaluation = reservationEvaluator.evaluate(reservation);
+    dinnerDateLocks.executeForDate(reservationEvaluation.getDinnerDay(), () -> {
+      DailyLedger dailyLedger = reservationBook.getDailyLedger(reservationEvaluation.getDinnerDay());
+      hireChefsForNewReservation(reservationEvaluation, dailyLedger);
+      registerReservation(reservationEvaluation);
+      return reservation.getReservationId();
+    });
   }
 
   public Reservation getReservation(ReservationNumber reservationId) {
     return reservationBook.getReservation(reservationId);
   }
 
-  public Map<LocalDate, DailyDishesQuantity> getDailyDishesQuantity(ReportPeriod reportPeriod) {
-    return buffet.getDishesQuantityByDate(reportPeriod);
+  public MaterialReport getMaterialReport(ReportPeriod reportPeriod) {
+    return buffet.getMaterialReport(reportPeriod);
   }
 
   public HoppeningEvent getHoppeningEvent() {
@@ -75,64 +146,178 @@ public class Restaurant {
   }
 
   public void configureHoppeningEvent(HoppeningConfigurationRequest hoppeningConfigurationRequest) {
+    dinnerDateLocks.executeForAllDates(() -> {
+      restaurantJournal.recordHoppeningConfiguration(hoppeningConfigurationRequest).awaitDurability();
+      restoreHoppeningConfiguration(hoppeningConfigurationRequest);
+      return hoppeningConfigurationRequest;
+    });
+  }
+
+  public void restoreHoppeningConfiguration(HoppeningConfigurationRequest hoppeningConfigurationRequest) {
     hoppeningEvent.configureHoppening(hoppeningConfigurationRequest);
+    dataVersion.incrementAndGet();
   }
 
-  private ReservationNumber registerReservation(Reservation reservation) {
-    reservationBook.register(reservation);
-    ingredientInventory.updateInventory(reservation);
-    return reservation.getReservationId();
+  public long getDataVersion() {
+    return dataVersion.get();
   }
 
-  private void verifyMaximumNumberOfCustomersPerDay(Reservation reservation) {
-    if (reservationBook.getNumberOfCustomersForADay(reservation.getDinnerDate())
-        + reservation.getNumberOfCustomers() > MAX_NUMBER_OF_CUSTOMERS_PER_DAY)
-    {
-      throw new TooManyPeopleException();
+  public long getNumberOfFailedChefHirings() {
+    return failedChefHirings.get();
+  }
+
+  public RestaurantSnapshot takeSnapshot() {
+    RestaurantSnapshot restaurantSnapshot = dinnerDateLocks.executeForAllDates(this::copyState);
+    restaurantJournal.flush().awaitDurability();
+    return restaurantSnapshot;
+  }
+
+  public long restoreSnapshot(RestaurantSnapshot restaurantSnapshot) {
+    return dinnerDateLocks.executeForAllDates(() -> {
+      hoppeningEvent.configureHoppening(restaurantSnapshot.getHoppeningConfiguration());
+      for (Reservation reservation : restaurantSnapshot.getReservations()) {
+        reservationBook.register(reservationEvaluator.evaluate(reservation));
+      }
+      restaurantSnapshot.getIngredientsQuantityPerDay().forEach(ingredientInventory::restoreInventory);
+      restaurantSnapshot.getDishesQuantityPerDay().forEach(buffet::restoreDailyDishesQuantity);
+      restaurantSnapshot.getChefSchedule().forEach(chefRepository::updateRestaurantChefs);
+      dataVersion.incrementAndGet();
+      return restaurantSnapshot.getJournalPosition();
+    });
+  }
+
+  private ReservationNumber admitReservation(ReservationEvaluation reservationEvaluation) {
+    DailyLedger dailyLedger = reservationBook.getDailyLedger(reservationEvaluation.getDinnerDay());
+    verifyReservation(reservationEvaluation, dailyLedger);
+    verifyChefsAvailability(reservationEvaluation, dailyLedger);
+    restaurantJournal.recordReservation(reservationEvaluation.getReservation()).awaitDurability();
+    hireChefsForNewReservation(reservationEvaluation, dailyLedger);
+    registerReservation(reservationEvaluation);
+    return reservationEvaluation.getReservation().getReservationId();
+  }
+
+  private void admitReservations(LocalDate dinnerDay,
+                                 List<Integer> requestIndexes,
+                                 ReservationEvaluation[] reservationEvaluations,
+                                 ReservationAdmission[] reservationAdmissions)
+  {
+    boolean reservationsAdmitted = false;
+    for (int index : requestIndexes) {
+      ReservationEvaluation reservationEvaluation = reservationEvaluations[index];
+      try {
+        admitReservationWithoutHiring(reservationEvaluation);
+        reservationAdmissions[index] = ReservationAdmission.accepted(reservationEvaluation.getReservation()
+                                                                                          .getReservationId());
+        reservationsAdmitted = true;
+      } catch (ReservationException reservationException) {
+        reservationAdmissions[index] = ReservationAdmission.rejected(reservationException.getError(),
+                                                                     reservationException.getDescription());
+      } catch (JournalUnavailableException journalUnavailableException) {
+        reservationAdmissions[index] = ReservationAdmission.failed(journalUnavailableException.getError(),
+                                                                   journalUnavailableException.getDescription());
+      } catch (RuntimeException failure) {
+        reservationAdmissions[index] = ReservationAdmission.failed(ADMISSION_FAILED, ADMISSION_FAILED_DESCRIPTION);
+      }
+    }
+    if (reservationsAdmitted) {
+      hireChefsForDinnerDay(dinnerDay);
     }
   }
 
-  private void verifyAllergicConflict(Reservation reservation) {
-    if (doesReservationCauseAllergicConflict(reservation)) {
-      throw new ForbiddenReservationException();
+  private void hireChefsForDinnerDay(LocalDate dinnerDay) {
+    try {
+      chefSelector.hireChefsForReservations(List.of(reservationBook.getDailyLedger(dinnerDay)
+                                                                   .getRestrictionTypeCount()),
+                                            dinnerDay);
+    } catch (RuntimeException chefsNotHired) {
+      failedChefHirings.incrementAndGet();
     }
   }
 
-  private void verifyIngredientAvailability(Reservation reservation) {
-    if (!ingredientInventory.isInventoryStockAvailable(reservation, hoppeningEvent.getDinnerDinerPeriod().getStartDate()))
+  private void admitReservationWithoutHiring(ReservationEvaluation reservationEvaluation) {
+    DailyLedger dailyLedger = reservationBook.getDailyLedger(reservationEvaluation.getDinnerDay());
+    verifyReservation(reservationEvaluation, dailyLedger);
+    verifyChefsAvailability(reservationEvaluation, dailyLedger);
+    restaurantJournal.recordReservation(reservationEvaluation.getReservation()).awaitDurability();
+    registerReservation(reservationEvaluation);
+  }
+
+  private RestaurantSnapshot copyState() {
+    Map<LocalDate, Set<Chef>> chefSchedule = new HashMap<>();
+    for (ChefReportInformation dailyChefSchedule : chefRepository.getChefSchedule().values()) {
+      chefSchedule.put(dailyChefSchedule.getDate(), dailyChefSchedule.getChefs());
+    }
+    Map<LocalDate, Map<IngredientName, BigDecimal>> ingredientsQuantityPerDay = ingredientInventory.copyInventory();
+    Map<LocalDate, Map<Material, BigDecimal>> dishesQuantityPerDay = buffet.copyDailyDishesQuantities();
+    return new RestaurantSnapshot(restaurantJournal.getJournalPosition(),
+                                  copyHoppeningConfiguration(),
+                                  reservationRepository.getAllReservations(),
+                                  ingredientsQuantityPerDay,
+                                  dishesQuantityPerDay,
+                                  chefSchedule);
+  }
+
+  private HoppeningConfigurationRequest copyHoppeningConfiguration() {
+    Period dinnerPeriod = hoppeningEvent.getDinnerDinerPeriod();
+    Period reservationPeriod = hoppeningEvent.getReservationDinerPeriod();
+    return new HoppeningConfigurationRequest(new DinerPeriod(dinnerPeriod.getStartDate(), dinnerPeriod.getEndDate()),
+                                             new DinerPeriod(reservationPeriod.getStartDate(),
+                                                             reservationPeriod.getEndDate()));
+  }
+
+  private void registerReservation(ReservationEvaluation reservationEvaluation) {
+    buffet.updateDailyDishesQuantity(reservationEvaluation);
+    reservationBook.register(reservationEvaluation);
+    ingredientInventory.updateInventory(reservationEvaluation);
+    dataVersion.incrementAndGet();
+  }
+
+  private void verifyMaximumNumberOfCustomersPerDay(ReservationEvaluation reservationEvaluation,
+                                                    DailyLedger dailyLedger)
+  {
+    if (dailyLedger.getNumberOfCustomers()
+        + reservationEvaluation.getNumberOfCustomers() > MAX_NUMBER_OF_CUSTOMERS_PER_DAY)
     {
-      throw new ForbiddenReservationException();
+      throw new TooManyPeopleException();
     }
   }
 
-  private void verifyReservation(Reservation reservation) {
-    verifyAllergicConflict(reservation);
-    verifyIngredientAvailability(reservation);
-    verifyMaximumNumberOfCustomersPerDay(reservation);
+  private void verifyAllergicConflict(ReservationEvaluation reservationEvaluation, DailyLedger dailyLedger) {
+    if (ingredientInventory.doesReservationCauseAllergicConflict(reservationEvaluation, dailyLedger)) {
+      throw new ForbiddenReservationException();
+    }
   }
 
-  private boolean doesReservationCauseAllergicConflict(Reservation reservation) {
-    List<Reservation> existingReservationAtDinnerDate = reservationBook.getReservationsByDate(reservation.getDinnerDate());
-    return ingredientInventory.doesReservationCauseAllergicConflict(reservation,
-                                                                    existingReservationAtDinnerDate);
+  private void verifyIngredientAvailability(ReservationEvaluation reservationEvaluation) {
+    if (!ingredientInventory.isInventoryStockAvailable(reservationEvaluation,
+                                                       hoppeningEvent.getDinnerDinerPeriod().getStartDate()))
+    {
+      throw new ForbiddenReservationException();
+    }
   }
 
-  private void hireChefsForNewReservation(Reservation reservation) {
-    List<Reservation> currentReservations = reservationBook.getReservationsByDate(reservation.getDinnerDate());
-    currentReservations.add(reservation);
-    chefSelector.hireChefsForReservations(getReservationsRestriction(currentReservations), getReservationDinnerDate(currentReservations));
+  private void verifyReservation(ReservationEvaluation reservationEvaluation, DailyLedger dailyLedger) {
+    verifyAllergicConflict(reservationEvaluation, dailyLedger);
+    verifyIngredientAvailability(reservationEvaluation);
+    verifyMaximumNumberOfCustomersPerDay(reservationEvaluation, dailyLedger);
   }
 
-  private LocalDate getReservationDinnerDate(List<Reservation> currentReservations) {
-    return currentReservations.get(0).getDinnerDate().toLocalDate();
+  private void verifyChefsAvailability(ReservationEvaluation reservationEvaluation, DailyLedger dailyLedger) {
+    if (!chefSelector.canHireChefsForReservations(List.of(dailyLedger.getRestrictionTypeCount(),
+                                                          reservationEvaluation.getRestrictionTypeCount())))
+    {
+      throw new ForbiddenReservationException();
+    }
   }
 
-  private List<Map<RestrictionType, Integer>> getReservationsRestriction(List<Reservation> currentReservations) {
-    return currentReservations.stream().map(Reservation::getRestrictionTypeCount).collect(Collectors.toList());
+  private void hireChefsForNewReservation(ReservationEvaluation reservationEvaluation, DailyLedger dailyLedger) {
+    chefSelector.hireChefsForReservations(List.of(dailyLedger.getRestrictionTypeCount(),
+                                                  reservationEvaluation.getRestrictionTypeCount()),
+                                          reservationEvaluation.getDinnerDay());
   }
 
-  public Map<LocalDate, DailyDishesQuantity> getRestaurantTotalDishes() {
-    return buffet.getAllDailyDishesQuantity();
+  public Money getMaterialCost() {
+    return buffet.getMaterialCost();
   }
 
 }
@@ -2,14 +2,16 @@ package ca.ulaval.glo4002.reservation.domain;
 
 import java.math.BigDecimal;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+
 public final class RestaurantFinance {
     private final BigDecimal income;
     private final BigDecimal expense;
     private final BigDecimal profits;
 
-    public RestaurantFinance(BigDecimal restaurantIncome, BigDecimal totalChefFees, BigDecimal ingredientCost, BigDecimal materialCost) {
-        this.income = restaurantIncome;
-        this.expense = calculateExpense(totalChefFees, ingredientCost, materialCost);
+    public RestaurantFinance(Money restaurantIncome, Money totalChefFees, BigDecimal ingredientCost, Money materialCost) {
+        this.income = restaurantIncome.toBigDecimal();
+        this.expense = calculateExpense(totalChefFees.toBigDecimal(), ingredientCost, materialCost.toBigDecimal());
         this.profits = calculateProfits();
     }
 
@@ -1,10 +1,10 @@
 package ca.ulaval.glo4002.reservation.domain.chef;
 
-import java.math.BigDecimal;
 import java.util.Objects;
 import java.util.Set;
 
 import ca.ulaval.glo4002.reservation.domain.exception.InvalidNumberOfCustomersException;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
 
 public class Chef {
@@ -13,7 +13,7 @@ public class Chef {
   private final String name;
   private final ChefPriority priority;
   private final Set<RestrictionType> specialties;
-  private final BigDecimal price = BigDecimal.valueOf(6000);
+  private final Money price = Money.of(6000);
   private int numberOfCustomers;
 
   public Chef(String name, ChefPriority chefPriority, Set<RestrictionType> specialties) {
@@ -30,7 +30,7 @@ public class Chef {
     return priority;
   }
 
-  public BigDecimal getPrice() {
+  public Money getPrice() {
     return price;
   }
 
@@ -68,7 +68,7 @@ public class Chef {
     Chef chef = (Chef) o;
 
     return chef.name.equals(name) && chef.priority.equals(priority)
-           && chef.price.compareTo(price) == 0 && chef.specialties.equals(specialties)
+           && chef.price.equals(price) && chef.specialties.equals(specialties)
            && chef.numberOfCustomers == numberOfCustomers;
   }
 
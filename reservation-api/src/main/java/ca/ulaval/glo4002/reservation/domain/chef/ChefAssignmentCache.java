@@ -0,0 +1,90 @@
+package ca.ulaval.glo4002.reservation.domain.chef;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+
+public class ChefAssignmentCache {
+  private static final int BITS_PER_RESTRICTION_TYPE = 12;
+  private static final int MAXIMUM_PACKED_QUANTITY = (1 << BITS_PER_RESTRICTION_TYPE) - 1;
+
+  private final Map<Long, Set<Chef>> assignments;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private long rosterVersion = -1;
+
+  public ChefAssignmentCache(int capacity) {
+    assignments = new LinkedHashMap<>(capacity, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Set<Chef>> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  public Set<Chef> getOrCompute(long currentRosterVersion,
+                                Map<RestrictionType, Integer> dishQuantities,
+                                Supplier<Set<Chef>> assignment)
+  {
+    OptionalLong key = packDishQuantities(dishQuantities);
+    if (key.isEmpty()) {
+      missCount.incrementAndGet();
+      return assignment.get();
+    }
+
+    Set<Chef> cachedChefs = findCachedChefs(currentRosterVersion, key.getAsLong());
+    if (cachedChefs != null) {
+      hitCount.incrementAndGet();
+      return cachedChefs;
+    }
+
+    missCount.incrementAndGet();
+    Set<Chef> hiredChefs = Collections.unmodifiableSet(assignment.get());
+    storeChefs(currentRosterVersion, key.getAsLong(), hiredChefs);
+    return hiredChefs;
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public synchronized int size() {
+    return assignments.size();
+  }
+
+  private synchronized Set<Chef> findCachedChefs(long currentRosterVersion, long key) {
+    invalidateIfRosterChanged(currentRosterVersion);
+    return assignments.get(key);
+  }
+
+  private synchronized void storeChefs(long currentRosterVersion, long key, Set<Chef> hiredChefs) {
+    invalidateIfRosterChanged(currentRosterVersion);
+    assignments.put(key, hiredChefs);
+  }
+
+  private void invalidateIfRosterChanged(long currentRosterVersion) {
+    if (rosterVersion != currentRosterVersion) {
+      assignments.clear();
+      rosterVersion = currentRosterVersion;
+    }
+  }
+
+  private OptionalLong packDishQuantities(Map<RestrictionType, Integer> dishQuantities) {
+    long key = 0;
+    for (Map.Entry<RestrictionType, Integer> dishQuantity : dishQuantities.entrySet()) {
+      int quantity = dishQuantity.getValue();
+      if (quantity < 0 || quantity > MAXIMUM_PACKED_QUANTITY) {
+        return OptionalLong.empty();
+      }
+      key |= (long) quantity << (dishQuantity.getKey().ordinal() * BITS_PER_RESTRICTION_TYPE);
+    }
+    return OptionalLong.of(key);
+  }
+
+}
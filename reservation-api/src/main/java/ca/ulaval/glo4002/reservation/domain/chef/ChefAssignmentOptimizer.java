@@ -0,0 +1,221 @@
+package ca.ulaval.glo4002.reservation.domain.chef;
+
+import java.util.*;
+
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+
+public class ChefAssignmentOptimizer {
+  private static final int NUMBER_OF_RESTRICTION_TYPES = RestrictionType.values().length;
+
+  private final Comparator<Chef> searchOrder = Comparator.comparing(Chef::getPrice)
+                                                         .thenComparing(chef -> chef.getPriority()
+                                                                                    .getPriorityValue(),
+                                                                        Comparator.reverseOrder());
+
+  public List<Chef> findOptimalChefs(Collection<Chef> chefs, Map<RestrictionType, Integer> dishQuantities) {
+    int[] demand = toDemandVector(dishQuantities);
+    int demandedTypes = toDemandedTypesMask(demand);
+    List<Chef> candidates = findCandidates(chefs, demandedTypes);
+
+    ChefSubsetSearch search = new ChefSubsetSearch(candidates, demand, demandedTypes);
+    search.run();
+    if (!search.hasSolution()) {
+      throw new NoChefsAvailableException();
+    }
+    return search.getBestChefs();
+  }
+
+  public boolean canCoverDemand(Collection<Chef> chefs, Map<RestrictionType, Integer> dishQuantities) {
+    int[] demand = toDemandVector(dishQuantities);
+    int demandedTypes = toDemandedTypesMask(demand);
+    return new ChefSubsetSearch(findCandidates(chefs, demandedTypes), demand, demandedTypes).canCoverDemand();
+  }
+
+  private int[] toDemandVector(Map<RestrictionType, Integer> dishQuantities) {
+    int[] demand = new int[NUMBER_OF_RESTRICTION_TYPES];
+    dishQuantities.forEach((restrictionType, quantity) -> demand[restrictionType.ordinal()] += quantity);
+    return demand;
+  }
+
+  private int toDemandedTypesMask(int[] demand) {
+    int demandedTypes = 0;
+    for (int restrictionIndex = 0; restrictionIndex < demand.length; restrictionIndex++) {
+      if (demand[restrictionIndex] > 0) {
+        demandedTypes |= 1 << restrictionIndex;
+      }
+    }
+    return demandedTypes;
+  }
+
+  private List<Chef> findCandidates(Collection<Chef> chefs, int demandedTypes) {
+    List<Chef> candidates = new ArrayList<>();
+    for (Chef chef : chefs) {
+      if ((toSpecialtiesMask(chef) & demandedTypes) != 0 && chef.getAvailableCustomers() > 0) {
+        candidates.add(chef);
+      }
+    }
+    candidates.sort(searchOrder);
+    return candidates;
+  }
+
+  private static int toSpecialtiesMask(Chef chef) {
+    int specialties = 0;
+    for (RestrictionType restrictionType : chef.getSpecialties()) {
+      specialties |= 1 << restrictionType.ordinal();
+    }
+    return specialties;
+  }
+
+  private static class ChefSubsetSearch {
+    private final List<Chef> candidates;
+    private final int[] specialties;
+    private final int[] capacities;
+    private final int[] priorities;
+    private final int[] typeGroups;
+    private final int[] groupDemand;
+    private final int[][] remainingSupply;
+    private final Money[] cheapestRemainingPrice;
+
+    private int[] bestSelection;
+    private Money bestPrice;
+    private int bestPriority;
+
+    ChefSubsetSearch(List<Chef> candidates, int[] demand, int demandedTypes) {
+      this.candidates = candidates;
+      int numberOfCandidates = candidates.size();
+      specialties = new int[numberOfCandidates];
+      capacities = new int[numberOfCandidates];
+      priorities = new int[numberOfCandidates];
+      for (int index = 0; index < numberOfCandidates; index++) {
+        Chef chef = candidates.get(index);
+        specialties[index] = toSpecialtiesMask(chef);
+        capacities[index] = chef.getAvailableCustomers();
+        priorities[index] = chef.getPriority().getPriorityValue();
+      }
+
+      typeGroups = enumerateTypeGroups(demandedTypes);
+      groupDemand = new int[typeGroups.length];
+      for (int group = 0; group < typeGroups.length; group++) {
+        groupDemand[group] = sumDemand(demand, typeGroups[group]);
+      }
+
+      remainingSupply = new int[numberOfCandidates + 1][typeGroups.length];
+      cheapestRemainingPrice = new Money[numberOfCandidates + 1];
+      for (int index = numberOfCandidates - 1; index >= 0; index--) {
+        for (int group = 0; group < typeGroups.length; group++) {
+          remainingSupply[index][group] = remainingSupply[index + 1][group]
+                                          + supplyTowards(index, typeGroups[group]);
+        }
+        Money price = candidates.get(index).getPrice();
+        Money nextCheapest = cheapestRemainingPrice[index + 1];
+        cheapestRemainingPrice[index] = nextCheapest == null || price.compareTo(nextCheapest) < 0 ? price
+                                                                                                : nextCheapest;
+      }
+    }
+
+    void run() {
+      search(0, new int[candidates.size()], 0, new int[typeGroups.length], Money.ZERO, 0);
+    }
+
+    boolean canCoverDemand() {
+      return canStillCoverDemand(0, new int[typeGroups.length]);
+    }
+
+    boolean hasSolution() {
+      return bestSelection != null;
+    }
+
+    List<Chef> getBestChefs() {
+      List<Chef> bestChefs = new ArrayList<>();
+      for (int index : bestSelection) {
+        bestChefs.add(candidates.get(index));
+      }
+      return bestChefs;
+    }
+
+    private void search(int index,
+                        int[] selection,
+                        int selectionSize,
+                        int[] supply,
+                        Money price,
+                        int priority)
+    {
+      if (coversDemand(supply)) {
+        recordIfBetter(selection, selectionSize, price, priority);
+        return;
+      }
+      if (index == candidates.size() || !canStillCoverDemand(index, supply) || cannotBeatBest(index, price)) {
+        return;
+      }
+
+      int[] supplyWithChef = supply.clone();
+      for (int group = 0; group < typeGroups.length; group++) {
+        supplyWithChef[group] += supplyTowards(index, typeGroups[group]);
+      }
+      selection[selectionSize] = index;
+      search(index + 1,
+             selection,
+             selectionSize + 1,
+             supplyWithChef,
+             price.add(candidates.get(index).getPrice()),
+             priority + priorities[index]);
+
+      search(index + 1, selection, selectionSize, supply, price, priority);
+    }
+
+    private boolean coversDemand(int[] supply) {
+      for (int group = 0; group < typeGroups.length; group++) {
+        if (supply[group] < groupDemand[group]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean canStillCoverDemand(int index, int[] supply) {
+      for (int group = 0; group < typeGroups.length; group++) {
+        if (supply[group] + remainingSupply[index][group] < groupDemand[group]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean cannotBeatBest(int index, Money price) {
+      return bestPrice != null && price.add(cheapestRemainingPrice[index]).compareTo(bestPrice) > 0;
+    }
+
+    private void recordIfBetter(int[] selection, int selectionSize, Money price, int priority) {
+      if (bestPrice == null || price.compareTo(bestPrice) < 0
+          || (price.compareTo(bestPrice) == 0 && priority > bestPriority))
+      {
+        bestSelection = Arrays.copyOf(selection, selectionSize);
+        bestPrice = price;
+        bestPriority = priority;
+      }
+    }
+
+    private int supplyTowards(int index, int typeGroup) {
+      return (specialties[index] & typeGroup) != 0 ? capacities[index] : 0;
+    }
+
+    private static int[] enumerateTypeGroups(int demandedTypes) {
+      List<Integer> typeGroups = new ArrayList<>();
+      for (int typeGroup = demandedTypes; typeGroup > 0; typeGroup = (typeGroup - 1) & demandedTypes) {
+        typeGroups.add(typeGroup);
+      }
+      return typeGroups.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int sumDemand(int[] demand, int typeGroup) {
+      int total = 0;
+      for (int restrictionIndex = 0; restrictionIndex < demand.length; restrictionIndex++) {
+        if ((typeGroup & (1 << restrictionIndex)) != 0) {
+          total += demand[restrictionIndex];
+        }
+      }
+      return total;
+    }
+  }
+}
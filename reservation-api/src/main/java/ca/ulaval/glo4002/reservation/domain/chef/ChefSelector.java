@@ -1,9 +1,9 @@
 package ca.ulaval.glo4002.reservation.domain.chef;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.*;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.report.chef.ChefRepository;
 import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
 
@@ -19,13 +19,8 @@ public class ChefSelector implements Selectable {
 
   public void hireChefsForReservations(List<Map<RestrictionType, Integer>> reservationsRestriction, LocalDate dinnerDate) {
     resetChefCustomers();
-    Map<RestrictionType, Integer> dishQuantities = new HashMap<>();
-    reservationsRestriction.forEach(restrictionType -> mergeMaps(dishQuantities, restrictionType));
-
-    Set<Chef> suitableChefs = getSuitableChefs(dishQuantities);
-    List<List<Chef>> suitableChefPermutations = generatePermutation(new ArrayList<>(suitableChefs));
-    Set<Set<Chef>> possibleChefCombinations = findPossibleChefCombinations(dishQuantities,
-                                                                           suitableChefPermutations);
+    Map<RestrictionType, Integer> dishQuantities = mergeDishQuantities(reservationsRestriction);
+    Set<Set<Chef>> possibleChefCombinations = findPossibleChefCombinations(dishQuantities);
     if (possibleChefCombinations.isEmpty()) {
       throw new NoChefsAvailableException();
     }
@@ -37,6 +32,23 @@ public class ChefSelector implements Selectable {
     chefRepository.updateRestaurantChefs(dinnerDate, hiredChefs);
   }
 
+  public boolean canHireChefsForReservations(List<Map<RestrictionType, Integer>> reservationsRestriction) {
+    resetChefCustomers();
+    return !findPossibleChefCombinations(mergeDishQuantities(reservationsRestriction)).isEmpty();
+  }
+
+  private Map<RestrictionType, Integer> mergeDishQuantities(List<Map<RestrictionType, Integer>> reservationsRestriction) {
+    Map<RestrictionType, Integer> dishQuantities = new HashMap<>();
+    reservationsRestriction.forEach(restrictionType -> mergeMaps(dishQuantities, restrictionType));
+    return dishQuantities;
+  }
+
+  private Set<Set<Chef>> findPossibleChefCombinations(Map<RestrictionType, Integer> dishQuantities) {
+    Set<Chef> suitableChefs = getSuitableChefs(dishQuantities);
+    List<List<Chef>> suitableChefPermutations = generatePermutation(new ArrayList<>(suitableChefs));
+    return findPossibleChefCombinations(dishQuantities, suitableChefPermutations);
+  }
+
   private Set<Chef> getSuitableChefs(Map<RestrictionType, Integer> dishQuantities) {
     Set<Chef> suitableChefs = new HashSet<>();
     for (RestrictionType restrictionType : dishQuantities.keySet()) {
@@ -121,10 +133,10 @@ public class ChefSelector implements Selectable {
   }
 
   private Set<Set<Chef>> findOptimalChefCombinationsBasedOnPrice(Set<Set<Chef>> possibleChefCombinations) {
-    BigDecimal minimumPrice = BigDecimal.valueOf(Double.MAX_VALUE);
+    Money minimumPrice = Money.ofCents(Long.MAX_VALUE);
     Set<Set<Chef>> bestCombinations = new HashSet<>();
     for (Set<Chef> chefCombination : possibleChefCombinations) {
-      BigDecimal totalChefsPrice = BigDecimal.ZERO;
+      Money totalChefsPrice = Money.ZERO;
       for (Chef chef : chefCombination) {
         totalChefsPrice = totalChefsPrice.add(chef.getPrice());
       }
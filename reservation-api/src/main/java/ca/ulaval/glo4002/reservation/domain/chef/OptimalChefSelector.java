@@ -0,0 +1,100 @@
+package ca.ulaval.glo4002.reservation.domain.chef;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import ca.ulaval.glo4002.reservation.domain.report.chef.ChefRepository;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+
+public class OptimalChefSelector implements Selectable {
+  private final ChefRepository chefRepository;
+  private final ChefAssignmentOptimizer chefAssignmentOptimizer;
+  private final ChefAssignmentCache chefAssignmentCache;
+
+  public OptimalChefSelector(ChefRepository chefRepository,
+                             ChefAssignmentOptimizer chefAssignmentOptimizer,
+                             ChefAssignmentCache chefAssignmentCache)
+  {
+    this.chefRepository = chefRepository;
+    this.chefAssignmentOptimizer = chefAssignmentOptimizer;
+    this.chefAssignmentCache = chefAssignmentCache;
+  }
+
+  public void hireChefsForReservations(List<Map<RestrictionType, Integer>> reservationsRestriction, LocalDate dinnerDate) {
+    Map<RestrictionType, Integer> dishQuantities = mergeDishQuantities(reservationsRestriction);
+    Set<Chef> hiredChefs = chefAssignmentCache.getOrCompute(chefRepository.getRosterVersion(),
+                                                            dishQuantities,
+                                                            () -> findHiredChefs(createFreshChefs(), dishQuantities));
+    chefRepository.updateRestaurantChefs(dinnerDate, hiredChefs);
+  }
+
+  public boolean canHireChefsForReservations(List<Map<RestrictionType, Integer>> reservationsRestriction) {
+    return chefAssignmentOptimizer.canCoverDemand(chefRepository.getAllChefs(), mergeDishQuantities(reservationsRestriction));
+  }
+
+  private Set<Chef> findHiredChefs(List<Chef> roster, Map<RestrictionType, Integer> dishQuantities) {
+    List<Chef> optimalChefs = chefAssignmentOptimizer.findOptimalChefs(roster, dishQuantities);
+    return assignCustomers(dishQuantities, optimalChefs);
+  }
+
+  private Map<RestrictionType, Integer> mergeDishQuantities(List<Map<RestrictionType, Integer>> reservationsRestriction) {
+    Map<RestrictionType, Integer> dishQuantities = new EnumMap<>(RestrictionType.class);
+    for (Map<RestrictionType, Integer> restrictionTypeCount : reservationsRestriction) {
+      restrictionTypeCount.forEach((restrictionType, count) -> dishQuantities.merge(restrictionType, count, Integer::sum));
+    }
+    return dishQuantities;
+  }
+
+  private List<Chef> createFreshChefs() {
+    List<Chef> chefs = new ArrayList<>();
+    for (Chef chef : chefRepository.getAllChefs()) {
+      chefs.add(new Chef(chef.getName(), chef.getPriority(), chef.getSpecialties()));
+    }
+    return chefs;
+  }
+
+  private Set<Chef> assignCustomers(Map<RestrictionType, Integer> dishQuantities, List<Chef> chefs) {
+    int[][] assignedDishes = new int[chefs.size()][RestrictionType.values().length];
+    dishQuantities.forEach((restrictionType, quantity) -> {
+      for (int dish = 0; dish < quantity; dish++) {
+        if (!assignDish(chefs, assignedDishes, restrictionType.ordinal(), new boolean[chefs.size()])) {
+          throw new NoChefsAvailableException();
+        }
+      }
+    });
+    for (int chefIndex = 0; chefIndex < chefs.size(); chefIndex++) {
+      chefs.get(chefIndex).addCustomers(Arrays.stream(assignedDishes[chefIndex]).sum());
+    }
+    return new HashSet<>(chefs);
+  }
+
+  private boolean assignDish(List<Chef> chefs, int[][] assignedDishes, int restrictionIndex, boolean[] visitedChefs) {
+    RestrictionType restrictionType = RestrictionType.values()[restrictionIndex];
+    for (int chefIndex = 0; chefIndex < chefs.size(); chefIndex++) {
+      Chef chef = chefs.get(chefIndex);
+      if (visitedChefs[chefIndex] || !chef.getSpecialties().contains(restrictionType)) {
+        continue;
+      }
+      visitedChefs[chefIndex] = true;
+      if (Arrays.stream(assignedDishes[chefIndex]).sum() < chef.getAvailableCustomers()
+          || reassignOneDish(chefs, assignedDishes, chefIndex, visitedChefs))
+      {
+        assignedDishes[chefIndex][restrictionIndex]++;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean reassignOneDish(List<Chef> chefs, int[][] assignedDishes, int chefIndex, boolean[] visitedChefs) {
+    for (int restrictionIndex = 0; restrictionIndex < assignedDishes[chefIndex].length; restrictionIndex++) {
+      if (assignedDishes[chefIndex][restrictionIndex] > 0
+          && assignDish(chefs, assignedDishes, restrictionIndex, visitedChefs))
+      {
+        assignedDishes[chefIndex][restrictionIndex]--;
+        return true;
+      }
+    }
+    return false;
+  }
+}
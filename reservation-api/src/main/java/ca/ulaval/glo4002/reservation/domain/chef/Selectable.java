@@ -8,4 +8,6 @@ import java.util.Map;
 
 public interface Selectable {
     void hireChefsForReservations(List<Map<RestrictionType, Integer>> reservationsRestriction, LocalDate dinnerDate);
+
+    boolean canHireChefsForReservations(List<Map<RestrictionType, Integer>> reservationsRestriction);
 }
@@ -0,0 +1,49 @@
+package ca.ulaval.glo4002.reservation.domain.fullcourse;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class IngredientVector {
+  private static final IngredientName[] INGREDIENT_NAMES = IngredientName.values();
+
+  private final BigDecimal[] quantities = new BigDecimal[INGREDIENT_NAMES.length];
+  private final Map<IngredientName, BigDecimal> ingredientsQuantity;
+
+  public IngredientVector(Map<IngredientName, BigDecimal> ingredientsQuantity) {
+    for (Map.Entry<IngredientName, BigDecimal> ingredientQuantity : ingredientsQuantity.entrySet()) {
+      quantities[ingredientQuantity.getKey().ordinal()] = ingredientQuantity.getValue();
+    }
+    this.ingredientsQuantity = Collections.unmodifiableMap(toMap(quantities));
+  }
+
+  public static BigDecimal[] createEmptyQuantities() {
+    return new BigDecimal[INGREDIENT_NAMES.length];
+  }
+
+  public static Map<IngredientName, BigDecimal> toMap(BigDecimal[] quantities) {
+    Map<IngredientName, BigDecimal> ingredientsQuantity = new EnumMap<>(IngredientName.class);
+    for (int ingredient = 0; ingredient < quantities.length; ingredient++) {
+      if (quantities[ingredient] != null) {
+        ingredientsQuantity.put(INGREDIENT_NAMES[ingredient], quantities[ingredient]);
+      }
+    }
+    return ingredientsQuantity;
+  }
+
+  public void multiplyAddTo(BigDecimal[] totalQuantities, int numberOfCourses) {
+    BigDecimal multiplier = BigDecimal.valueOf(numberOfCourses);
+    for (int ingredient = 0; ingredient < quantities.length; ingredient++) {
+      if (quantities[ingredient] != null) {
+        BigDecimal quantity = quantities[ingredient].multiply(multiplier);
+        totalQuantities[ingredient] = totalQuantities[ingredient] == null ? quantity
+                                                                          : totalQuantities[ingredient].add(quantity);
+      }
+    }
+  }
+
+  public Map<IngredientName, BigDecimal> getIngredientsQuantity() {
+    return ingredientsQuantity;
+  }
+}
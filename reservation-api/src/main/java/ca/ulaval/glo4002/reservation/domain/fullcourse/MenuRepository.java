@@ -7,4 +7,6 @@ import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
 
 public interface MenuRepository {
   Map<IngredientName, BigDecimal> getIngredientsQuantityByRestrictionType(RestrictionType restrictionType);
+
+  IngredientVector getIngredientVectorByRestrictionType(RestrictionType restrictionType);
 }
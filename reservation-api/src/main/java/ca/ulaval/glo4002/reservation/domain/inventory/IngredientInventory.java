@@ -2,59 +2,66 @@ package ca.ulaval.glo4002.reservation.domain.inventory;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
 import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
 import ca.ulaval.glo4002.reservation.domain.fullcourse.stock.Available;
+import ca.ulaval.glo4002.reservation.domain.ledger.DailyLedger;
+import ca.ulaval.glo4002.reservation.domain.report.IngredientCostLedger;
 import ca.ulaval.glo4002.reservation.domain.reservation.AllergiesDetector;
-import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
-import ca.ulaval.glo4002.reservation.domain.reservation.ingredient.IngredientCalculator;
-import ca.ulaval.glo4002.reservation.infra.inmemory.InMemoryIngredientQuantityRepository;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationEvaluation;
 
 public class IngredientInventory implements Inventory {
 
   private final IngredientQuantityRepository ingredientQuantityRepository;
+  private final IngredientCostLedger ingredientCostLedger;
   private final AllergiesDetector allergiesDetector;
-  private final IngredientCalculator ingredientCalculator;
   private final Set<Available> ingredientsStock;
 
-  public IngredientInventory(InMemoryIngredientQuantityRepository ingredientQuantityRepository,
+  public IngredientInventory(IngredientQuantityRepository ingredientQuantityRepository,
+                             IngredientCostLedger ingredientCostLedger,
                              AllergiesDetector allergiesDetector,
-                             IngredientCalculator ingredientCalculator,
                              Set<Available> ingredientsStock)
   {
     this.ingredientQuantityRepository = ingredientQuantityRepository;
+    this.ingredientCostLedger = ingredientCostLedger;
     this.allergiesDetector = allergiesDetector;
-    this.ingredientCalculator = ingredientCalculator;
     this.ingredientsStock = ingredientsStock;
   }
 
-  public void updateInventory(Reservation reservation) {
-    LocalDate reservationDate = reservation.getDinnerDate().toLocalDate();
-    Map<IngredientName, BigDecimal> reservationIngredientsQuantity = ingredientCalculator.getReservationIngredientsQuantity(reservation);
-    ingredientQuantityRepository.updateIngredientsQuantity(reservationIngredientsQuantity, reservationDate);
+  public void updateInventory(ReservationEvaluation reservationEvaluation) {
+    ingredientQuantityRepository.updateIngredientsQuantity(reservationEvaluation.getIngredientsQuantity(),
+                                                           reservationEvaluation.getDinnerDay());
+    ingredientCostLedger.record(reservationEvaluation.getDinnerDay(), reservationEvaluation.getIngredientsQuantity());
   }
 
-  public boolean doesReservationCauseAllergicConflict(Reservation reservation, List<Reservation> existingReservations) {
-    Map<IngredientName, BigDecimal> dailyIngredients = getInventoryStockAtDate(reservation.getDinnerDate().toLocalDate());
-    return !allergiesDetector.isReservationAllergicFriendly(reservation, existingReservations, dailyIngredients);
+  public boolean doesReservationCauseAllergicConflict(ReservationEvaluation reservationEvaluation,
+                                                      DailyLedger dailyLedger)
+  {
+    return !allergiesDetector.isReservationAllergicFriendly(reservationEvaluation, dailyLedger);
   }
 
-  public boolean isInventoryStockAvailable(Reservation reservation, LocalDate restaurantOpeningDate) {
-    return ingredientsStock.stream().noneMatch(ingredientStock -> doesReservationContainIngredient(reservation, ingredientStock.getIngredientName())
-            && !(ingredientStock.isAvailable(reservation.getDinnerDate().toLocalDate(),
-            restaurantOpeningDate)));
+  public boolean isInventoryStockAvailable(ReservationEvaluation reservationEvaluation,
+                                           LocalDate restaurantOpeningDate)
+  {
+    return ingredientsStock.stream()
+                           .noneMatch(ingredientStock -> reservationEvaluation.containsIngredient(ingredientStock.getIngredientName())
+                                                         && !(ingredientStock.isAvailable(reservationEvaluation.getDinnerDay(),
+                                                                                          restaurantOpeningDate)));
   }
 
-  public Map<IngredientName, BigDecimal> getInventoryStockAtDate(LocalDate date) {
-    return ingredientQuantityRepository.getIngredientsQuantityByDate(date);
+  public Map<LocalDate, Map<IngredientName, BigDecimal>> copyInventory() {
+    Map<LocalDate, Map<IngredientName, BigDecimal>> inventory = new HashMap<>();
+    ingredientQuantityRepository.getAllIngredients()
+                                .forEach((date, ingredientsQuantity) -> inventory.put(date,
+                                                                                      new HashMap<>(ingredientsQuantity)));
+    return inventory;
   }
 
-  private boolean doesReservationContainIngredient(Reservation reservation, IngredientName ingredientName)
-  {
-    Map<IngredientName, BigDecimal> ingredientQuantity = ingredientCalculator.getReservationIngredientsQuantity(reservation);
-    return ingredientQuantity.containsKey(ingredientName);
+  public void restoreInventory(LocalDate date, Map<IngredientName, BigDecimal> ingredientsQuantity) {
+    ingredientQuantityRepository.updateIngredientsQuantity(ingredientsQuantity, date);
+    ingredientCostLedger.record(date, ingredientsQuantity);
   }
 }
@@ -1,23 +1,24 @@
 package ca.ulaval.glo4002.reservation.domain.inventory;
 
 import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
-import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.ledger.DailyLedger;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationEvaluation;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Map;
 
 public interface Inventory {
 
-    void updateInventory(Reservation reservation);
+    void updateInventory(ReservationEvaluation reservationEvaluation);
 
-    boolean doesReservationCauseAllergicConflict(Reservation reservation,
-                                                 List<Reservation> existingReservations);
+    boolean doesReservationCauseAllergicConflict(ReservationEvaluation reservationEvaluation, DailyLedger dailyLedger);
 
-    boolean isInventoryStockAvailable(Reservation reservation,
+    boolean isInventoryStockAvailable(ReservationEvaluation reservationEvaluation,
                                       LocalDate restaurantOpeningDate);
 
-    Map<IngredientName, BigDecimal> getInventoryStockAtDate(LocalDate date);
+    Map<LocalDate, Map<IngredientName, BigDecimal>> copyInventory();
+
+    void restoreInventory(LocalDate date, Map<IngredientName, BigDecimal> ingredientsQuantity);
 
 }
@@ -0,0 +1,7 @@
+package ca.ulaval.glo4002.reservation.domain.journal;
+
+public interface JournalCommit {
+  JournalCommit DURABLE = () -> {};
+
+  void awaitDurability();
+}
@@ -0,0 +1,18 @@
+package ca.ulaval.glo4002.reservation.domain.journal;
+
+public class JournalUnavailableException extends RuntimeException {
+  private static final String ERROR_CODE = "JOURNAL_UNAVAILABLE";
+  private static final String ERROR_MESSAGE = "The request could not be recorded, please retry later";
+
+  public JournalUnavailableException(Throwable cause) {
+    super(cause);
+  }
+
+  public String getError() {
+    return ERROR_CODE;
+  }
+
+  public String getDescription() {
+    return ERROR_MESSAGE;
+  }
+}
@@ -0,0 +1,17 @@
+package ca.ulaval.glo4002.reservation.domain.journal;
+
+import ca.ulaval.glo4002.reservation.domain.Restaurant;
+import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningConfigurationRequest;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+
+public interface RestaurantJournal {
+  JournalCommit recordReservation(Reservation reservation);
+
+  JournalCommit recordHoppeningConfiguration(HoppeningConfigurationRequest hoppeningConfigurationRequest);
+
+  JournalCommit flush();
+
+  long getJournalPosition();
+
+  void replay(Restaurant restaurant, long fromJournalPosition);
+}
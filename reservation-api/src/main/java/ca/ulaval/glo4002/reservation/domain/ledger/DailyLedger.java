@@ -0,0 +1,69 @@
+package ca.ulaval.glo4002.reservation.domain.ledger;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationEvaluation;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+
+public class DailyLedger {
+  private final int numberOfCustomers;
+  private final boolean allergicCustomerPresent;
+  private final Map<RestrictionType, Integer> restrictionTypeCount;
+  private final Map<IngredientName, BigDecimal> ingredientQuantities;
+
+  public DailyLedger() {
+    this(0, false, new EnumMap<>(RestrictionType.class), new EnumMap<>(IngredientName.class));
+  }
+
+  private DailyLedger(int numberOfCustomers,
+                      boolean allergicCustomerPresent,
+                      Map<RestrictionType, Integer> restrictionTypeCount,
+                      Map<IngredientName, BigDecimal> ingredientQuantities)
+  {
+    this.numberOfCustomers = numberOfCustomers;
+    this.allergicCustomerPresent = allergicCustomerPresent;
+    this.restrictionTypeCount = restrictionTypeCount;
+    this.ingredientQuantities = ingredientQuantities;
+  }
+
+  public DailyLedger record(ReservationEvaluation reservationEvaluation) {
+    Map<RestrictionType, Integer> updatedRestrictionTypeCount = new EnumMap<>(restrictionTypeCount);
+    reservationEvaluation.getRestrictionTypeCount()
+                         .forEach((restrictionType, count) -> updatedRestrictionTypeCount.merge(restrictionType,
+                                                                                                count,
+                                                                                                Integer::sum));
+    Map<IngredientName, BigDecimal> updatedIngredientQuantities = new EnumMap<>(ingredientQuantities);
+    reservationEvaluation.getIngredientsQuantity()
+                         .forEach((ingredientName, quantity) -> updatedIngredientQuantities.merge(ingredientName,
+                                                                                                  quantity,
+                                                                                                  BigDecimal::add));
+    return new DailyLedger(numberOfCustomers + reservationEvaluation.getNumberOfCustomers(),
+                           allergicCustomerPresent || reservationEvaluation.hasAllergicCustomer(),
+                           updatedRestrictionTypeCount,
+                           updatedIngredientQuantities);
+  }
+
+  public int getNumberOfCustomers() {
+    return numberOfCustomers;
+  }
+
+  public boolean hasAllergicCustomer() {
+    return allergicCustomerPresent;
+  }
+
+  public boolean hasCarrots() {
+    return ingredientQuantities.containsKey(IngredientName.CARROTS);
+  }
+
+  public Map<RestrictionType, Integer> getRestrictionTypeCount() {
+    return Collections.unmodifiableMap(restrictionTypeCount);
+  }
+
+  public Map<IngredientName, BigDecimal> getIngredientQuantities() {
+    return Collections.unmodifiableMap(ingredientQuantities);
+  }
+}
@@ -0,0 +1,24 @@
+package ca.ulaval.glo4002.reservation.domain.ledger;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationEvaluation;
+
+public class DailyLedgerBook {
+  private static final DailyLedger EMPTY_DAILY_LEDGER = new DailyLedger();
+
+  private final Map<LocalDate, DailyLedger> dailyLedgers = new ConcurrentHashMap<>();
+
+  public DailyLedger getDailyLedger(LocalDate dinnerDate) {
+    return dailyLedgers.getOrDefault(dinnerDate, EMPTY_DAILY_LEDGER);
+  }
+
+  public void commit(ReservationEvaluation reservationEvaluation) {
+    dailyLedgers.compute(reservationEvaluation.getDinnerDay(),
+                         (dinnerDate, dailyLedger) -> Objects.requireNonNullElse(dailyLedger, EMPTY_DAILY_LEDGER)
+                                                             .record(reservationEvaluation));
+  }
+}
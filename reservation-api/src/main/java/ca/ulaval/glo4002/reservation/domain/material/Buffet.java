@@ -1,92 +1,61 @@
 package ca.ulaval.glo4002.reservation.domain.material;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.report.ReportPeriod;
-import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationEvaluation;
 
 public class Buffet {
-  private final Map<LocalDate, DailyDishesQuantity> dailyDishesQuantities = new HashMap<>();
+  private final Map<LocalDate, DailyDishesQuantity> dailyDishesQuantities = new ConcurrentHashMap<>();
 
   private final DailyDishesQuantityFactory dailyDishesQuantityFactory;
+  private final MaterialLedger materialLedger;
 
-  public Buffet(DailyDishesQuantityFactory dailyDishesQuantityFactory) {
+  public Buffet(DailyDishesQuantityFactory dailyDishesQuantityFactory, MaterialLedger materialLedger) {
     this.dailyDishesQuantityFactory = dailyDishesQuantityFactory;
+    this.materialLedger = materialLedger;
   }
 
-  public Map<LocalDate, DailyDishesQuantity> getAllDailyDishesQuantity() {
-    return dailyDishesQuantities;
-  }
-
-  public Map<LocalDate, DailyDishesQuantity> getDishesQuantityByDate(ReportPeriod reportPeriod) {
-    Map<LocalDate, DailyDishesQuantity> dailyDishesQuantitiesForPeriod = new HashMap<>();
-    if (dailyDishesQuantities.isEmpty()) {
-      return dailyDishesQuantitiesForPeriod;
-    }
-    addAllDailyDishesQuantityWithinReportPeriod(dailyDishesQuantitiesForPeriod, reportPeriod);
-    addLastDailyDishesBeforeReportPeriodStart(dailyDishesQuantitiesForPeriod, reportPeriod);
-    return dailyDishesQuantitiesForPeriod;
-  }
-
-  public void updateDailyDishesQuantity(Reservation reservation) {
-    LocalDate dinnerDate = reservation.getDinnerDate().toLocalDate();
+  public void updateDailyDishesQuantity(ReservationEvaluation reservationEvaluation) {
+    LocalDate dinnerDate = reservationEvaluation.getDinnerDay();
     if (dailyDishesQuantities.containsKey(dinnerDate)) {
-      updateExistingDishesQuantity(reservation);
+      updateExistingDishesQuantity(reservationEvaluation);
     } else {
-      dailyDishesQuantities.put(dinnerDate, dailyDishesQuantityFactory.create(reservation));
+      dailyDishesQuantities.put(dinnerDate, dailyDishesQuantityFactory.create(reservationEvaluation));
     }
+    materialLedger.record(dinnerDate, dailyDishesQuantities.get(dinnerDate).getDishesQuantity());
   }
 
-  private void addAllDailyDishesQuantityWithinReportPeriod(Map<LocalDate, DailyDishesQuantity> dailyDishesQuantities,
-                                                           ReportPeriod reportPeriod)
-  {
-    for (LocalDate date : reportPeriod.getAllDaysOfPeriod()) {
-      if (this.dailyDishesQuantities.containsKey(date)) {
-        dailyDishesQuantities.put(date, this.dailyDishesQuantities.get(date));
-      }
-    }
+  public Map<LocalDate, Map<Material, BigDecimal>> copyDailyDishesQuantities() {
+    Map<LocalDate, Map<Material, BigDecimal>> dishesQuantityPerDay = new HashMap<>();
+    dailyDishesQuantities.forEach((date, dailyDishesQuantity) -> dishesQuantityPerDay.put(date,
+                                                                                         new HashMap<>(dailyDishesQuantity.getDishesQuantity())));
+    return dishesQuantityPerDay;
   }
 
-  private void addLastDailyDishesBeforeReportPeriodStart(Map<LocalDate, DailyDishesQuantity> dailyDishesQuantities,
-                                                         ReportPeriod reportPeriod)
-  {
-    LocalDate lastDateBeforePeriodStart = getLastDateBeforeReportPeriodStart(reportPeriod);
-    if (!lastDateBeforePeriodStart.isEqual(reportPeriod.getStartDate())) {
-      dailyDishesQuantities.put(lastDateBeforePeriodStart,
-                                this.dailyDishesQuantities.get(lastDateBeforePeriodStart));
-    }
+  public void restoreDailyDishesQuantity(LocalDate date, Map<Material, BigDecimal> dishesQuantity) {
+    dailyDishesQuantities.put(date, new DailyDishesQuantity(dishesQuantity));
+    materialLedger.record(date, dishesQuantity);
   }
 
-  private void updateExistingDishesQuantity(Reservation reservation) {
-    LocalDate dinnerDate = reservation.getDinnerDate().toLocalDate();
-    DailyDishesQuantity existingDailyDishesQuantity = dailyDishesQuantities.get(dinnerDate);
-    existingDailyDishesQuantity.updateQuantity(reservation.getNumberOfCustomers(),
-                                               reservation.getNumberOfRestrictions());
-    dailyDishesQuantities.put(dinnerDate, existingDailyDishesQuantity);
+  public MaterialReport getMaterialReport(ReportPeriod reportPeriod) {
+    return materialLedger.getReport(reportPeriod);
   }
 
-  private LocalDate getLastDateBeforeReportPeriodStart(ReportPeriod reportPeriod) {
-    LocalDate lastDateBeforeStart = getSmallestDate();
-    for (LocalDate date : dailyDishesQuantities.keySet()) {
-      if (date.isBefore(reportPeriod.getStartDate()) && date.isAfter(lastDateBeforeStart)) {
-        lastDateBeforeStart = date;
-      }
-    }
-    return lastDateBeforeStart;
+  public Money getMaterialCost() {
+    return materialLedger.getTotalMaterialCost();
   }
 
-  private LocalDate getSmallestDate() {
-    List<LocalDate> dates = new ArrayList<>(dailyDishesQuantities.keySet());
-    LocalDate smallestDate = dates.get(0);
-    for (LocalDate date : dates) {
-      if (date.isBefore(smallestDate)) {
-        smallestDate = date;
-      }
-    }
-    return smallestDate;
+  private void updateExistingDishesQuantity(ReservationEvaluation reservationEvaluation) {
+    LocalDate dinnerDate = reservationEvaluation.getDinnerDay();
+    DailyDishesQuantity existingDailyDishesQuantity = dailyDishesQuantities.get(dinnerDate);
+    existingDailyDishesQuantity.updateQuantity(reservationEvaluation.getNumberOfCustomers(),
+                                               reservationEvaluation.getNumberOfRestrictions());
+    dailyDishesQuantities.put(dinnerDate, existingDailyDishesQuantity);
   }
 }
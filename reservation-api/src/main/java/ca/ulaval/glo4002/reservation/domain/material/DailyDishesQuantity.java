@@ -13,6 +13,10 @@ public class DailyDishesQuantity {
   public DailyDishesQuantity() {
   }
 
+  public DailyDishesQuantity(Map<Material, BigDecimal> dishesQuantity) {
+    this.dishesQuantity.putAll(dishesQuantity);
+  }
+
   public DailyDishesQuantity(int numberOfCustomers, int numberOfRestrictions) {
     updateQuantity(numberOfCustomers, numberOfRestrictions);
   }
@@ -1,10 +1,10 @@
 package ca.ulaval.glo4002.reservation.domain.material;
 
-import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationEvaluation;
 
 public class DailyDishesQuantityFactory {
-  public DailyDishesQuantity create(Reservation reservation) {
-    return new DailyDishesQuantity(reservation.getNumberOfCustomers(),
-                                   reservation.getNumberOfRestrictions());
+  public DailyDishesQuantity create(ReservationEvaluation reservationEvaluation) {
+    return new DailyDishesQuantity(reservationEvaluation.getNumberOfCustomers(),
+                                   reservationEvaluation.getNumberOfRestrictions());
   }
 }
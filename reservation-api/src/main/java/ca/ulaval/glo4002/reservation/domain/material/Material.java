@@ -1,23 +1,23 @@
 package ca.ulaval.glo4002.reservation.domain.material;
 
-import java.math.BigDecimal;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 
 public enum Material {
-  BOWL("bowl", BigDecimal.valueOf(170)),
-  PLATE("plate", BigDecimal.valueOf(170)),
-  KNIFE("knife", BigDecimal.valueOf(20)),
-  FORK("fork", BigDecimal.valueOf(20)),
-  SPOON("spoon", BigDecimal.valueOf(20));
+  BOWL("bowl", Money.of(170)),
+  PLATE("plate", Money.of(170)),
+  KNIFE("knife", Money.of(20)),
+  FORK("fork", Money.of(20)),
+  SPOON("spoon", Money.of(20));
 
   private final String name;
-  private final BigDecimal price;
+  private final Money price;
 
-  Material(String name, BigDecimal price) {
+  Material(String name, Money price) {
     this.name = name;
     this.price = price;
   }
 
-  public BigDecimal getPrice() {
+  public Money getPrice() {
     return price;
   }
 
@@ -0,0 +1,82 @@
+package ca.ulaval.glo4002.reservation.domain.material;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.report.ReportPeriod;
+import ca.ulaval.glo4002.reservation.domain.util.DateRangeSegmentTree;
+
+public class MaterialLedger {
+  private final MaterialReportGenerator materialReportGenerator;
+  private final List<LocalDate> dates = new ArrayList<>();
+  private final List<Map<Material, BigDecimal>> neededDishes = new ArrayList<>();
+  private final List<MaterialReportInformation> dailyMaterialReportInformation = new ArrayList<>();
+  private final DateRangeSegmentTree<Money> materialCostIndex = new DateRangeSegmentTree<>(Money.ZERO, Money::add);
+  private Money totalMaterialCost = Money.ZERO;
+
+  public MaterialLedger(MaterialReportGenerator materialReportGenerator) {
+    this.materialReportGenerator = materialReportGenerator;
+  }
+
+  public synchronized void record(LocalDate date, Map<Material, BigDecimal> dishesQuantity) {
+    int index = Collections.binarySearch(dates, date);
+    Map<Material, BigDecimal> dishesQuantitySnapshot = new EnumMap<>(dishesQuantity);
+    if (index >= 0) {
+      neededDishes.set(index, dishesQuantitySnapshot);
+    } else {
+      index = -index - 1;
+      dates.add(index, date);
+      neededDishes.add(index, dishesQuantitySnapshot);
+      dailyMaterialReportInformation.add(index, null);
+    }
+    generateDailyMaterialReportInformation(index);
+    if (index + 1 < dates.size()) {
+      generateDailyMaterialReportInformation(index + 1);
+    }
+  }
+
+  public synchronized MaterialReport getReport(ReportPeriod reportPeriod) {
+    int firstIndex = indexOfFirstDateNotBefore(reportPeriod.getStartDate());
+    int endIndex = indexOfFirstDateAfter(reportPeriod.getEndDate());
+    if (firstIndex >= endIndex) {
+      return new MaterialReport(new ArrayList<>(), Money.ZERO);
+    }
+    return new MaterialReport(new ArrayList<>(dailyMaterialReportInformation.subList(firstIndex, endIndex)),
+                              materialCostIndex.sum(reportPeriod.getStartDate(), reportPeriod.getEndDate()));
+  }
+
+  public synchronized Money getTotalMaterialCost() {
+    return totalMaterialCost;
+  }
+
+  private void generateDailyMaterialReportInformation(int index) {
+    Map<Material, BigDecimal> availableDishes = index == 0 ? materialReportGenerator.getInitialDishesQuantities()
+                                                           : neededDishes.get(index - 1);
+    MaterialReportInformation previousMaterialReportInformation = dailyMaterialReportInformation.get(index);
+    MaterialReportInformation materialReportInformation = materialReportGenerator.generateDailyMaterialReportInformation(dates.get(index),
+                                                                                                                         availableDishes,
+                                                                                                                         neededDishes.get(index));
+    dailyMaterialReportInformation.set(index, materialReportInformation);
+    Money costDifference = previousMaterialReportInformation == null ? materialReportInformation.getTotalPrice()
+                                                                     : materialReportInformation.getTotalPrice()
+                                                                                                .subtract(previousMaterialReportInformation.getTotalPrice());
+    materialCostIndex.add(dates.get(index), costDifference);
+    totalMaterialCost = totalMaterialCost.add(costDifference);
+  }
+
+  private int indexOfFirstDateNotBefore(LocalDate date) {
+    int index = Collections.binarySearch(dates, date);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  private int indexOfFirstDateAfter(LocalDate date) {
+    int index = Collections.binarySearch(dates, date);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+}
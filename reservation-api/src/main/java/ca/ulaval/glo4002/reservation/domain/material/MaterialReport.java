@@ -1,23 +1,34 @@
 package ca.ulaval.glo4002.reservation.domain.material;
 
-import java.math.BigDecimal;
 import java.util.List;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+
 public class MaterialReport {
   private final List<MaterialReportInformation> allMaterialReportInformation;
+  private final Money materialCost;
 
   public MaterialReport(List<MaterialReportInformation> materialReportInformation) {
+    this(materialReportInformation, sumTotalPrices(materialReportInformation));
+  }
+
+  public MaterialReport(List<MaterialReportInformation> materialReportInformation, Money materialCost) {
     allMaterialReportInformation = materialReportInformation;
+    this.materialCost = materialCost;
   }
 
   public List<MaterialReportInformation> getMaterialReportInformation() {
     return allMaterialReportInformation;
   }
 
-  public BigDecimal getMaterialCost() {
-    BigDecimal totalCost = BigDecimal.ZERO;
-    for (MaterialReportInformation materialReportInformation : allMaterialReportInformation) {
-      totalCost = totalCost.add(materialReportInformation.getTotalPrice());
+  public Money getMaterialCost() {
+    return materialCost;
+  }
+
+  private static Money sumTotalPrices(List<MaterialReportInformation> materialReportInformation) {
+    Money totalCost = Money.ZERO;
+    for (MaterialReportInformation dailyMaterialReportInformation : materialReportInformation) {
+      totalCost = totalCost.add(dailyMaterialReportInformation.getTotalPrice());
     }
     return totalCost;
   }
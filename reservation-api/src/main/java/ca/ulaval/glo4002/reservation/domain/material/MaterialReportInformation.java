@@ -4,16 +4,18 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Map;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+
 public class MaterialReportInformation {
   private final LocalDate date;
   private final Map<Material, BigDecimal> cleanedDishes;
   private final Map<Material, BigDecimal> boughtDishes;
-  private final BigDecimal totalPrice;
+  private final Money totalPrice;
 
   public MaterialReportInformation(LocalDate date,
                                    Map<Material, BigDecimal> cleanedDishes,
                                    Map<Material, BigDecimal> boughtDishes,
-                                   BigDecimal totalPrice)
+                                   Money totalPrice)
   {
     this.date = date;
     this.cleanedDishes = cleanedDishes;
@@ -33,7 +35,7 @@ public class MaterialReportInformation {
     return boughtDishes;
   }
 
-  public BigDecimal getTotalPrice() {
+  public Money getTotalPrice() {
     return totalPrice;
   }
 
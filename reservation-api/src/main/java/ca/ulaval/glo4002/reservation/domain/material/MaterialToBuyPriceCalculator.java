@@ -3,13 +3,15 @@ package ca.ulaval.glo4002.reservation.domain.material;
 import java.math.BigDecimal;
 import java.util.Map;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+
 public class MaterialToBuyPriceCalculator {
-  public BigDecimal calculateBuyPrice(Map<Material, BigDecimal> boughtDishes) {
-    BigDecimal boughtPrice = BigDecimal.ZERO;
+  public Money calculateBuyPrice(Map<Material, BigDecimal> boughtDishes) {
+    Money boughtPrice = Money.ZERO;
     for (Map.Entry<Material, BigDecimal> materialEntry : boughtDishes.entrySet()) {
       boughtPrice = boughtPrice.add(materialEntry.getKey()
                                                  .getPrice()
-                                                 .multiply(materialEntry.getValue()));
+                                                 .multiply(materialEntry.getValue().longValueExact()));
     }
     return boughtPrice;
   }
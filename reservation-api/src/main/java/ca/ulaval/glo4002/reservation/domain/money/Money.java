@@ -0,0 +1,86 @@
+package ca.ulaval.glo4002.reservation.domain.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class Money implements Comparable<Money> {
+  private static final int SCALE = 2;
+  private static final long CENTS_PER_UNIT = 100;
+  private static final long CENTS_PER_TENTH = 10;
+
+  public static final Money ZERO = new Money(0);
+
+  private final long cents;
+
+  private Money(long cents) {
+    this.cents = cents;
+  }
+
+  public static Money of(long units) {
+    return new Money(Math.multiplyExact(units, CENTS_PER_UNIT));
+  }
+
+  public static Money ofCents(long cents) {
+    return new Money(cents);
+  }
+
+  public static Money valueOf(BigDecimal amount) {
+    return new Money(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+  }
+
+  public static Money valueOf(BigDecimal amount, RoundingMode roundingMode) {
+    return new Money(amount.setScale(SCALE, roundingMode).unscaledValue().longValueExact());
+  }
+
+  public Money add(Money other) {
+    return new Money(Math.addExact(cents, other.cents));
+  }
+
+  public Money subtract(Money other) {
+    return new Money(Math.subtractExact(cents, other.cents));
+  }
+
+  public Money multiply(long factor) {
+    return new Money(Math.multiplyExact(cents, factor));
+  }
+
+  public long getCents() {
+    return cents;
+  }
+
+  public BigDecimal toBigDecimal() {
+    if (cents % CENTS_PER_UNIT == 0) {
+      return BigDecimal.valueOf(cents / CENTS_PER_UNIT);
+    }
+    if (cents % CENTS_PER_TENTH == 0) {
+      return BigDecimal.valueOf(cents / CENTS_PER_TENTH, 1);
+    }
+    return BigDecimal.valueOf(cents, SCALE);
+  }
+
+  @Override
+  public int compareTo(Money other) {
+    return Long.compare(cents, other.cents);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof Money)) {
+      return false;
+    }
+    return ((Money) o).cents == cents;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(cents);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+}
@@ -5,9 +5,17 @@ import java.util.Set;
 
 public class DailyIngredientReportInformation {
   private final Set<IngredientReportInformation> ingredientsReportInformation;
+  private final BigDecimal dailyTotalPrice;
 
   public DailyIngredientReportInformation(Set<IngredientReportInformation> ingredientsReportInformation) {
+    this(ingredientsReportInformation, sumTotalPrices(ingredientsReportInformation));
+  }
+
+  public DailyIngredientReportInformation(Set<IngredientReportInformation> ingredientsReportInformation,
+                                          BigDecimal dailyTotalPrice)
+  {
     this.ingredientsReportInformation = ingredientsReportInformation;
+    this.dailyTotalPrice = dailyTotalPrice;
   }
 
   public Set<IngredientReportInformation> getIngredientsReportInformation() {
@@ -15,6 +23,10 @@ public class DailyIngredientReportInformation {
   }
 
   public BigDecimal calculateDailyTotalPrice() {
+    return dailyTotalPrice;
+  }
+
+  private static BigDecimal sumTotalPrices(Set<IngredientReportInformation> ingredientsReportInformation) {
     BigDecimal dailyTotalPrice = BigDecimal.valueOf(0);
     for (IngredientReportInformation ingredientReportInformation : ingredientsReportInformation) {
       dailyTotalPrice = dailyTotalPrice.add(ingredientReportInformation.getTotalPrice());
@@ -0,0 +1,151 @@
+package ca.ulaval.glo4002.reservation.domain.report;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.report.exception.IngredientNotFoundException;
+import ca.ulaval.glo4002.reservation.domain.util.DateRangeSegmentTree;
+
+public class IngredientCostLedger {
+  private static final IngredientName[] INGREDIENT_NAMES = IngredientName.values();
+
+  private final NavigableMap<LocalDate, BigDecimal[]> quantitiesPerDay = new TreeMap<>();
+  private final Map<IngredientName, DateRangeSegmentTree<BigDecimal>> quantityIndexes = new EnumMap<>(IngredientName.class);
+  private final Map<LocalDate, DailyIngredientReportInformation> pricedDays = new HashMap<>();
+  private final BigDecimal[] totalQuantities = new BigDecimal[INGREDIENT_NAMES.length];
+  private final ParallelDailyReportEngine parallelDailyReportEngine;
+  private IngredientPrices pricedWith;
+  private IngredientPrices totalCostPricedWith;
+  private BigDecimal totalCost;
+
+  public IngredientCostLedger(ParallelDailyReportEngine parallelDailyReportEngine) {
+    this.parallelDailyReportEngine = parallelDailyReportEngine;
+  }
+
+  public synchronized void record(LocalDate date, Map<IngredientName, BigDecimal> ingredientsQuantity) {
+    BigDecimal[] quantities = quantitiesPerDay.computeIfAbsent(date,
+                                                               newDate -> new BigDecimal[INGREDIENT_NAMES.length]);
+    for (Map.Entry<IngredientName, BigDecimal> ingredientQuantity : ingredientsQuantity.entrySet()) {
+      int ingredient = ingredientQuantity.getKey().ordinal();
+      quantities[ingredient] = quantities[ingredient] == null ? ingredientQuantity.getValue()
+                                                              : ingredientQuantity.getValue()
+                                                                                  .add(quantities[ingredient]);
+      quantityIndexes.computeIfAbsent(ingredientQuantity.getKey(),
+                                      ingredientName -> new DateRangeSegmentTree<>(null,
+                                                                                   IngredientCostLedger::addQuantities))
+                     .add(date, ingredientQuantity.getValue());
+      totalQuantities[ingredient] = addQuantities(totalQuantities[ingredient], ingredientQuantity.getValue());
+      addToTotalCost(ingredientQuantity.getKey(), ingredientQuantity.getValue());
+    }
+    pricedDays.remove(date);
+  }
+
+  public synchronized BigDecimal getTotalCost(IngredientPrices ingredientPrices) {
+    if (totalCost == null || totalCostPricedWith != ingredientPrices && !ingredientPrices.equals(totalCostPricedWith)) {
+      totalCost = price(totalQuantities, ingredientPrices).calculateDailyTotalPrice();
+      totalCostPricedWith = ingredientPrices;
+    }
+    return totalCost;
+  }
+
+  public synchronized IngredientReport getReport(ReportPeriod reportPeriod, IngredientPrices ingredientPrices) {
+    if (pricedWith != ingredientPrices && !ingredientPrices.equals(pricedWith)) {
+      pricedDays.clear();
+    }
+    pricedWith = ingredientPrices;
+    Map<LocalDate, DailyIngredientReportInformation> dailyIngredientsInformation = new HashMap<>();
+    List<Map.Entry<LocalDate, BigDecimal[]>> unpricedDays = new ArrayList<>();
+    for (Map.Entry<LocalDate, BigDecimal[]> day : quantitiesPerDay.subMap(reportPeriod.getStartDate(),
+                                                                          true,
+                                                                          reportPeriod.getEndDate(),
+                                                                          true)
+                                                                  .entrySet())
+    {
+      DailyIngredientReportInformation pricedDay = pricedDays.get(day.getKey());
+      if (pricedDay == null) {
+        unpricedDays.add(day);
+      } else {
+        dailyIngredientsInformation.put(day.getKey(), pricedDay);
+      }
+    }
+    IngredientPrices dayPrices = pricedWith;
+    List<DailyIngredientReportInformation> newlyPricedDays = parallelDailyReportEngine.computeEachDay(unpricedDays,
+                                                                                                      day -> price(day.getValue(),
+                                                                                                                   dayPrices));
+    for (int day = 0; day < unpricedDays.size(); day++) {
+      LocalDate date = unpricedDays.get(day).getKey();
+      pricedDays.put(date, newlyPricedDays.get(day));
+      dailyIngredientsInformation.put(date, newlyPricedDays.get(day));
+    }
+    return new IngredientReport(dailyIngredientsInformation);
+  }
+
+  public synchronized IngredientReport getTotalReport(ReportPeriod reportPeriod, IngredientPrices ingredientPrices) {
+    Map<IngredientName, IngredientReportInformation> totalIngredientReportInformation = new HashMap<>();
+    BigDecimal totalPrice = BigDecimal.valueOf(0);
+    for (Map.Entry<IngredientName, DateRangeSegmentTree<BigDecimal>> quantityIndex : quantityIndexes.entrySet()) {
+      BigDecimal quantity = quantityIndex.getValue().sum(reportPeriod.getStartDate(), reportPeriod.getEndDate());
+      if (quantity != null) {
+        IngredientName ingredientName = quantityIndex.getKey();
+        BigDecimal pricePerKg = ingredientPrices.getPricePerKg(ingredientName);
+        if (pricePerKg == null) {
+          throw new IngredientNotFoundException();
+        }
+        BigDecimal ingredientTotalPrice = pricePerKg.multiply(quantity);
+        totalIngredientReportInformation.put(ingredientName,
+                                             new IngredientReportInformation(ingredientName,
+                                                                             quantity,
+                                                                             ingredientTotalPrice));
+        totalPrice = totalPrice.add(ingredientTotalPrice);
+      }
+    }
+    return new IngredientReport(new HashMap<>(), totalIngredientReportInformation, totalPrice);
+  }
+
+  private void addToTotalCost(IngredientName ingredientName, BigDecimal quantity) {
+    if (totalCost == null) {
+      return;
+    }
+    BigDecimal pricePerKg = totalCostPricedWith.getPricePerKg(ingredientName);
+    totalCost = pricePerKg == null ? null : totalCost.add(pricePerKg.multiply(quantity));
+  }
+
+  private static DailyIngredientReportInformation price(BigDecimal[] quantities, IngredientPrices ingredientPrices) {
+    Set<IngredientReportInformation> ingredientsReportInformation = new HashSet<>();
+    BigDecimal dailyTotalPrice = BigDecimal.valueOf(0);
+    for (int ingredient = 0; ingredient < quantities.length; ingredient++) {
+      if (quantities[ingredient] != null) {
+        IngredientName ingredientName = INGREDIENT_NAMES[ingredient];
+        BigDecimal pricePerKg = ingredientPrices.getPricePerKg(ingredientName);
+        if (pricePerKg == null) {
+          throw new IngredientNotFoundException();
+        }
+        BigDecimal totalPrice = pricePerKg.multiply(quantities[ingredient]);
+        ingredientsReportInformation.add(new IngredientReportInformation(ingredientName,
+                                                                         quantities[ingredient],
+                                                                         totalPrice));
+        dailyTotalPrice = dailyTotalPrice.add(totalPrice);
+      }
+    }
+    return new DailyIngredientReportInformation(Collections.unmodifiableSet(ingredientsReportInformation),
+                                                dailyTotalPrice);
+  }
+
+  private static BigDecimal addQuantities(BigDecimal quantity, BigDecimal otherQuantity) {
+    if (quantity == null) {
+      return otherQuantity;
+    }
+    return otherQuantity == null ? quantity : quantity.add(otherQuantity);
+  }
+}
@@ -1,9 +1,9 @@
 package ca.ulaval.glo4002.reservation.domain.report;
 
-import java.util.List;
-
-import ca.ulaval.glo4002.reservation.infra.report.IngredientPriceDto;
+import java.util.concurrent.CompletableFuture;
 
 public interface IngredientPriceRepository {
-  List<IngredientPriceDto> getIngredientsPrice();
+  IngredientPrices getIngredientPrices();
+
+  CompletableFuture<IngredientPrices> getIngredientPricesAsync();
 }
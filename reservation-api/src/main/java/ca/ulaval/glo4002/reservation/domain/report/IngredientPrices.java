@@ -0,0 +1,92 @@
+package ca.ulaval.glo4002.reservation.domain.report;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+
+public final class IngredientPrices {
+  private static final IngredientName[] INGREDIENT_NAMES = IngredientName.values();
+  private static final IngredientPrices NO_PRICES = new IngredientPrices(createEmptyPrices());
+
+  private final BigDecimal[] pricesPerKg;
+  private final long version;
+
+  public IngredientPrices(BigDecimal[] pricesPerKg) {
+    if (pricesPerKg.length != INGREDIENT_NAMES.length) {
+      throw new IllegalArgumentException("pricesPerKg must have one entry per ingredient name");
+    }
+    this.pricesPerKg = pricesPerKg.clone();
+    this.version = 0;
+  }
+
+  private IngredientPrices(IngredientPrices ingredientPrices, long version) {
+    this.pricesPerKg = ingredientPrices.pricesPerKg;
+    this.version = version;
+  }
+
+  public static IngredientPrices empty() {
+    return NO_PRICES;
+  }
+
+  public static IngredientPrices of(Map<IngredientName, BigDecimal> ingredientNameToPrice) {
+    BigDecimal[] pricesPerKg = createEmptyPrices();
+    for (Map.Entry<IngredientName, BigDecimal> ingredientPrice : ingredientNameToPrice.entrySet()) {
+      pricesPerKg[ingredientPrice.getKey().ordinal()] = ingredientPrice.getValue();
+    }
+    return new IngredientPrices(pricesPerKg);
+  }
+
+  public static BigDecimal[] createEmptyPrices() {
+    return new BigDecimal[INGREDIENT_NAMES.length];
+  }
+
+  public BigDecimal getPricePerKg(IngredientName ingredientName) {
+    return pricesPerKg[ingredientName.ordinal()];
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public IngredientPrices withVersion(long version) {
+    return new IngredientPrices(this, version);
+  }
+
+  public boolean isEmpty() {
+    for (BigDecimal pricePerKg : pricesPerKg) {
+      if (pricePerKg != null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public Map<IngredientName, BigDecimal> toMap() {
+    Map<IngredientName, BigDecimal> ingredientNameToPrice = new EnumMap<>(IngredientName.class);
+    for (int ingredient = 0; ingredient < pricesPerKg.length; ingredient++) {
+      if (pricesPerKg[ingredient] != null) {
+        ingredientNameToPrice.put(INGREDIENT_NAMES[ingredient], pricesPerKg[ingredient]);
+      }
+    }
+    return ingredientNameToPrice;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof IngredientPrices)) {
+      return false;
+    }
+    return Arrays.equals(((IngredientPrices) o).pricesPerKg, pricesPerKg);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(pricesPerKg);
+  }
+}
@@ -9,12 +9,26 @@ import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
 
 public class IngredientReport {
   private final Map<LocalDate, DailyIngredientReportInformation> dailyIngredientsInformation;
+  private final Map<IngredientName, IngredientReportInformation> totalIngredientReportInformation;
+  private final BigDecimal totalPrice;
 
   public IngredientReport(Map<LocalDate, DailyIngredientReportInformation> dailyIngredientReportInformation) {
+    this(dailyIngredientReportInformation, null, null);
+  }
+
+  public IngredientReport(Map<LocalDate, DailyIngredientReportInformation> dailyIngredientReportInformation,
+                          Map<IngredientName, IngredientReportInformation> totalIngredientReportInformation,
+                          BigDecimal totalPrice)
+  {
     this.dailyIngredientsInformation = dailyIngredientReportInformation;
+    this.totalIngredientReportInformation = totalIngredientReportInformation;
+    this.totalPrice = totalPrice;
   }
 
   public BigDecimal calculateTotalPriceForEntireReport() {
+    if (this.totalPrice != null) {
+      return this.totalPrice;
+    }
     BigDecimal totalPrice = BigDecimal.valueOf(0);
     for (DailyIngredientReportInformation ingredientsReportInformation : dailyIngredientsInformation.values()) {
       totalPrice = totalPrice.add(ingredientsReportInformation.calculateDailyTotalPrice());
@@ -27,6 +41,9 @@ public class IngredientReport {
   }
 
   public Map<IngredientName, IngredientReportInformation> generateTotalIngredientReportInformation() {
+    if (totalIngredientReportInformation != null) {
+      return new HashMap<>(totalIngredientReportInformation);
+    }
     Map<IngredientName, IngredientReportInformation> ingredientNameToIngredientReportInformation = new HashMap<>();
     for (DailyIngredientReportInformation dailyIngredientReportInformation : dailyIngredientsInformation.values()) {
       for (IngredientReportInformation ingredientReportInformationToAdd : dailyIngredientReportInformation.getIngredientsReportInformation()) {
@@ -0,0 +1,76 @@
+package ca.ulaval.glo4002.reservation.domain.report;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+public class ParallelDailyReportEngine {
+  private final ForkJoinPool forkJoinPool;
+  private final int numberOfDaysPerTask;
+
+  public ParallelDailyReportEngine(ForkJoinPool forkJoinPool, int numberOfDaysPerTask) {
+    this.forkJoinPool = forkJoinPool;
+    this.numberOfDaysPerTask = Math.max(1, numberOfDaysPerTask);
+  }
+
+  public <T, R> List<R> computeEachDay(List<T> days, Function<T, R> dailyComputation) {
+    Object[] dailyResults = new Object[days.size()];
+    DailyComputationTask<T, R> task = new DailyComputationTask<>(days, dailyComputation, dailyResults, 0, days.size());
+    if (days.size() <= numberOfDaysPerTask) {
+      task.computeSequentially();
+    } else {
+      forkJoinPool.invoke(task);
+    }
+    return toList(dailyResults);
+  }
+
+  public int getParallelism() {
+    return forkJoinPool.getParallelism();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <R> List<R> toList(Object[] dailyResults) {
+    return new ArrayList<>((List<R>) Arrays.asList(dailyResults));
+  }
+
+  private class DailyComputationTask<T, R> extends RecursiveAction {
+    private final List<T> days;
+    private final Function<T, R> dailyComputation;
+    private final Object[] dailyResults;
+    private final int start;
+    private final int end;
+
+    private DailyComputationTask(List<T> days,
+                                 Function<T, R> dailyComputation,
+                                 Object[] dailyResults,
+                                 int start,
+                                 int end)
+    {
+      this.days = days;
+      this.dailyComputation = dailyComputation;
+      this.dailyResults = dailyResults;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= numberOfDaysPerTask) {
+        computeSequentially();
+        return;
+      }
+      int middle = (start + end) >>> 1;
+      invokeAll(new DailyComputationTask<>(days, dailyComputation, dailyResults, start, middle),
+                new DailyComputationTask<>(days, dailyComputation, dailyResults, middle, end));
+    }
+
+    private void computeSequentially() {
+      for (int day = start; day < end; day++) {
+        dailyResults[day] = dailyComputation.apply(days.get(day));
+      }
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package ca.ulaval.glo4002.reservation.domain.report;
+
+import java.util.Objects;
+
+public class ReportVersion {
+  private final long dataVersion;
+  private final long pricesVersion;
+
+  public ReportVersion(long dataVersion, long pricesVersion) {
+    this.dataVersion = dataVersion;
+    this.pricesVersion = pricesVersion;
+  }
+
+  public long getDataVersion() {
+    return dataVersion;
+  }
+
+  public long getPricesVersion() {
+    return pricesVersion;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof ReportVersion)) {
+      return false;
+    }
+    ReportVersion reportVersion = (ReportVersion) o;
+    return reportVersion.dataVersion == dataVersion && reportVersion.pricesVersion == pricesVersion;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(dataVersion, pricesVersion);
+  }
+
+  @Override
+  public String toString() {
+    return dataVersion + "." + pricesVersion;
+  }
+}
@@ -1,32 +1,55 @@
 package ca.ulaval.glo4002.reservation.domain.report.chef;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 
 import ca.ulaval.glo4002.reservation.domain.chef.Chef;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 
 public class ChefReport {
-  private final List<ChefReportInformation> chefReportInformations = new ArrayList<>();
+  private final List<ChefReportInformation> chefReportInformations;
   private final Comparator<ChefReportInformation> comparator = new ChefReportInformationComparator();
 
-  public void addChefReportInformation(String date, Set<Chef> chefs, BigDecimal totalChefPrice) {
+  public ChefReport() {
+    this.chefReportInformations = new ArrayList<>();
+  }
+
+  public ChefReport(Collection<ChefReportInformation> chronologicalChefReportInformations) {
+    this.chefReportInformations = new ArrayList<>(chronologicalChefReportInformations);
+  }
+
+  public void addChefReportInformation(LocalDate date, Set<Chef> chefs, Money totalChefPrice) {
     ChefReportInformation chefReportInformation = new ChefReportInformation(chefs, date, totalChefPrice);
-    this.chefReportInformations.add(chefReportInformation);
-    this.chefReportInformations.sort(comparator);
+    chefReportInformations.add(findInsertionIndex(chefReportInformation), chefReportInformation);
   }
 
   public List<ChefReportInformation> getChefReportInformations() {
     return chefReportInformations;
   }
 
-  public BigDecimal getTotalChefPrice() {
-    BigDecimal totalPrice = BigDecimal.ZERO;
+  public Money getTotalChefPrice() {
+    Money totalPrice = Money.ZERO;
     for (ChefReportInformation chefReportInformation : chefReportInformations) {
       totalPrice = totalPrice.add(chefReportInformation.getTotalPrice());
     }
     return totalPrice;
   }
-}
\ No newline at end of file
+
+  private int findInsertionIndex(ChefReportInformation chefReportInformation) {
+    int low = 0;
+    int high = chefReportInformations.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (comparator.compare(chefReportInformations.get(middle), chefReportInformation) <= 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+}
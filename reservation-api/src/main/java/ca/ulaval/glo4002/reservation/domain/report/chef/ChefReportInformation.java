@@ -1,16 +1,21 @@
 package ca.ulaval.glo4002.reservation.domain.report.chef;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Set;
 
 import ca.ulaval.glo4002.reservation.domain.chef.Chef;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 
 public class ChefReportInformation {
   private final Set<Chef> chefs;
-  private final String date;
-  private final BigDecimal totalPrice;
+  private final LocalDate date;
+  private final Money totalPrice;
 
-  public ChefReportInformation(Set<Chef> chefs, String date, BigDecimal totalPrice) {
+  public ChefReportInformation(Set<Chef> chefs, LocalDate date) {
+    this(chefs, date, calculateTotalPrice(chefs));
+  }
+
+  public ChefReportInformation(Set<Chef> chefs, LocalDate date, Money totalPrice) {
     this.chefs = chefs;
     this.date = date;
     this.totalPrice = totalPrice;
@@ -20,11 +25,19 @@ public class ChefReportInformation {
     return chefs;
   }
 
-  public String getDate() {
+  public LocalDate getDate() {
     return date;
   }
 
-  public BigDecimal getTotalPrice() {
+  public Money getTotalPrice() {
     return totalPrice;
   }
+
+  private static Money calculateTotalPrice(Set<Chef> chefs) {
+    Money totalChefsPrice = Money.ZERO;
+    for (Chef chef : chefs) {
+      totalChefsPrice = totalChefsPrice.add(chef.getPrice());
+    }
+    return totalChefsPrice;
+  }
 }
@@ -6,8 +6,8 @@ import java.util.Comparator;
 public class ChefReportInformationComparator implements Comparator<ChefReportInformation> {
   @Override
   public int compare(ChefReportInformation chefReportInformation, ChefReportInformation t1) {
-    LocalDate firstDate = LocalDate.parse(chefReportInformation.getDate());
-    LocalDate secondDate = LocalDate.parse(t1.getDate());
+    LocalDate firstDate = chefReportInformation.getDate();
+    LocalDate secondDate = t1.getDate();
 
     if (firstDate.equals(secondDate)) {
       return 0;
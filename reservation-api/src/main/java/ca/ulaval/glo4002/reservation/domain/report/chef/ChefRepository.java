@@ -1,16 +1,21 @@
 package ca.ulaval.glo4002.reservation.domain.report.chef;
 
 import java.time.LocalDate;
-import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
 
 import ca.ulaval.glo4002.reservation.domain.chef.Chef;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 
 public interface ChefRepository {
 
   void updateRestaurantChefs(LocalDate dinnerDate, Set<Chef> newChefs);
 
-  Map<LocalDate, Set<Chef>> getAllChefsWorkSchedule();
+  NavigableMap<LocalDate, ChefReportInformation> getChefSchedule();
+
+  Money getTotalChefCost();
 
   Set<Chef> getAllChefs();
+
+  long getRosterVersion();
 }
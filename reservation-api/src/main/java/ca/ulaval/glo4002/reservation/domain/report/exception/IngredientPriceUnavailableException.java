@@ -0,0 +1,18 @@
+package ca.ulaval.glo4002.reservation.domain.report.exception;
+
+public class IngredientPriceUnavailableException extends RuntimeException {
+  private static final String ERROR_CODE = "INGREDIENT_PRICES_UNAVAILABLE";
+  private static final String ERROR_MESSAGE = "Ingredient prices are unavailable, please retry later";
+
+  public IngredientPriceUnavailableException(Throwable cause) {
+    super(cause);
+  }
+
+  public String getError() {
+    return ERROR_CODE;
+  }
+
+  public String getDescription() {
+    return ERROR_MESSAGE;
+  }
+}
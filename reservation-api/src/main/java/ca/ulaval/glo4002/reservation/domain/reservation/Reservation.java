@@ -1,20 +1,24 @@
 package ca.ulaval.glo4002.reservation.domain.reservation;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 
 import ca.ulaval.glo4002.reservation.domain.date.Date;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
 import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
 import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
 
 public class Reservation {
+  private static final RestrictionType[] RESTRICTION_TYPES = RestrictionType.values();
 
   private final ReservationNumber reservationId;
   private final Date dinnerDate;
   private final List<Table> tables;
   private final Date reservationDate;
+  private final int numberOfCustomers;
+  private final int[] restrictionCounts;
+  private final Money reservationFees;
 
   public Reservation(ReservationNumber reservationId,
                      Date dinnerDate,
@@ -25,6 +29,26 @@ public class Reservation {
     this.dinnerDate = dinnerDate;
     this.tables = tables;
     this.reservationDate = reservationDate;
+    this.restrictionCounts = new int[RESTRICTION_TYPES.length];
+    int customers = 0;
+    Money fees = Money.ZERO;
+    for (Table table : tables) {
+      table.countRestrictions(restrictionCounts);
+      customers += table.getCustomers().size();
+      fees = fees.add(table.getTableReservationFees());
+    }
+    this.numberOfCustomers = customers;
+    this.reservationFees = fees;
+  }
+
+  protected Reservation(int numberOfCustomers, int[] restrictionCounts, Money reservationFees) {
+    this.reservationId = null;
+    this.dinnerDate = null;
+    this.tables = null;
+    this.reservationDate = null;
+    this.numberOfCustomers = numberOfCustomers;
+    this.restrictionCounts = restrictionCounts;
+    this.reservationFees = reservationFees;
   }
 
   public ReservationNumber getReservationId() {
@@ -39,11 +63,7 @@ public class Reservation {
     return tables;
   }
 
-  public BigDecimal getReservationFees() {
-    BigDecimal reservationFees = BigDecimal.ZERO;
-    for (Table table : tables) {
-      reservationFees = reservationFees.add(table.getTableReservationFees());
-    }
+  public Money getReservationFees() {
     return reservationFees;
   }
 
@@ -51,33 +71,37 @@ public class Reservation {
     return reservationDate.getLocalDateTime();
   }
 
+  public int getRestrictionCount(RestrictionType restrictionType) {
+    return restrictionCounts[restrictionType.ordinal()];
+  }
+
   public Map<RestrictionType, Integer> getRestrictionTypeCount() {
-    Map<RestrictionType, Integer> restrictionTypeCount = new HashMap<>();
-    for (Table table : tables) {
-      restrictionTypeCount = mergeCurrentCountWithTableRestrictionCount(restrictionTypeCount,
-                                                                        table.getRestrictionTypeCount());
+    Map<RestrictionType, Integer> restrictionTypeCount = new EnumMap<>(RestrictionType.class);
+    for (RestrictionType restrictionType : RESTRICTION_TYPES) {
+      if (restrictionCounts[restrictionType.ordinal()] > 0) {
+        restrictionTypeCount.put(restrictionType, restrictionCounts[restrictionType.ordinal()]);
+      }
     }
     return restrictionTypeCount;
   }
 
   public Set<RestrictionType> getRestrictionTypes() {
-    Set<RestrictionType> restrictionTypes = new HashSet<>();
-    for (Customer customer : this.getCustomers()) {
-      Set<RestrictionType> restrictions = customer.getRestrictions()
-                                                  .isEmpty() ? Set.of(RestrictionType.NONE)
-                                                             : customer.getRestrictions();
-      restrictionTypes.addAll(restrictions);
+    Set<RestrictionType> restrictionTypes = EnumSet.noneOf(RestrictionType.class);
+    for (RestrictionType restrictionType : RESTRICTION_TYPES) {
+      if (restrictionCounts[restrictionType.ordinal()] > 0) {
+        restrictionTypes.add(restrictionType);
+      }
     }
     return restrictionTypes;
   }
 
   public int getNumberOfCustomers() {
-    return this.getCustomers().size();
+    return numberOfCustomers;
   }
 
   public List<Customer> getCustomers() {
-    List<Customer> customers = new ArrayList<>();
-    for (Table table : this.tables) {
+    List<Customer> customers = new ArrayList<>(numberOfCustomers);
+    for (Table table : getTables()) {
       customers.addAll(table.getCustomers());
     }
     return customers;
@@ -85,26 +109,11 @@ public class Reservation {
 
   public int getNumberOfRestrictions() {
     int numberOfRestrictions = 0;
-    Map<RestrictionType, Integer> countPerRestrictionType = getRestrictionTypeCount();
-    for (RestrictionType restrictionType : countPerRestrictionType.keySet()) {
-      if (!restrictionType.equals(RestrictionType.NONE))
-        numberOfRestrictions += countPerRestrictionType.get(restrictionType);
-    }
-    return numberOfRestrictions;
-  }
-
-  private Map<RestrictionType, Integer> mergeCurrentCountWithTableRestrictionCount(Map<RestrictionType, Integer> currentCount,
-                                                                                   Map<RestrictionType, Integer> tableCount)
-  {
-    Map<RestrictionType, Integer> updatedCount = new HashMap<>(currentCount);
-    for (RestrictionType restrictionType : tableCount.keySet()) {
-      if (updatedCount.containsKey(restrictionType)) {
-        updatedCount.replace(restrictionType,
-                             updatedCount.get(restrictionType) + tableCount.get(restrictionType));
-      } else {
-        updatedCount.put(restrictionType, tableCount.get(restrictionType));
+    for (RestrictionType restrictionType : RESTRICTION_TYPES) {
+      if (restrictionType != RestrictionType.NONE) {
+        numberOfRestrictions += restrictionCounts[restrictionType.ordinal()];
       }
     }
-    return updatedCount;
+    return numberOfRestrictions;
   }
 }
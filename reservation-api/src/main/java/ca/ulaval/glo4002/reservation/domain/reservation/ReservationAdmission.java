@@ -0,0 +1,49 @@
+package ca.ulaval.glo4002.reservation.domain.reservation;
+
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
+
+public class ReservationAdmission {
+  private final ReservationNumber reservationId;
+  private final String error;
+  private final String description;
+  private final boolean failed;
+
+  private ReservationAdmission(ReservationNumber reservationId, String error, String description, boolean failed) {
+    this.reservationId = reservationId;
+    this.error = error;
+    this.description = description;
+    this.failed = failed;
+  }
+
+  public static ReservationAdmission accepted(ReservationNumber reservationId) {
+    return new ReservationAdmission(reservationId, null, null, false);
+  }
+
+  public static ReservationAdmission rejected(String error, String description) {
+    return new ReservationAdmission(null, error, description, false);
+  }
+
+  public static ReservationAdmission failed(String error, String description) {
+    return new ReservationAdmission(null, error, description, true);
+  }
+
+  public boolean isAccepted() {
+    return reservationId != null;
+  }
+
+  public boolean hasFailed() {
+    return failed;
+  }
+
+  public ReservationNumber getReservationId() {
+    return reservationId;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+}
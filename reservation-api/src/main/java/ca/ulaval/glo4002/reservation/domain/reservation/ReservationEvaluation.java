@@ -0,0 +1,80 @@
+package ca.ulaval.glo4002.reservation.domain.reservation;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+
+public class ReservationEvaluation {
+  private final Reservation reservation;
+  private final LocalDate dinnerDay;
+  private final int numberOfCustomers;
+  private final Map<RestrictionType, Integer> restrictionTypeCount;
+  private final int numberOfRestrictions;
+  private final Map<IngredientName, BigDecimal> ingredientsQuantity;
+  private final Money reservationFees;
+
+  public ReservationEvaluation(Reservation reservation,
+                               int numberOfCustomers,
+                               Map<RestrictionType, Integer> restrictionTypeCount,
+                               Map<IngredientName, BigDecimal> ingredientsQuantity,
+                               Money reservationFees)
+  {
+    this.reservation = reservation;
+    this.dinnerDay = reservation.getDinnerDate().toLocalDate();
+    this.numberOfCustomers = numberOfCustomers;
+    this.restrictionTypeCount = Collections.unmodifiableMap(restrictionTypeCount);
+    this.numberOfRestrictions = countRestrictions(restrictionTypeCount);
+    this.ingredientsQuantity = Collections.unmodifiableMap(ingredientsQuantity);
+    this.reservationFees = reservationFees;
+  }
+
+  public Reservation getReservation() {
+    return reservation;
+  }
+
+  public LocalDate getDinnerDay() {
+    return dinnerDay;
+  }
+
+  public int getNumberOfCustomers() {
+    return numberOfCustomers;
+  }
+
+  public int getNumberOfRestrictions() {
+    return numberOfRestrictions;
+  }
+
+  public Map<RestrictionType, Integer> getRestrictionTypeCount() {
+    return restrictionTypeCount;
+  }
+
+  public Map<IngredientName, BigDecimal> getIngredientsQuantity() {
+    return ingredientsQuantity;
+  }
+
+  public Money getReservationFees() {
+    return reservationFees;
+  }
+
+  public boolean hasAllergicCustomer() {
+    return restrictionTypeCount.containsKey(RestrictionType.ALLERGIES);
+  }
+
+  public boolean containsIngredient(IngredientName ingredientName) {
+    return ingredientsQuantity.containsKey(ingredientName);
+  }
+
+  private static int countRestrictions(Map<RestrictionType, Integer> restrictionTypeCount) {
+    int numberOfRestrictions = 0;
+    for (Map.Entry<RestrictionType, Integer> restrictionCount : restrictionTypeCount.entrySet()) {
+      if (restrictionCount.getKey() != RestrictionType.NONE) {
+        numberOfRestrictions += restrictionCount.getValue();
+      }
+    }
+    return numberOfRestrictions;
+  }
+}
@@ -0,0 +1,31 @@
+package ca.ulaval.glo4002.reservation.domain.reservation;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import ca.ulaval.glo4002.reservation.domain.reservation.ingredient.IngredientCalculator;
+
+public class ReservationEvaluator {
+  private static final RestrictionType[] RESTRICTION_TYPES = RestrictionType.values();
+
+  private final IngredientCalculator ingredientCalculator;
+
+  public ReservationEvaluator(IngredientCalculator ingredientCalculator) {
+    this.ingredientCalculator = ingredientCalculator;
+  }
+
+  public ReservationEvaluation evaluate(Reservation reservation) {
+    Map<RestrictionType, Integer> restrictionTypeCount = new EnumMap<>(RestrictionType.class);
+    for (RestrictionType restrictionType : RESTRICTION_TYPES) {
+      int restrictionCount = reservation.getRestrictionCount(restrictionType);
+      if (restrictionCount > 0) {
+        restrictionTypeCount.put(restrictionType, restrictionCount);
+      }
+    }
+    return new ReservationEvaluation(reservation,
+                                     reservation.getNumberOfCustomers(),
+                                     restrictionTypeCount,
+                                     ingredientCalculator.getIngredientsQuantity(restrictionTypeCount),
+                                     reservation.getReservationFees());
+  }
+}
@@ -1,8 +1,8 @@
 package ca.ulaval.glo4002.reservation.domain.reservation;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -13,5 +13,7 @@ public interface ReservationRepository {
 
   List<Reservation> getReservationsByDate(LocalDateTime date);
 
-  BigDecimal getTotalReservationIncome();
+  List<Reservation> getAllReservations();
+
+  Money getTotalReservationIncome();
 }
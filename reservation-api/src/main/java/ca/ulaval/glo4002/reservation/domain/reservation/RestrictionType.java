@@ -1,19 +1,25 @@
 package ca.ulaval.glo4002.reservation.domain.reservation;
 
-import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 
 public enum RestrictionType {
-  VEGETARIAN("vegetarian", BigDecimal.valueOf(500)),
-  VEGAN("vegan", BigDecimal.valueOf(1000)),
-  ALLERGIES("allergies", BigDecimal.ZERO),
-  ILLNESS("illness", BigDecimal.ZERO),
-  NONE("none", BigDecimal.ZERO);
+  VEGETARIAN("vegetarian", Money.of(500)),
+  VEGAN("vegan", Money.of(1000)),
+  ALLERGIES("allergies", Money.ZERO),
+  ILLNESS("illness", Money.ZERO),
+  NONE("none", Money.ZERO);
+
+  private static final RestrictionType[] RESTRICTION_TYPES = values();
 
   private final String name;
 
-  private final BigDecimal fees;
+  private final Money fees;
 
-  RestrictionType(String name, BigDecimal fees) {
+  RestrictionType(String name, Money fees) {
     this.name = name;
     this.fees = fees;
   }
@@ -27,12 +33,45 @@ public enum RestrictionType {
     throw new InvalidRestrictionException();
   }
 
+  public static int toMask(Collection<RestrictionType> restrictions) {
+    int restrictionMask = 0;
+    for (RestrictionType restriction : restrictions) {
+      restrictionMask |= restriction.getMask();
+    }
+    return restrictionMask;
+  }
+
+  public static Set<RestrictionType> fromMask(int restrictionMask) {
+    Set<RestrictionType> restrictions = EnumSet.noneOf(RestrictionType.class);
+    for (RestrictionType restrictionType : RESTRICTION_TYPES) {
+      if ((restrictionMask & restrictionType.getMask()) != 0) {
+        restrictions.add(restrictionType);
+      }
+    }
+    return restrictions;
+  }
+
+  public static void countRestrictions(int restrictionMask, int[] restrictionCounts) {
+    if (restrictionMask == 0) {
+      restrictionCounts[NONE.ordinal()]++;
+    }
+    for (RestrictionType restrictionType : RESTRICTION_TYPES) {
+      if ((restrictionMask & restrictionType.getMask()) != 0) {
+        restrictionCounts[restrictionType.ordinal()]++;
+      }
+    }
+  }
+
+  public int getMask() {
+    return 1 << ordinal();
+  }
+
   @Override
   public String toString() {
     return name;
   }
 
-  public BigDecimal getFees() {
+  public Money getFees() {
     return fees;
   }
 }
@@ -1,18 +1,33 @@
 package ca.ulaval.glo4002.reservation.domain.reservation.customer;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
 
-import java.math.BigDecimal;
 import java.util.Set;
 
 public class Customer {
-  private static final BigDecimal BASIC_CUSTOMER_FEES = BigDecimal.valueOf(1000);
+  private static final Money BASIC_CUSTOMER_FEES = Money.of(1000);
+  private static final RestrictionType[] RESTRICTION_TYPES = RestrictionType.values();
   private final String name;
-  private final Set<RestrictionType> restrictions;
+  private final int restrictionMask;
 
   public Customer(String name, Set<RestrictionType> restrictions) {
+    this(name, RestrictionType.toMask(restrictions));
+  }
+
+  public Customer(String name, int restrictionMask) {
     this.name = name;
-    this.restrictions = restrictions;
+    this.restrictionMask = restrictionMask;
+  }
+
+  public static Money getCustomerFees(int restrictionMask) {
+    Money customerFees = BASIC_CUSTOMER_FEES;
+    for (RestrictionType restrictionType : RESTRICTION_TYPES) {
+      if ((restrictionMask & restrictionType.getMask()) != 0) {
+        customerFees = customerFees.add(restrictionType.getFees());
+      }
+    }
+    return customerFees;
   }
 
   public String getName() {
@@ -20,16 +35,18 @@ public class Customer {
   }
 
   public Set<RestrictionType> getRestrictions() {
-    return restrictions;
+    return RestrictionType.fromMask(restrictionMask);
+  }
+
+  public int getRestrictionMask() {
+    return restrictionMask;
   }
 
-  public BigDecimal getCustomerFees() {
-    return BASIC_CUSTOMER_FEES.add(getAdditionalFees());
+  public boolean hasRestriction(RestrictionType restrictionType) {
+    return (restrictionMask & restrictionType.getMask()) != 0;
   }
 
-  private BigDecimal getAdditionalFees() {
-    BigDecimal additionalFees = BigDecimal.ZERO;
-    for (RestrictionType restrictionType : restrictions) additionalFees = additionalFees.add(restrictionType.getFees());
-    return additionalFees;
+  public Money getCustomerFees() {
+    return getCustomerFees(restrictionMask);
   }
 }
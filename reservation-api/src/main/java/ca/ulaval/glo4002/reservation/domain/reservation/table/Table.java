@@ -1,14 +1,15 @@
 package ca.ulaval.glo4002.reservation.domain.reservation.table;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
 import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
 
-import java.math.BigDecimal;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
 public class Table {
+  private static final RestrictionType[] RESTRICTION_TYPES = RestrictionType.values();
 
   private final List<Customer> customers;
 
@@ -20,8 +21,8 @@ public class Table {
     return customers;
   }
 
-  public BigDecimal getTableReservationFees() {
-    BigDecimal tableReservationFees = BigDecimal.ZERO;
+  public Money getTableReservationFees() {
+    Money tableReservationFees = Money.ZERO;
     for (Customer customer : customers) {
       tableReservationFees = tableReservationFees.add(customer.getCustomerFees());
     }
@@ -29,33 +30,20 @@ public class Table {
   }
 
   public Map<RestrictionType, Integer> getRestrictionTypeCount() {
-    Map<RestrictionType, Integer> restrictionTypeCount = new HashMap<>();
-    customers.forEach(customer -> {
-      if (customer.getRestrictions().isEmpty()) {
-        incrementNoReservationCount(restrictionTypeCount);
+    int[] restrictionCounts = new int[RESTRICTION_TYPES.length];
+    countRestrictions(restrictionCounts);
+    Map<RestrictionType, Integer> restrictionTypeCount = new EnumMap<>(RestrictionType.class);
+    for (RestrictionType restrictionType : RESTRICTION_TYPES) {
+      if (restrictionCounts[restrictionType.ordinal()] > 0) {
+        restrictionTypeCount.put(restrictionType, restrictionCounts[restrictionType.ordinal()]);
       }
-      incrementRestrictionTypeCount(customer, restrictionTypeCount);
-    });
+    }
     return restrictionTypeCount;
   }
 
-  private void incrementNoReservationCount(Map<RestrictionType, Integer> restrictionTypeCount) {
-    if (restrictionTypeCount.containsKey(RestrictionType.NONE)) {
-      restrictionTypeCount.replace(RestrictionType.NONE,
-                                   restrictionTypeCount.get(RestrictionType.NONE) + 1);
-    } else {
-      restrictionTypeCount.put(RestrictionType.NONE, 1);
+  public void countRestrictions(int[] restrictionCounts) {
+    for (Customer customer : customers) {
+      RestrictionType.countRestrictions(customer.getRestrictionMask(), restrictionCounts);
     }
   }
-
-  private void incrementRestrictionTypeCount(Customer customer, Map<RestrictionType, Integer> restrictionTypeCount) {
-    customer.getRestrictions().forEach(restrictionType -> {
-      if (restrictionTypeCount.containsKey(restrictionType)) {
-        restrictionTypeCount.replace(restrictionType,
-                restrictionTypeCount.get(restrictionType) + 1);
-      } else {
-        restrictionTypeCount.put(restrictionType, 1);
-      }
-    });
-  }
 }
@@ -0,0 +1,61 @@
+package ca.ulaval.glo4002.reservation.domain.snapshot;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ca.ulaval.glo4002.reservation.domain.chef.Chef;
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningConfigurationRequest;
+import ca.ulaval.glo4002.reservation.domain.material.Material;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+
+public class RestaurantSnapshot {
+  private final long journalPosition;
+  private final HoppeningConfigurationRequest hoppeningConfiguration;
+  private final List<Reservation> reservations;
+  private final Map<LocalDate, Map<IngredientName, BigDecimal>> ingredientsQuantityPerDay;
+  private final Map<LocalDate, Map<Material, BigDecimal>> dishesQuantityPerDay;
+  private final Map<LocalDate, Set<Chef>> chefSchedule;
+
+  public RestaurantSnapshot(long journalPosition,
+                            HoppeningConfigurationRequest hoppeningConfiguration,
+                            List<Reservation> reservations,
+                            Map<LocalDate, Map<IngredientName, BigDecimal>> ingredientsQuantityPerDay,
+                            Map<LocalDate, Map<Material, BigDecimal>> dishesQuantityPerDay,
+                            Map<LocalDate, Set<Chef>> chefSchedule)
+  {
+    this.journalPosition = journalPosition;
+    this.hoppeningConfiguration = hoppeningConfiguration;
+    this.reservations = reservations;
+    this.ingredientsQuantityPerDay = ingredientsQuantityPerDay;
+    this.dishesQuantityPerDay = dishesQuantityPerDay;
+    this.chefSchedule = chefSchedule;
+  }
+
+  public long getJournalPosition() {
+    return journalPosition;
+  }
+
+  public HoppeningConfigurationRequest getHoppeningConfiguration() {
+    return hoppeningConfiguration;
+  }
+
+  public List<Reservation> getReservations() {
+    return reservations;
+  }
+
+  public Map<LocalDate, Map<IngredientName, BigDecimal>> getIngredientsQuantityPerDay() {
+    return ingredientsQuantityPerDay;
+  }
+
+  public Map<LocalDate, Map<Material, BigDecimal>> getDishesQuantityPerDay() {
+    return dishesQuantityPerDay;
+  }
+
+  public Map<LocalDate, Set<Chef>> getChefSchedule() {
+    return chefSchedule;
+  }
+}
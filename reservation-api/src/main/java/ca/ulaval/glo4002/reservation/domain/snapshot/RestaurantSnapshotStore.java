@@ -0,0 +1,9 @@
+package ca.ulaval.glo4002.reservation.domain.snapshot;
+
+import java.util.Optional;
+
+public interface RestaurantSnapshotStore {
+  void save(RestaurantSnapshot restaurantSnapshot);
+
+  Optional<RestaurantSnapshot> loadLatest();
+}
@@ -0,0 +1,35 @@
+package ca.ulaval.glo4002.reservation.domain.snapshot;
+
+import ca.ulaval.glo4002.reservation.domain.Restaurant;
+
+public class RestaurantSnapshotter implements Runnable {
+  private static final long NO_SNAPSHOT = -1;
+
+  private final Restaurant restaurant;
+  private final RestaurantSnapshotStore restaurantSnapshotStore;
+  private long snapshotDataVersion = NO_SNAPSHOT;
+  private volatile int numberOfConsecutiveFailures;
+
+  public RestaurantSnapshotter(Restaurant restaurant, RestaurantSnapshotStore restaurantSnapshotStore) {
+    this.restaurant = restaurant;
+    this.restaurantSnapshotStore = restaurantSnapshotStore;
+  }
+
+  public void run() {
+    long dataVersion = restaurant.getDataVersion();
+    if (dataVersion == snapshotDataVersion) {
+      return;
+    }
+    try {
+      restaurantSnapshotStore.save(restaurant.takeSnapshot());
+      snapshotDataVersion = dataVersion;
+      numberOfConsecutiveFailures = 0;
+    } catch (RuntimeException snapshotNotWritten) {
+      numberOfConsecutiveFailures++;
+    }
+  }
+
+  public int getNumberOfConsecutiveFailures() {
+    return numberOfConsecutiveFailures;
+  }
+}
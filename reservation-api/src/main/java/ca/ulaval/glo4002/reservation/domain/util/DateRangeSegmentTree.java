@@ -0,0 +1,94 @@
+package ca.ulaval.glo4002.reservation.domain.util;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BinaryOperator;
+
+public class DateRangeSegmentTree<T> {
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final T identity;
+  private final BinaryOperator<T> combiner;
+  private List<T> nodes;
+  private long firstEpochDay;
+  private int capacity;
+  private boolean empty = true;
+
+  public DateRangeSegmentTree(T identity, BinaryOperator<T> combiner) {
+    this.identity = identity;
+    this.combiner = combiner;
+    this.capacity = INITIAL_CAPACITY;
+    this.nodes = createNodes(capacity);
+  }
+
+  public void add(LocalDate date, T value) {
+    long epochDay = date.toEpochDay();
+    if (empty) {
+      firstEpochDay = epochDay;
+      empty = false;
+    }
+    ensureCovers(epochDay);
+    int node = capacity + (int) (epochDay - firstEpochDay);
+    nodes.set(node, combiner.apply(nodes.get(node), value));
+    for (node /= 2; node >= 1; node /= 2) {
+      nodes.set(node, combiner.apply(nodes.get(2 * node), nodes.get(2 * node + 1)));
+    }
+  }
+
+  public T sum(LocalDate startDate, LocalDate endDate) {
+    if (empty) {
+      return identity;
+    }
+    long firstDay = Math.max(startDate.toEpochDay(), firstEpochDay);
+    long lastDay = Math.min(endDate.toEpochDay(), firstEpochDay + capacity - 1);
+    if (firstDay > lastDay) {
+      return identity;
+    }
+    T leftSum = identity;
+    T rightSum = identity;
+    int left = capacity + (int) (firstDay - firstEpochDay);
+    int right = capacity + (int) (lastDay - firstEpochDay) + 1;
+    while (left < right) {
+      if ((left & 1) == 1) {
+        leftSum = combiner.apply(leftSum, nodes.get(left++));
+      }
+      if ((right & 1) == 1) {
+        rightSum = combiner.apply(nodes.get(--right), rightSum);
+      }
+      left /= 2;
+      right /= 2;
+    }
+    return combiner.apply(leftSum, rightSum);
+  }
+
+  private void ensureCovers(long epochDay) {
+    long newFirstEpochDay = Math.min(firstEpochDay, epochDay);
+    long lastEpochDay = Math.max(firstEpochDay + capacity - 1, epochDay);
+    if (newFirstEpochDay == firstEpochDay && lastEpochDay == firstEpochDay + capacity - 1) {
+      return;
+    }
+    int newCapacity = capacity;
+    while (lastEpochDay - newFirstEpochDay + 1 > newCapacity) {
+      newCapacity = Math.multiplyExact(newCapacity, 2);
+    }
+    List<T> newNodes = createNodes(newCapacity);
+    for (int day = 0; day < capacity; day++) {
+      newNodes.set(newCapacity + (int) (firstEpochDay - newFirstEpochDay) + day, nodes.get(capacity + day));
+    }
+    for (int node = newCapacity - 1; node >= 1; node--) {
+      newNodes.set(node, combiner.apply(newNodes.get(2 * node), newNodes.get(2 * node + 1)));
+    }
+    nodes = newNodes;
+    capacity = newCapacity;
+    firstEpochDay = newFirstEpochDay;
+  }
+
+  private List<T> createNodes(int capacity) {
+    List<T> nodes = new ArrayList<>(2 * capacity);
+    for (int node = 0; node < 2 * capacity; node++) {
+      nodes.add(identity);
+    }
+    return nodes;
+  }
+}
@@ -1,23 +1,29 @@
 package ca.ulaval.glo4002.reservation.infra.inmemory;
 
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import ca.ulaval.glo4002.reservation.domain.chef.Chef;
 import ca.ulaval.glo4002.reservation.domain.chef.ChefPriority;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.report.chef.ChefReportInformation;
 import ca.ulaval.glo4002.reservation.domain.report.chef.ChefRepository;
 import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
 
 public class InMemoryChefRepository implements ChefRepository {
 
-  private final Map<LocalDate, Set<Chef>> restaurantChefsSchedule;
+  private final NavigableMap<LocalDate, ChefReportInformation> restaurantChefsSchedule;
+  private final AtomicLong totalChefCostInCents = new AtomicLong();
   private Set<Chef> availableChefs;
+  private long rosterVersion;
 
   public InMemoryChefRepository() {
-    this.restaurantChefsSchedule = new HashMap<>();
+    this.restaurantChefsSchedule = new ConcurrentSkipListMap<>();
     generateBaseChefs();
   }
 
@@ -50,17 +56,30 @@ public class InMemoryChefRepository implements ChefRepository {
     availableChefs.add(new Chef("Amélie Mélo",
                                 ChefPriority.NINTH,
                                 Set.of(RestrictionType.ALLERGIES, RestrictionType.VEGAN)));
+    rosterVersion++;
   }
 
   public void updateRestaurantChefs(LocalDate dinnerDate, Set<Chef> newChefs) {
-    restaurantChefsSchedule.put(dinnerDate, newChefs);
+    ChefReportInformation dailyChefSchedule = new ChefReportInformation(newChefs, dinnerDate);
+    ChefReportInformation previousDailyChefSchedule = restaurantChefsSchedule.put(dinnerDate, dailyChefSchedule);
+    long previousCostInCents = previousDailyChefSchedule == null ? 0
+                                                                 : previousDailyChefSchedule.getTotalPrice().getCents();
+    totalChefCostInCents.addAndGet(dailyChefSchedule.getTotalPrice().getCents() - previousCostInCents);
   }
 
-  public Map<LocalDate, Set<Chef>> getAllChefsWorkSchedule() {
-    return restaurantChefsSchedule;
+  public NavigableMap<LocalDate, ChefReportInformation> getChefSchedule() {
+    return Collections.unmodifiableNavigableMap(restaurantChefsSchedule);
+  }
+
+  public Money getTotalChefCost() {
+    return Money.ofCents(totalChefCostInCents.get());
   }
 
   public Set<Chef> getAllChefs() {
     return availableChefs;
   }
+
+  public long getRosterVersion() {
+    return rosterVersion;
+  }
 }
@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
@@ -14,7 +15,7 @@ import ca.ulaval.glo4002.reservation.domain.util.MapUtil;
 
 public class InMemoryIngredientQuantityRepository implements IngredientQuantityRepository {
 
-  private final Map<LocalDate, Map<IngredientName, BigDecimal>> ingredientsQuantityPerDay = new HashMap<>();
+  private final Map<LocalDate, Map<IngredientName, BigDecimal>> ingredientsQuantityPerDay = new ConcurrentHashMap<>();
 
   public boolean isQuantityEmpty() {
     return ingredientsQuantityPerDay.isEmpty();
@@ -23,17 +24,13 @@ public class InMemoryIngredientQuantityRepository implements IngredientQuantityR
   public void updateIngredientsQuantity(Map<IngredientName, BigDecimal> reservationIngredientsQuantity, LocalDate reservationDate) {
     Map<IngredientName, BigDecimal> currentIngredientsQuantity = getIngredientsQuantityByDate(reservationDate);
 
-    Map<IngredientName, BigDecimal> updatedIngredientsQuantity = MapUtil.merge(reservationIngredientsQuantity,
+    Map<IngredientName, BigDecimal> updatedIngredientsQuantity = MapUtil.merge(new HashMap<>(reservationIngredientsQuantity),
                                                                                currentIngredientsQuantity);
     ingredientsQuantityPerDay.put(reservationDate, updatedIngredientsQuantity);
   }
 
   public Map<IngredientName, BigDecimal> getIngredientsQuantityByDate(LocalDate date) {
-    if (ingredientsQuantityPerDay.containsKey(date)) {
-      return ingredientsQuantityPerDay.get(date);
-    }
-    ingredientsQuantityPerDay.put(date, new HashMap<>());
-    return ingredientsQuantityPerDay.get(date);
+    return ingredientsQuantityPerDay.computeIfAbsent(date, emptyDate -> new HashMap<>());
   }
 
   public Map<LocalDate, Map<IngredientName, BigDecimal>> getReportIngredientQuantity(List<LocalDate> dates) {
@@ -1,25 +1,29 @@
 package ca.ulaval.glo4002.reservation.infra.inmemory;
 
 import java.math.BigDecimal;
+import java.util.EnumMap;
 import java.util.Map;
 
 import ca.ulaval.glo4002.reservation.domain.fullcourse.FullCourse;
 import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientVector;
 import ca.ulaval.glo4002.reservation.domain.fullcourse.MenuRepository;
 import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
 
 public class InMemoryMenuRepository implements MenuRepository {
-  private final Map<RestrictionType, FullCourse> menu;
+  private final Map<RestrictionType, IngredientVector> menu = new EnumMap<>(RestrictionType.class);
 
   public InMemoryMenuRepository(FullCourseFactory fullCourseFactory) {
-    menu = fullCourseFactory.create();
+    for (Map.Entry<RestrictionType, FullCourse> fullCourse : fullCourseFactory.create().entrySet()) {
+      menu.put(fullCourse.getKey(), new IngredientVector(fullCourse.getValue().getIngredientQuantities()));
+    }
   }
 
   public Map<IngredientName, BigDecimal> getIngredientsQuantityByRestrictionType(RestrictionType restrictionType) {
-    return getCourseByRestrictionType(restrictionType).getIngredientQuantities();
+    return getIngredientVectorByRestrictionType(restrictionType).getIngredientsQuantity();
   }
 
-  private FullCourse getCourseByRestrictionType(RestrictionType restrictionType) {
+  public IngredientVector getIngredientVectorByRestrictionType(RestrictionType restrictionType) {
     return menu.get(restrictionType);
   }
 }
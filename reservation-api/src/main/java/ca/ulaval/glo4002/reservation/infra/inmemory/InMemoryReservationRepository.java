@@ -1,42 +1,99 @@
 package ca.ulaval.glo4002.reservation.infra.inmemory;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
 import ca.ulaval.glo4002.reservation.domain.reservation.ReservationRepository;
 import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
 import ca.ulaval.glo4002.reservation.service.reservation.exception.ReservationNotFoundException;
 
 public class InMemoryReservationRepository implements ReservationRepository {
-  private final List<Reservation> reservations = new ArrayList<>();
+  private final Map<ReservationNumber, Reservation> reservationsById = new ConcurrentHashMap<>();
+  private final Map<Long, DayBucket> reservationsByEpochDay = new ConcurrentHashMap<>();
+  private final ConcurrentNavigableMap<Long, DayBucket> reservationsByOrderedEpochDay = new ConcurrentSkipListMap<>();
+  private final AtomicLong totalReservationIncomeInCents = new AtomicLong();
 
   public ReservationNumber saveReservation(Reservation reservation) {
-    reservations.add(reservation);
+    reservationsById.put(reservation.getReservationId(), reservation);
+    reservationsByEpochDay.computeIfAbsent(toEpochDay(reservation.getDinnerDate()), this::createDayBucket)
+                          .add(reservation);
+    totalReservationIncomeInCents.addAndGet(reservation.getReservationFees().getCents());
     return reservation.getReservationId();
   }
 
   public Reservation getReservationById(ReservationNumber reservationId) {
-    for (Reservation reservation : reservations) {
-      if (reservationId.equals(reservation.getReservationId())) {
-        return reservation;
-      }
+    Reservation reservation = reservationsById.get(reservationId);
+    if (reservation == null) {
+      throw new ReservationNotFoundException(reservationId);
     }
-    throw new ReservationNotFoundException(reservationId);
+    return reservation;
   }
 
   public List<Reservation> getReservationsByDate(LocalDateTime date) {
-    return reservations.stream().filter(reservation -> reservation.getDinnerDate().toLocalDate().isEqual(date.toLocalDate())).collect(Collectors.toList());
+    DayBucket dayBucket = reservationsByEpochDay.get(toEpochDay(date));
+    if (dayBucket == null) {
+      return new ArrayList<>();
+    }
+    return dayBucket.toList();
+  }
+
+  public List<Reservation> getAllReservations() {
+    List<Reservation> reservations = new ArrayList<>();
+    reservationsByOrderedEpochDay.values().forEach(dayBucket -> dayBucket.addTo(reservations));
+    return reservations;
+  }
+
+  public Money getTotalReservationIncome() {
+    return Money.ofCents(totalReservationIncomeInCents.get());
+  }
+
+  private DayBucket createDayBucket(long epochDay) {
+    DayBucket dayBucket = new DayBucket();
+    reservationsByOrderedEpochDay.put(epochDay, dayBucket);
+    return dayBucket;
+  }
+
+  private long toEpochDay(LocalDateTime date) {
+    return date.toLocalDate().toEpochDay();
   }
 
-  public BigDecimal getTotalReservationIncome() {
-    BigDecimal totalPrice = BigDecimal.ZERO;
-    for (Reservation reservation : reservations) {
-      totalPrice = totalPrice.add(reservation.getReservationFees());
+  private static final class DayBucket {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private volatile Reservation[] reservations = new Reservation[INITIAL_CAPACITY];
+    private volatile int size;
+
+    private synchronized void add(Reservation reservation) {
+      Reservation[] currentReservations = reservations;
+      if (size == currentReservations.length) {
+        currentReservations = Arrays.copyOf(currentReservations, currentReservations.length * 2);
+      }
+      currentReservations[size] = reservation;
+      reservations = currentReservations;
+      size++;
+    }
+
+    private List<Reservation> toList() {
+      List<Reservation> dayReservations = new ArrayList<>(size);
+      addTo(dayReservations);
+      return dayReservations;
+    }
+
+    private void addTo(List<Reservation> dayReservations) {
+      int currentSize = size;
+      Reservation[] currentReservations = reservations;
+      for (int index = 0; index < currentSize; index++) {
+        dayReservations.add(currentReservations[index]);
+      }
     }
-    return totalPrice;
   }
 }
@@ -0,0 +1,36 @@
+package ca.ulaval.glo4002.reservation.infra.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+class JdbcBatch {
+  private final JdbcStatements statements;
+  private PreparedStatement batchedStatement;
+
+  JdbcBatch(JdbcStatements statements) {
+    this.statements = statements;
+  }
+
+  PreparedStatement add(String sql) throws SQLException {
+    PreparedStatement statement = statements.prepare(sql);
+    if (statement != batchedStatement) {
+      execute();
+      batchedStatement = statement;
+    }
+    return statement;
+  }
+
+  void clear() throws SQLException {
+    if (batchedStatement != null) {
+      batchedStatement.clearBatch();
+      batchedStatement = null;
+    }
+  }
+
+  void execute() throws SQLException {
+    if (batchedStatement != null) {
+      batchedStatement.executeBatch();
+      batchedStatement = null;
+    }
+  }
+}
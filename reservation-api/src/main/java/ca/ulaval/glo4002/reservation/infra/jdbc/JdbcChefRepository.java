@@ -0,0 +1,113 @@
+package ca.ulaval.glo4002.reservation.infra.jdbc;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import ca.ulaval.glo4002.reservation.domain.chef.Chef;
+import ca.ulaval.glo4002.reservation.domain.chef.ChefPriority;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.report.chef.ChefReportInformation;
+import ca.ulaval.glo4002.reservation.domain.report.chef.ChefRepository;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+
+public class JdbcChefRepository implements ChefRepository {
+  private static final String CREATE_DAYS_TABLE = "CREATE TABLE IF NOT EXISTS chef_schedule_days (dinner_day DATE PRIMARY KEY)";
+  private static final String CREATE_ASSIGNMENTS_TABLE = "CREATE TABLE IF NOT EXISTS chef_assignments ("
+                                                         + "dinner_day DATE NOT NULL, "
+                                                         + "name VARCHAR(255) NOT NULL, "
+                                                         + "priority VARCHAR(16) NOT NULL, "
+                                                         + "specialties INT NOT NULL, "
+                                                         + "customers INT NOT NULL, "
+                                                         + "price_in_cents BIGINT NOT NULL)";
+  private static final String CREATE_DINNER_DAY_INDEX = "CREATE INDEX IF NOT EXISTS chef_assignments_by_dinner_day ON chef_assignments (dinner_day)";
+  private static final String MERGE_DAY = "MERGE INTO chef_schedule_days (dinner_day) KEY (dinner_day) VALUES (?)";
+  private static final String DELETE_ASSIGNMENTS = "DELETE FROM chef_assignments WHERE dinner_day = ?";
+  private static final String INSERT_ASSIGNMENT = "INSERT INTO chef_assignments (dinner_day, name, priority, specialties, customers, price_in_cents) "
+                                                  + "VALUES (?, ?, ?, ?, ?, ?)";
+  private static final String SELECT_SCHEDULE = "SELECT days.dinner_day, name, priority, specialties, customers "
+                                                + "FROM chef_schedule_days days LEFT JOIN chef_assignments assignments "
+                                                + "ON assignments.dinner_day = days.dinner_day ORDER BY days.dinner_day";
+  private static final long ROSTER_VERSION = 1;
+  private static final String SELECT_TOTAL_COST = "SELECT COALESCE(SUM(price_in_cents), 0) FROM chef_assignments";
+
+  private final JdbcWriter jdbcWriter;
+  private final Set<Chef> availableChefs;
+
+  public JdbcChefRepository(JdbcWriter jdbcWriter, Set<Chef> availableChefs) {
+    this.jdbcWriter = jdbcWriter;
+    this.availableChefs = availableChefs;
+    jdbcWriter.execute(CREATE_DAYS_TABLE);
+    jdbcWriter.execute(CREATE_ASSIGNMENTS_TABLE);
+    jdbcWriter.execute(CREATE_DINNER_DAY_INDEX);
+  }
+
+  public void updateRestaurantChefs(LocalDate dinnerDate, Set<Chef> newChefs) {
+    Date dinnerDay = Date.valueOf(dinnerDate);
+    Set<Chef> chefs = new HashSet<>(newChefs);
+    jdbcWriter.write(batch -> {
+      PreparedStatement mergeDay = batch.add(MERGE_DAY);
+      mergeDay.setDate(1, dinnerDay);
+      mergeDay.addBatch();
+      PreparedStatement deleteAssignments = batch.add(DELETE_ASSIGNMENTS);
+      deleteAssignments.setDate(1, dinnerDay);
+      deleteAssignments.addBatch();
+      for (Chef chef : chefs) {
+        PreparedStatement insertAssignment = batch.add(INSERT_ASSIGNMENT);
+        insertAssignment.setDate(1, dinnerDay);
+        insertAssignment.setString(2, chef.getName());
+        insertAssignment.setString(3, chef.getPriority().name());
+        insertAssignment.setInt(4, RestrictionType.toMask(chef.getSpecialties()));
+        insertAssignment.setInt(5, chef.getNumberOfCustomers());
+        insertAssignment.setLong(6, chef.getPrice().getCents());
+        insertAssignment.addBatch();
+      }
+    });
+  }
+
+  public NavigableMap<LocalDate, ChefReportInformation> getChefSchedule() {
+    NavigableMap<LocalDate, Set<Chef>> chefsPerDay = jdbcWriter.read(statements -> {
+      NavigableMap<LocalDate, Set<Chef>> dailyChefs = new TreeMap<>();
+      try (ResultSet assignments = statements.prepare(SELECT_SCHEDULE).executeQuery()) {
+        while (assignments.next()) {
+          Set<Chef> chefs = dailyChefs.computeIfAbsent(assignments.getDate(1).toLocalDate(), day -> new HashSet<>());
+          String name = assignments.getString(2);
+          if (name != null) {
+            Chef chef = new Chef(name,
+                                 ChefPriority.valueOf(assignments.getString(3)),
+                                 RestrictionType.fromMask(assignments.getInt(4)));
+            chef.addCustomers(assignments.getInt(5));
+            chefs.add(chef);
+          }
+        }
+      }
+      return dailyChefs;
+    });
+    NavigableMap<LocalDate, ChefReportInformation> chefSchedule = new TreeMap<>();
+    chefsPerDay.forEach((dinnerDay, chefs) -> chefSchedule.put(dinnerDay, new ChefReportInformation(chefs, dinnerDay)));
+    return Collections.unmodifiableNavigableMap(chefSchedule);
+  }
+
+  public Money getTotalChefCost() {
+    return jdbcWriter.read(statements -> {
+      try (ResultSet totalCost = statements.prepare(SELECT_TOTAL_COST).executeQuery()) {
+        totalCost.next();
+        return Money.ofCents(totalCost.getLong(1));
+      }
+    });
+  }
+
+  public Set<Chef> getAllChefs() {
+    return availableChefs;
+  }
+
+  public long getRosterVersion() {
+    return ROSTER_VERSION;
+  }
+}
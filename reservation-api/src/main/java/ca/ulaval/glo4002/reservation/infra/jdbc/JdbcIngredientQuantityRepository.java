@@ -0,0 +1,103 @@
+package ca.ulaval.glo4002.reservation.infra.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.inventory.IngredientQuantityRepository;
+
+public class JdbcIngredientQuantityRepository implements IngredientQuantityRepository {
+  private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS ingredient_quantities ("
+                                             + "dinner_day DATE NOT NULL, "
+                                             + "ingredient VARCHAR(64) NOT NULL, "
+                                             + "quantity DECIMAL NOT NULL)";
+  private static final String CREATE_DINNER_DAY_INDEX = "CREATE INDEX IF NOT EXISTS ingredient_quantities_by_dinner_day ON ingredient_quantities (dinner_day)";
+  private static final String INSERT = "INSERT INTO ingredient_quantities (dinner_day, ingredient, quantity) VALUES (?, ?, ?)";
+  private static final String SELECT_ANY = "SELECT 1 FROM ingredient_quantities LIMIT 1";
+  private static final String SELECT_BY_DINNER_DAY = "SELECT dinner_day, ingredient, SUM(quantity) FROM ingredient_quantities "
+                                                     + "WHERE dinner_day = ? GROUP BY dinner_day, ingredient";
+  private static final String SELECT_BETWEEN_DINNER_DAYS = "SELECT dinner_day, ingredient, SUM(quantity) FROM ingredient_quantities "
+                                                           + "WHERE dinner_day BETWEEN ? AND ? GROUP BY dinner_day, ingredient";
+  private static final String SELECT_ALL = "SELECT dinner_day, ingredient, SUM(quantity) FROM ingredient_quantities "
+                                           + "GROUP BY dinner_day, ingredient";
+
+  private final JdbcWriter jdbcWriter;
+
+  public JdbcIngredientQuantityRepository(JdbcWriter jdbcWriter) {
+    this.jdbcWriter = jdbcWriter;
+    jdbcWriter.execute(CREATE_TABLE);
+    jdbcWriter.execute(CREATE_DINNER_DAY_INDEX);
+  }
+
+  public boolean isQuantityEmpty() {
+    return jdbcWriter.read(statements -> {
+      try (ResultSet anyQuantity = statements.prepare(SELECT_ANY).executeQuery()) {
+        return !anyQuantity.next();
+      }
+    });
+  }
+
+  public void updateIngredientsQuantity(Map<IngredientName, BigDecimal> reservationIngredientsQuantity, LocalDate reservationDate) {
+    Map<IngredientName, BigDecimal> ingredientsQuantity = new HashMap<>(reservationIngredientsQuantity);
+    Date dinnerDay = Date.valueOf(reservationDate);
+    jdbcWriter.write(batch -> {
+      for (Map.Entry<IngredientName, BigDecimal> ingredientQuantity : ingredientsQuantity.entrySet()) {
+        PreparedStatement insert = batch.add(INSERT);
+        insert.setDate(1, dinnerDay);
+        insert.setString(2, ingredientQuantity.getKey().name());
+        insert.setBigDecimal(3, ingredientQuantity.getValue());
+        insert.addBatch();
+      }
+    });
+  }
+
+  public Map<IngredientName, BigDecimal> getIngredientsQuantityByDate(LocalDate date) {
+    Map<LocalDate, Map<IngredientName, BigDecimal>> ingredientsQuantityPerDay = jdbcWriter.read(statements -> {
+      PreparedStatement select = statements.prepare(SELECT_BY_DINNER_DAY);
+      select.setDate(1, Date.valueOf(date));
+      return readIngredientsQuantityPerDay(select);
+    });
+    return ingredientsQuantityPerDay.getOrDefault(date, new HashMap<>());
+  }
+
+  public Map<LocalDate, Map<IngredientName, BigDecimal>> getReportIngredientQuantity(List<LocalDate> dates) {
+    if (dates.isEmpty()) {
+      return new HashMap<>();
+    }
+    Map<LocalDate, Map<IngredientName, BigDecimal>> ingredientsQuantityPerDay = jdbcWriter.read(statements -> {
+      PreparedStatement select = statements.prepare(SELECT_BETWEEN_DINNER_DAYS);
+      select.setDate(1, Date.valueOf(Collections.min(dates)));
+      select.setDate(2, Date.valueOf(Collections.max(dates)));
+      return readIngredientsQuantityPerDay(select);
+    });
+    Set<LocalDate> reportDates = new HashSet<>(dates);
+    ingredientsQuantityPerDay.keySet().retainAll(reportDates);
+    return ingredientsQuantityPerDay;
+  }
+
+  public Map<LocalDate, Map<IngredientName, BigDecimal>> getAllIngredients() {
+    return jdbcWriter.read(statements -> readIngredientsQuantityPerDay(statements.prepare(SELECT_ALL)));
+  }
+
+  private Map<LocalDate, Map<IngredientName, BigDecimal>> readIngredientsQuantityPerDay(PreparedStatement select) throws SQLException {
+    Map<LocalDate, Map<IngredientName, BigDecimal>> ingredientsQuantityPerDay = new HashMap<>();
+    try (ResultSet ingredientsQuantity = select.executeQuery()) {
+      while (ingredientsQuantity.next()) {
+        ingredientsQuantityPerDay.computeIfAbsent(ingredientsQuantity.getDate(1).toLocalDate(), day -> new HashMap<>())
+                                 .put(IngredientName.valueOf(ingredientsQuantity.getString(2)),
+                                      ingredientsQuantity.getBigDecimal(3));
+      }
+    }
+    return ingredientsQuantityPerDay;
+  }
+}
@@ -0,0 +1,7 @@
+package ca.ulaval.glo4002.reservation.infra.jdbc;
+
+import java.sql.SQLException;
+
+interface JdbcRead<T> {
+  T read(JdbcStatements statements) throws SQLException;
+}
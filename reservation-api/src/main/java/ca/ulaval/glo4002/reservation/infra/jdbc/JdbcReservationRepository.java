@@ -0,0 +1,117 @@
+package ca.ulaval.glo4002.reservation.infra.jdbc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationRepository;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
+import ca.ulaval.glo4002.reservation.infra.journal.ReservationRecordCodec;
+import ca.ulaval.glo4002.reservation.service.reservation.exception.ReservationNotFoundException;
+
+public class JdbcReservationRepository implements ReservationRepository {
+  private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS reservations ("
+                                             + "sequence BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                                             + "reservation_id VARCHAR(255) NOT NULL, "
+                                             + "dinner_day DATE NOT NULL, "
+                                             + "fees_in_cents BIGINT NOT NULL, "
+                                             + "record VARBINARY NOT NULL)";
+  private static final String CREATE_ID_INDEX = "CREATE UNIQUE INDEX IF NOT EXISTS reservations_by_id ON reservations (reservation_id)";
+  private static final String CREATE_DINNER_DAY_INDEX = "CREATE INDEX IF NOT EXISTS reservations_by_dinner_day ON reservations (dinner_day, sequence)";
+  private static final String INSERT = "INSERT INTO reservations (reservation_id, dinner_day, fees_in_cents, record) VALUES (?, ?, ?, ?)";
+  private static final String SELECT_BY_ID = "SELECT record FROM reservations WHERE reservation_id = ?";
+  private static final String SELECT_BY_DINNER_DAY = "SELECT record FROM reservations WHERE dinner_day = ? ORDER BY sequence";
+  private static final String SELECT_ALL = "SELECT record FROM reservations ORDER BY dinner_day, sequence";
+  private static final String SELECT_TOTAL_FEES = "SELECT COALESCE(SUM(fees_in_cents), 0) FROM reservations";
+
+  private final JdbcWriter jdbcWriter;
+  private final ReservationRecordCodec reservationRecordCodec;
+
+  public JdbcReservationRepository(JdbcWriter jdbcWriter, ReservationRecordCodec reservationRecordCodec) {
+    this.jdbcWriter = jdbcWriter;
+    this.reservationRecordCodec = reservationRecordCodec;
+    jdbcWriter.execute(CREATE_TABLE);
+    jdbcWriter.execute(CREATE_ID_INDEX);
+    jdbcWriter.execute(CREATE_DINNER_DAY_INDEX);
+  }
+
+  public ReservationNumber saveReservation(Reservation reservation) {
+    String reservationId = reservation.getReservationId().getReservationNumber();
+    Date dinnerDay = Date.valueOf(reservation.getDinnerDate().toLocalDate());
+    long feesInCents = reservation.getReservationFees().getCents();
+    byte[] record = encode(reservation);
+    jdbcWriter.write(batch -> {
+      PreparedStatement insert = batch.add(INSERT);
+      insert.setString(1, reservationId);
+      insert.setDate(2, dinnerDay);
+      insert.setLong(3, feesInCents);
+      insert.setBytes(4, record);
+      insert.addBatch();
+    });
+    return reservation.getReservationId();
+  }
+
+  public Reservation getReservationById(ReservationNumber reservationId) {
+    List<Reservation> reservations = jdbcWriter.read(statements -> {
+      PreparedStatement select = statements.prepare(SELECT_BY_ID);
+      select.setString(1, reservationId.getReservationNumber());
+      return readReservations(select);
+    });
+    if (reservations.isEmpty()) {
+      throw new ReservationNotFoundException(reservationId);
+    }
+    return reservations.get(0);
+  }
+
+  public List<Reservation> getReservationsByDate(LocalDateTime date) {
+    return jdbcWriter.read(statements -> {
+      PreparedStatement select = statements.prepare(SELECT_BY_DINNER_DAY);
+      select.setDate(1, Date.valueOf(date.toLocalDate()));
+      return readReservations(select);
+    });
+  }
+
+  public List<Reservation> getAllReservations() {
+    return jdbcWriter.read(statements -> readReservations(statements.prepare(SELECT_ALL)));
+  }
+
+  public Money getTotalReservationIncome() {
+    return jdbcWriter.read(statements -> {
+      try (ResultSet totalFees = statements.prepare(SELECT_TOTAL_FEES).executeQuery()) {
+        totalFees.next();
+        return Money.ofCents(totalFees.getLong(1));
+      }
+    });
+  }
+
+  private List<Reservation> readReservations(PreparedStatement select) throws SQLException {
+    List<Reservation> reservations = new ArrayList<>();
+    try (ResultSet records = select.executeQuery()) {
+      while (records.next()) {
+        reservations.add(reservationRecordCodec.read(ByteBuffer.wrap(records.getBytes(1))));
+      }
+    }
+    return reservations;
+  }
+
+  private byte[] encode(Reservation reservation) {
+    ByteArrayOutputStream record = new ByteArrayOutputStream();
+    try (DataOutputStream output = new DataOutputStream(record)) {
+      reservationRecordCodec.write(output, reservation);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    return record.toByteArray();
+  }
+}
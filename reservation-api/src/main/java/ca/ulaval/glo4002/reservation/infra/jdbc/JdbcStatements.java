@@ -0,0 +1,8 @@
+package ca.ulaval.glo4002.reservation.infra.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+interface JdbcStatements {
+  PreparedStatement prepare(String sql) throws SQLException;
+}
@@ -0,0 +1,7 @@
+package ca.ulaval.glo4002.reservation.infra.jdbc;
+
+import java.sql.SQLException;
+
+interface JdbcWrite {
+  void write(JdbcBatch batch) throws SQLException;
+}
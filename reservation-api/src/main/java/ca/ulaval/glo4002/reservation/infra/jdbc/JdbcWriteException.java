@@ -0,0 +1,7 @@
+package ca.ulaval.glo4002.reservation.infra.jdbc;
+
+public class JdbcWriteException extends RuntimeException {
+  public JdbcWriteException(Throwable cause) {
+    super(cause);
+  }
+}
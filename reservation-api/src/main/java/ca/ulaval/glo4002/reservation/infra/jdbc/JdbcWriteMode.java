@@ -0,0 +1,6 @@
+package ca.ulaval.glo4002.reservation.infra.jdbc;
+
+public enum JdbcWriteMode {
+  IMMEDIATE,
+  WRITE_BEHIND
+}
@@ -0,0 +1,230 @@
+package ca.ulaval.glo4002.reservation.infra.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class JdbcWriter implements AutoCloseable {
+  private static final long IDLE_POLL_INTERVAL_IN_MILLISECONDS = 100;
+  private static final int MAXIMUM_PENDING_BATCHES = 4;
+
+  private final Connection connection;
+  private final JdbcWriteMode writeMode;
+  private final int maximumBatchSize;
+  private final Map<String, PreparedStatement> preparedStatements = new HashMap<>();
+  private final BlockingQueue<PendingWrite> pendingWrites;
+  private final Object enqueueLock = new Object();
+  private final Thread writeBehindWriter;
+  private volatile boolean open = true;
+  private volatile PendingWrite lastPendingWrite;
+  private JdbcWriteException writeBehindFailure;
+
+  public JdbcWriter(Connection connection, JdbcWriteMode writeMode, int maximumBatchSize) {
+    this.connection = connection;
+    this.writeMode = writeMode;
+    this.maximumBatchSize = maximumBatchSize;
+    this.pendingWrites = new LinkedBlockingQueue<>(MAXIMUM_PENDING_BATCHES * maximumBatchSize);
+    try {
+      connection.setAutoCommit(false);
+    } catch (SQLException exception) {
+      throw new JdbcWriteException(exception);
+    }
+    if (writeMode == JdbcWriteMode.WRITE_BEHIND) {
+      writeBehindWriter = new Thread(this::writeBatches, "jdbc-write-behind");
+      writeBehindWriter.setDaemon(true);
+      writeBehindWriter.start();
+    } else {
+      writeBehindWriter = null;
+    }
+  }
+
+  public void execute(String sql) {
+    flush();
+    synchronized (this) {
+      try {
+        prepare(sql).execute();
+        connection.commit();
+      } catch (SQLException exception) {
+        throw new JdbcWriteException(exception);
+      }
+    }
+  }
+
+  public void flush() {
+    PendingWrite pendingWrite = lastPendingWrite;
+    if (pendingWrite != null) {
+      pendingWrite.awaitCompletion();
+    }
+    throwWriteBehindFailure();
+  }
+
+  @Override
+  public void close() {
+    open = false;
+    try {
+      if (writeBehindWriter != null) {
+        writeBehindWriter.join();
+      }
+      synchronized (this) {
+        for (PreparedStatement preparedStatement : preparedStatements.values()) {
+          preparedStatement.close();
+        }
+        connection.close();
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    } catch (SQLException exception) {
+      throw new JdbcWriteException(exception);
+    }
+  }
+
+  CompletableFuture<Void> write(JdbcWrite write) {
+    if (writeMode == JdbcWriteMode.IMMEDIATE) {
+      synchronized (this) {
+        try {
+          commit(List.of(write));
+        } catch (SQLException exception) {
+          throw new JdbcWriteException(exception);
+        }
+      }
+      return CompletableFuture.completedFuture(null);
+    }
+    throwWriteBehindFailure();
+    return enqueue(write).committed;
+  }
+
+  <T> T read(JdbcRead<T> read) {
+    flush();
+    synchronized (this) {
+      try {
+        return read.read(this::prepare);
+      } catch (SQLException exception) {
+        throw new JdbcWriteException(exception);
+      }
+    }
+  }
+
+  private synchronized void throwWriteBehindFailure() {
+    JdbcWriteException failure = writeBehindFailure;
+    writeBehindFailure = null;
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private PendingWrite enqueue(JdbcWrite write) {
+    synchronized (enqueueLock) {
+      if (!open) {
+        throw new JdbcWriteException(new IllegalStateException("writer is closed"));
+      }
+      PendingWrite pendingWrite = new PendingWrite(write);
+      try {
+        pendingWrites.put(pendingWrite);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        throw new JdbcWriteException(exception);
+      }
+      lastPendingWrite = pendingWrite;
+      return pendingWrite;
+    }
+  }
+
+  private PreparedStatement prepare(String sql) throws SQLException {
+    PreparedStatement preparedStatement = preparedStatements.get(sql);
+    if (preparedStatement == null) {
+      preparedStatement = connection.prepareStatement(sql);
+      preparedStatements.put(sql, preparedStatement);
+    }
+    return preparedStatement;
+  }
+
+  private void writeBatches() {
+    List<PendingWrite> batch = new ArrayList<>();
+    while (open || !pendingWrites.isEmpty()) {
+      try {
+        PendingWrite firstWrite = pendingWrites.poll(IDLE_POLL_INTERVAL_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+        if (firstWrite != null) {
+          batch.add(firstWrite);
+          pendingWrites.drainTo(batch, maximumBatchSize - 1);
+          commitPendingWrites(batch);
+        }
+      } catch (InterruptedException exception) {
+        pendingWrites.drainTo(batch);
+        commitPendingWrites(batch);
+        return;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private synchronized void commitPendingWrites(List<PendingWrite> batch) {
+    List<JdbcWrite> writes = new ArrayList<>(batch.size());
+    batch.forEach(pendingWrite -> writes.add(pendingWrite.write));
+    try {
+      commit(writes);
+      batch.forEach(pendingWrite -> pendingWrite.committed.complete(null));
+    } catch (SQLException exception) {
+      commitOneByOne(batch);
+    }
+  }
+
+  private void commitOneByOne(List<PendingWrite> batch) {
+    for (PendingWrite pendingWrite : batch) {
+      try {
+        commit(List.of(pendingWrite.write));
+        pendingWrite.committed.complete(null);
+      } catch (SQLException exception) {
+        JdbcWriteException failure = new JdbcWriteException(exception);
+        if (writeBehindFailure == null) {
+          writeBehindFailure = failure;
+        }
+        pendingWrite.committed.completeExceptionally(failure);
+      }
+    }
+  }
+
+  private void commit(List<JdbcWrite> writes) throws SQLException {
+    JdbcBatch batch = new JdbcBatch(this::prepare);
+    try {
+      for (JdbcWrite write : writes) {
+        write.write(batch);
+      }
+      batch.execute();
+      connection.commit();
+    } catch (SQLException exception) {
+      batch.clear();
+      rollback(exception);
+      throw exception;
+    }
+  }
+
+  private void rollback(SQLException failure) {
+    try {
+      connection.rollback();
+    } catch (SQLException exception) {
+      failure.addSuppressed(exception);
+    }
+  }
+
+  private static class PendingWrite {
+    private final JdbcWrite write;
+    private final CompletableFuture<Void> committed = new CompletableFuture<>();
+
+    private PendingWrite(JdbcWrite write) {
+      this.write = write;
+    }
+
+    private void awaitCompletion() {
+      committed.handle((result, failure) -> result).join();
+    }
+  }
+}
@@ -0,0 +1,4 @@
+package ca.ulaval.glo4002.reservation.infra.journal;
+
+public class CorruptedJournalException extends RuntimeException {
+}
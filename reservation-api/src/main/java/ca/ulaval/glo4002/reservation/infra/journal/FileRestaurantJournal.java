@@ -0,0 +1,315 @@
+package ca.ulaval.glo4002.reservation.infra.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+import ca.ulaval.glo4002.reservation.domain.Restaurant;
+import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningConfigurationRequest;
+import ca.ulaval.glo4002.reservation.domain.journal.JournalCommit;
+import ca.ulaval.glo4002.reservation.domain.journal.RestaurantJournal;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+
+public class FileRestaurantJournal implements RestaurantJournal, AutoCloseable {
+  private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+  private static final long IDLE_POLL_INTERVAL_IN_MILLISECONDS = 100;
+  private static final int REPLAY_BUFFER_SIZE = 64 * 1024;
+
+  private final FileChannel fileChannel;
+  private final JournalRecordCodec journalRecordCodec;
+  private final long groupCommitWindowInNanos;
+  private final JournalSyncPolicy journalSyncPolicy;
+  private final BlockingQueue<PendingRecord> pendingRecords = new LinkedBlockingQueue<>();
+  private final AtomicLong numberOfGroupCommits = new AtomicLong();
+  private final Thread groupCommitWriter;
+  private volatile boolean open = true;
+  private volatile IOException writeFailure;
+  private long journalPosition;
+  private long durableJournalSize;
+
+  public FileRestaurantJournal(Path journalFile,
+                               JournalRecordCodec journalRecordCodec,
+                               Duration groupCommitWindow,
+                               JournalSyncPolicy journalSyncPolicy)
+  {
+    try {
+      this.fileChannel = FileChannel.open(journalFile,
+                                          StandardOpenOption.CREATE,
+                                          StandardOpenOption.READ,
+                                          StandardOpenOption.WRITE);
+      this.fileChannel.position(fileChannel.size());
+      this.journalPosition = fileChannel.size();
+      this.durableJournalSize = journalPosition;
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    this.journalRecordCodec = journalRecordCodec;
+    this.groupCommitWindowInNanos = groupCommitWindow.toNanos();
+    this.journalSyncPolicy = journalSyncPolicy;
+    this.groupCommitWriter = new Thread(this::writeGroupCommits, "restaurant-journal");
+    this.groupCommitWriter.setDaemon(true);
+    this.groupCommitWriter.start();
+  }
+
+  public JournalCommit recordReservation(Reservation reservation) {
+    return append(journalRecordCodec.encodeReservation(reservation));
+  }
+
+  public JournalCommit recordHoppeningConfiguration(HoppeningConfigurationRequest hoppeningConfigurationRequest) {
+    return append(journalRecordCodec.encodeHoppeningConfiguration(hoppeningConfigurationRequest));
+  }
+
+  public JournalCommit flush() {
+    return enqueue(ByteBuffer.allocate(0));
+  }
+
+  public synchronized long getJournalPosition() {
+    return journalPosition;
+  }
+
+  public synchronized void replay(Restaurant restaurant, long fromJournalPosition) {
+    try {
+      if (fromJournalPosition > fileChannel.size()) {
+        throw new CorruptedJournalException();
+      }
+      long validJournalSize = replayRecords(new JournalReader(fileChannel, fromJournalPosition), restaurant);
+      if (validJournalSize < fileChannel.size()) {
+        fileChannel.truncate(validJournalSize);
+      }
+      fileChannel.position(validJournalSize);
+      journalPosition = validJournalSize;
+      durableJournalSize = validJournalSize;
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  public long getNumberOfGroupCommits() {
+    return numberOfGroupCommits.get();
+  }
+
+  @Override
+  public void close() {
+    open = false;
+    try {
+      groupCommitWriter.join();
+      failPendingRecords();
+      fileChannel.close();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  private void failPendingRecords() {
+    List<PendingRecord> unwrittenRecords = new ArrayList<>();
+    pendingRecords.drainTo(unwrittenRecords);
+    unwrittenRecords.forEach(pendingRecord -> pendingRecord.durable.completeExceptionally(new JournalWriteException(new IllegalStateException("journal is closed"))));
+  }
+
+  private JournalCommit append(byte[] record) {
+    CRC32 checksum = new CRC32();
+    checksum.update(record);
+    ByteBuffer framedRecord = ByteBuffer.allocate(RECORD_HEADER_SIZE + record.length);
+    framedRecord.putInt(record.length).putInt((int) checksum.getValue()).put(record).flip();
+    return enqueue(framedRecord);
+  }
+
+  private synchronized JournalCommit enqueue(ByteBuffer framedRecord) {
+    if (!open) {
+      throw new JournalWriteException(new IllegalStateException("journal is closed"));
+    }
+    if (writeFailure != null) {
+      throw new JournalWriteException(writeFailure);
+    }
+    journalPosition += framedRecord.remaining();
+    PendingRecord pendingRecord = new PendingRecord(framedRecord);
+    pendingRecords.add(pendingRecord);
+    return pendingRecord::awaitDurability;
+  }
+
+  private long replayRecords(JournalReader journalReader, Restaurant restaurant) throws IOException {
+    CRC32 checksum = new CRC32();
+    long journalSize = fileChannel.size();
+    long recordStart = journalReader.getReadPosition();
+    while (journalReader.request(RECORD_HEADER_SIZE)) {
+      ByteBuffer journal = journalReader.getBuffer();
+      int recordLength = journal.getInt();
+      int recordChecksum = journal.getInt();
+      if (recordLength <= 0 || recordLength > journalSize - recordStart - RECORD_HEADER_SIZE) {
+        return recordStart;
+      }
+      if (!journalReader.request(recordLength)) {
+        return recordStart;
+      }
+      journal = journalReader.getBuffer();
+      ByteBuffer record = journal.slice().limit(recordLength);
+      checksum.reset();
+      checksum.update(record.duplicate());
+      if ((int) checksum.getValue() != recordChecksum) {
+        return recordStart;
+      }
+      journalRecordCodec.replay(record, restaurant);
+      journal.position(journal.position() + recordLength);
+      recordStart += RECORD_HEADER_SIZE + recordLength;
+    }
+    return recordStart;
+  }
+
+  private void writeGroupCommits() {
+    List<PendingRecord> groupCommit = new ArrayList<>();
+    while (open || !pendingRecords.isEmpty()) {
+      try {
+        PendingRecord firstRecord = pendingRecords.poll(IDLE_POLL_INTERVAL_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+        if (firstRecord != null) {
+          groupCommit.add(firstRecord);
+          collectGroupCommit(groupCommit);
+          commit(groupCommit);
+        }
+      } catch (InterruptedException exception) {
+        pendingRecords.drainTo(groupCommit);
+        commit(groupCommit);
+        return;
+      } finally {
+        groupCommit.clear();
+      }
+    }
+  }
+
+  private void collectGroupCommit(List<PendingRecord> groupCommit) throws InterruptedException {
+    long deadline = System.nanoTime() + groupCommitWindowInNanos;
+    long remainingWindow = groupCommitWindowInNanos;
+    while (remainingWindow > 0) {
+      PendingRecord nextRecord = pendingRecords.poll(remainingWindow, TimeUnit.NANOSECONDS);
+      if (nextRecord == null) {
+        break;
+      }
+      groupCommit.add(nextRecord);
+      pendingRecords.drainTo(groupCommit);
+      remainingWindow = deadline - System.nanoTime();
+    }
+    pendingRecords.drainTo(groupCommit);
+  }
+
+  private void commit(List<PendingRecord> groupCommit) {
+    if (writeFailure != null) {
+      failGroupCommit(groupCommit, writeFailure);
+      return;
+    }
+    ByteBuffer[] framedRecords = new ByteBuffer[groupCommit.size()];
+    long groupCommitSize = 0;
+    for (int record = 0; record < framedRecords.length; record++) {
+      framedRecords[record] = groupCommit.get(record).framedRecord;
+      groupCommitSize += framedRecords[record].remaining();
+    }
+    try {
+      long remainingBytes = groupCommitSize;
+      while (remainingBytes > 0) {
+        remainingBytes -= fileChannel.write(framedRecords);
+      }
+      sync();
+      durableJournalSize += groupCommitSize;
+      numberOfGroupCommits.incrementAndGet();
+      groupCommit.forEach(pendingRecord -> pendingRecord.durable.complete(null));
+    } catch (IOException exception) {
+      failJournal(exception);
+      failGroupCommit(groupCommit, exception);
+    }
+  }
+
+  private void failJournal(IOException exception) {
+    writeFailure = exception;
+    try {
+      fileChannel.truncate(durableJournalSize);
+      fileChannel.position(durableJournalSize);
+    } catch (IOException truncationException) {
+      exception.addSuppressed(truncationException);
+    }
+    synchronized (this) {
+      journalPosition = durableJournalSize;
+    }
+  }
+
+  private void failGroupCommit(List<PendingRecord> groupCommit, IOException exception) {
+    groupCommit.forEach(pendingRecord -> pendingRecord.durable.completeExceptionally(new JournalWriteException(exception)));
+  }
+
+  private void sync() throws IOException {
+    if (journalSyncPolicy == JournalSyncPolicy.DATA) {
+      fileChannel.force(false);
+    } else if (journalSyncPolicy == JournalSyncPolicy.DATA_AND_METADATA) {
+      fileChannel.force(true);
+    }
+  }
+
+  private static class PendingRecord {
+    private final ByteBuffer framedRecord;
+    private final CompletableFuture<Void> durable = new CompletableFuture<>();
+
+    private PendingRecord(ByteBuffer framedRecord) {
+      this.framedRecord = framedRecord;
+    }
+
+    private void awaitDurability() {
+      try {
+        durable.join();
+      } catch (CompletionException exception) {
+        throw (JournalWriteException) exception.getCause();
+      }
+    }
+  }
+
+  private static class JournalReader {
+    private final FileChannel fileChannel;
+    private ByteBuffer buffer = ByteBuffer.allocate(REPLAY_BUFFER_SIZE).flip();
+    private long readPosition;
+
+    private JournalReader(FileChannel fileChannel, long readPosition) {
+      this.fileChannel = fileChannel;
+      this.readPosition = readPosition;
+    }
+
+    private long getReadPosition() {
+      return readPosition;
+    }
+
+    private ByteBuffer getBuffer() {
+      return buffer;
+    }
+
+    private boolean request(int numberOfBytes) throws IOException {
+      if (buffer.remaining() >= numberOfBytes) {
+        return true;
+      }
+      if (buffer.capacity() < numberOfBytes) {
+        buffer = ByteBuffer.allocate(numberOfBytes).put(buffer);
+      } else {
+        buffer.compact();
+      }
+      while (buffer.position() < numberOfBytes) {
+        int readBytes = fileChannel.read(buffer, readPosition);
+        if (readBytes < 0) {
+          buffer.flip();
+          return false;
+        }
+        readPosition += readBytes;
+      }
+      buffer.flip();
+      return true;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package ca.ulaval.glo4002.reservation.infra.journal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+import ca.ulaval.glo4002.reservation.domain.Restaurant;
+import ca.ulaval.glo4002.reservation.domain.date.DinerPeriod;
+import ca.ulaval.glo4002.reservation.domain.date.Period;
+import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningConfigurationRequest;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+
+public class JournalRecordCodec {
+  private static final byte LEGACY_RESERVATION_RECORD = 1;
+  private static final byte HOPPENING_CONFIGURATION_RECORD = 2;
+  private static final byte RESERVATION_RECORD = 3;
+
+  private final ReservationRecordCodec reservationRecordCodec;
+
+  public JournalRecordCodec(ReservationRecordCodec reservationRecordCodec) {
+    this.reservationRecordCodec = reservationRecordCodec;
+  }
+
+  public byte[] encodeReservation(Reservation reservation) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream output = new DataOutputStream(bytes)) {
+      output.writeByte(RESERVATION_RECORD);
+      reservationRecordCodec.write(output, reservation);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    return bytes.toByteArray();
+  }
+
+  public byte[] encodeHoppeningConfiguration(HoppeningConfigurationRequest hoppeningConfigurationRequest) {
+    ByteBuffer record = ByteBuffer.allocate(Byte.BYTES + 4 * Long.BYTES);
+    record.put(HOPPENING_CONFIGURATION_RECORD);
+    writePeriod(record, hoppeningConfigurationRequest.getDinnerDinerPeriod());
+    writePeriod(record, hoppeningConfigurationRequest.getReservationDinerPeriod());
+    return record.array();
+  }
+
+  public void replay(ByteBuffer record, Restaurant restaurant) {
+    byte recordType = record.get();
+    if (recordType == RESERVATION_RECORD) {
+      restaurant.restoreReservation(reservationRecordCodec.read(record));
+    } else if (recordType == LEGACY_RESERVATION_RECORD) {
+      restaurant.restoreReservation(reservationRecordCodec.readLegacy(record));
+    } else if (recordType == HOPPENING_CONFIGURATION_RECORD) {
+      restaurant.restoreHoppeningConfiguration(decodeHoppeningConfiguration(record));
+    } else {
+      throw new CorruptedJournalException();
+    }
+  }
+
+  private HoppeningConfigurationRequest decodeHoppeningConfiguration(ByteBuffer record) {
+    DinerPeriod dinnerPeriod = readPeriod(record);
+    DinerPeriod reservationPeriod = readPeriod(record);
+    return new HoppeningConfigurationRequest(dinnerPeriod, reservationPeriod);
+  }
+
+  private void writePeriod(ByteBuffer record, Period period) {
+    record.putLong(period.getStartDate().toEpochDay());
+    record.putLong(period.getEndDate().toEpochDay());
+  }
+
+  private DinerPeriod readPeriod(ByteBuffer record) {
+    LocalDate startDate = LocalDate.ofEpochDay(record.getLong());
+    LocalDate endDate = LocalDate.ofEpochDay(record.getLong());
+    return new DinerPeriod(startDate, endDate);
+  }
+}
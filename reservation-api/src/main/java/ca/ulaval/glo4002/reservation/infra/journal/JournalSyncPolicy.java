@@ -0,0 +1,7 @@
+package ca.ulaval.glo4002.reservation.infra.journal;
+
+public enum JournalSyncPolicy {
+  NONE,
+  DATA,
+  DATA_AND_METADATA
+}
@@ -0,0 +1,9 @@
+package ca.ulaval.glo4002.reservation.infra.journal;
+
+import ca.ulaval.glo4002.reservation.domain.journal.JournalUnavailableException;
+
+public class JournalWriteException extends JournalUnavailableException {
+  public JournalWriteException(Throwable cause) {
+    super(cause);
+  }
+}
@@ -0,0 +1,97 @@
+package ca.ulaval.glo4002.reservation.infra.journal;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import ca.ulaval.glo4002.reservation.domain.date.DinnerDate;
+import ca.ulaval.glo4002.reservation.domain.date.ReservationDate;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
+import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.VendorId;
+
+public class ReservationRecordCodec {
+  public void write(DataOutputStream output, Reservation reservation) throws IOException {
+    writeString(output, reservation.getReservationId().getReservationNumber());
+    writeDateTime(output, reservation.getDinnerDate());
+    writeDateTime(output, reservation.getReservationDate());
+    output.writeByte(reservation.getTables().size());
+    for (Table table : reservation.getTables()) {
+      output.writeByte(table.getCustomers().size());
+      for (Customer customer : table.getCustomers()) {
+        writeString(output, customer.getName());
+        output.writeInt(customer.getRestrictionMask());
+      }
+    }
+  }
+
+  public Reservation read(ByteBuffer record) {
+    return read(record, this::readString);
+  }
+
+  public Reservation readLegacy(ByteBuffer record) {
+    return read(record, this::readModifiedUtf8);
+  }
+
+  public void writeString(DataOutputStream output, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  public String readString(ByteBuffer record) {
+    byte[] bytes = new byte[record.getInt()];
+    record.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private Reservation read(ByteBuffer record, Function<ByteBuffer, String> stringReader) {
+    ReservationNumber reservationId = new VendorId();
+    reservationId.setReservationNumber(stringReader.apply(record));
+    LocalDateTime dinnerDate = readDateTime(record);
+    LocalDateTime reservationDate = readDateTime(record);
+    int numberOfTables = Byte.toUnsignedInt(record.get());
+    List<Table> tables = new ArrayList<>(numberOfTables);
+    for (int table = 0; table < numberOfTables; table++) {
+      int numberOfCustomers = Byte.toUnsignedInt(record.get());
+      List<Customer> customers = new ArrayList<>(numberOfCustomers);
+      for (int customer = 0; customer < numberOfCustomers; customer++) {
+        String name = stringReader.apply(record);
+        customers.add(new Customer(name, record.getInt()));
+      }
+      tables.add(new Table(customers));
+    }
+    return new Reservation(reservationId, new DinnerDate(dinnerDate), tables, new ReservationDate(reservationDate));
+  }
+
+  private String readModifiedUtf8(ByteBuffer record) {
+    byte[] bytes = new byte[Short.BYTES + Short.toUnsignedInt(record.getShort(record.position()))];
+    record.get(bytes);
+    try {
+      return new DataInputStream(new ByteArrayInputStream(bytes)).readUTF();
+    } catch (IOException exception) {
+      throw new CorruptedJournalException();
+    }
+  }
+
+  private void writeDateTime(DataOutputStream output, LocalDateTime dateTime) throws IOException {
+    output.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+    output.writeInt(dateTime.getNano());
+  }
+
+  private LocalDateTime readDateTime(ByteBuffer record) {
+    long epochSecond = record.getLong();
+    int nanoOfSecond = record.getInt();
+    return LocalDateTime.ofEpochSecond(epochSecond, nanoOfSecond, ZoneOffset.UTC);
+  }
+}
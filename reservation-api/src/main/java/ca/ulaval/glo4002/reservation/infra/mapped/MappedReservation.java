@@ -0,0 +1,140 @@
+package ca.ulaval.glo4002.reservation.infra.mapped;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
+import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.VendorId;
+
+class MappedReservation extends Reservation {
+  static final int DINNER_DATE_OFFSET = 0;
+  static final int RESERVATION_DATE_OFFSET = 4;
+  static final int NUMBER_OF_CUSTOMERS_OFFSET = 8;
+  static final int NUMBER_OF_TABLES_OFFSET = 10;
+  static final int ID_LENGTH_OFFSET = 11;
+  static final int HEADER_SIZE = 12;
+  static final int CUSTOMER_HEADER_SIZE = 3;
+  static final long SECONDS_PER_MINUTE = 60;
+
+  private static final RestrictionType[] RESTRICTION_TYPES = RestrictionType.values();
+
+  private final ByteBuffer segment;
+  private final int offset;
+
+  private MappedReservation(ByteBuffer segment,
+                            int offset,
+                            int numberOfCustomers,
+                            int[] restrictionCounts,
+                            Money reservationFees)
+  {
+    super(numberOfCustomers, restrictionCounts, reservationFees);
+    this.segment = segment;
+    this.offset = offset;
+  }
+
+  static MappedReservation view(ByteBuffer segment, int offset) {
+    int numberOfCustomers = Short.toUnsignedInt(segment.getShort(offset + NUMBER_OF_CUSTOMERS_OFFSET));
+    int[] restrictionCounts = new int[RESTRICTION_TYPES.length];
+    Money reservationFees = Money.ZERO;
+    int position = offset + HEADER_SIZE + Byte.toUnsignedInt(segment.get(offset + ID_LENGTH_OFFSET));
+    int numberOfTables = Byte.toUnsignedInt(segment.get(offset + NUMBER_OF_TABLES_OFFSET));
+    for (int table = 0; table < numberOfTables; table++) {
+      int numberOfTableCustomers = Byte.toUnsignedInt(segment.get(position++));
+      for (int customer = 0; customer < numberOfTableCustomers; customer++) {
+        int restrictionMask = Byte.toUnsignedInt(segment.get(position));
+        RestrictionType.countRestrictions(restrictionMask, restrictionCounts);
+        reservationFees = reservationFees.add(Customer.getCustomerFees(restrictionMask));
+        position += CUSTOMER_HEADER_SIZE + Short.toUnsignedInt(segment.getShort(position + 1));
+      }
+    }
+    return new MappedReservation(segment, offset, numberOfCustomers, restrictionCounts, reservationFees);
+  }
+
+  @Override
+  public ReservationNumber getReservationId() {
+    ReservationNumber reservationId = new VendorId();
+    reservationId.setReservationNumber(readString(offset + HEADER_SIZE, getIdLength()));
+    return reservationId;
+  }
+
+  @Override
+  public LocalDateTime getDinnerDate() {
+    return toDateTime(segment.getInt(offset + DINNER_DATE_OFFSET));
+  }
+
+  @Override
+  public LocalDateTime getReservationDate() {
+    return toDateTime(segment.getInt(offset + RESERVATION_DATE_OFFSET));
+  }
+
+  @Override
+  public List<Table> getTables() {
+    int numberOfTables = Byte.toUnsignedInt(segment.get(offset + NUMBER_OF_TABLES_OFFSET));
+    List<Table> tables = new ArrayList<>(numberOfTables);
+    int position = offset + HEADER_SIZE + getIdLength();
+    for (int table = 0; table < numberOfTables; table++) {
+      int numberOfCustomers = Byte.toUnsignedInt(segment.get(position++));
+      List<Customer> customers = new ArrayList<>(numberOfCustomers);
+      for (int customer = 0; customer < numberOfCustomers; customer++) {
+        int restrictionMask = Byte.toUnsignedInt(segment.get(position));
+        int nameLength = Short.toUnsignedInt(segment.getShort(position + 1));
+        customers.add(new Customer(readString(position + CUSTOMER_HEADER_SIZE, nameLength), restrictionMask));
+        position += CUSTOMER_HEADER_SIZE + nameLength;
+      }
+      tables.add(new Table(customers));
+    }
+    return tables;
+  }
+
+  static boolean hasId(ByteBuffer segment, int offset, byte[] id) {
+    if (Byte.toUnsignedInt(segment.get(offset + ID_LENGTH_OFFSET)) != id.length) {
+      return false;
+    }
+    int idOffset = offset + HEADER_SIZE;
+    for (int index = 0; index < id.length; index++) {
+      if (segment.get(idOffset + index) != id[index]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static int hashId(ByteBuffer segment, int offset) {
+    int idLength = Byte.toUnsignedInt(segment.get(offset + ID_LENGTH_OFFSET));
+    int idOffset = offset + HEADER_SIZE;
+    int hash = 1;
+    for (int index = 0; index < idLength; index++) {
+      hash = 31 * hash + segment.get(idOffset + index);
+    }
+    return hash;
+  }
+
+  static int toEpochMinute(LocalDateTime dateTime) {
+    return Math.toIntExact(Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE));
+  }
+
+  private int getIdLength() {
+    return Byte.toUnsignedInt(segment.get(offset + ID_LENGTH_OFFSET));
+  }
+
+  private String readString(int position, int length) {
+    byte[] bytes = new byte[length];
+    for (int index = 0; index < length; index++) {
+      bytes[index] = segment.get(position + index);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private LocalDateTime toDateTime(int epochMinute) {
+    return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,287 @@
+package ca.ulaval.glo4002.reservation.infra.mapped;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationRepository;
+import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
+import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
+import ca.ulaval.glo4002.reservation.service.reservation.exception.ReservationNotFoundException;
+
+public class MappedReservationRepository implements ReservationRepository, AutoCloseable {
+  private static final long NO_ADDRESS = -1;
+  private static final int INITIAL_INDEX_CAPACITY = 1024;
+  private static final int MAXIMUM_UNSIGNED_BYTE = 0xFF;
+  private static final int MAXIMUM_UNSIGNED_SHORT = 0xFFFF;
+  private static final int SEGMENT_SHIFT = 32;
+  private static final long OFFSET_MASK = 0xFFFFFFFFL;
+
+  private final Path directory;
+  private final int segmentSize;
+  private final List<FileChannel> segmentChannels = new ArrayList<>();
+  private final List<MappedByteBuffer> segments = new ArrayList<>();
+  private final NavigableMap<Long, AddressList> addressesByEpochDay = new TreeMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private long[] addressesById = newIndex(INITIAL_INDEX_CAPACITY);
+  private int numberOfReservations;
+  private int writeOffset;
+  private long totalReservationIncomeInCents;
+
+  public MappedReservationRepository(Path directory, int segmentSize) {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    addSegment();
+  }
+
+  public ReservationNumber saveReservation(Reservation reservation) {
+    byte[] id = toBytes(reservation.getReservationId().getReservationNumber());
+    lock.writeLock().lock();
+    try {
+      long address = write(reservation, id);
+      index(id, address);
+      addressesByEpochDay.computeIfAbsent(toEpochDay(reservation.getDinnerDate()), epochDay -> new AddressList())
+                         .add(address);
+      totalReservationIncomeInCents += reservation.getReservationFees().getCents();
+      return reservation.getReservationId();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public Reservation getReservationById(ReservationNumber reservationId) {
+    byte[] id = toBytes(reservationId.getReservationNumber());
+    lock.readLock().lock();
+    try {
+      for (int slot = firstSlot(Arrays.hashCode(id), addressesById.length);; slot = nextSlot(slot, addressesById.length)) {
+        if (addressesById[slot] == NO_ADDRESS) {
+          throw new ReservationNotFoundException(reservationId);
+        }
+        if (hasId(addressesById[slot], id)) {
+          return view(addressesById[slot]);
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public List<Reservation> getReservationsByDate(LocalDateTime date) {
+    lock.readLock().lock();
+    try {
+      List<Reservation> reservations = new ArrayList<>();
+      AddressList addresses = addressesByEpochDay.get(toEpochDay(date));
+      if (addresses != null) {
+        addViews(addresses, reservations);
+      }
+      return reservations;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public List<Reservation> getAllReservations() {
+    lock.readLock().lock();
+    try {
+      List<Reservation> reservations = new ArrayList<>(numberOfReservations);
+      for (AddressList addresses : addressesByEpochDay.values()) {
+        addViews(addresses, reservations);
+      }
+      return reservations;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public Money getTotalReservationIncome() {
+    lock.readLock().lock();
+    try {
+      return Money.ofCents(totalReservationIncomeInCents);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public void close() {
+    lock.writeLock().lock();
+    try {
+      for (FileChannel segmentChannel : segmentChannels) {
+        segmentChannel.close();
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private long write(Reservation reservation, byte[] id) {
+    List<Table> tables = reservation.getTables();
+    List<byte[]> names = new ArrayList<>();
+    int recordSize = MappedReservation.HEADER_SIZE + id.length + tables.size();
+    for (Table table : tables) {
+      verifyLength(table.getCustomers().size(), MAXIMUM_UNSIGNED_BYTE);
+      for (Customer customer : table.getCustomers()) {
+        byte[] name = toBytes(customer.getName());
+        verifyLength(name.length, MAXIMUM_UNSIGNED_SHORT);
+        names.add(name);
+        recordSize += MappedReservation.CUSTOMER_HEADER_SIZE + name.length;
+      }
+    }
+    verifyLength(id.length, MAXIMUM_UNSIGNED_BYTE);
+    verifyLength(tables.size(), MAXIMUM_UNSIGNED_BYTE);
+    verifyLength(names.size(), MAXIMUM_UNSIGNED_SHORT);
+    verifyLength(recordSize, segmentSize);
+    if (writeOffset + recordSize > segmentSize) {
+      addSegment();
+    }
+
+    ByteBuffer record = segments.get(segments.size() - 1).duplicate();
+    record.position(writeOffset);
+    long address = toAddress(segments.size() - 1, writeOffset);
+    record.putInt(MappedReservation.toEpochMinute(reservation.getDinnerDate()))
+          .putInt(MappedReservation.toEpochMinute(reservation.getReservationDate()))
+          .putShort((short) names.size())
+          .put((byte) tables.size())
+          .put((byte) id.length)
+          .put(id);
+    int customerIndex = 0;
+    for (Table table : tables) {
+      record.put((byte) table.getCustomers().size());
+      for (Customer customer : table.getCustomers()) {
+        byte[] name = names.get(customerIndex++);
+        record.put((byte) customer.getRestrictionMask())
+              .putShort((short) name.length)
+              .put(name);
+      }
+    }
+    writeOffset += recordSize;
+    return address;
+  }
+
+  private void index(byte[] id, long address) {
+    if (2 * (numberOfReservations + 1) > addressesById.length) {
+      resizeIndex();
+    }
+    int slot = firstSlot(Arrays.hashCode(id), addressesById.length);
+    while (addressesById[slot] != NO_ADDRESS && !hasId(addressesById[slot], id)) {
+      slot = nextSlot(slot, addressesById.length);
+    }
+    if (addressesById[slot] == NO_ADDRESS) {
+      numberOfReservations++;
+    }
+    addressesById[slot] = address;
+  }
+
+  private void resizeIndex() {
+    long[] resizedIndex = newIndex(2 * addressesById.length);
+    for (long address : addressesById) {
+      if (address != NO_ADDRESS) {
+        int slot = firstSlot(MappedReservation.hashId(segment(address), offset(address)), resizedIndex.length);
+        while (resizedIndex[slot] != NO_ADDRESS) {
+          slot = nextSlot(slot, resizedIndex.length);
+        }
+        resizedIndex[slot] = address;
+      }
+    }
+    addressesById = resizedIndex;
+  }
+
+  private boolean hasId(long address, byte[] id) {
+    return MappedReservation.hasId(segment(address), offset(address), id);
+  }
+
+  private void addSegment() {
+    Path segmentFile = directory.resolve(String.format("reservations-%05d.segment", segments.size()));
+    try {
+      FileChannel segmentChannel = FileChannel.open(segmentFile,
+                                                    StandardOpenOption.CREATE,
+                                                    StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING);
+      segmentChannels.add(segmentChannel);
+      segments.add(segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    writeOffset = 0;
+  }
+
+  private void addViews(AddressList addresses, List<Reservation> reservations) {
+    for (int index = 0; index < addresses.size; index++) {
+      reservations.add(view(addresses.addresses[index]));
+    }
+  }
+
+  private MappedReservation view(long address) {
+    return MappedReservation.view(segment(address), offset(address));
+  }
+
+  private ByteBuffer segment(long address) {
+    return segments.get((int) (address >>> SEGMENT_SHIFT));
+  }
+
+  private int offset(long address) {
+    return (int) (address & OFFSET_MASK);
+  }
+
+  private void verifyLength(int length, int maximumLength) {
+    if (length > maximumLength) {
+      throw new ReservationRecordTooLargeException();
+    }
+  }
+
+  private long[] newIndex(int capacity) {
+    long[] index = new long[capacity];
+    Arrays.fill(index, NO_ADDRESS);
+    return index;
+  }
+
+  private int firstSlot(int hash, int capacity) {
+    return (hash ^ hash >>> 16) & capacity - 1;
+  }
+
+  private int nextSlot(int slot, int capacity) {
+    return slot + 1 & capacity - 1;
+  }
+
+  private long toAddress(int segmentIndex, int offset) {
+    return (long) segmentIndex << SEGMENT_SHIFT | offset;
+  }
+
+  private byte[] toBytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private long toEpochDay(LocalDateTime date) {
+    return date.toLocalDate().toEpochDay();
+  }
+
+  private static class AddressList {
+    private long[] addresses = new long[4];
+    private int size;
+
+    private void add(long address) {
+      if (size == addresses.length) {
+        addresses = Arrays.copyOf(addresses, 2 * size);
+      }
+      addresses[size++] = address;
+    }
+  }
+}
@@ -0,0 +1,4 @@
+package ca.ulaval.glo4002.reservation.infra.mapped;
+
+public class ReservationRecordTooLargeException extends RuntimeException {
+}
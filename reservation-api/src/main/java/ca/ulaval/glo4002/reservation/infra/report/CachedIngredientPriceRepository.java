@@ -0,0 +1,173 @@
+package ca.ulaval.glo4002.reservation.infra.report;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import ca.ulaval.glo4002.reservation.domain.report.IngredientPriceRepository;
+import ca.ulaval.glo4002.reservation.domain.report.IngredientPrices;
+import ca.ulaval.glo4002.reservation.domain.report.exception.IngredientPriceUnavailableException;
+
+public class CachedIngredientPriceRepository implements IngredientPriceRepository {
+  private final IngredientPriceRepository ingredientPriceRepository;
+  private final Duration timeToLive;
+  private final Duration refreshAfter;
+  private final Clock clock;
+  private final AtomicReference<CompletableFuture<IngredientPriceSnapshot>> inFlightRefresh = new AtomicReference<>();
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong refreshFailureCount = new AtomicLong();
+  private final AtomicLong pricesVersion = new AtomicLong();
+  private volatile IngredientPriceSnapshot snapshot;
+
+  public CachedIngredientPriceRepository(IngredientPriceRepository ingredientPriceRepository,
+                                         Duration timeToLive,
+                                         Duration refreshAhead,
+                                         Clock clock)
+  {
+    if (refreshAhead.isNegative() || refreshAhead.compareTo(timeToLive) > 0) {
+      throw new IllegalArgumentException("refreshAhead must be between zero and timeToLive");
+    }
+    this.ingredientPriceRepository = ingredientPriceRepository;
+    this.timeToLive = timeToLive;
+    this.refreshAfter = timeToLive.minus(refreshAhead);
+    this.clock = clock;
+  }
+
+  public IngredientPrices getIngredientPrices() {
+    IngredientPriceSnapshot currentSnapshot = snapshot;
+    if (currentSnapshot == null) {
+      missCount.incrementAndGet();
+      return fetchFirstSnapshot();
+    }
+    Instant now = clock.instant();
+    if (currentSnapshot.isOlderThan(now, timeToLive)) {
+      missCount.incrementAndGet();
+      refresh();
+      return snapshot.getIngredientPrices();
+    }
+    hitCount.incrementAndGet();
+    if (currentSnapshot.isOlderThan(now, refreshAfter)) {
+      refresh();
+    }
+    return currentSnapshot.getIngredientPrices();
+  }
+
+  public CompletableFuture<IngredientPrices> getIngredientPricesAsync() {
+    if (snapshot != null) {
+      return CompletableFuture.completedFuture(getIngredientPrices());
+    }
+    missCount.incrementAndGet();
+    return refresh().handle((refreshedSnapshot, failure) -> {
+      if (failure != null) {
+        throw asUnavailable(failure instanceof CompletionException ? failure.getCause() : failure);
+      }
+      return refreshedSnapshot.getIngredientPrices();
+    });
+  }
+
+  public void warmUp() {
+    refresh();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public long getRefreshFailureCount() {
+    return refreshFailureCount.get();
+  }
+
+  public Optional<Duration> getSnapshotAge() {
+    IngredientPriceSnapshot currentSnapshot = snapshot;
+    if (currentSnapshot == null) {
+      return Optional.empty();
+    }
+    return Optional.of(currentSnapshot.getAge(clock.instant()));
+  }
+
+  private IngredientPrices fetchFirstSnapshot() {
+    try {
+      return refresh().join().getIngredientPrices();
+    } catch (CompletionException e) {
+      throw asUnavailable(e.getCause());
+    }
+  }
+
+  private IngredientPriceUnavailableException asUnavailable(Throwable cause) {
+    if (cause instanceof IngredientPriceUnavailableException) {
+      return (IngredientPriceUnavailableException) cause;
+    }
+    return new IngredientPriceUnavailableException(cause);
+  }
+
+  private CompletableFuture<IngredientPriceSnapshot> refresh() {
+    CompletableFuture<IngredientPriceSnapshot> newRefresh = new CompletableFuture<>();
+    CompletableFuture<IngredientPriceSnapshot> ongoingRefresh = inFlightRefresh.compareAndExchange(null,
+                                                                                                    newRefresh);
+    if (ongoingRefresh != null) {
+      return ongoingRefresh;
+    }
+    try {
+      ingredientPriceRepository.getIngredientPricesAsync().whenComplete((ingredientPrices, failure) -> {
+        if (failure == null) {
+          completeRefresh(newRefresh, ingredientPrices);
+        } else {
+          failRefresh(newRefresh, failure);
+        }
+      });
+    } catch (RuntimeException e) {
+      failRefresh(newRefresh, e);
+    }
+    return newRefresh;
+  }
+
+  private void completeRefresh(CompletableFuture<IngredientPriceSnapshot> refresh, IngredientPrices ingredientPrices) {
+    IngredientPriceSnapshot previousSnapshot = snapshot;
+    long version = previousSnapshot != null && previousSnapshot.getIngredientPrices().equals(ingredientPrices)
+                   ? previousSnapshot.getIngredientPrices().getVersion()
+                   : pricesVersion.incrementAndGet();
+    IngredientPriceSnapshot fetchedSnapshot = new IngredientPriceSnapshot(ingredientPrices.withVersion(version),
+                                                                          clock.instant());
+    snapshot = fetchedSnapshot;
+    inFlightRefresh.set(null);
+    refresh.complete(fetchedSnapshot);
+  }
+
+  private void failRefresh(CompletableFuture<IngredientPriceSnapshot> refresh, Throwable cause) {
+    refreshFailureCount.incrementAndGet();
+    inFlightRefresh.set(null);
+    refresh.completeExceptionally(cause);
+  }
+
+  private static final class IngredientPriceSnapshot {
+    private final IngredientPrices ingredientPrices;
+    private final Instant fetchedAt;
+
+    IngredientPriceSnapshot(IngredientPrices ingredientPrices, Instant fetchedAt) {
+      this.ingredientPrices = ingredientPrices;
+      this.fetchedAt = fetchedAt;
+    }
+
+    IngredientPrices getIngredientPrices() {
+      return ingredientPrices;
+    }
+
+    Duration getAge(Instant now) {
+      return Duration.between(fetchedAt, now);
+    }
+
+    boolean isOlderThan(Instant now, Duration maximumAge) {
+      return getAge(now).compareTo(maximumAge) >= 0;
+    }
+  }
+}
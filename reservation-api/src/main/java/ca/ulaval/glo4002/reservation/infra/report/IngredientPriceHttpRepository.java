@@ -1,53 +1,71 @@
 package ca.ulaval.glo4002.reservation.infra.report;
 
 import java.io.IOException;
-import java.net.ProxySelector;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.util.List;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
-
-import ca.ulaval.glo4002.reservation.api.report.IngredientDeserializer;
 import ca.ulaval.glo4002.reservation.domain.report.IngredientPriceRepository;
+import ca.ulaval.glo4002.reservation.domain.report.IngredientPrices;
+import ca.ulaval.glo4002.reservation.domain.report.exception.IngredientPriceUnavailableException;
 
 public class IngredientPriceHttpRepository implements IngredientPriceRepository {
   private static final String INGREDIENTS_URL = "http://localhost:8080/ingredients";
   private static final URI INGREDIENTS_URI = URI.create(INGREDIENTS_URL);
+  private static final int HTTP_OK = 200;
 
-  private final ObjectMapper mapper;
+  private final HttpClient httpClient;
+  private final IngredientPricesParser ingredientPricesParser;
+  private final HttpRequest ingredientsRequest;
 
-  public IngredientPriceHttpRepository() {
-    mapper = new ObjectMapper();
-    SimpleModule simpleModule = new SimpleModule();
-    simpleModule.addDeserializer(IngredientPriceDto.class,
-                                 new IngredientDeserializer(IngredientPriceDto.class));
-    mapper.registerModule(simpleModule);
+  public IngredientPriceHttpRepository(HttpClient httpClient,
+                                       IngredientPricesParser ingredientPricesParser,
+                                       Duration requestTimeout)
+  {
+    this.httpClient = httpClient;
+    this.ingredientPricesParser = ingredientPricesParser;
+    this.ingredientsRequest = HttpRequest.newBuilder().uri(INGREDIENTS_URI).timeout(requestTimeout).GET().build();
   }
 
-  public List<IngredientPriceDto> getIngredientsPrice() {
+  public IngredientPrices getIngredientPrices() {
     try {
-      String ingredientsJson = getIngredientsStringifiedJson();
-      return mapper.readValue(ingredientsJson,
-                              mapper.getTypeFactory()
-                                    .constructCollectionType(List.class, IngredientPriceDto.class));
-    } catch (Exception e) {
-      System.out.println("error while getting ingredients information from external service api");
-      return List.of();
+      return getIngredientPricesAsync().join();
+    } catch (CompletionException e) {
+      throw asUnavailable(e.getCause());
     }
   }
 
-  private String getIngredientsStringifiedJson() throws IOException, InterruptedException {
-    HttpRequest request = HttpRequest.newBuilder().uri(INGREDIENTS_URI).GET().build();
+  public CompletableFuture<IngredientPrices> getIngredientPricesAsync() {
+    return httpClient.sendAsync(ingredientsRequest, HttpResponse.BodyHandlers.ofInputStream())
+                     .thenApply(this::parseResponse)
+                     .exceptionally(this::toUnavailable);
+  }
 
-    HttpResponse<String> response = HttpClient.newBuilder()
-                                              .proxy(ProxySelector.getDefault())
-                                              .build()
-                                              .send(request, HttpResponse.BodyHandlers.ofString());
-    return response.body();
+  private IngredientPrices parseResponse(HttpResponse<InputStream> response) {
+    try (InputStream body = response.body()) {
+      if (response.statusCode() != HTTP_OK) {
+        throw new IOException("warehouse answered with status " + response.statusCode());
+      }
+      return ingredientPricesParser.parse(body);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
+  private IngredientPrices toUnavailable(Throwable failure) {
+    throw asUnavailable(failure instanceof CompletionException ? failure.getCause() : failure);
+  }
+
+  private IngredientPriceUnavailableException asUnavailable(Throwable cause) {
+    if (cause instanceof IngredientPriceUnavailableException) {
+      return (IngredientPriceUnavailableException) cause;
+    }
+    return new IngredientPriceUnavailableException(cause);
+  }
 }
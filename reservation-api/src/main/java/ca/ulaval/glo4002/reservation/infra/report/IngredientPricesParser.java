@@ -0,0 +1,56 @@
+package ca.ulaval.glo4002.reservation.infra.report;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.report.IngredientPrices;
+
+public class IngredientPricesParser {
+  private static final String NAME = "name";
+  private static final String PRICE_PER_KG = "pricePerKg";
+
+  private final JsonFactory jsonFactory;
+
+  public IngredientPricesParser(JsonFactory jsonFactory) {
+    this.jsonFactory = jsonFactory;
+  }
+
+  public IngredientPrices parse(InputStream ingredientsJson) throws IOException {
+    try (JsonParser jsonParser = jsonFactory.createParser(ingredientsJson)) {
+      if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+        throw new JsonParseException(jsonParser, "expected an array of ingredients");
+      }
+      BigDecimal[] pricesPerKg = IngredientPrices.createEmptyPrices();
+      while (jsonParser.nextToken() == JsonToken.START_OBJECT) {
+        parseIngredient(jsonParser, pricesPerKg);
+      }
+      return new IngredientPrices(pricesPerKg);
+    }
+  }
+
+  private void parseIngredient(JsonParser jsonParser, BigDecimal[] pricesPerKg) throws IOException {
+    String ingredientName = null;
+    BigDecimal pricePerKg = null;
+    while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      if (NAME.equals(fieldName)) {
+        ingredientName = jsonParser.getValueAsString();
+      } else if (PRICE_PER_KG.equals(fieldName)) {
+        pricePerKg = BigDecimal.valueOf(jsonParser.getDoubleValue());
+      } else {
+        jsonParser.skipChildren();
+      }
+    }
+    if (pricePerKg != null && IngredientName.contains(ingredientName)) {
+      pricesPerKg[IngredientName.valueOfName(ingredientName).ordinal()] = pricePerKg;
+    }
+  }
+}
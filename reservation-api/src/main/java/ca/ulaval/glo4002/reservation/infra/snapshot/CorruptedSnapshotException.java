@@ -0,0 +1,4 @@
+package ca.ulaval.glo4002.reservation.infra.snapshot;
+
+public class CorruptedSnapshotException extends RuntimeException {
+}
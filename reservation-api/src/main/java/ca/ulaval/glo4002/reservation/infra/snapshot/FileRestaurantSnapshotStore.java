@@ -0,0 +1,87 @@
+package ca.ulaval.glo4002.reservation.infra.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import ca.ulaval.glo4002.reservation.domain.snapshot.RestaurantSnapshot;
+import ca.ulaval.glo4002.reservation.domain.snapshot.RestaurantSnapshotStore;
+
+public class FileRestaurantSnapshotStore implements RestaurantSnapshotStore {
+  private static final int CHECKSUM_SIZE = Integer.BYTES;
+
+  private final Path snapshotFile;
+  private final Path temporarySnapshotFile;
+  private final RestaurantSnapshotCodec restaurantSnapshotCodec;
+
+  public FileRestaurantSnapshotStore(Path snapshotFile, RestaurantSnapshotCodec restaurantSnapshotCodec) {
+    this.snapshotFile = snapshotFile;
+    this.temporarySnapshotFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+    this.restaurantSnapshotCodec = restaurantSnapshotCodec;
+  }
+
+  public synchronized void save(RestaurantSnapshot restaurantSnapshot) {
+    try (FileChannel fileChannel = FileChannel.open(temporarySnapshotFile,
+                                                    StandardOpenOption.CREATE,
+                                                    StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING))
+    {
+      CRC32 checksum = new CRC32();
+      DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(Channels.newOutputStream(fileChannel),
+                                                                                                      checksum)));
+      restaurantSnapshotCodec.encode(restaurantSnapshot, output);
+      output.flush();
+      ByteBuffer trailer = ByteBuffer.allocate(CHECKSUM_SIZE).putInt((int) checksum.getValue()).flip();
+      while (trailer.hasRemaining()) {
+        fileChannel.write(trailer);
+      }
+      fileChannel.force(true);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    try {
+      Files.move(temporarySnapshotFile,
+                 snapshotFile,
+                 StandardCopyOption.ATOMIC_MOVE,
+                 StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  public synchronized Optional<RestaurantSnapshot> loadLatest() {
+    if (!Files.exists(snapshotFile)) {
+      return Optional.empty();
+    }
+    try (FileChannel fileChannel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+      long snapshotSize = fileChannel.size();
+      if (snapshotSize < CHECKSUM_SIZE) {
+        return Optional.empty();
+      }
+      MappedByteBuffer snapshot = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, snapshotSize);
+      ByteBuffer content = snapshot.duplicate().limit(Math.toIntExact(snapshotSize - CHECKSUM_SIZE));
+      CRC32 checksum = new CRC32();
+      checksum.update(content.duplicate());
+      if ((int) checksum.getValue() != snapshot.getInt(content.limit())) {
+        return Optional.empty();
+      }
+      return Optional.of(restaurantSnapshotCodec.decode(content));
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    } catch (CorruptedSnapshotException exception) {
+      return Optional.empty();
+    }
+  }
+}
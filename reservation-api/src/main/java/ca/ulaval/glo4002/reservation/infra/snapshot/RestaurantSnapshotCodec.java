@@ -0,0 +1,170 @@
+package ca.ulaval.glo4002.reservation.infra.snapshot;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ca.ulaval.glo4002.reservation.domain.chef.Chef;
+import ca.ulaval.glo4002.reservation.domain.chef.ChefPriority;
+import ca.ulaval.glo4002.reservation.domain.date.DinerPeriod;
+import ca.ulaval.glo4002.reservation.domain.date.Period;
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningConfigurationRequest;
+import ca.ulaval.glo4002.reservation.domain.material.Material;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+import ca.ulaval.glo4002.reservation.domain.snapshot.RestaurantSnapshot;
+import ca.ulaval.glo4002.reservation.infra.journal.ReservationRecordCodec;
+
+public class RestaurantSnapshotCodec {
+  private static final int SNAPSHOT_MAGIC = 0x52534E50;
+  private static final int SNAPSHOT_FORMAT_VERSION = 2;
+  private static final IngredientName[] INGREDIENT_NAMES = IngredientName.values();
+  private static final Material[] MATERIALS = Material.values();
+  private static final ChefPriority[] CHEF_PRIORITIES = ChefPriority.values();
+
+  private final ReservationRecordCodec reservationRecordCodec;
+
+  public RestaurantSnapshotCodec(ReservationRecordCodec reservationRecordCodec) {
+    this.reservationRecordCodec = reservationRecordCodec;
+  }
+
+  public void encode(RestaurantSnapshot restaurantSnapshot, DataOutputStream output) throws IOException {
+    output.writeInt(SNAPSHOT_MAGIC);
+    output.writeInt(SNAPSHOT_FORMAT_VERSION);
+    output.writeLong(restaurantSnapshot.getJournalPosition());
+    writePeriod(output, restaurantSnapshot.getHoppeningConfiguration().getDinnerDinerPeriod());
+    writePeriod(output, restaurantSnapshot.getHoppeningConfiguration().getReservationDinerPeriod());
+    output.writeInt(restaurantSnapshot.getReservations().size());
+    for (Reservation reservation : restaurantSnapshot.getReservations()) {
+      reservationRecordCodec.write(output, reservation);
+    }
+    output.writeInt(restaurantSnapshot.getIngredientsQuantityPerDay().size());
+    for (Map.Entry<LocalDate, Map<IngredientName, BigDecimal>> day : restaurantSnapshot.getIngredientsQuantityPerDay()
+                                                                                       .entrySet())
+    {
+      output.writeLong(day.getKey().toEpochDay());
+      writeQuantities(output, day.getValue());
+    }
+    output.writeInt(restaurantSnapshot.getDishesQuantityPerDay().size());
+    for (Map.Entry<LocalDate, Map<Material, BigDecimal>> day : restaurantSnapshot.getDishesQuantityPerDay().entrySet()) {
+      output.writeLong(day.getKey().toEpochDay());
+      writeQuantities(output, day.getValue());
+    }
+    output.writeInt(restaurantSnapshot.getChefSchedule().size());
+    for (Map.Entry<LocalDate, Set<Chef>> day : restaurantSnapshot.getChefSchedule().entrySet()) {
+      output.writeLong(day.getKey().toEpochDay());
+      output.writeByte(day.getValue().size());
+      for (Chef chef : day.getValue()) {
+        writeChef(output, chef);
+      }
+    }
+  }
+
+  public RestaurantSnapshot decode(ByteBuffer snapshot) {
+    if (snapshot.getInt() != SNAPSHOT_MAGIC || snapshot.getInt() != SNAPSHOT_FORMAT_VERSION) {
+      throw new CorruptedSnapshotException();
+    }
+    long journalPosition = snapshot.getLong();
+    HoppeningConfigurationRequest hoppeningConfiguration = new HoppeningConfigurationRequest(readPeriod(snapshot),
+                                                                                             readPeriod(snapshot));
+    int numberOfReservations = snapshot.getInt();
+    List<Reservation> reservations = new ArrayList<>(numberOfReservations);
+    for (int reservation = 0; reservation < numberOfReservations; reservation++) {
+      reservations.add(reservationRecordCodec.read(snapshot));
+    }
+    int numberOfIngredientDays = snapshot.getInt();
+    Map<LocalDate, Map<IngredientName, BigDecimal>> ingredientsQuantityPerDay = new HashMap<>();
+    for (int day = 0; day < numberOfIngredientDays; day++) {
+      LocalDate date = LocalDate.ofEpochDay(snapshot.getLong());
+      ingredientsQuantityPerDay.put(date, readQuantities(snapshot, INGREDIENT_NAMES, new EnumMap<>(IngredientName.class)));
+    }
+    int numberOfDishesDays = snapshot.getInt();
+    Map<LocalDate, Map<Material, BigDecimal>> dishesQuantityPerDay = new HashMap<>();
+    for (int day = 0; day < numberOfDishesDays; day++) {
+      LocalDate date = LocalDate.ofEpochDay(snapshot.getLong());
+      dishesQuantityPerDay.put(date, readQuantities(snapshot, MATERIALS, new EnumMap<>(Material.class)));
+    }
+    int numberOfChefDays = snapshot.getInt();
+    Map<LocalDate, Set<Chef>> chefSchedule = new HashMap<>();
+    for (int day = 0; day < numberOfChefDays; day++) {
+      LocalDate date = LocalDate.ofEpochDay(snapshot.getLong());
+      int numberOfChefs = Byte.toUnsignedInt(snapshot.get());
+      Set<Chef> chefs = new HashSet<>();
+      for (int chef = 0; chef < numberOfChefs; chef++) {
+        chefs.add(readChef(snapshot));
+      }
+      chefSchedule.put(date, chefs);
+    }
+    return new RestaurantSnapshot(journalPosition,
+                                  hoppeningConfiguration,
+                                  reservations,
+                                  ingredientsQuantityPerDay,
+                                  dishesQuantityPerDay,
+                                  chefSchedule);
+  }
+
+  private <K extends Enum<K>> void writeQuantities(DataOutputStream output, Map<K, BigDecimal> quantities)
+      throws IOException
+  {
+    output.writeByte(quantities.size());
+    for (Map.Entry<K, BigDecimal> quantity : quantities.entrySet()) {
+      output.writeByte(quantity.getKey().ordinal());
+      byte[] unscaledValue = quantity.getValue().unscaledValue().toByteArray();
+      output.writeInt(quantity.getValue().scale());
+      output.writeByte(unscaledValue.length);
+      output.write(unscaledValue);
+    }
+  }
+
+  private <K extends Enum<K>> Map<K, BigDecimal> readQuantities(ByteBuffer snapshot,
+                                                                K[] keys,
+                                                                Map<K, BigDecimal> quantities)
+  {
+    int numberOfQuantities = Byte.toUnsignedInt(snapshot.get());
+    for (int quantity = 0; quantity < numberOfQuantities; quantity++) {
+      K key = keys[Byte.toUnsignedInt(snapshot.get())];
+      int scale = snapshot.getInt();
+      byte[] unscaledValue = new byte[Byte.toUnsignedInt(snapshot.get())];
+      snapshot.get(unscaledValue);
+      quantities.put(key, new BigDecimal(new BigInteger(unscaledValue), scale));
+    }
+    return quantities;
+  }
+
+  private void writeChef(DataOutputStream output, Chef chef) throws IOException {
+    reservationRecordCodec.writeString(output, chef.getName());
+    output.writeByte(chef.getPriority().ordinal());
+    output.writeInt(RestrictionType.toMask(chef.getSpecialties()));
+    output.writeByte(chef.getNumberOfCustomers());
+  }
+
+  private Chef readChef(ByteBuffer snapshot) {
+    String name = reservationRecordCodec.readString(snapshot);
+    ChefPriority priority = CHEF_PRIORITIES[Byte.toUnsignedInt(snapshot.get())];
+    Chef chef = new Chef(name, priority, RestrictionType.fromMask(snapshot.getInt()));
+    chef.addCustomers(Byte.toUnsignedInt(snapshot.get()));
+    return chef;
+  }
+
+  private void writePeriod(DataOutputStream output, Period period) throws IOException {
+    output.writeLong(period.getStartDate().toEpochDay());
+    output.writeLong(period.getEndDate().toEpochDay());
+  }
+
+  private DinerPeriod readPeriod(ByteBuffer snapshot) {
+    LocalDate startDate = LocalDate.ofEpochDay(snapshot.getLong());
+    LocalDate endDate = LocalDate.ofEpochDay(snapshot.getLong());
+    return new DinerPeriod(startDate, endDate);
+  }
+}
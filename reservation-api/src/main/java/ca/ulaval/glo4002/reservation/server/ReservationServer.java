@@ -22,6 +22,7 @@ public class ReservationServer {
     ResourceConfig packageConfig = createResourceConfig(resources);
     ServletContainer container = new ServletContainer(packageConfig);
     ServletHolder servletHolder = new ServletHolder(container);
+    servletHolder.setAsyncSupported(true);
 
     contextHandler.addServlet(servletHolder, "/*");
 
@@ -40,6 +41,9 @@ public class ReservationServer {
     packageConfig.register(new CatchInvalidConfigurationRequestMapper());
     packageConfig.register(new CatchInvalidFormatExceptionMapper());
     packageConfig.register(new CatchInvalidRestrictionTypeExceptionMapper());
+    packageConfig.register(new CatchAdmissionQueueFullExceptionMapper());
+    packageConfig.register(new CatchIngredientPriceUnavailableExceptionMapper());
+    packageConfig.register(new CatchJournalUnavailableExceptionMapper());
     packageConfig.property(ServerProperties.LOCATION_HEADER_RELATIVE_URI_RESOLUTION_DISABLED, true);
     return packageConfig;
   }
@@ -1,5 +1,8 @@
 package ca.ulaval.glo4002.reservation.service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import ca.ulaval.glo4002.reservation.api.configuration.dto.CreateConfigurationRequestDto;
 import ca.ulaval.glo4002.reservation.api.reservation.dto.CreateReservationRequestDto;
 import ca.ulaval.glo4002.reservation.api.reservation.dto.ReservationDto;
@@ -7,6 +10,7 @@ import ca.ulaval.glo4002.reservation.domain.ReservationRequest;
 import ca.ulaval.glo4002.reservation.domain.Restaurant;
 import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningConfigurationRequest;
 import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationAdmission;
 import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
 import ca.ulaval.glo4002.reservation.service.reservation.assembler.ConfigurationRequestAssembler;
 import ca.ulaval.glo4002.reservation.service.reservation.assembler.ReservationAssembler;
@@ -34,6 +38,14 @@ public class RestaurantService {
     return restaurant.makeReservation(reservationRequest);
   }
 
+  public List<ReservationAdmission> makeReservations(List<CreateReservationRequestDto> reservationRequestDtos) {
+    List<ReservationRequest> reservationRequests = new ArrayList<>();
+    for (CreateReservationRequestDto reservationRequestDto : reservationRequestDtos) {
+      reservationRequests.add(reservationRequestAssembler.assemble(reservationRequestDto));
+    }
+    return restaurant.makeReservations(reservationRequests);
+  }
+
   public ReservationDto getReservationFromRestaurant(ReservationNumber reservationId) {
     Reservation reservation = restaurant.getReservation(reservationId);
     return reservationAssembler.assembleDtoFromReservation(reservation);
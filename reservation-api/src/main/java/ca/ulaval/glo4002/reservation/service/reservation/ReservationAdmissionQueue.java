@@ -0,0 +1,218 @@
+package ca.ulaval.glo4002.reservation.service.reservation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ca.ulaval.glo4002.reservation.api.reservation.dto.CreateReservationRequestDto;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationAdmission;
+import ca.ulaval.glo4002.reservation.service.RestaurantService;
+import ca.ulaval.glo4002.reservation.service.reservation.exception.AdmissionQueueFullException;
+import ca.ulaval.glo4002.reservation.service.reservation.exception.ReservationTicketNotFoundException;
+
+public class ReservationAdmissionQueue implements AutoCloseable {
+  private static final int DINNER_DAY_LENGTH = "yyyy-MM-dd".length();
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+  private final RestaurantService restaurantService;
+  private final ExecutorService admissionWorkers;
+  private final DinnerDayQueue[] dinnerDayQueues;
+  private final int maximumBatchSize;
+  private final int maximumCompletedTickets;
+  private final ConcurrentMap<String, ReservationTicket> tickets = new ConcurrentHashMap<>();
+  private final Queue<String> completedTicketIds = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger numberOfCompletedTickets = new AtomicInteger();
+
+  public ReservationAdmissionQueue(RestaurantService restaurantService,
+                                   ExecutorService admissionWorkers,
+                                   int numberOfDinnerDayQueues,
+                                   int capacityPerDinnerDayQueue,
+                                   int maximumBatchSize,
+                                   int maximumCompletedTickets)
+  {
+    this.restaurantService = restaurantService;
+    this.admissionWorkers = admissionWorkers;
+    this.maximumBatchSize = maximumBatchSize;
+    this.maximumCompletedTickets = maximumCompletedTickets;
+    dinnerDayQueues = new DinnerDayQueue[numberOfDinnerDayQueues];
+    for (int dinnerDayQueue = 0; dinnerDayQueue < numberOfDinnerDayQueues; dinnerDayQueue++) {
+      dinnerDayQueues[dinnerDayQueue] = new DinnerDayQueue(capacityPerDinnerDayQueue);
+    }
+  }
+
+  public ReservationTicket submit(CreateReservationRequestDto createReservationRequestDto) {
+    ReservationTicket reservationTicket = new ReservationTicket(UUID.randomUUID().toString());
+    DinnerDayQueue dinnerDayQueue = findDinnerDayQueue(createReservationRequestDto.getDinnerDate());
+    tickets.put(reservationTicket.getTicketId(), reservationTicket);
+    if (!dinnerDayQueue.offer(new PendingReservation(reservationTicket, createReservationRequestDto))) {
+      tickets.remove(reservationTicket.getTicketId());
+      throw new AdmissionQueueFullException();
+    }
+    scheduleDrain(dinnerDayQueue);
+    return reservationTicket;
+  }
+
+  public ReservationTicket getTicket(String ticketId) {
+    ReservationTicket reservationTicket = tickets.get(ticketId);
+    if (reservationTicket == null) {
+      throw new ReservationTicketNotFoundException(ticketId);
+    }
+    return reservationTicket;
+  }
+
+  @Override
+  public void close() {
+    admissionWorkers.shutdown();
+    try {
+      admissionWorkers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private DinnerDayQueue findDinnerDayQueue(String dinnerDate) {
+    String dinnerDay = dinnerDate.substring(0, Math.min(DINNER_DAY_LENGTH, dinnerDate.length()));
+    return dinnerDayQueues[Math.floorMod(dinnerDay.hashCode(), dinnerDayQueues.length)];
+  }
+
+  private void scheduleDrain(DinnerDayQueue dinnerDayQueue) {
+    if (dinnerDayQueue.startDraining()) {
+      try {
+        admissionWorkers.execute(() -> drain(dinnerDayQueue));
+      } catch (RejectedExecutionException rejection) {
+        reject(dinnerDayQueue, rejection);
+      }
+    }
+  }
+
+  private void reject(DinnerDayQueue dinnerDayQueue, RejectedExecutionException rejection) {
+    try {
+      fail(dinnerDayQueue.takeBatch(Integer.MAX_VALUE), rejection);
+    } finally {
+      dinnerDayQueue.stopDraining();
+      if (!dinnerDayQueue.isEmpty()) {
+        scheduleDrain(dinnerDayQueue);
+      }
+    }
+  }
+
+  private void drain(DinnerDayQueue dinnerDayQueue) {
+    try {
+      admit(dinnerDayQueue.takeBatch(maximumBatchSize));
+    } finally {
+      dinnerDayQueue.stopDraining();
+      if (!dinnerDayQueue.isEmpty()) {
+        scheduleDrain(dinnerDayQueue);
+      }
+    }
+  }
+
+  private void admit(List<PendingReservation> pendingReservations) {
+    List<CreateReservationRequestDto> createReservationRequestDtos = new ArrayList<>(pendingReservations.size());
+    for (PendingReservation pendingReservation : pendingReservations) {
+      createReservationRequestDtos.add(pendingReservation.getCreateReservationRequestDto());
+    }
+    List<ReservationAdmission> reservationAdmissions;
+    try {
+      reservationAdmissions = restaurantService.makeReservations(createReservationRequestDtos);
+    } catch (RuntimeException failure) {
+      admitOneByOne(pendingReservations, failure);
+      return;
+    }
+    for (int index = 0; index < pendingReservations.size(); index++) {
+      ReservationTicket reservationTicket = pendingReservations.get(index).getReservationTicket();
+      reservationTicket.admit(reservationAdmissions.get(index));
+      retire(reservationTicket);
+    }
+  }
+
+  private void admitOneByOne(List<PendingReservation> pendingReservations, RuntimeException batchFailure) {
+    if (pendingReservations.size() == 1) {
+      fail(pendingReservations, batchFailure);
+      return;
+    }
+    for (PendingReservation pendingReservation : pendingReservations) {
+      admit(List.of(pendingReservation));
+    }
+  }
+
+  private void fail(List<PendingReservation> pendingReservations, RuntimeException failure) {
+    for (PendingReservation pendingReservation : pendingReservations) {
+      pendingReservation.getReservationTicket().fail(failure);
+      retire(pendingReservation.getReservationTicket());
+    }
+  }
+
+  private void retire(ReservationTicket reservationTicket) {
+    completedTicketIds.add(reservationTicket.getTicketId());
+    if (numberOfCompletedTickets.incrementAndGet() > maximumCompletedTickets) {
+      String oldestTicketId = completedTicketIds.poll();
+      if (oldestTicketId != null) {
+        tickets.remove(oldestTicketId);
+        numberOfCompletedTickets.decrementAndGet();
+      }
+    }
+  }
+
+  private static final class DinnerDayQueue {
+    private final BlockingQueue<PendingReservation> pendingReservations;
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private DinnerDayQueue(int capacity) {
+      pendingReservations = new ArrayBlockingQueue<>(capacity);
+    }
+
+    private boolean offer(PendingReservation pendingReservation) {
+      return pendingReservations.offer(pendingReservation);
+    }
+
+    private List<PendingReservation> takeBatch(int maximumBatchSize) {
+      List<PendingReservation> batch = new ArrayList<>(Math.min(maximumBatchSize, pendingReservations.size()));
+      pendingReservations.drainTo(batch, maximumBatchSize);
+      return batch;
+    }
+
+    private boolean isEmpty() {
+      return pendingReservations.isEmpty();
+    }
+
+    private boolean startDraining() {
+      return draining.compareAndSet(false, true);
+    }
+
+    private void stopDraining() {
+      draining.set(false);
+    }
+  }
+
+  private static final class PendingReservation {
+    private final ReservationTicket reservationTicket;
+    private final CreateReservationRequestDto createReservationRequestDto;
+
+    private PendingReservation(ReservationTicket reservationTicket,
+                               CreateReservationRequestDto createReservationRequestDto)
+    {
+      this.reservationTicket = reservationTicket;
+      this.createReservationRequestDto = createReservationRequestDto;
+    }
+
+    private ReservationTicket getReservationTicket() {
+      return reservationTicket;
+    }
+
+    private CreateReservationRequestDto getCreateReservationRequestDto() {
+      return createReservationRequestDto;
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package ca.ulaval.glo4002.reservation.service.reservation;
+
+import java.util.concurrent.CompletableFuture;
+
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationAdmission;
+
+public class ReservationTicket {
+  private final String ticketId;
+  private final CompletableFuture<ReservationAdmission> admission = new CompletableFuture<>();
+
+  public ReservationTicket(String ticketId) {
+    this.ticketId = ticketId;
+  }
+
+  public String getTicketId() {
+    return ticketId;
+  }
+
+  public boolean isPending() {
+    return !admission.isDone();
+  }
+
+  public boolean hasFailed() {
+    return admission.isCompletedExceptionally();
+  }
+
+  public ReservationAdmission getAdmission() {
+    return isPending() || hasFailed() ? null : admission.join();
+  }
+
+  public void whenCompleted(Runnable action) {
+    admission.whenComplete((reservationAdmission, failure) -> action.run());
+  }
+
+  public void admit(ReservationAdmission reservationAdmission) {
+    admission.complete(reservationAdmission);
+  }
+
+  public void fail(Throwable failure) {
+    admission.completeExceptionally(failure);
+  }
+}
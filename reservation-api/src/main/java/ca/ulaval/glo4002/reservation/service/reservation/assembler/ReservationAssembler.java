@@ -8,6 +8,7 @@ import java.util.stream.Collectors;
 
 import ca.ulaval.glo4002.reservation.api.reservation.dto.CustomerApiDto;
 import ca.ulaval.glo4002.reservation.api.reservation.dto.ReservationDto;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
 
 public class ReservationAssembler {
@@ -32,7 +33,7 @@ public class ReservationAssembler {
     return reservationDto;
   }
 
-  private BigDecimal formatReservationPrice(BigDecimal reservationFees) {
-    return reservationFees.setScale(2, RoundingMode.HALF_UP);
+  private BigDecimal formatReservationPrice(Money reservationFees) {
+    return reservationFees.toBigDecimal().setScale(2, RoundingMode.HALF_UP);
   }
 }
@@ -0,0 +1,14 @@
+package ca.ulaval.glo4002.reservation.service.reservation.exception;
+
+public class AdmissionQueueFullException extends RuntimeException {
+  private static final String ERROR_CODE = "ADMISSION_QUEUE_FULL";
+  private static final String ERROR_MESSAGE = "Too many reservations are waiting for this dinner date, please retry later";
+
+  public String getError() {
+    return ERROR_CODE;
+  }
+
+  public String getDescription() {
+    return ERROR_MESSAGE;
+  }
+}
@@ -0,0 +1,12 @@
+package ca.ulaval.glo4002.reservation.service.reservation.exception;
+
+import ca.ulaval.glo4002.reservation.domain.exception.NotFoundException;
+
+public class ReservationTicketNotFoundException extends NotFoundException {
+  private static final String ERROR_CODE = "RESERVATION_TICKET_NOT_FOUND";
+  private static final String ERROR_MESSAGE = "Reservation ticket %s not found";
+
+  public ReservationTicketNotFoundException(String ticketId) {
+    super(ERROR_CODE, String.format(ERROR_MESSAGE, ticketId));
+  }
+}
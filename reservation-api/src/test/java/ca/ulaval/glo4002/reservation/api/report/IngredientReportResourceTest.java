@@ -1,8 +1,14 @@
 package ca.ulaval.glo4002.reservation.api.report;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
+import java.util.function.Supplier;
+
+import javax.ws.rs.core.Response;
+
 import ca.ulaval.glo4002.reservation.api.report.assembler.RestaurantFinanceDtoAssembler;
 import ca.ulaval.glo4002.reservation.service.report.finance.RestaurantFinanceService;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,13 +17,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import ca.ulaval.glo4002.reservation.api.report.assembler.ChefReportDtoAssembler;
+import ca.ulaval.glo4002.reservation.api.report.presenter.chef.ChefReportPresenter;
 import ca.ulaval.glo4002.reservation.api.report.presenter.material.MaterialReportPresenter;
 import ca.ulaval.glo4002.reservation.api.report.validator.ReportDateValidator;
 import ca.ulaval.glo4002.reservation.domain.material.MaterialReport;
 import ca.ulaval.glo4002.reservation.domain.report.IngredientReport;
 import ca.ulaval.glo4002.reservation.domain.report.IngredientReportPresenter;
 import ca.ulaval.glo4002.reservation.domain.report.IngredientReportType;
+import ca.ulaval.glo4002.reservation.domain.report.ReportVersion;
 import ca.ulaval.glo4002.reservation.service.report.chef.ChefReportService;
 import ca.ulaval.glo4002.reservation.service.report.chef.ReportService;
 
@@ -29,6 +36,9 @@ public class IngredientReportResourceTest {
   public static final IngredientReportType REPORT_TYPE = IngredientReportType.UNIT;
   public static final String TOTAL_REPORT_TYPE_STRING = "total";
   public static final IngredientReportType TOTAL_REPORT_TYPE = IngredientReportType.TOTAL;
+  public static final String NO_ENTITY_TAG = null;
+  public static final String AN_ENTITY_TAG = "\"12.3\"";
+  public static final ReportVersion A_REPORT_VERSION = new ReportVersion(12, 3);
 
   @Mock
   private ReportService reportService;
@@ -52,7 +62,7 @@ public class IngredientReportResourceTest {
   private IngredientReportPresenter ingredientReportPresenter;
 
   @Mock
-  private ChefReportDtoAssembler chefReportDtoAssembler;
+  private ChefReportPresenter chefReportPresenter;
 
   @Mock
   private MaterialReportPresenter materialReportPresenter;
@@ -63,6 +73,9 @@ public class IngredientReportResourceTest {
   @Mock
   private RestaurantFinanceDtoAssembler restaurantFinanceDtoAssembler;
 
+  @Mock
+  private ReportCache reportCache;
+
   private ReportResource reportResource;
 
   @BeforeEach
@@ -71,9 +84,15 @@ public class IngredientReportResourceTest {
                                         chefReportService,
                                         reportDateValidator,
                                         ingredientReportPresenterFactory,
-                                        chefReportDtoAssembler,
+                                        chefReportPresenter,
                                         materialReportPresenter,
-            restaurantFinanceService, restaurantFinanceDtoAssembler);
+            restaurantFinanceService, restaurantFinanceDtoAssembler, reportCache);
+  }
+
+  @BeforeEach
+  public void setUpReportCache() {
+    given(reportCache.respond(any(), any(), any(), any())).willAnswer(invocation -> invocation.<Supplier<Response>>getArgument(3)
+                                                                                              .get());
   }
 
   @Test
@@ -82,10 +101,10 @@ public class IngredientReportResourceTest {
     given(ingredientReportPresenterFactory.create(REPORT_TYPE)).willReturn(ingredientReportPresenter);
 
     // when
-    reportResource.getIngredientReport(START_DATE, END_DATE, REPORT_TYPE_STRING);
+    reportResource.getIngredientReport(START_DATE, END_DATE, REPORT_TYPE_STRING, NO_ENTITY_TAG);
 
     // then
-    verify(reportService).getIngredientReport(START_DATE, END_DATE);
+    verify(reportService).getIngredientReport(START_DATE, END_DATE, REPORT_TYPE);
   }
 
   @Test
@@ -94,7 +113,7 @@ public class IngredientReportResourceTest {
     given(ingredientReportPresenterFactory.create(REPORT_TYPE)).willReturn(ingredientReportPresenter);
 
     // when
-    reportResource.getIngredientReport(START_DATE, END_DATE, REPORT_TYPE_STRING);
+    reportResource.getIngredientReport(START_DATE, END_DATE, REPORT_TYPE_STRING, NO_ENTITY_TAG);
 
     // then
     verify(reportDateValidator).validate(START_DATE, END_DATE);
@@ -106,7 +125,7 @@ public class IngredientReportResourceTest {
     given(ingredientReportPresenterFactory.create(REPORT_TYPE)).willReturn(ingredientReportPresenter);
 
     // when
-    reportResource.getIngredientReport(START_DATE, END_DATE, REPORT_TYPE_STRING);
+    reportResource.getIngredientReport(START_DATE, END_DATE, REPORT_TYPE_STRING, NO_ENTITY_TAG);
 
     // then
     verify(ingredientReportPresenterFactory).create(REPORT_TYPE);
@@ -116,10 +135,10 @@ public class IngredientReportResourceTest {
   public void whenGetIngredientReport_thenUnitReportDtoIsAssembled() {
     // given
     given(ingredientReportPresenterFactory.create(REPORT_TYPE)).willReturn(ingredientReportPresenter);
-    given(reportService.getIngredientReport(START_DATE, END_DATE)).willReturn(ingredientReport);
+    given(reportService.getIngredientReport(START_DATE, END_DATE, REPORT_TYPE)).willReturn(ingredientReport);
 
     // when
-    reportResource.getIngredientReport(START_DATE, END_DATE, REPORT_TYPE_STRING);
+    reportResource.getIngredientReport(START_DATE, END_DATE, REPORT_TYPE_STRING, NO_ENTITY_TAG);
 
     // then
     verify(ingredientReportPresenter).presentReport(ingredientReport);
@@ -129,10 +148,10 @@ public class IngredientReportResourceTest {
   public void whenGetIngredientReport_thenTotalReportDtoIsAssembled() {
     // given
     given(ingredientReportPresenterFactory.create(TOTAL_REPORT_TYPE)).willReturn(ingredientReportPresenter);
-    given(reportService.getIngredientReport(START_DATE, END_DATE)).willReturn(ingredientReport);
+    given(reportService.getIngredientReport(START_DATE, END_DATE, TOTAL_REPORT_TYPE)).willReturn(ingredientReport);
 
     // when
-    reportResource.getIngredientReport(START_DATE, END_DATE, TOTAL_REPORT_TYPE_STRING);
+    reportResource.getIngredientReport(START_DATE, END_DATE, TOTAL_REPORT_TYPE_STRING, NO_ENTITY_TAG);
 
     // then
     verify(ingredientReportPresenter).presentReport(ingredientReport);
@@ -144,7 +163,7 @@ public class IngredientReportResourceTest {
     given(reportService.getMaterialReport(START_DATE, END_DATE)).willReturn(materialReport);
 
     // when
-    reportResource.getMaterialReport(START_DATE, END_DATE);
+    reportResource.getMaterialReport(START_DATE, END_DATE, NO_ENTITY_TAG);
 
     // then
     verify(materialReportPresenter).presentReport(materialReport);
@@ -153,7 +172,7 @@ public class IngredientReportResourceTest {
   @Test
   public void whenGetMaterialReport_thenDatesAreValidated() {
     // when
-    reportResource.getMaterialReport(START_DATE, END_DATE);
+    reportResource.getMaterialReport(START_DATE, END_DATE, NO_ENTITY_TAG);
 
     // then
     verify(reportDateValidator).validate(START_DATE, END_DATE);
@@ -165,9 +184,40 @@ public class IngredientReportResourceTest {
     given(reportService.getMaterialReport(START_DATE, END_DATE)).willReturn(materialReport);
 
     // when
-    reportResource.getMaterialReport(START_DATE, END_DATE);
+    reportResource.getMaterialReport(START_DATE, END_DATE, NO_ENTITY_TAG);
 
     // then
     verify(materialReportPresenter).presentReport(materialReport);
   }
+
+  @Test
+  public void whenGetIngredientReport_thenReportIsRespondedThroughTheCacheWithThePricedReportVersion() {
+    // given
+    given(ingredientReportPresenterFactory.create(REPORT_TYPE)).willReturn(ingredientReportPresenter);
+    given(reportService.getPricedReportVersion()).willReturn(A_REPORT_VERSION);
+
+    // when
+    reportResource.getIngredientReport(START_DATE, END_DATE, REPORT_TYPE_STRING, AN_ENTITY_TAG);
+
+    // then
+    verify(reportCache).respond(eq("ingredients:" + START_DATE + ":" + END_DATE + ":" + REPORT_TYPE_STRING),
+                                eq(A_REPORT_VERSION),
+                                eq(AN_ENTITY_TAG),
+                                any());
+  }
+
+  @Test
+  public void whenGetMaterialReport_thenReportIsRespondedThroughTheCacheWithTheReportVersion() {
+    // given
+    given(reportService.getReportVersion()).willReturn(A_REPORT_VERSION);
+
+    // when
+    reportResource.getMaterialReport(START_DATE, END_DATE, AN_ENTITY_TAG);
+
+    // then
+    verify(reportCache).respond(eq("material:" + START_DATE + ":" + END_DATE),
+                                eq(A_REPORT_VERSION),
+                                eq(AN_ENTITY_TAG),
+                                any());
+  }
 }
@@ -0,0 +1,203 @@
+package ca.ulaval.glo4002.reservation.api.report;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ca.ulaval.glo4002.reservation.domain.report.ReportVersion;
+
+class ReportCacheTest {
+  private static final String A_REPORT_KEY = "material:2150-07-20:2150-07-30";
+  private static final String ANOTHER_REPORT_KEY = "material:2150-07-21:2150-07-30";
+  private static final ReportVersion A_REPORT_VERSION = new ReportVersion(12, 3);
+  private static final ReportVersion A_NEWER_REPORT_VERSION = new ReportVersion(13, 3);
+  private static final String AN_INSTANCE_ID = "an-instance";
+  private static final String A_MATCHING_ENTITY_TAG = "\"an-instance.12.3\"";
+  private static final String A_STALE_ENTITY_TAG = "\"an-instance.11.3\"";
+  private static final String A_PREVIOUS_INSTANCE_ENTITY_TAG = "\"a-previous-instance.12.3\"";
+  private static final String NO_ENTITY_TAG = null;
+  private static final String A_REPORT_BODY = "{\"totalPrice\":42}";
+  private static final int A_MAXIMUM_CACHED_REPORT_SIZE = 64;
+  private static final String A_STREAMED_REPORT_BODY = "{\"dates\":[]}";
+
+  private ReportCache reportCache;
+  private AtomicInteger numberOfComputedReports;
+
+  @BeforeEach
+  public void setUpReportCache() {
+    reportCache = new ReportCache(new ObjectMapper(), A_MAXIMUM_CACHED_REPORT_SIZE, AN_INSTANCE_ID);
+    numberOfComputedReports = new AtomicInteger();
+  }
+
+  @Test
+  public void givenNoCachedReport_whenRespond_thenReportIsComputedSerializedAndTagged() throws IOException {
+    // when
+    Response response = reportCache.respond(A_REPORT_KEY, A_REPORT_VERSION, NO_ENTITY_TAG, aReport());
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+    assertThat(writeBody(response)).isEqualTo(A_REPORT_BODY);
+    assertThat(response.getEntityTag()).isEqualTo(new EntityTag("an-instance.12.3"));
+    assertThat(numberOfComputedReports.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenAWrittenReportOfTheSameVersion_whenRespond_thenCachedBodyIsReturnedWithoutComputing() throws IOException {
+    // given
+    writeBody(reportCache.respond(A_REPORT_KEY, A_REPORT_VERSION, NO_ENTITY_TAG, aReport()));
+
+    // when
+    Response secondResponse = reportCache.respond(A_REPORT_KEY, A_REPORT_VERSION, NO_ENTITY_TAG, aReport());
+
+    // then
+    assertThat(writeBody(secondResponse)).isEqualTo(A_REPORT_BODY);
+    assertThat(numberOfComputedReports.get()).isEqualTo(1);
+    assertThat(reportCache.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenACachedReportOfAnOlderVersion_whenRespond_thenReportIsComputedAgain() throws IOException {
+    // given
+    writeBody(reportCache.respond(A_REPORT_KEY, A_REPORT_VERSION, NO_ENTITY_TAG, aReport()));
+
+    // when
+    Response response = reportCache.respond(A_REPORT_KEY, A_NEWER_REPORT_VERSION, NO_ENTITY_TAG, aReport());
+
+    // then
+    assertThat(response.getEntityTag()).isEqualTo(new EntityTag("an-instance.13.3"));
+    assertThat(numberOfComputedReports.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void givenACachedReportForAnotherKey_whenRespond_thenReportIsComputed() throws IOException {
+    // given
+    writeBody(reportCache.respond(ANOTHER_REPORT_KEY, A_REPORT_VERSION, NO_ENTITY_TAG, aReport()));
+
+    // when
+    reportCache.respond(A_REPORT_KEY, A_REPORT_VERSION, NO_ENTITY_TAG, aReport());
+
+    // then
+    assertThat(numberOfComputedReports.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void givenAMatchingEntityTag_whenRespond_thenNotModifiedIsReturnedWithoutComputing() {
+    // when
+    Response response = reportCache.respond(A_REPORT_KEY, A_REPORT_VERSION, A_MATCHING_ENTITY_TAG, aReport());
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(Response.Status.NOT_MODIFIED.getStatusCode());
+    assertThat(response.getEntityTag()).isEqualTo(new EntityTag("an-instance.12.3"));
+    assertThat(numberOfComputedReports.get()).isEqualTo(0);
+  }
+
+  @Test
+  public void givenAListOfEntityTagsContainingAWeakMatch_whenRespond_thenNotModifiedIsReturned() {
+    // when
+    Response response = reportCache.respond(A_REPORT_KEY,
+                                            A_REPORT_VERSION,
+                                            A_STALE_ENTITY_TAG + ", W/" + A_MATCHING_ENTITY_TAG,
+                                            aReport());
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(Response.Status.NOT_MODIFIED.getStatusCode());
+  }
+
+  @Test
+  public void givenAStaleEntityTag_whenRespond_thenReportIsReturned() {
+    // when
+    Response response = reportCache.respond(A_REPORT_KEY, A_REPORT_VERSION, A_STALE_ENTITY_TAG, aReport());
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+    assertThat(numberOfComputedReports.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenAnEntityTagFromAPreviousInstanceWithTheSameVersion_whenRespond_thenReportIsReturned() {
+    // when
+    Response response = reportCache.respond(A_REPORT_KEY,
+                                            A_REPORT_VERSION,
+                                            A_PREVIOUS_INSTANCE_ENTITY_TAG,
+                                            aReport());
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+    assertThat(numberOfComputedReports.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenAStreamedReport_whenRespond_thenTheStreamIsWrittenAndCached() throws IOException {
+    // given
+    writeBody(reportCache.respond(A_REPORT_KEY, A_REPORT_VERSION, NO_ENTITY_TAG, aStreamedReport()));
+
+    // when
+    Response response = reportCache.respond(A_REPORT_KEY, A_REPORT_VERSION, NO_ENTITY_TAG, aStreamedReport());
+
+    // then
+    assertThat(writeBody(response)).isEqualTo(A_STREAMED_REPORT_BODY);
+    assertThat(numberOfComputedReports.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenAReportLargerThanTheMaximumCachedSize_whenRespond_thenReportIsWrittenButNotCached() throws IOException {
+    // given
+    String aLargeReportBody = "{\"dates\":[" + "0,".repeat(A_MAXIMUM_CACHED_REPORT_SIZE) + "0]}";
+    Response firstResponse = reportCache.respond(A_REPORT_KEY, A_REPORT_VERSION, NO_ENTITY_TAG, aStreamedReport(aLargeReportBody));
+
+    // when
+    String writtenBody = writeBody(firstResponse);
+    reportCache.respond(A_REPORT_KEY, A_REPORT_VERSION, NO_ENTITY_TAG, aStreamedReport(aLargeReportBody));
+
+    // then
+    assertThat(writtenBody).isEqualTo(aLargeReportBody);
+    assertThat(numberOfComputedReports.get()).isEqualTo(2);
+  }
+
+  private Supplier<Response> aStreamedReport() {
+    return aStreamedReport(A_STREAMED_REPORT_BODY);
+  }
+
+  private Supplier<Response> aStreamedReport(String body) {
+    return () -> {
+      numberOfComputedReports.incrementAndGet();
+      StreamingOutput report = output -> output.write(body.getBytes(StandardCharsets.UTF_8));
+      return Response.ok().entity(report).build();
+    };
+  }
+
+  private String writeBody(Response response) throws IOException {
+    if (response.getEntity() instanceof byte[]) {
+      return new String((byte[]) response.getEntity(), StandardCharsets.UTF_8);
+    }
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    ((StreamingOutput) response.getEntity()).write(body);
+    return body.toString(StandardCharsets.UTF_8);
+  }
+
+  private Supplier<Response> aReport() {
+    return () -> {
+      numberOfComputedReports.incrementAndGet();
+      return Response.ok().entity(new SomeReportDto()).build();
+    };
+  }
+
+  public static class SomeReportDto {
+    public int getTotalPrice() {
+      return 42;
+    }
+  }
+}
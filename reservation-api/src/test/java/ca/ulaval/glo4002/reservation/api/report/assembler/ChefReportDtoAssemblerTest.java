@@ -3,23 +3,23 @@ package ca.ulaval.glo4002.reservation.api.report.assembler;
 import static com.google.common.truth.Truth.assertThat;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import ca.ulaval.glo4002.reservation.api.report.dto.ChefReportDto;
+import ca.ulaval.glo4002.reservation.api.report.dto.ChefReportInformationDto;
 import ca.ulaval.glo4002.reservation.domain.chef.Chef;
 import ca.ulaval.glo4002.reservation.domain.chef.ChefPriority;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.report.chef.ChefReport;
 import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
 
 public class ChefReportDtoAssemblerTest {
-  private static final String A_DATE = "2020-02-10";
-  private static final String ANOTHER_DATE = "2040-02-10";
-  private static final BigDecimal A_TOTAL_PRICE = BigDecimal.TEN;
-  private static final BigDecimal ANOTHER_TOTAL_PRICE = BigDecimal.ONE;
+  private static final LocalDate A_DATE = LocalDate.of(2020, 2, 10);
+  private static final Money A_TOTAL_PRICE = Money.of(10);
 
   private static final ChefPriority A_CHEF_TYPE = ChefPriority.SECOND;
   private static final String A_CHEF_NAME = "Bob Smarties";
@@ -43,50 +43,35 @@ public class ChefReportDtoAssemblerTest {
   }
 
   @Test
-  public void givenChefsHiredOnTwoDates_whenAssembleChefReportDto_thenDtoHasMultipleChefInformationDtos() {
-    // given
-    ChefReport chefReport = givenAChefReportWithChefsHiredOnTwoDates();
-
-    // when
-    ChefReportDto chefReportDto = chefReportDtoAssembler.assembleChefReportDto(chefReport);
-
-    // then
-    assertThat(chefReportDto.getChefsReportInformationDto()
-                            .size()).isEqualTo(chefReport.getChefReportInformations().size());
-  }
-
-  @Test
-  public void givenChefsHiredOnOneDate_whenAssembleChefReportDto_thenDtoHasTheRightDate() {
+  public void givenChefsHiredOnOneDate_whenAssembleChefReportInformationDto_thenDtoHasTheRightDate() {
     // given
     ChefReport chefReport = givenAChefReportWithChefsHiredOnOneDate();
-    String expectedDate = chefReport.getChefReportInformations().get(0).getDate();
+    String expectedDate = chefReport.getChefReportInformations().get(0).getDate().toString();
 
     // when
-    ChefReportDto chefReportDto = chefReportDtoAssembler.assembleChefReportDto(chefReport);
+    ChefReportInformationDto chefReportInformationDto = chefReportDtoAssembler.assembleChefReportInformationDto(chefReport.getChefReportInformations()
+                                                                                                                        .get(0));
 
     // then
-    assertThat(chefReportDto.getChefsReportInformationDto()
-                            .get(0)
-                            .getDate()).isEqualTo(expectedDate);
+    assertThat(chefReportInformationDto.getDate()).isEqualTo(expectedDate);
   }
 
   @Test
-  public void givenChefsHiredOnOneDate_whenAssembleChefReportDto_thenDtoHasTheRightPrice() {
+  public void givenChefsHiredOnOneDate_whenAssembleChefReportInformationDto_thenDtoHasTheRightPrice() {
     // given
     ChefReport chefReport = givenAChefReportWithChefsHiredOnOneDate();
-    BigDecimal expectedTotalPrice = chefReport.getChefReportInformations().get(0).getTotalPrice();
+    BigDecimal expectedTotalPrice = chefReport.getChefReportInformations().get(0).getTotalPrice().toBigDecimal();
 
     // when
-    ChefReportDto chefReportDto = chefReportDtoAssembler.assembleChefReportDto(chefReport);
+    ChefReportInformationDto chefReportInformationDto = chefReportDtoAssembler.assembleChefReportInformationDto(chefReport.getChefReportInformations()
+                                                                                                                        .get(0));
 
     // then
-    assertThat(chefReportDto.getChefsReportInformationDto()
-                            .get(0)
-                            .getTotalPrice()).isEqualTo(expectedTotalPrice);
+    assertThat(chefReportInformationDto.getTotalPrice()).isEqualTo(expectedTotalPrice);
   }
 
   @Test
-  public void whenAssembleChefReportDto_thenChefsAreInAlphabeticalOrder() {
+  public void whenAssembleChefReportInformationDto_thenChefsAreInAlphabeticalOrder() {
     // given
     ChefReport chefReport = new ChefReport();
     Chef firstChef = new Chef("B", ChefPriority.FIRST, Set.of(RestrictionType.NONE));
@@ -95,25 +80,25 @@ public class ChefReportDtoAssemblerTest {
     List<String> expectedSortedChefs = List.of("A", "B");
 
     // when
-    ChefReportDto chefReportDto = chefReportDtoAssembler.assembleChefReportDto(chefReport);
+    ChefReportInformationDto chefReportInformationDto = chefReportDtoAssembler.assembleChefReportInformationDto(chefReport.getChefReportInformations()
+                                                                                                                        .get(0));
 
     // then
-    assertThat(chefReportDto.getChefsReportInformationDto()
-                            .get(0)
-                            .getChefs()).isEqualTo(expectedSortedChefs);
+    assertThat(chefReportInformationDto.getChefs()).isEqualTo(expectedSortedChefs);
   }
 
   @Test
-  public void givenChefsHiredOnOneDate_whenAssembleChefReportDto_thenDtoHasRightNumberOfChefs() {
+  public void givenChefsHiredOnOneDate_whenAssembleChefReportInformationDto_thenDtoHasRightNumberOfChefs() {
     // given
     ChefReport chefReport = givenAChefReportWithMultipleChefs();
     Set<Chef> expectedChefs = chefReport.getChefReportInformations().get(0).getChefs();
 
     // when
-    ChefReportDto chefReportDto = chefReportDtoAssembler.assembleChefReportDto(chefReport);
+    ChefReportInformationDto chefReportInformationDto = chefReportDtoAssembler.assembleChefReportInformationDto(chefReport.getChefReportInformations()
+                                                                                                                        .get(0));
 
     // then
-    List<String> actualChefsName = chefReportDto.getChefsReportInformationDto().get(0).getChefs();
+    List<String> actualChefsName = chefReportInformationDto.getChefs();
     assertThat(actualChefsName.size()).isEqualTo(expectedChefs.size());
   }
 
@@ -128,12 +113,4 @@ public class ChefReportDtoAssemblerTest {
     chefReport.addChefReportInformation(A_DATE, Set.of(aChef, anotherChef), A_TOTAL_PRICE);
     return chefReport;
   }
-
-  private ChefReport givenAChefReportWithChefsHiredOnTwoDates() {
-    ChefReport chefReport = new ChefReport();
-    chefReport.addChefReportInformation(A_DATE, Set.of(aChef), A_TOTAL_PRICE);
-    chefReport.addChefReportInformation(ANOTHER_DATE, Set.of(aChef), ANOTHER_TOTAL_PRICE);
-    return chefReport;
-  }
-
 }
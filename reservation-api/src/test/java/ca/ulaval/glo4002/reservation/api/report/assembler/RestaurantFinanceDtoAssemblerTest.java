@@ -2,6 +2,7 @@ package ca.ulaval.glo4002.reservation.api.report.assembler;
 
 import ca.ulaval.glo4002.reservation.api.report.dto.RestaurantFinanceDto;
 import ca.ulaval.glo4002.reservation.domain.RestaurantFinance;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static com.google.common.truth.Truth.assertThat;
@@ -10,10 +11,10 @@ import java.math.BigDecimal;
 
 public class RestaurantFinanceDtoAssemblerTest {
 
-    private static final BigDecimal AN_INCOME = BigDecimal.valueOf(1000.540);
-    private static final BigDecimal A_CHEF_EXPENSE = BigDecimal.valueOf(324.120);
+    private static final Money AN_INCOME = Money.ofCents(100054);
+    private static final Money A_CHEF_EXPENSE = Money.ofCents(32412);
     private static final BigDecimal AN_INGREDIENT_EXPENSE = BigDecimal.valueOf(34.340);
-    private static final BigDecimal AN_MATERIAL_EXPENSE = BigDecimal.valueOf(20.610);
+    private static final Money AN_MATERIAL_EXPENSE = Money.ofCents(2061);
     private static final int TWO = 2;
 
     private RestaurantFinance restaurantFinance;
@@ -32,7 +33,7 @@ public class RestaurantFinanceDtoAssemblerTest {
         RestaurantFinanceDto restaurantFinanceDto = restaurantFinanceDtoAssembler.assembleRestaurantFinanceDto(restaurantFinance);
 
         // then
-        assertThat(restaurantFinanceDto.getIncome()).isEqualTo(AN_INCOME);
+        assertThat(restaurantFinanceDto.getIncome()).isEqualTo(AN_INCOME.toBigDecimal());
     }
 
     @Test
@@ -0,0 +1,72 @@
+package ca.ulaval.glo4002.reservation.api.report.presenter.chef;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Set;
+
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ca.ulaval.glo4002.reservation.api.report.assembler.ChefReportDtoAssembler;
+import ca.ulaval.glo4002.reservation.domain.chef.Chef;
+import ca.ulaval.glo4002.reservation.domain.chef.ChefPriority;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.report.chef.ChefReport;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+
+public class ChefReportPresenterTest {
+  private static final LocalDate A_DATE = LocalDate.of(2150, 7, 21);
+  private static final LocalDate ANOTHER_DATE = LocalDate.of(2150, 7, 22);
+  private static final Money A_TOTAL_PRICE = Money.of(6000);
+  private static final Money ANOTHER_TOTAL_PRICE = Money.of(12000);
+
+  private ChefReportPresenter chefReportPresenter;
+
+  @BeforeEach
+  public void setUpChefReportPresenter() {
+    chefReportPresenter = new ChefReportPresenter(new ChefReportDtoAssembler(), new ObjectMapper());
+  }
+
+  @Test
+  public void givenChefsHiredOnTwoDates_whenPresentReportIsWritten_thenEachDateIsWrittenInReportOrder() throws IOException {
+    // given
+    ChefReport chefReport = new ChefReport();
+    Chef aChef = new Chef("B", ChefPriority.FIRST, Set.of(RestrictionType.NONE));
+    Chef anotherChef = new Chef("A", ChefPriority.SECOND, Set.of(RestrictionType.VEGAN));
+    chefReport.addChefReportInformation(A_DATE, Set.of(aChef), A_TOTAL_PRICE);
+    chefReport.addChefReportInformation(ANOTHER_DATE, Set.of(aChef, anotherChef), ANOTHER_TOTAL_PRICE);
+
+    // when
+    String body = writeBody(chefReportPresenter.presentReport(chefReport));
+
+    // then
+    assertThat(body).isEqualTo("{\"dates\":["
+                               + "{\"date\":\"2150-07-21\",\"chefs\":[\"B\"],\"totalPrice\":6000},"
+                               + "{\"date\":\"2150-07-22\",\"chefs\":[\"A\",\"B\"],\"totalPrice\":12000}"
+                               + "]}");
+  }
+
+  @Test
+  public void givenNoChefHired_whenPresentReportIsWritten_thenDatesAreEmpty() throws IOException {
+    // when
+    String body = writeBody(chefReportPresenter.presentReport(new ChefReport()));
+
+    // then
+    assertThat(body).isEqualTo("{\"dates\":[]}");
+  }
+
+  private String writeBody(Response response) throws IOException {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    ((StreamingOutput) response.getEntity()).write(body);
+    return body.toString(StandardCharsets.UTF_8);
+  }
+}
@@ -1,6 +1,19 @@
 package ca.ulaval.glo4002.reservation.api.report.presenter.material;
 
-import static org.mockito.Mockito.verify;
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,29 +21,69 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ca.ulaval.glo4002.reservation.domain.material.Material;
 import ca.ulaval.glo4002.reservation.domain.material.MaterialReport;
+import ca.ulaval.glo4002.reservation.domain.material.MaterialReportInformation;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 
 @ExtendWith(MockitoExtension.class)
 public class MaterialReportPresenterTest {
-  @Mock
-  private MaterialReport materialReport;
+  private static final LocalDate A_DATE = LocalDate.of(2150, 7, 21);
+  private static final LocalDate A_PAST_DATE = LocalDate.of(2150, 7, 20);
+  private static final BigDecimal A_DISHES_QUANTITY = BigDecimal.valueOf(6);
 
   @Mock
-  private MaterialReportDtoFactory materialReportDtoFactory;
+  private MaterialReport materialReport;
 
   private MaterialReportPresenter materialReportPresenter;
 
   @BeforeEach
   public void setUp() {
-    materialReportPresenter = new MaterialReportPresenter(materialReportDtoFactory);
+    materialReportPresenter = new MaterialReportPresenter(new MaterialReportDtoFactory(), new ObjectMapper());
+  }
+
+  @Test
+  public void givenMultipleDates_whenPresentReportIsWritten_thenDaysAreWrittenInChronologicalOrder() throws IOException {
+    // given
+    given(materialReport.getMaterialReportInformation()).willReturn(List.of(givenADay(A_DATE, Money.of(10)),
+                                                                            givenADay(A_PAST_DATE, Money.ZERO)));
+
+    // when
+    String body = writeBody(materialReportPresenter.presentReport(materialReport));
+
+    // then
+    assertThat(body.indexOf(A_PAST_DATE.toString())).isLessThan(body.indexOf(A_DATE.toString()));
   }
 
   @Test
-  public void givenReport_whenPresentReport_thenTotalReportDtoIsCreated() {
+  public void givenADayWithOnlyCleanedDishes_whenPresentReportIsWritten_thenEmptyBoughtDishesAreOmitted() throws IOException {
+    // given
+    given(materialReport.getMaterialReportInformation()).willReturn(List.of(givenADay(A_DATE, Money.ofCents(1050))));
+
     // when
-    materialReportPresenter.presentReport(materialReport);
+    String body = writeBody(materialReportPresenter.presentReport(materialReport));
 
     // then
-    verify(materialReportDtoFactory).create(materialReport);
+    assertThat(body).isEqualTo("{\"dates\":[{\"date\":\"2150-07-21\","
+                               + "\"cleaned\":{\"bowl\":6,\"fork\":6,\"knife\":6,\"plate\":6,\"spoon\":6},"
+                               + "\"totalPrice\":10.5}]}");
+  }
+
+  private MaterialReportInformation givenADay(LocalDate date, Money totalPrice) {
+    Map<Material, BigDecimal> cleanedDishes = new EnumMap<>(Material.class);
+    Map<Material, BigDecimal> boughtDishes = new EnumMap<>(Material.class);
+    for (Material material : Material.values()) {
+      cleanedDishes.put(material, A_DISHES_QUANTITY);
+      boughtDishes.put(material, BigDecimal.ZERO);
+    }
+    return new MaterialReportInformation(date, cleanedDishes, boughtDishes, totalPrice);
+  }
+
+  private String writeBody(Response response) throws IOException {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    ((StreamingOutput) response.getEntity()).write(body);
+    return body.toString(StandardCharsets.UTF_8);
   }
 }
@@ -1,36 +1,130 @@
 package ca.ulaval.glo4002.reservation.api.report.presenter.unit;
 
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ca.ulaval.glo4002.reservation.api.report.dto.UnitReportDayDto;
+import ca.ulaval.glo4002.reservation.api.report.presenter.IngredientReportInformationDto;
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.report.DailyIngredientReportInformation;
 import ca.ulaval.glo4002.reservation.domain.report.IngredientReport;
 
 @ExtendWith(MockitoExtension.class)
 public class UnitIngredientIngredientReportPresenterTest {
+  private static final LocalDate FIRST_DATE = LocalDate.of(2150, 7, 23);
+  private static final LocalDate LATER_DATE = LocalDate.of(2150, 8, 3);
+  private static final BigDecimal A_DAILY_TOTAL_PRICE = BigDecimal.valueOf(3242.5432);
+  private static final BigDecimal ANOTHER_DAILY_TOTAL_PRICE = BigDecimal.valueOf(216.8321);
+  private static final BigDecimal PEPPERONI_QUANTITY = BigDecimal.valueOf(7654.235);
+  private static final BigDecimal PEPPERONI_PRICE = BigDecimal.valueOf(312.546);
+  private static final BigDecimal KIMCHI_QUANTITY = BigDecimal.valueOf(98723.4);
+  private static final BigDecimal KIMCHI_PRICE = BigDecimal.valueOf(123);
+
   @Mock
   private IngredientReport ingredientReport;
 
   @Mock
-  private UnitReportDtoFactory unitReportDtoFactory;
+  private DailyIngredientReportInformation aDailyIngredientReportInformation;
+
+  @Mock
+  private DailyIngredientReportInformation anotherDailyIngredientReportInformation;
+
+  @Mock
+  private UnitReportDayDtoFactory unitReportDayDtoFactory;
 
   private UnitIngredientReportPresenter unitReportPresenter;
 
   @BeforeEach
   public void setUp() {
-    unitReportPresenter = new UnitIngredientReportPresenter(unitReportDtoFactory);
+    unitReportPresenter = new UnitIngredientReportPresenter(unitReportDayDtoFactory, new ObjectMapper());
   }
 
   @Test
-  public void givenReport_whenPresentReport_thenUnitReportDtoIsCreated() {
+  public void givenReport_whenPresentReport_thenDailyIngredientInformationAreFetched() {
     // when
     unitReportPresenter.presentReport(ingredientReport);
 
     // then
-    verify(unitReportDtoFactory).create(ingredientReport);
+    verify(ingredientReport).getDailyIngredientsInformation();
+  }
+
+  @Test
+  public void givenReport_whenPresentReportIsWritten_thenCorrespondingUnitReportDayDtosAreCreated() throws IOException {
+    // given
+    givenTwoDaysOfReport();
+
+    // when
+    writeBody(unitReportPresenter.presentReport(ingredientReport));
+
+    // then
+    verify(unitReportDayDtoFactory).create(LATER_DATE, aDailyIngredientReportInformation);
+    verify(unitReportDayDtoFactory).create(FIRST_DATE, anotherDailyIngredientReportInformation);
+  }
+
+  @Test
+  public void givenReport_whenPresentReportIsWritten_thenDaysAreWrittenInChronologicalOrderUnderDates() throws IOException {
+    // given
+    givenTwoDaysOfReport();
+
+    // when
+    String body = writeBody(unitReportPresenter.presentReport(ingredientReport));
+
+    // then
+    assertThat(body).isEqualTo("{\"dates\":["
+                               + "{\"date\":\"2150-07-23\",\"ingredients\":[{\"name\":\"Kimchi\",\"totalPrice\":123,\"quantity\":98723.4}],\"totalPrice\":216.8321},"
+                               + "{\"date\":\"2150-08-03\",\"ingredients\":[{\"name\":\"Pepperoni\",\"totalPrice\":312.546,\"quantity\":7654.235}],\"totalPrice\":3242.5432}"
+                               + "]}");
+  }
+
+  private void givenTwoDaysOfReport() {
+    Map<LocalDate, DailyIngredientReportInformation> dateToDailyIngredientReportInformation = new HashMap<>();
+    dateToDailyIngredientReportInformation.put(LATER_DATE, aDailyIngredientReportInformation);
+    dateToDailyIngredientReportInformation.put(FIRST_DATE, anotherDailyIngredientReportInformation);
+    given(ingredientReport.getDailyIngredientsInformation()).willReturn(dateToDailyIngredientReportInformation);
+    given(unitReportDayDtoFactory.create(LATER_DATE,
+                                         aDailyIngredientReportInformation)).willReturn(givenAnUnitReportDayDto());
+    given(unitReportDayDtoFactory.create(FIRST_DATE,
+                                         anotherDailyIngredientReportInformation)).willReturn(givenAnotherUnitReportDayDto());
+  }
+
+  private UnitReportDayDto givenAnUnitReportDayDto() {
+    List<IngredientReportInformationDto> ingredientReportInformationDtos = List.of(new IngredientReportInformationDto(IngredientName.PEPPERONI.toString(),
+                                                                                                                      PEPPERONI_QUANTITY,
+                                                                                                                      PEPPERONI_PRICE));
+    return new UnitReportDayDto(LATER_DATE, ingredientReportInformationDtos, A_DAILY_TOTAL_PRICE);
+  }
+
+  private UnitReportDayDto givenAnotherUnitReportDayDto() {
+    List<IngredientReportInformationDto> ingredientReportInformationDtos = List.of(new IngredientReportInformationDto(IngredientName.KIMCHI.toString(),
+                                                                                                                      KIMCHI_QUANTITY,
+                                                                                                                      KIMCHI_PRICE));
+    return new UnitReportDayDto(FIRST_DATE, ingredientReportInformationDtos, ANOTHER_DAILY_TOTAL_PRICE);
+  }
+
+  private String writeBody(Response response) throws IOException {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    ((StreamingOutput) response.getEntity()).write(body);
+    return body.toString(StandardCharsets.UTF_8);
   }
 }
@@ -5,10 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.time.LocalDate;
+import java.util.List;
 
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 
 import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
@@ -16,18 +19,25 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import ca.ulaval.glo4002.reservation.api.reservation.assembler.ReservationAdmissionDtoAssembler;
 import ca.ulaval.glo4002.reservation.api.reservation.builder.CreateReservationRequestDtoBuilder;
 import ca.ulaval.glo4002.reservation.api.reservation.builder.ReservationDetailsDtoBuilder;
 import ca.ulaval.glo4002.reservation.api.reservation.builder.ReservationDtoBuilder;
 import ca.ulaval.glo4002.reservation.api.reservation.dto.CreateReservationRequestDto;
+import ca.ulaval.glo4002.reservation.api.reservation.dto.ReservationAdmissionDto;
 import ca.ulaval.glo4002.reservation.api.reservation.dto.ReservationDetailsDto;
 import ca.ulaval.glo4002.reservation.api.reservation.dto.ReservationDto;
 import ca.ulaval.glo4002.reservation.api.reservation.exception.InvalidFormatException;
 import ca.ulaval.glo4002.reservation.api.reservation.validator.DateFormatValidator;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationAdmission;
 import ca.ulaval.glo4002.reservation.service.RestaurantService;
+import ca.ulaval.glo4002.reservation.service.reservation.ReservationAdmissionQueue;
+import ca.ulaval.glo4002.reservation.service.reservation.ReservationTicket;
+import ca.ulaval.glo4002.reservation.service.reservation.exception.ReservationTicketNotFoundException;
 import ca.ulaval.glo4002.reservation.service.reservation.exception.InvalidDinnerDateException;
 import ca.ulaval.glo4002.reservation.service.reservation.exception.InvalidReservationDateException;
 
@@ -35,9 +45,15 @@ import ca.ulaval.glo4002.reservation.service.reservation.exception.InvalidReserv
 public class ReservationResourceTest {
 
   private static final String AN_ID = "TEAM_1245";
+  private static final String A_TICKET_ID = "a-ticket";
+  private static final int NO_WAIT = 0;
+  private static final int A_WAIT_IN_SECONDS = 10;
   private static final String LOCATION = "Location";
   private static final String RESERVATIONS_BASE_PATH = "/reservations";
   private static final String INVALID_FORMAT_DATE = "30-21-08";
+  private static final String INVALID_FORMAT = "INVALID_FORMAT";
+  private static final String TOO_MANY_PEOPLE = "TOO_MANY_PEOPLE";
+  private static final String A_DESCRIPTION = "A description";
   private static final String A_OUT_OF_BOUND_DINNER_DATE = "2190-07-30T23:59:59.999Z";
   private static final String A_OUT_OF_BOUND_RESERVATION_DATE = "2149-09-08T23:59:59.999Z";
   private static final LocalDate START_DATE = LocalDate.of(2150, 7, 20);
@@ -52,11 +68,20 @@ public class ReservationResourceTest {
   @Mock
   private ReservationNumber reservationId;
 
+  @Mock
+  private ReservationAdmissionQueue reservationAdmissionQueue;
+
+  @Mock
+  private AsyncResponse asyncResponse;
+
   private ReservationResource reservationResource;
 
   @BeforeEach
   public void setUp() {
-    reservationResource = new ReservationResource(restaurantService, dateFormatValidator);
+    reservationResource = new ReservationResource(restaurantService,
+                                                  dateFormatValidator,
+                                                  new ReservationAdmissionDtoAssembler(),
+                                                  reservationAdmissionQueue);
   }
 
   @Test
@@ -189,6 +214,181 @@ public class ReservationResourceTest {
     assertThrows(InvalidReservationDateException.class, creatingReservation);
   }
 
+  @Test
+  public void givenABatchWithAnInvalidFormatDinnerDate_whenCreateReservations_thenOnlyTheWellFormedRequestsAreMade() {
+    // given
+    CreateReservationRequestDto aWellFormedRequestDto = new CreateReservationRequestDtoBuilder().withAnyTable().build();
+    CreateReservationRequestDto anInvalidFormatRequestDto = new CreateReservationRequestDtoBuilder().withDinnerDate(INVALID_FORMAT_DATE)
+                                                                                                    .build();
+    doThrow(InvalidFormatException.class).when(dateFormatValidator).validateFormat(INVALID_FORMAT_DATE);
+    given(reservationId.getReservationNumber()).willReturn(AN_ID);
+    given(restaurantService.makeReservations(List.of(aWellFormedRequestDto))).willReturn(List.of(ReservationAdmission.accepted(reservationId)));
+
+    // when
+    Response response = reservationResource.createReservations(List.of(anInvalidFormatRequestDto,
+                                                                        aWellFormedRequestDto));
+
+    // then
+    List<ReservationAdmissionDto> reservationAdmissionDtos = (List<ReservationAdmissionDto>) response.getEntity();
+    assertThat(reservationAdmissionDtos.get(0).getStatus()).isEqualTo(Response.Status.BAD_REQUEST.getStatusCode());
+    assertThat(reservationAdmissionDtos.get(0).getError()).isEqualTo(INVALID_FORMAT);
+    assertThat(reservationAdmissionDtos.get(1).getStatus()).isEqualTo(Response.Status.CREATED.getStatusCode());
+  }
+
+  @Test
+  public void givenABatchWithAnAcceptedReservation_whenCreateReservations_thenItsLocationIsReturned() {
+    // given
+    CreateReservationRequestDto createReservationRequestDto = new CreateReservationRequestDtoBuilder().withAnyTable()
+                                                                                                      .build();
+    given(reservationId.getReservationNumber()).willReturn(AN_ID);
+    given(restaurantService.makeReservations(List.of(createReservationRequestDto))).willReturn(List.of(ReservationAdmission.accepted(reservationId)));
+
+    // when
+    Response response = reservationResource.createReservations(List.of(createReservationRequestDto));
+
+    // then
+    List<ReservationAdmissionDto> reservationAdmissionDtos = (List<ReservationAdmissionDto>) response.getEntity();
+    assertThat(response.getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+    assertThat(reservationAdmissionDtos.get(0).getLocation()).isEqualTo(String.format(RESERVATIONS_BASE_PATH + "/%s",
+                                                                                      AN_ID));
+  }
+
+  @Test
+  public void givenABatchWithARejectedReservation_whenCreateReservations_thenTheRejectionReasonIsReturned() {
+    // given
+    CreateReservationRequestDto createReservationRequestDto = new CreateReservationRequestDtoBuilder().withAnyTable()
+                                                                                                      .build();
+    ReservationAdmission aRejection = ReservationAdmission.rejected(TOO_MANY_PEOPLE, A_DESCRIPTION);
+    given(restaurantService.makeReservations(List.of(createReservationRequestDto))).willReturn(List.of(aRejection));
+
+    // when
+    Response response = reservationResource.createReservations(List.of(createReservationRequestDto));
+
+    // then
+    List<ReservationAdmissionDto> reservationAdmissionDtos = (List<ReservationAdmissionDto>) response.getEntity();
+    assertThat(reservationAdmissionDtos.get(0).getStatus()).isEqualTo(Response.Status.BAD_REQUEST.getStatusCode());
+    assertThat(reservationAdmissionDtos.get(0).getError()).isEqualTo(TOO_MANY_PEOPLE);
+    assertThat(reservationAdmissionDtos.get(0).getDescription()).isEqualTo(A_DESCRIPTION);
+    assertThat(reservationAdmissionDtos.get(0).getLocation()).isNull();
+  }
+
+  @Test
+  public void whenRequestReservation_thenReturnAcceptedWithTheTicketLocation() {
+    // given
+    CreateReservationRequestDto createReservationRequestDto = new CreateReservationRequestDtoBuilder().withAnyTable()
+                                                                                                      .build();
+    given(reservationAdmissionQueue.submit(createReservationRequestDto)).willReturn(new ReservationTicket(A_TICKET_ID));
+
+    // when
+    Response response = reservationResource.requestReservation(createReservationRequestDto);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(Response.Status.ACCEPTED.getStatusCode());
+    assertThat(response.getHeaderString(LOCATION)).isEqualTo(String.format(RESERVATIONS_BASE_PATH + "/requests/%s",
+                                                                           A_TICKET_ID));
+  }
+
+  @Test
+  public void givenAnInvalidFormatDinnerDate_whenRequestReservation_thenThrowInvalidFormatExceptionWithoutSubmitting() {
+    // given
+    CreateReservationRequestDto createReservationRequestDto = new CreateReservationRequestDtoBuilder().withDinnerDate(INVALID_FORMAT_DATE)
+                                                                                                      .build();
+    doThrow(InvalidFormatException.class).when(dateFormatValidator).validateFormat(INVALID_FORMAT_DATE);
+
+    // when
+    Executable requestingReservation = () -> reservationResource.requestReservation(createReservationRequestDto);
+
+    // then
+    assertThrows(InvalidFormatException.class, requestingReservation);
+    verify(reservationAdmissionQueue, never()).submit(any());
+  }
+
+  @Test
+  public void givenAnAdmittedTicket_whenGetReservationRequest_thenResumeWithTheReservationLocation() {
+    // given
+    given(reservationId.getReservationNumber()).willReturn(AN_ID);
+    ReservationTicket reservationTicket = new ReservationTicket(A_TICKET_ID);
+    reservationTicket.admit(ReservationAdmission.accepted(reservationId));
+    given(reservationAdmissionQueue.getTicket(A_TICKET_ID)).willReturn(reservationTicket);
+
+    // when
+    reservationResource.getReservationRequest(A_TICKET_ID, NO_WAIT, asyncResponse);
+
+    // then
+    ReservationAdmissionDto reservationAdmissionDto = captureResumedAdmission();
+    assertThat(reservationAdmissionDto.getStatus()).isEqualTo(Response.Status.CREATED.getStatusCode());
+    assertThat(reservationAdmissionDto.getLocation()).isEqualTo(String.format(RESERVATIONS_BASE_PATH + "/%s",
+                                                                              AN_ID));
+  }
+
+  @Test
+  public void givenAPendingTicketAndNoWait_whenGetReservationRequest_thenResumeWithAnAcceptedStatus() {
+    // given
+    given(reservationAdmissionQueue.getTicket(A_TICKET_ID)).willReturn(new ReservationTicket(A_TICKET_ID));
+
+    // when
+    reservationResource.getReservationRequest(A_TICKET_ID, NO_WAIT, asyncResponse);
+
+    // then
+    assertThat(captureResumedAdmission().getStatus()).isEqualTo(Response.Status.ACCEPTED.getStatusCode());
+  }
+
+  @Test
+  public void givenAPendingTicketAndNoWait_whenGetReservationRequest_thenTheResponseStatusIsAccepted() {
+    // given
+    given(reservationAdmissionQueue.getTicket(A_TICKET_ID)).willReturn(new ReservationTicket(A_TICKET_ID));
+
+    // when
+    reservationResource.getReservationRequest(A_TICKET_ID, NO_WAIT, asyncResponse);
+
+    // then
+    assertThat(captureResumedResponse().getStatus()).isEqualTo(Response.Status.ACCEPTED.getStatusCode());
+  }
+
+  @Test
+  public void givenAnAdmittedTicket_whenGetReservationRequest_thenTheResponseStatusIsOk() {
+    // given
+    ReservationTicket reservationTicket = new ReservationTicket(A_TICKET_ID);
+    reservationTicket.admit(ReservationAdmission.rejected(TOO_MANY_PEOPLE, A_DESCRIPTION));
+    given(reservationAdmissionQueue.getTicket(A_TICKET_ID)).willReturn(reservationTicket);
+
+    // when
+    reservationResource.getReservationRequest(A_TICKET_ID, NO_WAIT, asyncResponse);
+
+    // then
+    assertThat(captureResumedResponse().getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+  }
+
+  @Test
+  public void givenAPendingTicketAndAWait_whenTheTicketIsRejected_thenResumeWithTheRejectionReason() {
+    // given
+    ReservationTicket reservationTicket = new ReservationTicket(A_TICKET_ID);
+    given(reservationAdmissionQueue.getTicket(A_TICKET_ID)).willReturn(reservationTicket);
+    reservationResource.getReservationRequest(A_TICKET_ID, A_WAIT_IN_SECONDS, asyncResponse);
+    verify(asyncResponse, never()).resume(any(Object.class));
+
+    // when
+    reservationTicket.admit(ReservationAdmission.rejected(TOO_MANY_PEOPLE, A_DESCRIPTION));
+
+    // then
+    ReservationAdmissionDto reservationAdmissionDto = captureResumedAdmission();
+    assertThat(reservationAdmissionDto.getStatus()).isEqualTo(Response.Status.BAD_REQUEST.getStatusCode());
+    assertThat(reservationAdmissionDto.getError()).isEqualTo(TOO_MANY_PEOPLE);
+  }
+
+  @Test
+  public void givenAnUnknownTicket_whenGetReservationRequest_thenResumeWithReservationTicketNotFoundException() {
+    // given
+    ReservationTicketNotFoundException reservationTicketNotFoundException = new ReservationTicketNotFoundException(A_TICKET_ID);
+    given(reservationAdmissionQueue.getTicket(A_TICKET_ID)).willThrow(reservationTicketNotFoundException);
+
+    // when
+    reservationResource.getReservationRequest(A_TICKET_ID, A_WAIT_IN_SECONDS, asyncResponse);
+
+    // then
+    verify(asyncResponse).resume(reservationTicketNotFoundException);
+  }
+
   @Test
   public void whenGetReservation_thenReturnReservationResponse() {
     // given
@@ -201,4 +401,14 @@ public class ReservationResourceTest {
     // then
     assertThat(response.getEntity()).isEqualTo(expectedReservationDto);
   }
+
+  private ReservationAdmissionDto captureResumedAdmission() {
+    return (ReservationAdmissionDto) captureResumedResponse().getEntity();
+  }
+
+  private Response captureResumedResponse() {
+    ArgumentCaptor<Response> resumedResponse = ArgumentCaptor.forClass(Response.class);
+    verify(asyncResponse).resume(resumedResponse.capture());
+    return resumedResponse.getValue();
+  }
 }
@@ -11,7 +11,8 @@ import java.util.*;
 
 import ca.ulaval.glo4002.reservation.domain.fullcourse.stock.Available;
 import ca.ulaval.glo4002.reservation.domain.inventory.IngredientInventory;
-import ca.ulaval.glo4002.reservation.domain.reservation.ingredient.IngredientCalculator;
+import ca.ulaval.glo4002.reservation.domain.ledger.DailyLedger;
+import ca.ulaval.glo4002.reservation.domain.report.IngredientCostLedger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,7 +21,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
 import ca.ulaval.glo4002.reservation.domain.reservation.AllergiesDetector;
-import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationEvaluation;
 import ca.ulaval.glo4002.reservation.infra.inmemory.InMemoryIngredientQuantityRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,25 +30,21 @@ public class IngredientInventoryTest {
   private static final IngredientName TOMATO = IngredientName.TOMATO;
   private static final LocalDate DATE_OUTSIDE_TOMATO_AVAILABILITY_PERIOD = LocalDate.of(2150, 7, 23);
   private static final LocalDate OPENING_DATE = LocalDate.of(2150, 7, 20);
-  private static final BigDecimal QUANTITY = BigDecimal.valueOf(20);
 
   @Mock
   private InMemoryIngredientQuantityRepository inMemoryIngredientQuantityRepository;
 
   @Mock
-  private AllergiesDetector allergiesDetector;
-
-  @Mock
-  private Reservation reservation;
+  private IngredientCostLedger ingredientCostLedger;
 
   @Mock
-  private List<Reservation> existingReservations;
+  private AllergiesDetector allergiesDetector;
 
   @Mock
-  private Map<IngredientName, BigDecimal> dailyIngredients;
+  private ReservationEvaluation reservationEvaluation;
 
   @Mock
-  private IngredientCalculator ingredientCalculator;
+  private DailyLedger dailyLedger;
 
   @Mock
   private Available anIngredientStock;
@@ -59,66 +56,68 @@ public class IngredientInventoryTest {
     Set<Available> ingredientsStocks = new HashSet<>();
     ingredientsStocks.add(anIngredientStock);
     ingredientInventory = new IngredientInventory(inMemoryIngredientQuantityRepository,
-                                                  allergiesDetector, ingredientCalculator, ingredientsStocks);
+                                                  ingredientCostLedger,
+                                                  allergiesDetector, ingredientsStocks);
   }
 
 
   @Test
-  public void whenDoesReservationCauseAllergicConflict_thenDailyIngredientsAreFetched() {
-    // given
-    given(reservation.getDinnerDate()).willReturn(A_DINNER_DATE);
-
+  public void whenDoesReservationCauseAllergicConflict_thenVerifyIfReservationIsAllergicFriendly() {
     // when
-    ingredientInventory.doesReservationCauseAllergicConflict(reservation, existingReservations);
+    ingredientInventory.doesReservationCauseAllergicConflict(reservationEvaluation, dailyLedger);
 
     // then
-    verify(inMemoryIngredientQuantityRepository).getIngredientsQuantityByDate(A_DINNER_DATE.toLocalDate());
+    verify(allergiesDetector).isReservationAllergicFriendly(reservationEvaluation, dailyLedger);
   }
 
   @Test
-  public void whenDoesReservationCauseAllergicConflict_thenVerifyIfReservationIsAllergicFriendly() {
+  public void givenAReservationThatIsNotAllergicFriendly_whenDoesReservationCauseAllergicConflict_thenAConflictIsDetected() {
     // given
-    given(reservation.getDinnerDate()).willReturn(A_DINNER_DATE);
-    given(inMemoryIngredientQuantityRepository.getIngredientsQuantityByDate(A_DINNER_DATE.toLocalDate())).willReturn(dailyIngredients);
+    given(allergiesDetector.isReservationAllergicFriendly(reservationEvaluation, dailyLedger)).willReturn(false);
 
     // when
-    ingredientInventory.doesReservationCauseAllergicConflict(reservation, existingReservations);
+    boolean causesAllergicConflict = ingredientInventory.doesReservationCauseAllergicConflict(reservationEvaluation,
+                                                                                             dailyLedger);
 
     // then
-    verify(allergiesDetector).isReservationAllergicFriendly(reservation,
-                                                            existingReservations,
-                                                            dailyIngredients);
+    assertThat(causesAllergicConflict).isTrue();
   }
 
   @Test
-  public void whenGetIngredientsAtDate_thenIngredientsAtDateAreFetched() {
+  public void whenUpdateIngredientInventory_thenIngredientQuantityRepositoryIsUpdated() {
     // when
-    ingredientInventory.getInventoryStockAtDate(A_DINNER_DATE.toLocalDate());
+    Map<IngredientName, BigDecimal> reservationIngredientsQuantity = Map.of(IngredientName.CHOCOLATE, BigDecimal.TEN);
+    given(reservationEvaluation.getIngredientsQuantity()).willReturn(reservationIngredientsQuantity);
+    given(reservationEvaluation.getDinnerDay()).willReturn(A_DINNER_DATE.toLocalDate());
+    ingredientInventory.updateInventory(reservationEvaluation);
+
 
     // then
-    verify(inMemoryIngredientQuantityRepository).getIngredientsQuantityByDate(A_DINNER_DATE.toLocalDate());
+    verify(inMemoryIngredientQuantityRepository).updateIngredientsQuantity(reservationIngredientsQuantity, OPENING_DATE);
   }
 
   @Test
-  public void whenUpdateIngredientInventory_thenIngredientQuantityRepositoryIsUpdated() {
-    // when
+  public void whenUpdateIngredientInventory_thenIngredientCostLedgerRecordsTheQuantities() {
+    // given
     Map<IngredientName, BigDecimal> reservationIngredientsQuantity = Map.of(IngredientName.CHOCOLATE, BigDecimal.TEN);
-    given(ingredientCalculator.getReservationIngredientsQuantity(reservation)).willReturn(reservationIngredientsQuantity);
-    given(reservation.getDinnerDate()).willReturn(A_DINNER_DATE);
-    ingredientInventory.updateInventory(reservation);
+    given(reservationEvaluation.getIngredientsQuantity()).willReturn(reservationIngredientsQuantity);
+    given(reservationEvaluation.getDinnerDay()).willReturn(A_DINNER_DATE.toLocalDate());
 
+    // when
+    ingredientInventory.updateInventory(reservationEvaluation);
 
     // then
-    verify(inMemoryIngredientQuantityRepository).updateIngredientsQuantity(reservationIngredientsQuantity, OPENING_DATE);
+    verify(ingredientCostLedger).record(A_DINNER_DATE.toLocalDate(), reservationIngredientsQuantity);
   }
 
   @Test
   public void givenReservationWithAvailable_whenAreIngredientAvailable_thenReservationIsAllowed() {
     // given
-    given(ingredientCalculator.getReservationIngredientsQuantity(reservation)).willReturn(Collections.emptyMap());
+    given(anIngredientStock.getIngredientName()).willReturn(TOMATO);
+    given(reservationEvaluation.containsIngredient(TOMATO)).willReturn(false);
 
     // when
-    boolean isReservationAllowed = ingredientInventory.isInventoryStockAvailable(reservation, OPENING_DATE);
+    boolean isReservationAllowed = ingredientInventory.isInventoryStockAvailable(reservationEvaluation, OPENING_DATE);
 
     // then
     assertThat(isReservationAllowed).isTrue();
@@ -127,17 +126,44 @@ public class IngredientInventoryTest {
   @Test
   public void givenReservationWithUnavailableIngredient_whenAreIngredientAvailable_thenReservationIsNotAllowed() {
     // given
-    given(reservation.getDinnerDate()).willReturn(DATE_OUTSIDE_TOMATO_AVAILABILITY_PERIOD.atStartOfDay());
+    given(reservationEvaluation.getDinnerDay()).willReturn(DATE_OUTSIDE_TOMATO_AVAILABILITY_PERIOD);
     given(anIngredientStock.getIngredientName()).willReturn(TOMATO);
-    given(anIngredientStock.isAvailable(reservation.getDinnerDate().toLocalDate(),
-            OPENING_DATE)).willReturn(false);
-    given(ingredientCalculator.getReservationIngredientsQuantity(reservation)).willReturn(Map.of(TOMATO,
-            QUANTITY));
+    given(anIngredientStock.isAvailable(DATE_OUTSIDE_TOMATO_AVAILABILITY_PERIOD, OPENING_DATE)).willReturn(false);
+    given(reservationEvaluation.containsIngredient(TOMATO)).willReturn(true);
 
     // when
-    boolean isReservationAllowed = ingredientInventory.isInventoryStockAvailable(reservation, OPENING_DATE);
+    boolean isReservationAllowed = ingredientInventory.isInventoryStockAvailable(reservationEvaluation, OPENING_DATE);
 
     // then
     assertThat(isReservationAllowed).isFalse();
   }
+
+  @Test
+  public void whenRestoreInventory_thenIngredientsQuantityIsRecordedInRepositoryAndCostLedger() {
+    // given
+    Map<IngredientName, BigDecimal> ingredientsQuantity = Map.of(TOMATO, BigDecimal.TEN);
+
+    // when
+    ingredientInventory.restoreInventory(A_DINNER_DATE.toLocalDate(), ingredientsQuantity);
+
+    // then
+    verify(inMemoryIngredientQuantityRepository).updateIngredientsQuantity(ingredientsQuantity,
+                                                                           A_DINNER_DATE.toLocalDate());
+    verify(ingredientCostLedger).record(A_DINNER_DATE.toLocalDate(), ingredientsQuantity);
+  }
+
+  @Test
+  public void whenCopyInventory_thenEveryDayIsCopied() {
+    // given
+    Map<IngredientName, BigDecimal> ingredientsQuantity = new HashMap<>(Map.of(TOMATO, BigDecimal.TEN));
+    given(inMemoryIngredientQuantityRepository.getAllIngredients()).willReturn(Map.of(A_DINNER_DATE.toLocalDate(),
+                                                                                       ingredientsQuantity));
+
+    // when
+    Map<LocalDate, Map<IngredientName, BigDecimal>> inventory = ingredientInventory.copyInventory();
+    ingredientsQuantity.put(TOMATO, BigDecimal.ONE);
+
+    // then
+    assertThat(inventory.get(A_DINNER_DATE.toLocalDate())).containsExactly(TOMATO, BigDecimal.TEN);
+  }
 }
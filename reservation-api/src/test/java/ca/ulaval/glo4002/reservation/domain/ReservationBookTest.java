@@ -5,8 +5,6 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,66 +12,68 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import ca.ulaval.glo4002.reservation.domain.ledger.DailyLedger;
+import ca.ulaval.glo4002.reservation.domain.ledger.DailyLedgerBook;
 import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationEvaluation;
 import ca.ulaval.glo4002.reservation.domain.reservation.ReservationRepository;
 
 @ExtendWith(MockitoExtension.class)
 public class ReservationBookTest {
   private static final LocalDateTime A_DATE = LocalDateTime.of(2020, 7, 20, 23, 23);
-  private static final int FOUR_CUSTOMERS = 4;
-  private static final int EIGHT_CUSTOMERS = 8;
-  private static final int ONE_CUSTOMER = 1;
 
   @Mock
   private ReservationRepository reservationRepository;
 
+  @Mock
+  private DailyLedgerBook dailyLedgerBook;
+
+  @Mock
+  private DailyLedger dailyLedger;
+
   @Mock
   private Reservation aReservation;
 
   @Mock
-  private Reservation anotherReservation;
+  private ReservationEvaluation aReservationEvaluation;
 
   private ReservationBook reservationBook;
 
   @BeforeEach
   public void setUpReservationBook() {
-    reservationBook = new ReservationBook(reservationRepository);
+    reservationBook = new ReservationBook(reservationRepository, dailyLedgerBook);
   }
 
   @Test
   public void whenRegister_thenReservationIsRegistered() {
+    // given
+    given(aReservationEvaluation.getReservation()).willReturn(aReservation);
+
     // when
-    reservationBook.register(aReservation);
+    reservationBook.register(aReservationEvaluation);
 
     // then
     verify(reservationRepository).saveReservation(aReservation);
   }
 
   @Test
-  public void givenAReservationWithOneCustomer_whenGetTotalNumberOfCustomerForADay_thenReturnOneCustomer() {
-    // given
-    given(aReservation.getNumberOfCustomers()).willReturn(ONE_CUSTOMER);
-    given(reservationRepository.getReservationsByDate(A_DATE)).willReturn(Collections.singletonList(aReservation));
-
+  public void whenRegister_thenReservationIsCommittedToItsDailyLedger() {
     // when
-    int totalNumberOfReservationForADay = reservationBook.getNumberOfCustomersForADay(A_DATE);
+    reservationBook.register(aReservationEvaluation);
 
     // then
-    assertThat(totalNumberOfReservationForADay).isEqualTo(ONE_CUSTOMER);
+    verify(dailyLedgerBook).commit(aReservationEvaluation);
   }
 
   @Test
-  public void givenTwoReservationsWithATotalOfEightCustomers_whenGetTotalNumberOfCustomersForADay_thenReturnEightCustomers() {
+  public void whenGetDailyLedger_thenTheDailyLedgerOfTheDinnerDateIsReturned() {
     // given
-    given(aReservation.getNumberOfCustomers()).willReturn(FOUR_CUSTOMERS);
-    given(anotherReservation.getNumberOfCustomers()).willReturn(FOUR_CUSTOMERS);
-    given(reservationRepository.getReservationsByDate(A_DATE)).willReturn(Arrays.asList(aReservation,
-                                                                                        anotherReservation));
+    given(dailyLedgerBook.getDailyLedger(A_DATE.toLocalDate())).willReturn(dailyLedger);
 
     // when
-    int totalNumberOfReservationForADay = reservationBook.getNumberOfCustomersForADay(A_DATE);
+    DailyLedger actualDailyLedger = reservationBook.getDailyLedger(A_DATE.toLocalDate());
 
     // then
-    assertThat(totalNumberOfReservationForADay).isEqualTo(EIGHT_CUSTOMERS);
+    assertThat(actualDailyLedger).isEqualTo(dailyLedger);
   }
 }
@@ -0,0 +1,355 @@
+package ca.ulaval.glo4002.reservation.domain;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ca.ulaval.glo4002.reservation.domain.builder.CustomerBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.ReservationBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.TableBuilder;
+import ca.ulaval.glo4002.reservation.domain.chef.Chef;
+import ca.ulaval.glo4002.reservation.domain.chef.ChefAssignmentCache;
+import ca.ulaval.glo4002.reservation.domain.chef.ChefAssignmentOptimizer;
+import ca.ulaval.glo4002.reservation.domain.chef.OptimalChefSelector;
+import ca.ulaval.glo4002.reservation.domain.date.DinerPeriod;
+import ca.ulaval.glo4002.reservation.domain.fullcourse.stock.TomatoStock;
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningEvent;
+import ca.ulaval.glo4002.reservation.domain.inventory.IngredientInventory;
+import ca.ulaval.glo4002.reservation.domain.journal.RestaurantJournal;
+import ca.ulaval.glo4002.reservation.domain.ledger.DailyLedgerBook;
+import ca.ulaval.glo4002.reservation.domain.material.Buffet;
+import ca.ulaval.glo4002.reservation.domain.material.CleanMaterialPriceCalculator;
+import ca.ulaval.glo4002.reservation.domain.material.DailyDishesQuantityFactory;
+import ca.ulaval.glo4002.reservation.domain.material.MaterialLedger;
+import ca.ulaval.glo4002.reservation.domain.material.MaterialReportGenerator;
+import ca.ulaval.glo4002.reservation.domain.material.MaterialToBuyPriceCalculator;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.report.IngredientCostLedger;
+import ca.ulaval.glo4002.reservation.domain.report.ParallelDailyReportEngine;
+import ca.ulaval.glo4002.reservation.domain.report.chef.ChefReportInformation;
+import ca.ulaval.glo4002.reservation.domain.reservation.*;
+import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
+import ca.ulaval.glo4002.reservation.domain.reservation.ingredient.ReservationIngredientCalculator;
+import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.VendorId;
+import ca.ulaval.glo4002.reservation.domain.snapshot.RestaurantSnapshotStore;
+import ca.ulaval.glo4002.reservation.infra.inmemory.*;
+import ca.ulaval.glo4002.reservation.infra.journal.FileRestaurantJournal;
+import ca.ulaval.glo4002.reservation.infra.journal.JournalRecordCodec;
+import ca.ulaval.glo4002.reservation.infra.journal.JournalSyncPolicy;
+import ca.ulaval.glo4002.reservation.infra.journal.ReservationRecordCodec;
+import ca.ulaval.glo4002.reservation.infra.snapshot.FileRestaurantSnapshotStore;
+import ca.ulaval.glo4002.reservation.infra.snapshot.RestaurantSnapshotCodec;
+
+class RestaurantConcurrencyTest {
+  private static final long A_SEED = 4002L;
+  private static final int NUMBER_OF_THREADS = 8;
+  private static final int NUMBER_OF_REQUESTS = 400;
+  private static final int NUMBER_OF_REQUESTS_BEFORE_SNAPSHOT = 24;
+  private static final int MAXIMUM_CUSTOMERS_PER_TABLE = 4;
+  private static final int MAX_NUMBER_OF_CUSTOMERS_PER_DAY = 42;
+  private static final int MAXIMUM_CUSTOMERS_PER_CHEF = 5;
+  private static final int A_NUMBER_OF_LOCK_STRIPES = 64;
+  private static final int A_CACHE_CAPACITY = 256;
+  private static final int A_NUMBER_OF_DAYS_PER_TASK = 32;
+  private static final String A_VENDOR_CODE = "TEAM";
+  private static final Duration A_GROUP_COMMIT_WINDOW = Duration.ofMillis(1);
+  private static final long START_OF_JOURNAL = 0;
+  private static final String JOURNAL_FILE_NAME = "restaurant.journal";
+  private static final String BATCH_JOURNAL_FILE_NAME = "batch.journal";
+  private static final List<LocalDate> DINNER_DATES = List.of(LocalDate.of(2150, 7, 25),
+                                                              LocalDate.of(2150, 7, 26),
+                                                              LocalDate.of(2150, 7, 27));
+  private static final List<RestrictionType> CUSTOMER_RESTRICTIONS = List.of(RestrictionType.VEGAN,
+                                                                             RestrictionType.VEGETARIAN,
+                                                                             RestrictionType.ILLNESS,
+                                                                             RestrictionType.NONE);
+
+  @TempDir
+  public Path journalDirectory;
+
+  private ReservationFactory reservationFactory;
+  private InMemoryReservationRepository reservationRepository;
+  private InMemoryChefRepository chefRepository;
+  private HoppeningEvent hoppeningEvent;
+  private FileRestaurantJournal restaurantJournal;
+  private Restaurant restaurant;
+
+  @BeforeEach
+  public void setUpRestaurant() {
+    reservationFactory = mock(ReservationFactory.class);
+    reservationRepository = new InMemoryReservationRepository();
+    chefRepository = new InMemoryChefRepository();
+    hoppeningEvent = givenAHoppeningEvent();
+    restaurantJournal = openJournal();
+    restaurant = createRestaurant(reservationRepository, chefRepository, hoppeningEvent, restaurantJournal);
+  }
+
+  @AfterEach
+  public void closeJournal() {
+    restaurantJournal.close();
+  }
+
+  @Test
+  public void givenConcurrentReservationsOnTheSameDates_whenMakeReservation_thenCustomerCapAndChefCapacityAreRespected()
+      throws Exception
+  {
+    // given
+    List<ReservationRequest> reservationRequests = givenRandomReservationRequests(new Random(A_SEED));
+
+    // when
+    makeReservationsConcurrently(reservationRequests);
+
+    // then
+    for (LocalDate dinnerDate : DINNER_DATES) {
+      List<Reservation> reservations = reservationRepository.getReservationsByDate(dinnerDate.atStartOfDay());
+      int numberOfCustomers = reservations.stream().mapToInt(Reservation::getNumberOfCustomers).sum();
+      ChefReportInformation dailyChefSchedule = chefRepository.getChefSchedule().get(dinnerDate);
+      Set<Chef> hiredChefs = dailyChefSchedule == null ? Set.of() : dailyChefSchedule.getChefs();
+      int numberOfCustomersServedByChefs = hiredChefs.stream().mapToInt(Chef::getNumberOfCustomers).sum();
+
+      assertThat(numberOfCustomers).isAtMost(MAX_NUMBER_OF_CUSTOMERS_PER_DAY);
+      assertThat(numberOfCustomersServedByChefs).isEqualTo(numberOfCustomers);
+      hiredChefs.forEach(chef -> assertThat(chef.getNumberOfCustomers()).isAtMost(MAXIMUM_CUSTOMERS_PER_CHEF));
+    }
+  }
+
+  @Test
+  public void givenConcurrentReservations_whenMakeReservation_thenRunningTotalsMatchTheRecordedReservations()
+      throws Exception
+  {
+    // given
+    List<ReservationRequest> reservationRequests = givenRandomReservationRequests(new Random(A_SEED));
+
+    // when
+    makeReservationsConcurrently(reservationRequests);
+
+    // then
+    Money expectedIncome = Money.ZERO;
+    for (LocalDate dinnerDate : DINNER_DATES) {
+      for (Reservation reservation : reservationRepository.getReservationsByDate(dinnerDate.atStartOfDay())) {
+        expectedIncome = expectedIncome.add(reservation.getReservationFees());
+      }
+    }
+    Money expectedChefCost = Money.ZERO;
+    for (ChefReportInformation dailyChefSchedule : chefRepository.getChefSchedule().values()) {
+      expectedChefCost = expectedChefCost.add(dailyChefSchedule.getTotalPrice());
+    }
+    assertThat(restaurant.getRestaurantIncome()).isEqualTo(expectedIncome);
+    assertThat(chefRepository.getTotalChefCost()).isEqualTo(expectedChefCost);
+  }
+
+  @Test
+  public void givenJournaledConcurrentReservations_whenReplayJournal_thenTheRestaurantStateIsRestored() throws Exception {
+    // given
+    List<ReservationRequest> reservationRequests = givenRandomReservationRequests(new Random(A_SEED));
+    makeReservationsConcurrently(reservationRequests);
+    restaurantJournal.close();
+
+    // when
+    InMemoryReservationRepository restoredReservationRepository = new InMemoryReservationRepository();
+    InMemoryChefRepository restoredChefRepository = new InMemoryChefRepository();
+    restaurantJournal = openJournal();
+    Restaurant restoredRestaurant = createRestaurant(restoredReservationRepository,
+                                                     restoredChefRepository,
+                                                     givenAHoppeningEvent(),
+                                                     restaurantJournal);
+    restaurantJournal.replay(restoredRestaurant, START_OF_JOURNAL);
+
+    // then
+    for (LocalDate dinnerDate : DINNER_DATES) {
+      List<Reservation> reservations = reservationRepository.getReservationsByDate(dinnerDate.atStartOfDay());
+      List<Reservation> restoredReservations = restoredReservationRepository.getReservationsByDate(dinnerDate.atStartOfDay());
+      assertThat(restoredReservations.stream().map(Reservation::getReservationId).collect(Collectors.toList()))
+          .containsExactlyElementsIn(reservations.stream().map(Reservation::getReservationId).collect(Collectors.toList()))
+          .inOrder();
+    }
+    assertThat(restoredChefRepository.getChefSchedule().keySet()).isEqualTo(chefRepository.getChefSchedule().keySet());
+    assertThat(restoredRestaurant.getRestaurantIncome()).isEqualTo(restaurant.getRestaurantIncome());
+    assertThat(restoredChefRepository.getTotalChefCost()).isEqualTo(chefRepository.getTotalChefCost());
+  }
+
+  @Test
+  public void givenASnapshotAndAJournalTail_whenRecover_thenTheRestaurantStateIsRestored() throws Exception {
+    // given
+    List<ReservationRequest> reservationRequests = givenRandomReservationRequests(new Random(A_SEED));
+    RestaurantSnapshotStore restaurantSnapshotStore = new FileRestaurantSnapshotStore(journalDirectory.resolve("restaurant.snapshot"),
+                                                                                      new RestaurantSnapshotCodec(new ReservationRecordCodec()));
+    makeReservationsConcurrently(reservationRequests.subList(0, NUMBER_OF_REQUESTS_BEFORE_SNAPSHOT));
+    restaurantSnapshotStore.save(restaurant.takeSnapshot());
+    makeReservationsConcurrently(reservationRequests.subList(NUMBER_OF_REQUESTS_BEFORE_SNAPSHOT, NUMBER_OF_REQUESTS));
+    restaurantJournal.close();
+
+    // when
+    InMemoryReservationRepository restoredReservationRepository = new InMemoryReservationRepository();
+    InMemoryChefRepository restoredChefRepository = new InMemoryChefRepository();
+    restaurantJournal = openJournal();
+    Restaurant restoredRestaurant = createRestaurant(restoredReservationRepository,
+                                                     restoredChefRepository,
+                                                     givenAHoppeningEvent(),
+                                                     restaurantJournal);
+    long journalPosition = restoredRestaurant.restoreSnapshot(restaurantSnapshotStore.loadLatest().orElseThrow());
+    restaurantJournal.replay(restoredRestaurant, journalPosition);
+
+    // then
+    for (LocalDate dinnerDate : DINNER_DATES) {
+      List<Reservation> reservations = reservationRepository.getReservationsByDate(dinnerDate.atStartOfDay());
+      List<Reservation> restoredReservations = restoredReservationRepository.getReservationsByDate(dinnerDate.atStartOfDay());
+      assertThat(restoredReservations.stream().map(Reservation::getReservationId).collect(Collectors.toList()))
+          .containsExactlyElementsIn(reservations.stream().map(Reservation::getReservationId).collect(Collectors.toList()))
+          .inOrder();
+      assertThat(restoredChefRepository.getChefSchedule().get(dinnerDate).getChefs())
+          .isEqualTo(chefRepository.getChefSchedule().get(dinnerDate).getChefs());
+    }
+    assertThat(restoredRestaurant.getRestaurantIncome()).isEqualTo(restaurant.getRestaurantIncome());
+    assertThat(restoredRestaurant.getMaterialCost()).isEqualTo(restaurant.getMaterialCost());
+    assertThat(restoredChefRepository.getTotalChefCost()).isEqualTo(chefRepository.getTotalChefCost());
+  }
+
+  @Test
+  public void givenTheSameReservationRequests_whenMakeReservationsInABatch_thenDecisionsMatchMakingThemOneByOne() {
+    // given
+    List<ReservationRequest> reservationRequests = givenRandomReservationRequests(new Random(A_SEED));
+    List<Boolean> oneByOneDecisions = new ArrayList<>();
+    for (ReservationRequest reservationRequest : reservationRequests) {
+      try {
+        restaurant.makeReservation(reservationRequest);
+        oneByOneDecisions.add(true);
+      } catch (RuntimeException refusedReservation) {
+        oneByOneDecisions.add(false);
+      }
+    }
+    InMemoryChefRepository batchChefRepository = new InMemoryChefRepository();
+    FileRestaurantJournal batchRestaurantJournal = openJournal(BATCH_JOURNAL_FILE_NAME);
+    Restaurant batchRestaurant = createRestaurant(new InMemoryReservationRepository(),
+                                                  batchChefRepository,
+                                                  hoppeningEvent,
+                                                  batchRestaurantJournal);
+
+    // when
+    List<ReservationAdmission> reservationAdmissions = batchRestaurant.makeReservations(reservationRequests);
+    batchRestaurantJournal.close();
+
+    // then
+    assertThat(reservationAdmissions.stream().map(ReservationAdmission::isAccepted).collect(Collectors.toList()))
+        .containsExactlyElementsIn(oneByOneDecisions)
+        .inOrder();
+    for (LocalDate dinnerDate : DINNER_DATES) {
+      assertThat(batchChefRepository.getChefSchedule().get(dinnerDate).getChefs())
+          .isEqualTo(chefRepository.getChefSchedule().get(dinnerDate).getChefs());
+    }
+    assertThat(batchRestaurant.getRestaurantIncome()).isEqualTo(restaurant.getRestaurantIncome());
+    assertThat(batchChefRepository.getTotalChefCost()).isEqualTo(chefRepository.getTotalChefCost());
+  }
+
+  private Restaurant createRestaurant(InMemoryReservationRepository reservationRepository,
+                                      InMemoryChefRepository chefRepository,
+                                      HoppeningEvent hoppeningEvent,
+                                      RestaurantJournal restaurantJournal)
+  {
+    ReservationIngredientCalculator ingredientCalculator = new ReservationIngredientCalculator(new InMemoryMenuRepository(new FullCourseFactory(new CourseRecipeFactory())));
+    IngredientInventory ingredientInventory = new IngredientInventory(new InMemoryIngredientQuantityRepository(),
+                                                                      new IngredientCostLedger(new ParallelDailyReportEngine(ForkJoinPool.commonPool(),
+                                                                                                                             A_NUMBER_OF_DAYS_PER_TASK)),
+                                                                      new AllergiesDetector(),
+                                                                      Set.of(new TomatoStock(IngredientName.TOMATO, 5)));
+    return new Restaurant(reservationFactory,
+                          new ReservationBook(reservationRepository, new DailyLedgerBook()),
+                          ingredientInventory,
+                          hoppeningEvent,
+                          new Buffet(new DailyDishesQuantityFactory(),
+                                     new MaterialLedger(new MaterialReportGenerator(new CleanMaterialPriceCalculator(),
+                                                                                   new MaterialToBuyPriceCalculator()))),
+                          new OptimalChefSelector(chefRepository,
+                                                  new ChefAssignmentOptimizer(),
+                                                  new ChefAssignmentCache(A_CACHE_CAPACITY)),
+                          reservationRepository,
+                          chefRepository,
+                          new DinnerDateLocks(A_NUMBER_OF_LOCK_STRIPES),
+                          new ReservationEvaluator(ingredientCalculator),
+                          restaurantJournal);
+  }
+
+  private HoppeningEvent givenAHoppeningEvent() {
+    return new HoppeningEvent(new DinerPeriod(LocalDate.of(2150, 7, 20), LocalDate.of(2150, 7, 30)),
+                              new DinerPeriod(LocalDate.of(2150, 1, 1), LocalDate.of(2150, 7, 16)));
+  }
+
+  private FileRestaurantJournal openJournal() {
+    return openJournal(JOURNAL_FILE_NAME);
+  }
+
+  private FileRestaurantJournal openJournal(String journalFileName) {
+    return new FileRestaurantJournal(journalDirectory.resolve(journalFileName),
+                                     new JournalRecordCodec(new ReservationRecordCodec()),
+                                     A_GROUP_COMMIT_WINDOW,
+                                     JournalSyncPolicy.NONE);
+  }
+
+  private void makeReservationsConcurrently(List<ReservationRequest> reservationRequests) throws Exception {
+    ExecutorService executorService = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+    CountDownLatch startSignal = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    for (ReservationRequest reservationRequest : reservationRequests) {
+      futures.add(executorService.submit(() -> {
+        startSignal.await();
+        try {
+          restaurant.makeReservation(reservationRequest);
+        } catch (RuntimeException refusedReservation) {
+        }
+        return null;
+      }));
+    }
+    startSignal.countDown();
+    for (Future<?> future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+    executorService.shutdown();
+  }
+
+  private List<ReservationRequest> givenRandomReservationRequests(Random random) {
+    List<ReservationRequest> reservationRequests = new ArrayList<>();
+    for (int request = 0; request < NUMBER_OF_REQUESTS; request++) {
+      ReservationRequest reservationRequest = mock(ReservationRequest.class);
+      LocalDateTime dinnerDate = DINNER_DATES.get(random.nextInt(DINNER_DATES.size())).atTime(20, 0);
+      Reservation reservation = new ReservationBuilder().withId(new VendorId(A_VENDOR_CODE))
+                                                        .withDinnerDate(dinnerDate)
+                                                        .withTable(givenARandomTable(random))
+                                                        .build();
+      given(reservationFactory.create(reservationRequest, hoppeningEvent)).willReturn(reservation);
+      reservationRequests.add(reservationRequest);
+    }
+    return reservationRequests;
+  }
+
+  private Table givenARandomTable(Random random) {
+    TableBuilder tableBuilder = new TableBuilder();
+    int numberOfCustomers = 1 + random.nextInt(MAXIMUM_CUSTOMERS_PER_TABLE);
+    for (int customer = 0; customer < numberOfCustomers; customer++) {
+      tableBuilder.withCustomer(givenARandomCustomer(random));
+    }
+    return tableBuilder.build();
+  }
+
+  private Customer givenARandomCustomer(Random random) {
+    RestrictionType restriction = CUSTOMER_RESTRICTIONS.get(random.nextInt(CUSTOMER_RESTRICTIONS.size()));
+    if (restriction == RestrictionType.NONE) {
+      return new CustomerBuilder().build();
+    }
+    return new CustomerBuilder().withRestriction(restriction).build();
+  }
+}
@@ -1,5 +1,6 @@
 package ca.ulaval.glo4002.reservation.domain;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -9,10 +10,10 @@ import static com.google.common.truth.Truth.assertThat;
 
 public class RestaurantFinanceTest {
 
-    private static final BigDecimal A_INCOME = BigDecimal.valueOf(1000);
-    private static final BigDecimal A_CHEF_COST = BigDecimal.valueOf(600);
+    private static final Money A_INCOME = Money.of(1000);
+    private static final Money A_CHEF_COST = Money.of(600);
     private static final BigDecimal A_INGREDIENT_COST = BigDecimal.valueOf(200);
-    private static final BigDecimal MATERIAL_COST = BigDecimal.valueOf(100);
+    private static final Money MATERIAL_COST = Money.of(100);
 
     private RestaurantFinance restaurantFinance;
 
@@ -3,6 +3,7 @@ package ca.ulaval.glo4002.reservation.domain;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
@@ -11,9 +12,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import ca.ulaval.glo4002.reservation.domain.chef.Selectable;
 import ca.ulaval.glo4002.reservation.domain.inventory.IngredientInventory;
+import ca.ulaval.glo4002.reservation.domain.journal.JournalCommit;
+import ca.ulaval.glo4002.reservation.domain.journal.JournalUnavailableException;
+import ca.ulaval.glo4002.reservation.domain.journal.RestaurantJournal;
 import ca.ulaval.glo4002.reservation.domain.reservation.*;
 import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,9 +32,13 @@ import ca.ulaval.glo4002.reservation.domain.date.DinerPeriod;
 import ca.ulaval.glo4002.reservation.domain.exception.ForbiddenReservationException;
 import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningConfigurationRequest;
 import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningEvent;
+import ca.ulaval.glo4002.reservation.domain.ledger.DailyLedger;
 import ca.ulaval.glo4002.reservation.domain.material.Buffet;
-import ca.ulaval.glo4002.reservation.domain.material.DailyDishesQuantity;
 import ca.ulaval.glo4002.reservation.domain.report.ReportPeriod;
+import ca.ulaval.glo4002.reservation.domain.report.chef.ChefRepository;
+import ca.ulaval.glo4002.reservation.domain.snapshot.RestaurantSnapshot;
+import ca.ulaval.glo4002.reservation.service.reservation.exception.InvalidDinnerDateException;
+import ca.ulaval.glo4002.reservation.service.reservation.exception.TooManyPeopleException;
 
 @ExtendWith(MockitoExtension.class)
 public class RestaurantTest {
@@ -39,7 +48,12 @@ public class RestaurantTest {
   private static final LocalDateTime A_DATE = LocalDateTime.of(2020, 7, 22, 23, 23);
   private static final int FORTY_ONE_CUSTOMERS = 41;
   private static final int ONE_CUSTOMER = 1;
+  private static final int TWO_CUSTOMERS = 2;
   private static final LocalDate AN_OPENING_DATE = LocalDate.of(2020, 7, 20);
+  private static final int A_NUMBER_OF_LOCK_STRIPES = 4;
+  private static final long A_JOURNAL_POSITION = 4096;
+  private static final LocalDate A_HOPPENING_END_DATE = LocalDate.of(2020, 7, 30);
+  private static final String AN_ADMISSION_FAILURE = "ADMISSION_FAILED";
 
   @Mock
   private ReservationFactory reservationFactory;
@@ -56,6 +70,21 @@ public class RestaurantTest {
   @Mock
   private Reservation aReservation;
 
+  @Mock
+  private ReservationEvaluator reservationEvaluator;
+
+  @Mock
+  private ReservationEvaluation aReservationEvaluation;
+
+  @Mock
+  private ReservationRequest anotherReservationRequest;
+
+  @Mock
+  private Reservation anotherReservation;
+
+  @Mock
+  private ReservationEvaluation anotherReservationEvaluation;
+
   @Mock
   private ReservationNumber expectedReservationId;
 
@@ -77,8 +106,6 @@ public class RestaurantTest {
   @Mock
   private DinerPeriod dinnerDinerPeriod;
 
-  @Mock
-  private Map<LocalDate, DailyDishesQuantity> dailyDishesQuantity;
 
   @Mock
   private Selectable chefSelector;
@@ -86,14 +113,35 @@ public class RestaurantTest {
   @Mock
   private ReservationRepository reservationRepository;
 
-  private List<Reservation> reservations;
+  @Mock
+  private DailyLedger dailyLedger;
+
+  @Mock
+  private ChefRepository chefRepository;
+
+  @Mock
+  private RestaurantJournal restaurantJournal;
+
+  @Mock
+  private JournalCommit journalCommit;
 
   private Restaurant restaurant;
 
   @BeforeEach
   public void setUpRestaurant() {
-    restaurant = new Restaurant(reservationFactory, reservationBook, ingredientInventory, hoppeningEvent, buffet, chefSelector, reservationRepository);
-    reservations = new ArrayList<>();
+    restaurant = new Restaurant(reservationFactory,
+                                reservationBook,
+                                ingredientInventory,
+                                hoppeningEvent,
+                                buffet,
+                                chefSelector,
+                                reservationRepository,
+                                chefRepository,
+                                new DinnerDateLocks(A_NUMBER_OF_LOCK_STRIPES),
+                                reservationEvaluator,
+                                restaurantJournal);
+    lenient().when(restaurantJournal.recordReservation(any())).thenReturn(journalCommit);
+    lenient().when(restaurantJournal.recordHoppeningConfiguration(any())).thenReturn(journalCommit);
   }
 
   @Test
@@ -118,7 +166,7 @@ public class RestaurantTest {
     restaurant.makeReservation(reservationRequest);
 
     // then
-    verify(reservationBook).register(aReservation);
+    verify(reservationBook).register(aReservationEvaluation);
   }
 
   @Test
@@ -133,7 +181,7 @@ public class RestaurantTest {
     }
 
     // then
-    verify(reservationBook, times(0)).register(aReservation);
+    verify(reservationBook, times(0)).register(aReservationEvaluation);
   }
 
   @Test
@@ -145,7 +193,7 @@ public class RestaurantTest {
     restaurant.makeReservation(reservationRequest);
 
     // then
-    verify(reservationBook).register(aReservation);
+    verify(reservationBook).register(aReservationEvaluation);
   }
 
   @Test
@@ -205,33 +253,39 @@ public class RestaurantTest {
     }
 
     // then
-    verify(reservationBook, times(0)).register(aReservation);
+    verify(reservationBook, times(0)).register(aReservationEvaluation);
   }
 
   @Test
   public void givenAReservationThatDoesNotExceedMaxNumberOfCustomersForADay_whenMakeReservation_thenReservationIsRegistered() {
     // given
-    given(aReservation.getNumberOfCustomers()).willReturn(ONE_CUSTOMER);
-    given(reservationBook.getNumberOfCustomersForADay(A_DATE)).willReturn(FORTY_ONE_CUSTOMERS);
+    given(aReservationEvaluation.getNumberOfCustomers()).willReturn(ONE_CUSTOMER);
+    given(dailyLedger.getNumberOfCustomers()).willReturn(FORTY_ONE_CUSTOMERS);
     givenValidReservationRequest();
 
     // when
     restaurant.makeReservation(reservationRequest);
 
     // then
-    verify(reservationBook).register(aReservation);
+    verify(reservationBook).register(aReservationEvaluation);
   }
 
   @Test
-  public void whenGetDailyDishesQuantity_thenGetDailyDishedQuantitiesFromBuffetIsCalled() {
-    // given
-    given(buffet.getDishesQuantityByDate(reportPeriod)).willReturn(dailyDishesQuantity);
+  public void whenGetMaterialReport_thenGetMaterialReportFromBuffetIsCalled() {
+    // when
+    restaurant.getMaterialReport(reportPeriod);
 
+    // then
+    verify(buffet).getMaterialReport(reportPeriod);
+  }
+
+  @Test
+  public void whenGetMaterialCost_thenGetMaterialCostFromBuffetIsCalled() {
     // when
-    restaurant.getDailyDishesQuantity(reportPeriod);
+    restaurant.getMaterialCost();
 
     // then
-    verify(buffet).getDishesQuantityByDate(reportPeriod);
+    verify(buffet).getMaterialCost();
   }
 
   @Test
@@ -243,6 +297,44 @@ public class RestaurantTest {
     verify(hoppeningEvent).configureHoppening(hoppeningConfigurationRequest);
   }
 
+  @Test
+  public void whenConfigureHoppeningEvent_thenDataVersionIsIncremented() {
+    // given
+    long dataVersion = restaurant.getDataVersion();
+
+    // when
+    restaurant.configureHoppeningEvent(hoppeningConfigurationRequest);
+
+    // then
+    assertThat(restaurant.getDataVersion()).isEqualTo(dataVersion + 1);
+  }
+
+  @Test
+  public void whenMakeReservation_thenDataVersionIsIncremented() {
+    // given
+    givenValidReservationRequest();
+    long dataVersion = restaurant.getDataVersion();
+
+    // when
+    restaurant.makeReservation(reservationRequest);
+
+    // then
+    assertThat(restaurant.getDataVersion()).isEqualTo(dataVersion + 1);
+  }
+
+  @Test
+  public void givenReservationCausingAllergicConflict_whenMakeReservation_thenDataVersionIsUnchanged() {
+    // given
+    givenReservationRequestCausingAllergicConflict();
+    long dataVersion = restaurant.getDataVersion();
+
+    // when
+    assertThrows(ForbiddenReservationException.class, () -> restaurant.makeReservation(reservationRequest));
+
+    // then
+    assertThat(restaurant.getDataVersion()).isEqualTo(dataVersion);
+  }
+
   @Test
   public void givenAReservation_whenMakeReservation_thenNecessaryDishesAmountIsUpdated() {
     // given
@@ -252,7 +344,7 @@ public class RestaurantTest {
     restaurant.makeReservation(reservationRequest);
 
     // then
-    verify(buffet).updateDailyDishesQuantity(aReservation);
+    verify(buffet).updateDailyDishesQuantity(aReservationEvaluation);
   }
 
   @Test
@@ -276,19 +368,400 @@ public class RestaurantTest {
     restaurant.makeReservation(reservationRequest);
 
     // then
-    verify(ingredientInventory).doesReservationCauseAllergicConflict(aReservation, reservations);
+    verify(ingredientInventory).doesReservationCauseAllergicConflict(aReservationEvaluation, dailyLedger);
+  }
+
+  @Test
+  public void givenAReservationThatExceedsTheCustomersLeftInTheDailyLedger_whenMakeReservation_thenThrowTooManyPeopleException() {
+    // given
+    given(aReservationEvaluation.getNumberOfCustomers()).willReturn(TWO_CUSTOMERS);
+    given(dailyLedger.getNumberOfCustomers()).willReturn(FORTY_ONE_CUSTOMERS);
+    given(dinnerDinerPeriod.getStartDate()).willReturn(AN_OPENING_DATE);
+    given(hoppeningEvent.getDinnerDinerPeriod()).willReturn(dinnerDinerPeriod);
+    given(ingredientInventory.isInventoryStockAvailable(aReservationEvaluation, AN_OPENING_DATE)).willReturn(true);
+    given(aReservationEvaluation.getDinnerDay()).willReturn(A_DATE.toLocalDate());
+    given(reservationFactory.create(reservationRequest, hoppeningEvent)).willReturn(aReservation);
+    given(reservationEvaluator.evaluate(aReservation)).willReturn(aReservationEvaluation);
+    given(reservationBook.getDailyLedger(A_DATE.toLocalDate())).willReturn(dailyLedger);
+
+    // when
+    Executable makingReservation = () -> restaurant.makeReservation(reservationRequest);
+
+    // then
+    assertThrows(TooManyPeopleException.class, makingReservation);
+  }
+
+  @Test
+  public void whenMakeReservation_thenReservationIsJournaled() {
+    // given
+    givenValidReservationRequest();
+
+    // when
+    restaurant.makeReservation(reservationRequest);
+
+    // then
+    verify(restaurantJournal).recordReservation(aReservation);
+  }
+
+  @Test
+  public void whenMakeReservation_thenJournalDurabilityIsAwaited() {
+    // given
+    givenValidReservationRequest();
+
+    // when
+    restaurant.makeReservation(reservationRequest);
+
+    // then
+    verify(journalCommit).awaitDurability();
+  }
+
+  @Test
+  public void givenAJournalFailure_whenMakeReservation_thenReservationIsNotRegistered() {
+    // given
+    givenValidReservationRequest();
+    willThrow(new JournalUnavailableException(new IllegalStateException())).given(journalCommit).awaitDurability();
+
+    // when
+    Executable makingReservation = () -> restaurant.makeReservation(reservationRequest);
+
+    // then
+    assertThrows(JournalUnavailableException.class, makingReservation);
+    verify(reservationBook, never()).register(any());
+    verify(chefSelector, never()).hireChefsForReservations(any(), any());
+  }
+
+  @Test
+  public void givenReservationCausingAllergicConflict_whenMakeReservation_thenReservationIsNotJournaled() {
+    // given
+    givenReservationRequestCausingAllergicConflict();
+
+    // when
+    assertThrows(ForbiddenReservationException.class, () -> restaurant.makeReservation(reservationRequest));
+
+    // then
+    verify(restaurantJournal, never()).recordReservation(any());
+  }
+
+  @Test
+  public void givenTwoReservationRequestsForTheSameDay_whenMakeReservations_thenChefsAreHiredOnceWithTheFinalDemand() {
+    // given
+    givenAnAdmissibleReservationRequest(reservationRequest, aReservation, aReservationEvaluation);
+    givenAnAdmissibleReservationRequest(anotherReservationRequest, anotherReservation, anotherReservationEvaluation);
+
+    // when
+    restaurant.makeReservations(List.of(reservationRequest, anotherReservationRequest));
+
+    // then
+    verify(reservationBook).register(aReservationEvaluation);
+    verify(reservationBook).register(anotherReservationEvaluation);
+    verify(chefSelector, times(1)).hireChefsForReservations(List.of(givenAReservationRestrictionType()),
+                                                            A_DATE.toLocalDate());
+  }
+
+  @Test
+  public void givenTwoAdmissibleReservationRequests_whenMakeReservations_thenTheyAreAcceptedInRequestOrder() {
+    // given
+    givenAnAdmissibleReservationRequest(reservationRequest, aReservation, aReservationEvaluation);
+    givenAnAdmissibleReservationRequest(anotherReservationRequest, anotherReservation, anotherReservationEvaluation);
+    given(aReservation.getReservationId()).willReturn(aReservationId);
+    given(anotherReservation.getReservationId()).willReturn(expectedReservationId);
+
+    // when
+    List<ReservationAdmission> reservationAdmissions = restaurant.makeReservations(List.of(reservationRequest,
+                                                                                           anotherReservationRequest));
+
+    // then
+    assertThat(reservationAdmissions.get(0).getReservationId()).isEqualTo(aReservationId);
+    assertThat(reservationAdmissions.get(1).getReservationId()).isEqualTo(expectedReservationId);
+  }
+
+  @Test
+  public void givenAReservationRequestTheChefsCannotServe_whenMakeReservations_thenItIsRejectedWithoutBeingRegistered() {
+    // given
+    givenAnAdmissibleReservationRequest(reservationRequest, aReservation, aReservationEvaluation);
+    given(chefSelector.canHireChefsForReservations(any())).willReturn(false);
+
+    // when
+    List<ReservationAdmission> reservationAdmissions = restaurant.makeReservations(List.of(reservationRequest));
+
+    // then
+    assertThat(reservationAdmissions.get(0).isAccepted()).isFalse();
+    assertThat(reservationAdmissions.get(0).getError()).isEqualTo(ForbiddenReservationException.ERROR_CODE);
+    verify(reservationBook, never()).register(any());
+    verify(chefSelector, never()).hireChefsForReservations(any(), any());
+  }
+
+  @Test
+  public void givenAnInvalidReservationRequest_whenMakeReservations_thenItIsRejectedAndTheOthersAreAdmitted() {
+    // given
+    givenAnAdmissibleReservationRequest(reservationRequest, aReservation, aReservationEvaluation);
+    InvalidDinnerDateException invalidDinnerDateException = new InvalidDinnerDateException(AN_OPENING_DATE,
+                                                                                           A_HOPPENING_END_DATE);
+    given(reservationFactory.create(anotherReservationRequest, hoppeningEvent)).willThrow(invalidDinnerDateException);
+
+    // when
+    List<ReservationAdmission> reservationAdmissions = restaurant.makeReservations(List.of(reservationRequest,
+                                                                                           anotherReservationRequest));
+
+    // then
+    assertThat(reservationAdmissions.get(0).isAccepted()).isTrue();
+    assertThat(reservationAdmissions.get(1).getError()).isEqualTo(invalidDinnerDateException.getError());
+    verify(reservationBook).register(aReservationEvaluation);
+  }
+
+  @Test
+  public void givenAJournalFailure_whenMakeReservations_thenTheReservationFailsWithoutBeingRegistered() {
+    // given
+    givenAnAdmissibleReservationRequest(reservationRequest, aReservation, aReservationEvaluation);
+    JournalUnavailableException journalUnavailableException = new JournalUnavailableException(new IllegalStateException());
+    willThrow(journalUnavailableException).given(journalCommit).awaitDurability();
+
+    // when
+    List<ReservationAdmission> reservationAdmissions = restaurant.makeReservations(List.of(reservationRequest));
+
+    // then
+    assertThat(reservationAdmissions.get(0).hasFailed()).isTrue();
+    assertThat(reservationAdmissions.get(0).getError()).isEqualTo(journalUnavailableException.getError());
+    verify(reservationBook, never()).register(any());
+    verify(chefSelector, never()).hireChefsForReservations(any(), any());
+  }
+
+  @Test
+  public void givenARegistrationFailure_whenMakeReservations_thenOnlyThatReservationFails() {
+    // given
+    givenAnAdmissibleReservationRequest(reservationRequest, aReservation, aReservationEvaluation);
+    givenAnAdmissibleReservationRequest(anotherReservationRequest, anotherReservation, anotherReservationEvaluation);
+    lenient().doThrow(new IllegalStateException()).when(reservationBook).register(anotherReservationEvaluation);
+
+    // when
+    List<ReservationAdmission> reservationAdmissions = restaurant.makeReservations(List.of(reservationRequest,
+                                                                                           anotherReservationRequest));
+
+    // then
+    assertThat(reservationAdmissions.get(0).isAccepted()).isTrue();
+    assertThat(reservationAdmissions.get(1).getError()).isEqualTo(AN_ADMISSION_FAILURE);
+    assertThat(reservationAdmissions.get(1).hasFailed()).isTrue();
+  }
+
+  @Test
+  public void givenAChefHiringFailure_whenMakeReservations_thenTheDurableReservationsAreStillAccepted() {
+    // given
+    givenAnAdmissibleReservationRequest(reservationRequest, aReservation, aReservationEvaluation);
+    willThrow(new IllegalStateException()).given(chefSelector).hireChefsForReservations(any(), any());
+
+    // when
+    List<ReservationAdmission> reservationAdmissions = restaurant.makeReservations(List.of(reservationRequest));
+
+    // then
+    assertThat(reservationAdmissions.get(0).isAccepted()).isTrue();
+    assertThat(restaurant.getNumberOfFailedChefHirings()).isEqualTo(1);
+  }
+
+  @Test
+  public void whenMakeReservations_thenJournalDurabilityIsAwaited() {
+    // given
+    givenAnAdmissibleReservationRequest(reservationRequest, aReservation, aReservationEvaluation);
+
+    // when
+    restaurant.makeReservations(List.of(reservationRequest));
+
+    // then
+    verify(journalCommit).awaitDurability();
+  }
+
+  @Test
+  public void whenConfigureHoppeningEvent_thenConfigurationIsJournaled() {
+    // when
+    restaurant.configureHoppeningEvent(hoppeningConfigurationRequest);
+
+    // then
+    verify(restaurantJournal).recordHoppeningConfiguration(hoppeningConfigurationRequest);
+    verify(journalCommit).awaitDurability();
+  }
+
+  @Test
+  public void givenAJournalFailure_whenConfigureHoppeningEvent_thenConfigurationIsNotApplied() {
+    // given
+    willThrow(new JournalUnavailableException(new IllegalStateException())).given(journalCommit).awaitDurability();
+
+    // when
+    Executable configuringHoppeningEvent = () -> restaurant.configureHoppeningEvent(hoppeningConfigurationRequest);
+
+    // then
+    assertThrows(JournalUnavailableException.class, configuringHoppeningEvent);
+    verify(hoppeningEvent, never()).configureHoppening(any());
+  }
+
+  @Test
+  public void whenRestoreReservation_thenReservationIsRegisteredWithoutBeingJournaled() {
+    // given
+    givenAReservationToRestore();
+
+    // when
+    restaurant.restoreReservation(aReservation);
+
+    // then
+    verify(reservationBook).register(aReservationEvaluation);
+    verify(restaurantJournal, never()).recordReservation(any());
+  }
+
+  @Test
+  public void whenRestoreReservation_thenChefsAreHired() {
+    // given
+    givenAReservationToRestore();
+
+    // when
+    restaurant.restoreReservation(aReservation);
+
+    // then
+    verify(chefSelector).hireChefsForReservations(givenListOfTwoRestrictionType(), A_DATE.toLocalDate());
+  }
+
+  @Test
+  public void whenRestoreReservation_thenReservationIsNotVerified() {
+    // given
+    givenAReservationToRestore();
+
+    // when
+    restaurant.restoreReservation(aReservation);
+
+    // then
+    verify(ingredientInventory, never()).doesReservationCauseAllergicConflict(any(), any());
+    verify(ingredientInventory, never()).isInventoryStockAvailable(any(), any());
+  }
+
+  @Test
+  public void whenRestoreHoppeningConfiguration_thenHoppeningEventIsUpdatedWithoutBeingJournaled() {
+    // when
+    restaurant.restoreHoppeningConfiguration(hoppeningConfigurationRequest);
+
+    // then
+    verify(hoppeningEvent).configureHoppening(hoppeningConfigurationRequest);
+    verify(restaurantJournal, never()).recordHoppeningConfiguration(any());
+  }
+
+  @Test
+  public void whenTakeSnapshot_thenSnapshotCoversTheCurrentJournalPosition() {
+    // given
+    givenARestaurantStateToSnapshot();
+
+    // when
+    RestaurantSnapshot restaurantSnapshot = restaurant.takeSnapshot();
+
+    // then
+    assertThat(restaurantSnapshot.getJournalPosition()).isEqualTo(A_JOURNAL_POSITION);
+    assertThat(restaurantSnapshot.getReservations()).containsExactly(aReservation);
+  }
+
+  @Test
+  public void whenTakeSnapshot_thenJournalIsFlushedBeforeTheSnapshotIsReturned() {
+    // given
+    givenARestaurantStateToSnapshot();
+
+    // when
+    restaurant.takeSnapshot();
+
+    // then
+    verify(journalCommit).awaitDurability();
+  }
+
+  @Test
+  public void whenRestoreSnapshot_thenReservationsAreRegisteredWithoutHiringChefs() {
+    // given
+    given(reservationEvaluator.evaluate(aReservation)).willReturn(aReservationEvaluation);
+
+    // when
+    restaurant.restoreSnapshot(givenASnapshot());
+
+    // then
+    verify(reservationBook).register(aReservationEvaluation);
+    verify(chefSelector, never()).hireChefsForReservations(any(), any());
+  }
+
+  @Test
+  public void whenRestoreSnapshot_thenTheSnapshotJournalPositionIsReturned() {
+    // given
+    given(reservationEvaluator.evaluate(aReservation)).willReturn(aReservationEvaluation);
+
+    // when
+    long journalPosition = restaurant.restoreSnapshot(givenASnapshot());
+
+    // then
+    assertThat(journalPosition).isEqualTo(A_JOURNAL_POSITION);
+  }
+
+  @Test
+  public void whenRestoreSnapshot_thenDataVersionIsIncremented() {
+    // given
+    given(reservationEvaluator.evaluate(aReservation)).willReturn(aReservationEvaluation);
+    long dataVersion = restaurant.getDataVersion();
+
+    // when
+    restaurant.restoreSnapshot(givenASnapshot());
+
+    // then
+    assertThat(restaurant.getDataVersion()).isEqualTo(dataVersion + 1);
+  }
+
+  private void givenARestaurantStateToSnapshot() {
+    given(restaurantJournal.getJournalPosition()).willReturn(A_JOURNAL_POSITION);
+    given(restaurantJournal.flush()).willReturn(journalCommit);
+    given(dinnerDinerPeriod.getStartDate()).willReturn(AN_OPENING_DATE);
+    given(dinnerDinerPeriod.getEndDate()).willReturn(A_HOPPENING_END_DATE);
+    given(hoppeningEvent.getDinnerDinerPeriod()).willReturn(dinnerDinerPeriod);
+    given(hoppeningEvent.getReservationDinerPeriod()).willReturn(dinnerDinerPeriod);
+    given(reservationRepository.getAllReservations()).willReturn(List.of(aReservation));
+    given(chefRepository.getChefSchedule()).willReturn(new TreeMap<>());
+  }
+
+  private RestaurantSnapshot givenASnapshot() {
+    return new RestaurantSnapshot(A_JOURNAL_POSITION,
+                                  hoppeningConfigurationRequest,
+                                  List.of(aReservation),
+                                  Map.of(),
+                                  Map.of(),
+                                  Map.of());
   }
 
   private void givenValidReservationRequest() {
-    given(aReservation.getRestrictionTypeCount()).willReturn(givenAReservationRestrictionType());
-    reservations.add(aReservation);
+    given(aReservationEvaluation.getReservation()).willReturn(aReservation);
+    given(aReservationEvaluation.getRestrictionTypeCount()).willReturn(givenAReservationRestrictionType());
+    given(dailyLedger.getRestrictionTypeCount()).willReturn(givenAReservationRestrictionType());
     given(dinnerDinerPeriod.getStartDate()).willReturn(AN_OPENING_DATE);
     given(hoppeningEvent.getDinnerDinerPeriod()).willReturn(dinnerDinerPeriod);
-    given(ingredientInventory.isInventoryStockAvailable(aReservation,
+    given(ingredientInventory.isInventoryStockAvailable(aReservationEvaluation,
             AN_OPENING_DATE)).willReturn(true);
-    given(aReservation.getDinnerDate()).willReturn(A_DATE);
+    given(aReservationEvaluation.getDinnerDay()).willReturn(A_DATE.toLocalDate());
     given(reservationFactory.create(reservationRequest, hoppeningEvent)).willReturn(aReservation);
-    given(reservationBook.getReservationsByDate(aReservation.getDinnerDate())).willReturn(reservations);
+    given(reservationEvaluator.evaluate(aReservation)).willReturn(aReservationEvaluation);
+    given(reservationBook.getDailyLedger(A_DATE.toLocalDate())).willReturn(dailyLedger);
+    lenient().when(chefSelector.canHireChefsForReservations(any())).thenReturn(true);
+  }
+
+  private void givenAnAdmissibleReservationRequest(ReservationRequest reservationRequest,
+                                                   Reservation reservation,
+                                                   ReservationEvaluation reservationEvaluation)
+  {
+    lenient().when(reservation.getReservationId()).thenReturn(aReservationId);
+    lenient().when(reservationEvaluation.getReservation()).thenReturn(reservation);
+    lenient().when(reservationEvaluation.getRestrictionTypeCount()).thenReturn(givenAReservationRestrictionType());
+    given(dailyLedger.getRestrictionTypeCount()).willReturn(givenAReservationRestrictionType());
+    given(dinnerDinerPeriod.getStartDate()).willReturn(AN_OPENING_DATE);
+    given(hoppeningEvent.getDinnerDinerPeriod()).willReturn(dinnerDinerPeriod);
+    given(ingredientInventory.isInventoryStockAvailable(reservationEvaluation, AN_OPENING_DATE)).willReturn(true);
+    given(reservationEvaluation.getDinnerDay()).willReturn(A_DATE.toLocalDate());
+    given(reservationFactory.create(reservationRequest, hoppeningEvent)).willReturn(reservation);
+    given(reservationEvaluator.evaluate(reservation)).willReturn(reservationEvaluation);
+    given(reservationBook.getDailyLedger(A_DATE.toLocalDate())).willReturn(dailyLedger);
+    lenient().when(chefSelector.canHireChefsForReservations(any())).thenReturn(true);
+  }
+
+  private void givenAReservationToRestore() {
+    given(aReservationEvaluation.getRestrictionTypeCount()).willReturn(givenAReservationRestrictionType());
+    given(dailyLedger.getRestrictionTypeCount()).willReturn(givenAReservationRestrictionType());
+    given(aReservationEvaluation.getDinnerDay()).willReturn(A_DATE.toLocalDate());
+    given(reservationEvaluator.evaluate(aReservation)).willReturn(aReservationEvaluation);
+    given(reservationBook.getDailyLedger(A_DATE.toLocalDate())).willReturn(dailyLedger);
   }
 
   private Map<RestrictionType, Integer> givenAReservationRestrictionType() {
@@ -305,20 +778,24 @@ public class RestaurantTest {
   }
 
   private void givenReservationRequestCausingAllergicConflict() {
-    given(reservationBook.getReservationsByDate(any())).willReturn(reservations);
+    given(aReservationEvaluation.getDinnerDay()).willReturn(A_DATE.toLocalDate());
+    given(reservationBook.getDailyLedger(any())).willReturn(dailyLedger);
     given(reservationFactory.create(reservationRequest, hoppeningEvent)).willReturn(aReservation);
-    given(ingredientInventory.doesReservationCauseAllergicConflict(aReservation,
-                                                                   reservations)).willReturn(CAUSE_ALLERGIC_CONFLICT);
+    given(reservationEvaluator.evaluate(aReservation)).willReturn(aReservationEvaluation);
+    given(ingredientInventory.doesReservationCauseAllergicConflict(aReservationEvaluation,
+                                                                   dailyLedger)).willReturn(CAUSE_ALLERGIC_CONFLICT);
   }
 
   private void givenNotAllIngredientsAreAvailable() {
+    given(aReservationEvaluation.getDinnerDay()).willReturn(A_DATE.toLocalDate());
     given(dinnerDinerPeriod.getStartDate()).willReturn(AN_OPENING_DATE);
     given(hoppeningEvent.getDinnerDinerPeriod()).willReturn(dinnerDinerPeriod);
-    given(reservationBook.getReservationsByDate(any())).willReturn(reservations);
+    given(reservationBook.getDailyLedger(any())).willReturn(dailyLedger);
     given(reservationFactory.create(reservationRequest, hoppeningEvent)).willReturn(aReservation);
-    given(ingredientInventory.doesReservationCauseAllergicConflict(aReservation,
-                                                                   reservations)).willReturn(DOES_NOT_CAUSE_ALLERGIC_CONFLICT);
-    given(ingredientInventory.isInventoryStockAvailable(aReservation,
+    given(reservationEvaluator.evaluate(aReservation)).willReturn(aReservationEvaluation);
+    given(ingredientInventory.doesReservationCauseAllergicConflict(aReservationEvaluation,
+                                                                   dailyLedger)).willReturn(DOES_NOT_CAUSE_ALLERGIC_CONFLICT);
+    given(ingredientInventory.isInventoryStockAvailable(aReservationEvaluation,
                                                                   AN_OPENING_DATE)).willReturn(NOT_ALL_INGREDIENTS_AVAILABLE);
   }
 }
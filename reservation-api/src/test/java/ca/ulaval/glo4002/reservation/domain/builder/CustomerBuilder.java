@@ -10,6 +10,12 @@ public class CustomerBuilder {
   private static final String A_NAME = "Johnny";
 
   private final Set<RestrictionType> restrictions = new HashSet<>();
+  private String name = A_NAME;
+
+  public CustomerBuilder withName(String name) {
+    this.name = name;
+    return this;
+  }
 
   public CustomerBuilder withRestriction(RestrictionType restriction) {
     restrictions.add(restriction);
@@ -22,6 +28,6 @@ public class CustomerBuilder {
   }
 
   public Customer build() {
-    return new Customer(A_NAME, restrictions);
+    return new Customer(name, restrictions);
   }
 }
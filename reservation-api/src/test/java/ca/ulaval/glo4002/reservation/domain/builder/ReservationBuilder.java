@@ -18,13 +18,23 @@ public class ReservationBuilder {
   private ReservationNumber id = new VendorId();
   private DinnerDate dinnerDate = new DinnerDate(A_DINNER_DATE);
   private final List<Table> tables = new ArrayList<>();
-  private final ReservationDate reservationDate = new ReservationDate(A_RESERVATION_DATE);
+  private ReservationDate reservationDate = new ReservationDate(A_RESERVATION_DATE);
+
+  public ReservationBuilder withId(ReservationNumber id) {
+    this.id = id;
+    return this;
+  }
 
   public ReservationBuilder withDinnerDate(LocalDateTime dinnerDate) {
     this.dinnerDate = new DinnerDate(dinnerDate);
     return this;
   }
 
+  public ReservationBuilder withReservationDate(LocalDateTime reservationDate) {
+    this.reservationDate = new ReservationDate(reservationDate);
+    return this;
+  }
+
   public ReservationBuilder withTable(Table table) {
     tables.add(table);
     return this;
@@ -0,0 +1,50 @@
+package ca.ulaval.glo4002.reservation.domain.builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationEvaluation;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+
+public class ReservationEvaluationBuilder {
+  private static final LocalDateTime A_DINNER_DATE = LocalDateTime.now();
+
+  private LocalDateTime dinnerDate = A_DINNER_DATE;
+  private int numberOfCustomers = 0;
+  private final Map<RestrictionType, Integer> restrictionTypeCount = new EnumMap<>(RestrictionType.class);
+  private final Map<IngredientName, BigDecimal> ingredientsQuantity = new EnumMap<>(IngredientName.class);
+  private Money reservationFees = Money.ZERO;
+
+  public ReservationEvaluationBuilder withDinnerDate(LocalDateTime dinnerDate) {
+    this.dinnerDate = dinnerDate;
+    return this;
+  }
+
+  public ReservationEvaluationBuilder withCustomer(RestrictionType restrictionType) {
+    numberOfCustomers++;
+    restrictionTypeCount.merge(restrictionType, 1, Integer::sum);
+    return this;
+  }
+
+  public ReservationEvaluationBuilder withIngredient(IngredientName ingredientName, BigDecimal quantity) {
+    ingredientsQuantity.put(ingredientName, quantity);
+    return this;
+  }
+
+  public ReservationEvaluationBuilder withReservationFees(Money reservationFees) {
+    this.reservationFees = reservationFees;
+    return this;
+  }
+
+  public ReservationEvaluation build() {
+    return new ReservationEvaluation(new ReservationBuilder().withDinnerDate(dinnerDate).build(),
+                                     numberOfCustomers,
+                                     restrictionTypeCount,
+                                     ingredientsQuantity,
+                                     reservationFees);
+  }
+}
@@ -0,0 +1,114 @@
+package ca.ulaval.glo4002.reservation.domain.chef;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+
+@ExtendWith(MockitoExtension.class)
+class ChefAssignmentCacheTest {
+  private static final int A_CAPACITY = 2;
+  private static final Map<RestrictionType, Integer> A_DISH_QUANTITIES = Map.of(RestrictionType.VEGAN, 3);
+  private static final Map<RestrictionType, Integer> ANOTHER_DISH_QUANTITIES = Map.of(RestrictionType.VEGAN, 4);
+  private static final Map<RestrictionType, Integer> A_THIRD_DISH_QUANTITIES = Map.of(RestrictionType.NONE, 1);
+  private static final long A_ROSTER = 1;
+  private static final long ANOTHER_ROSTER = 2;
+
+  @Mock
+  private Supplier<Set<Chef>> assignment;
+
+  private ChefAssignmentCache chefAssignmentCache;
+
+  @BeforeEach
+  public void setUpChefAssignmentCache() {
+    chefAssignmentCache = new ChefAssignmentCache(A_CAPACITY);
+  }
+
+  @Test
+  public void givenDishQuantitiesNeverSeen_whenGetOrCompute_thenAssignmentIsComputedAndAMissIsCounted() {
+    // given
+    given(assignment.get()).willReturn(givenHiredChefs(3));
+
+    // when
+    Set<Chef> hiredChefs = chefAssignmentCache.getOrCompute(A_ROSTER, A_DISH_QUANTITIES, assignment);
+
+    // then
+    assertThat(hiredChefs).isEqualTo(givenHiredChefs(3));
+    assertThat(chefAssignmentCache.getMissCount()).isEqualTo(1);
+    assertThat(chefAssignmentCache.getHitCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void givenDishQuantitiesAlreadySeen_whenGetOrCompute_thenCachedChefsAreReturnedAndAHitIsCounted() {
+    // given
+    given(assignment.get()).willReturn(givenHiredChefs(3));
+    chefAssignmentCache.getOrCompute(A_ROSTER, A_DISH_QUANTITIES, assignment);
+
+    // when
+    Set<Chef> hiredChefs = chefAssignmentCache.getOrCompute(A_ROSTER, A_DISH_QUANTITIES, assignment);
+
+    // then
+    verify(assignment).get();
+    assertThat(hiredChefs).isEqualTo(givenHiredChefs(3));
+    assertThat(chefAssignmentCache.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenCachedChefs_whenGetOrCompute_thenTheCachedChefsAreReturnedWithoutCopying() {
+    // given
+    given(assignment.get()).willReturn(givenHiredChefs(3));
+    Set<Chef> cachedChefs = chefAssignmentCache.getOrCompute(A_ROSTER, A_DISH_QUANTITIES, assignment);
+
+    // when
+    Set<Chef> hiredChefs = chefAssignmentCache.getOrCompute(A_ROSTER, A_DISH_QUANTITIES, assignment);
+
+    // then
+    assertThat(hiredChefs).isSameInstanceAs(cachedChefs);
+  }
+
+  @Test
+  public void givenTheRosterChanged_whenGetOrCompute_thenTheAssignmentIsComputedAgain() {
+    // given
+    given(assignment.get()).willReturn(givenHiredChefs(3));
+    chefAssignmentCache.getOrCompute(A_ROSTER, A_DISH_QUANTITIES, assignment);
+
+    // when
+    chefAssignmentCache.getOrCompute(ANOTHER_ROSTER, A_DISH_QUANTITIES, assignment);
+
+    // then
+    verify(assignment, times(2)).get();
+    assertThat(chefAssignmentCache.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void givenMoreDishQuantitiesThanTheCapacity_whenGetOrCompute_thenTheCacheStaysBounded() {
+    // given
+    given(assignment.get()).willReturn(Set.of());
+
+    // when
+    chefAssignmentCache.getOrCompute(A_ROSTER, A_DISH_QUANTITIES, assignment);
+    chefAssignmentCache.getOrCompute(A_ROSTER, ANOTHER_DISH_QUANTITIES, assignment);
+    chefAssignmentCache.getOrCompute(A_ROSTER, A_THIRD_DISH_QUANTITIES, assignment);
+
+    // then
+    assertThat(chefAssignmentCache.size()).isEqualTo(A_CAPACITY);
+  }
+
+  private Set<Chef> givenHiredChefs(int numberOfCustomers) {
+    Chef bobSmarties = new Chef("Bob Smarties", ChefPriority.SECOND, Set.of(RestrictionType.VEGAN));
+    bobSmarties.addCustomers(numberOfCustomers);
+    return Set.of(bobSmarties);
+  }
+}
@@ -0,0 +1,260 @@
+package ca.ulaval.glo4002.reservation.domain.chef;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.ArgumentCaptor;
+
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.report.chef.ChefRepository;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+
+class ChefAssignmentOptimizerTest {
+  private static final long A_SEED = 4002L;
+  private static final int NUMBER_OF_RANDOM_CASES = 300;
+  private static final int NUMBER_OF_ROSTER_CASES = 5;
+  private static final int MAXIMUM_ROSTER_SIZE = 7;
+  private static final int MAXIMUM_CUSTOMERS_PER_DAY = 42;
+  private static final LocalDate A_DINNER_DATE = LocalDate.of(2150, 7, 22);
+
+  private ChefAssignmentOptimizer chefAssignmentOptimizer;
+
+  @BeforeEach
+  public void setUpChefAssignmentOptimizer() {
+    chefAssignmentOptimizer = new ChefAssignmentOptimizer();
+  }
+
+  @Test
+  public void givenTwoChefsAbleToServeTheSameDishes_whenFindOptimalChefs_thenTheChefWithTheHighestPriorityIsChosen() {
+    // given
+    Chef aFirstChef = new Chef("First", ChefPriority.FIRST, Set.of(RestrictionType.VEGAN));
+    Chef aNinthChef = new Chef("Ninth", ChefPriority.NINTH, Set.of(RestrictionType.VEGAN));
+
+    // when
+    List<Chef> optimalChefs = chefAssignmentOptimizer.findOptimalChefs(List.of(aNinthChef, aFirstChef),
+                                                                       Map.of(RestrictionType.VEGAN, 4));
+
+    // then
+    assertThat(optimalChefs).containsExactly(aFirstChef);
+  }
+
+  @Test
+  public void givenAChefCoveringTwoSpecialties_whenFindOptimalChefs_thenFewerChefsAreChosenOverHigherPriorities() {
+    // given
+    Chef aVeganChef = new Chef("Vegan", ChefPriority.FIRST, Set.of(RestrictionType.VEGAN));
+    Chef anAllergiesChef = new Chef("Allergies", ChefPriority.SECOND, Set.of(RestrictionType.ALLERGIES));
+    Chef aVersatileChef = new Chef("Versatile",
+                                   ChefPriority.NINTH,
+                                   Set.of(RestrictionType.VEGAN, RestrictionType.ALLERGIES));
+
+    // when
+    List<Chef> optimalChefs = chefAssignmentOptimizer.findOptimalChefs(List.of(aVeganChef,
+                                                                               anAllergiesChef,
+                                                                               aVersatileChef),
+                                                                       Map.of(RestrictionType.VEGAN,
+                                                                              2,
+                                                                              RestrictionType.ALLERGIES,
+                                                                              3));
+
+    // then
+    assertThat(optimalChefs).containsExactly(aVersatileChef);
+  }
+
+  @Test
+  public void givenNotEnoughCapacityForASpecialty_whenFindOptimalChefs_thenNoChefsAvailableIsThrown() {
+    // given
+    Chef aVeganChef = new Chef("Vegan", ChefPriority.FIRST, Set.of(RestrictionType.VEGAN));
+
+    // when
+    Executable findingChefs = () -> chefAssignmentOptimizer.findOptimalChefs(List.of(aVeganChef),
+                                                                             Map.of(RestrictionType.VEGAN, 6));
+
+    // then
+    assertThrows(NoChefsAvailableException.class, findingChefs);
+  }
+
+  @Test
+  public void givenRandomRostersAndDemands_whenFindOptimalChefs_thenChefsAreNeverWorseThanThePermutationChefSelector() {
+    Random random = new Random(A_SEED);
+    for (int randomCase = 0; randomCase < NUMBER_OF_RANDOM_CASES; randomCase++) {
+      // given
+      Set<Chef> roster = givenARandomRoster(random);
+      Map<RestrictionType, Integer> demand = givenARandomDemand(random);
+
+      // when
+      Optional<List<Chef>> actualChefs = findWithOptimizer(roster, demand);
+      boolean actualChefsAreFeasible = actualChefs.map(chefs -> isFeasible(chefs, demand)).orElse(true);
+      Optional<Set<Chef>> expectedChefs = hireWithPermutationChefSelector(roster, demand);
+
+      // then
+      assertThat(actualChefsAreFeasible).isTrue();
+      if (expectedChefs.isPresent()) {
+        assertThat(actualChefs.isPresent()).isTrue();
+        assertThat(isAtLeastAsGood(actualChefs.get(), expectedChefs.get())).isTrue();
+      }
+    }
+  }
+
+  @Test
+  public void givenRandomDemandsOnTheRestaurantRoster_whenFindOptimalChefs_thenPriceAndPriorityMatchThePermutationChefSelector() {
+    Random random = new Random(A_SEED);
+    for (int randomCase = 0; randomCase < NUMBER_OF_ROSTER_CASES; randomCase++) {
+      // given
+      Set<Chef> roster = givenTheRestaurantRoster();
+      Map<RestrictionType, Integer> demand = givenARandomDemand(random);
+
+      // when
+      Optional<List<Chef>> actualChefs = findWithOptimizer(roster, demand);
+      Optional<Set<Chef>> expectedChefs = hireWithPermutationChefSelector(roster, demand);
+
+      // then
+      assertThat(actualChefs.isPresent()).isEqualTo(expectedChefs.isPresent());
+      if (expectedChefs.isPresent()) {
+        assertThat(totalPrice(actualChefs.get())).isEqualTo(totalPrice(expectedChefs.get()));
+        assertThat(totalPriority(actualChefs.get())).isEqualTo(totalPriority(expectedChefs.get()));
+      }
+    }
+  }
+
+  @Test
+  public void givenRandomRostersAndDemands_whenCanCoverDemand_thenItMatchesWhetherOptimalChefsAreFound() {
+    Random random = new Random(A_SEED);
+    for (int randomCase = 0; randomCase < NUMBER_OF_RANDOM_CASES; randomCase++) {
+      // given
+      Set<Chef> roster = givenARandomRoster(random);
+      Map<RestrictionType, Integer> demand = givenARandomDemand(random);
+
+      // when
+      boolean canCoverDemand = chefAssignmentOptimizer.canCoverDemand(roster, demand);
+
+      // then
+      assertThat(canCoverDemand).isEqualTo(findWithOptimizer(roster, demand).isPresent());
+    }
+  }
+
+  private Optional<Set<Chef>> hireWithPermutationChefSelector(Set<Chef> roster,
+                                                              Map<RestrictionType, Integer> demand)
+  {
+    ChefRepository chefRepository = mock(ChefRepository.class);
+    given(chefRepository.getAllChefs()).willReturn(roster);
+    ChefSelector chefSelector = new ChefSelector(chefRepository);
+    try {
+      chefSelector.hireChefsForReservations(List.of(demand), A_DINNER_DATE);
+    } catch (NoChefsAvailableException noChefsAvailableException) {
+      return Optional.empty();
+    }
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Set<Chef>> hiredChefs = ArgumentCaptor.forClass(Set.class);
+    verify(chefRepository).updateRestaurantChefs(any(), hiredChefs.capture());
+    return Optional.of(hiredChefs.getValue());
+  }
+
+  private Optional<List<Chef>> findWithOptimizer(Set<Chef> roster, Map<RestrictionType, Integer> demand) {
+    try {
+      return Optional.of(chefAssignmentOptimizer.findOptimalChefs(roster, demand));
+    } catch (NoChefsAvailableException noChefsAvailableException) {
+      return Optional.empty();
+    }
+  }
+
+  private Set<Chef> givenARandomRoster(Random random) {
+    List<ChefPriority> priorities = new ArrayList<>(Arrays.asList(ChefPriority.values()));
+    Collections.shuffle(priorities, random);
+    int rosterSize = 1 + random.nextInt(MAXIMUM_ROSTER_SIZE);
+    Set<Chef> roster = new HashSet<>();
+    for (int chefIndex = 0; chefIndex < rosterSize; chefIndex++) {
+      roster.add(new Chef("Chef " + chefIndex, priorities.get(chefIndex), givenRandomSpecialties(random)));
+    }
+    return roster;
+  }
+
+  private Set<RestrictionType> givenRandomSpecialties(Random random) {
+    RestrictionType[] restrictionTypes = RestrictionType.values();
+    Set<RestrictionType> specialties = new HashSet<>();
+    int numberOfSpecialties = 1 + random.nextInt(2);
+    while (specialties.size() < numberOfSpecialties) {
+      specialties.add(restrictionTypes[random.nextInt(restrictionTypes.length)]);
+    }
+    return specialties;
+  }
+
+  private Map<RestrictionType, Integer> givenARandomDemand(Random random) {
+    Map<RestrictionType, Integer> demand = new HashMap<>();
+    int numberOfCustomers = 1 + random.nextInt(MAXIMUM_CUSTOMERS_PER_DAY / 2);
+    RestrictionType[] restrictionTypes = RestrictionType.values();
+    for (int customer = 0; customer < numberOfCustomers; customer++) {
+      demand.merge(restrictionTypes[random.nextInt(restrictionTypes.length)], 1, Integer::sum);
+    }
+    return demand;
+  }
+
+  private boolean isAtLeastAsGood(Collection<Chef> actualChefs, Collection<Chef> expectedChefs) {
+    int priceComparison = totalPrice(actualChefs).compareTo(totalPrice(expectedChefs));
+    return priceComparison < 0
+           || (priceComparison == 0 && totalPriority(actualChefs) >= totalPriority(expectedChefs));
+  }
+
+  private boolean isFeasible(Collection<Chef> chefs, Map<RestrictionType, Integer> demand) {
+    int demandedTypes = demand.keySet().stream().mapToInt(type -> 1 << type.ordinal()).reduce(0, (a, b) -> a | b);
+    for (int typeGroup = demandedTypes; typeGroup > 0; typeGroup = (typeGroup - 1) & demandedTypes) {
+      int groupMask = typeGroup;
+      int groupDemand = demand.entrySet()
+                              .stream()
+                              .filter(entry -> (groupMask & (1 << entry.getKey().ordinal())) != 0)
+                              .mapToInt(Map.Entry::getValue)
+                              .sum();
+      int groupSupply = chefs.stream()
+                             .filter(chef -> chef.getSpecialties()
+                                                 .stream()
+                                                 .anyMatch(type -> (groupMask & (1 << type.ordinal())) != 0))
+                             .mapToInt(Chef::getAvailableCustomers)
+                             .sum();
+      if (groupSupply < groupDemand) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Set<Chef> givenTheRestaurantRoster() {
+    return new HashSet<>(Arrays.asList(new Chef("Thierry Aki", ChefPriority.FIRST, Set.of(RestrictionType.NONE)),
+                                       new Chef("Bob Smarties", ChefPriority.SECOND, Set.of(RestrictionType.VEGAN)),
+                                       new Chef("Bob Rossbeef",
+                                                ChefPriority.THIRD,
+                                                Set.of(RestrictionType.VEGETARIAN)),
+                                       new Chef("Bill Adicion",
+                                                ChefPriority.FOURTH,
+                                                Set.of(RestrictionType.ALLERGIES)),
+                                       new Chef("Omar Calmar", ChefPriority.FIFTH, Set.of(RestrictionType.ILLNESS)),
+                                       new Chef("Écharlotte Cardin",
+                                                ChefPriority.SIXTH,
+                                                Set.of(RestrictionType.VEGAN, RestrictionType.ALLERGIES)),
+                                       new Chef("Éric Ardo",
+                                                ChefPriority.SEVENTH,
+                                                Set.of(RestrictionType.VEGETARIAN, RestrictionType.ILLNESS)),
+                                       new Chef("Hans Riz",
+                                                ChefPriority.EIGHTH,
+                                                Set.of(RestrictionType.NONE, RestrictionType.ILLNESS)),
+                                       new Chef("Amélie Mélo",
+                                                ChefPriority.NINTH,
+                                                Set.of(RestrictionType.ALLERGIES, RestrictionType.VEGAN))));
+  }
+
+  private Money totalPrice(Collection<Chef> chefs) {
+    return chefs.stream().map(Chef::getPrice).reduce(Money.ZERO, Money::add);
+  }
+
+  private int totalPriority(Collection<Chef> chefs) {
+    return chefs.stream().mapToInt(chef -> chef.getPriority().getPriorityValue()).sum();
+  }
+}
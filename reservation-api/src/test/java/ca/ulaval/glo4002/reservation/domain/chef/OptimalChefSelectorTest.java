@@ -0,0 +1,162 @@
+package ca.ulaval.glo4002.reservation.domain.chef;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ca.ulaval.glo4002.reservation.domain.report.chef.ChefRepository;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+
+@ExtendWith(MockitoExtension.class)
+class OptimalChefSelectorTest {
+  private static final LocalDate A_DINNER_DATE = LocalDate.of(2150, 7, 22);
+  private static final int A_CACHE_CAPACITY = 16;
+
+  @Mock
+  private ChefRepository chefRepository;
+
+  private OptimalChefSelector chefSelector;
+
+  @BeforeEach
+  public void setUpChefSelector() {
+    given(chefRepository.getAllChefs()).willReturn(getAvailableChefs());
+    chefSelector = new OptimalChefSelector(chefRepository,
+                                          new ChefAssignmentOptimizer(),
+                                          new ChefAssignmentCache(A_CACHE_CAPACITY));
+  }
+
+  @Test
+  public void givenThreeVeganCustomers_whenHireChefsForReservations_thenTheChefWithTheHighestPriorityAndVeganSpecialtyIsHired() {
+    // given
+    Chef bobSmarties = new Chef("Bob Smarties", ChefPriority.SECOND, Set.of(RestrictionType.VEGAN));
+    bobSmarties.addCustomers(3);
+
+    // when
+    chefSelector.hireChefsForReservations(List.of(Map.of(RestrictionType.VEGAN, 3)), A_DINNER_DATE);
+
+    // then
+    verify(chefRepository).updateRestaurantChefs(A_DINNER_DATE, Set.of(bobSmarties));
+  }
+
+  @Test
+  public void givenOneVeganAndOneAllergicCustomer_whenHireChefsForReservations_thenTheChefWithBothSpecialtiesAndTheHighestPriorityIsHired() {
+    // given
+    Chef echarlotteCardin = new Chef("Écharlotte Cardin",
+                                     ChefPriority.SIXTH,
+                                     Set.of(RestrictionType.VEGAN, RestrictionType.ALLERGIES));
+    echarlotteCardin.addCustomers(2);
+
+    // when
+    chefSelector.hireChefsForReservations(List.of(Map.of(RestrictionType.VEGAN, 1, RestrictionType.ALLERGIES, 1)),
+                                          A_DINNER_DATE);
+
+    // then
+    verify(chefRepository).updateRestaurantChefs(A_DINNER_DATE, Set.of(echarlotteCardin));
+  }
+
+  @Test
+  public void givenOneNoneOneVegetarianAndOneIllCustomer_whenHireChefsForReservations_thenTheTwoComplementaryChefsWithTheHighestPrioritiesAreHired() {
+    // given
+    Chef thierryAki = new Chef("Thierry Aki", ChefPriority.FIRST, Set.of(RestrictionType.NONE));
+    Chef ericArdo = new Chef("Éric Ardo",
+                             ChefPriority.SEVENTH,
+                             Set.of(RestrictionType.VEGETARIAN, RestrictionType.ILLNESS));
+    thierryAki.addCustomers(1);
+    ericArdo.addCustomers(2);
+
+    // when
+    chefSelector.hireChefsForReservations(List.of(Map.of(RestrictionType.NONE,
+                                                         1,
+                                                         RestrictionType.VEGETARIAN,
+                                                         1,
+                                                         RestrictionType.ILLNESS,
+                                                         1)),
+                                          A_DINNER_DATE);
+
+    // then
+    verify(chefRepository).updateRestaurantChefs(A_DINNER_DATE, Set.of(thierryAki, ericArdo));
+  }
+
+  @Test
+  public void givenRestrictionsSplitAcrossReservations_whenHireChefsForReservations_thenDishQuantitiesAreMerged() {
+    // given
+    Chef bobSmarties = new Chef("Bob Smarties", ChefPriority.SECOND, Set.of(RestrictionType.VEGAN));
+    Chef echarlotteCardin = new Chef("Écharlotte Cardin",
+                                     ChefPriority.SIXTH,
+                                     Set.of(RestrictionType.VEGAN, RestrictionType.ALLERGIES));
+    bobSmarties.addCustomers(5);
+    echarlotteCardin.addCustomers(2);
+
+    // when
+    chefSelector.hireChefsForReservations(List.of(Map.of(RestrictionType.VEGAN, 4), Map.of(RestrictionType.VEGAN, 3)),
+                                          A_DINNER_DATE);
+
+    // then
+    verify(chefRepository).updateRestaurantChefs(A_DINNER_DATE, Set.of(bobSmarties, echarlotteCardin));
+  }
+
+  @Test
+  public void givenMoreVegetarianCustomersThanChefsCanServe_whenHireChefsForReservations_thenNoChefsAvailableIsThrown() {
+    // when
+    Executable hiringChefs = () -> chefSelector.hireChefsForReservations(List.of(Map.of(RestrictionType.VEGETARIAN,
+                                                                                        11)),
+                                                                         A_DINNER_DATE);
+
+    // then
+    assertThrows(NoChefsAvailableException.class, hiringChefs);
+  }
+
+  @Test
+  public void givenRestrictionsTheRosterCanServe_whenCanHireChefsForReservations_thenReturnTrue() {
+    // when
+    boolean canHireChefs = chefSelector.canHireChefsForReservations(List.of(Map.of(RestrictionType.VEGAN, 4),
+                                                                            Map.of(RestrictionType.VEGAN, 3)));
+
+    // then
+    assertThat(canHireChefs).isTrue();
+  }
+
+  @Test
+  public void givenMoreVegetarianCustomersThanChefsCanServe_whenCanHireChefsForReservations_thenReturnFalse() {
+    // when
+    boolean canHireChefs = chefSelector.canHireChefsForReservations(List.of(Map.of(RestrictionType.VEGETARIAN, 11)));
+
+    // then
+    assertThat(canHireChefs).isFalse();
+  }
+
+  private Set<Chef> getAvailableChefs() {
+    return new HashSet<>(Arrays.asList(new Chef("Thierry Aki", ChefPriority.FIRST, Set.of(RestrictionType.NONE)),
+                                       new Chef("Bob Smarties", ChefPriority.SECOND, Set.of(RestrictionType.VEGAN)),
+                                       new Chef("Bob Rossbeef",
+                                                ChefPriority.THIRD,
+                                                Set.of(RestrictionType.VEGETARIAN)),
+                                       new Chef("Bill Adicion",
+                                                ChefPriority.FOURTH,
+                                                Set.of(RestrictionType.ALLERGIES)),
+                                       new Chef("Omar Calmar", ChefPriority.FIFTH, Set.of(RestrictionType.ILLNESS)),
+                                       new Chef("Écharlotte Cardin",
+                                                ChefPriority.SIXTH,
+                                                Set.of(RestrictionType.VEGAN, RestrictionType.ALLERGIES)),
+                                       new Chef("Éric Ardo",
+                                                ChefPriority.SEVENTH,
+                                                Set.of(RestrictionType.VEGETARIAN, RestrictionType.ILLNESS)),
+                                       new Chef("Hans Riz",
+                                                ChefPriority.EIGHTH,
+                                                Set.of(RestrictionType.NONE, RestrictionType.ILLNESS)),
+                                       new Chef("Amélie Mélo",
+                                                ChefPriority.NINTH,
+                                                Set.of(RestrictionType.ALLERGIES, RestrictionType.VEGAN))));
+  }
+}
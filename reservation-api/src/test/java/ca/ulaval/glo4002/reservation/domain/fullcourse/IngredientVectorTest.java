@@ -0,0 +1,73 @@
+package ca.ulaval.glo4002.reservation.domain.fullcourse;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+public class IngredientVectorTest {
+  private static final BigDecimal WATER_QUANTITY = BigDecimal.valueOf(0.1);
+  private static final BigDecimal KIWI_QUANTITY = BigDecimal.valueOf(5);
+  private static final BigDecimal TOFU_QUANTITY = BigDecimal.valueOf(10);
+
+  @Test
+  public void givenIngredientsQuantity_whenGetIngredientsQuantity_thenTheSameQuantitiesAreReturned() {
+    // given
+    IngredientVector ingredientVector = new IngredientVector(Map.of(IngredientName.WATER,
+                                                                    WATER_QUANTITY,
+                                                                    IngredientName.KIWI,
+                                                                    KIWI_QUANTITY));
+
+    // when
+    Map<IngredientName, BigDecimal> ingredientsQuantity = ingredientVector.getIngredientsQuantity();
+
+    // then
+    assertThat(ingredientsQuantity).containsExactly(IngredientName.WATER,
+                                                    WATER_QUANTITY,
+                                                    IngredientName.KIWI,
+                                                    KIWI_QUANTITY);
+  }
+
+  @Test
+  public void givenAnIngredientVector_whenModifyingItsIngredientsQuantity_thenThrowUnsupportedOperationException() {
+    // given
+    IngredientVector ingredientVector = new IngredientVector(Map.of(IngredientName.WATER, WATER_QUANTITY));
+
+    // when
+    Executable modifyingIngredientsQuantity = () -> ingredientVector.getIngredientsQuantity()
+                                                                    .put(IngredientName.KIWI, KIWI_QUANTITY);
+
+    // then
+    assertThrows(UnsupportedOperationException.class, modifyingIngredientsQuantity);
+  }
+
+  @Test
+  public void givenTwoIngredientVectors_whenMultiplyAddTo_thenQuantitiesAreMultipliedAndSummed() {
+    // given
+    IngredientVector anIngredientVector = new IngredientVector(Map.of(IngredientName.WATER,
+                                                                      WATER_QUANTITY,
+                                                                      IngredientName.KIWI,
+                                                                      KIWI_QUANTITY));
+    IngredientVector anotherIngredientVector = new IngredientVector(Map.of(IngredientName.WATER,
+                                                                           WATER_QUANTITY,
+                                                                           IngredientName.TOFU,
+                                                                           TOFU_QUANTITY));
+    BigDecimal[] totalQuantities = IngredientVector.createEmptyQuantities();
+
+    // when
+    anIngredientVector.multiplyAddTo(totalQuantities, 3);
+    anotherIngredientVector.multiplyAddTo(totalQuantities, 2);
+
+    // then
+    assertThat(IngredientVector.toMap(totalQuantities)).containsExactly(IngredientName.WATER,
+                                                                        BigDecimal.valueOf(0.5),
+                                                                        IngredientName.KIWI,
+                                                                        BigDecimal.valueOf(15),
+                                                                        IngredientName.TOFU,
+                                                                        BigDecimal.valueOf(20));
+  }
+}
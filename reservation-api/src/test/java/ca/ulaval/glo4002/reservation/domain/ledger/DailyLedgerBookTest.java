@@ -0,0 +1,67 @@
+package ca.ulaval.glo4002.reservation.domain.ledger;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ca.ulaval.glo4002.reservation.domain.builder.ReservationEvaluationBuilder;
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationEvaluation;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+
+class DailyLedgerBookTest {
+  private static final LocalDateTime A_DINNER_DATE = LocalDateTime.of(2150, 7, 22, 20, 0);
+  private static final LocalDateTime ANOTHER_DINNER_DATE = LocalDateTime.of(2150, 7, 23, 20, 0);
+
+  private DailyLedgerBook dailyLedgerBook;
+
+  @BeforeEach
+  public void setUpDailyLedgerBook() {
+    dailyLedgerBook = new DailyLedgerBook();
+  }
+
+  @Test
+  public void givenNoCommittedReservation_whenGetDailyLedger_thenAnEmptyDailyLedgerIsReturned() {
+    // when
+    DailyLedger dailyLedger = dailyLedgerBook.getDailyLedger(A_DINNER_DATE.toLocalDate());
+
+    // then
+    assertThat(dailyLedger.getNumberOfCustomers()).isEqualTo(0);
+  }
+
+  @Test
+  public void givenACommittedReservation_whenGetDailyLedger_thenTheReservationIsRecordedOnItsDinnerDate() {
+    // given
+    ReservationEvaluation reservationEvaluation = new ReservationEvaluationBuilder().withDinnerDate(A_DINNER_DATE)
+                                                                                    .withCustomer(RestrictionType.NONE)
+                                                                                    .withIngredient(IngredientName.CARROTS,
+                                                                                                    BigDecimal.ONE)
+                                                                                    .build();
+
+    // when
+    dailyLedgerBook.commit(reservationEvaluation);
+
+    // then
+    DailyLedger dailyLedger = dailyLedgerBook.getDailyLedger(A_DINNER_DATE.toLocalDate());
+    assertThat(dailyLedger.getNumberOfCustomers()).isEqualTo(1);
+    assertThat(dailyLedger.hasCarrots()).isTrue();
+  }
+
+  @Test
+  public void givenACommittedReservation_whenGetDailyLedgerOfAnotherDate_thenTheReservationIsNotRecorded() {
+    // given
+    ReservationEvaluation reservationEvaluation = new ReservationEvaluationBuilder().withDinnerDate(A_DINNER_DATE)
+                                                                                    .withCustomer(RestrictionType.NONE)
+                                                                                    .build();
+
+    // when
+    dailyLedgerBook.commit(reservationEvaluation);
+
+    // then
+    assertThat(dailyLedgerBook.getDailyLedger(ANOTHER_DINNER_DATE.toLocalDate()).getNumberOfCustomers()).isEqualTo(0);
+  }
+}
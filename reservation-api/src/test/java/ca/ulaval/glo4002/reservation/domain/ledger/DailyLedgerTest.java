@@ -0,0 +1,103 @@
+package ca.ulaval.glo4002.reservation.domain.ledger;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import ca.ulaval.glo4002.reservation.domain.builder.ReservationEvaluationBuilder;
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationEvaluation;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+
+class DailyLedgerTest {
+  private static final BigDecimal A_QUANTITY = BigDecimal.valueOf(2.5);
+  private static final BigDecimal ANOTHER_QUANTITY = BigDecimal.valueOf(1.5);
+
+  @Test
+  public void givenAnEmptyDailyLedger_whenGettingCounters_thenEverythingIsEmpty() {
+    // when
+    DailyLedger dailyLedger = new DailyLedger();
+
+    // then
+    assertThat(dailyLedger.getNumberOfCustomers()).isEqualTo(0);
+    assertThat(dailyLedger.hasAllergicCustomer()).isFalse();
+    assertThat(dailyLedger.hasCarrots()).isFalse();
+    assertThat(dailyLedger.getRestrictionTypeCount()).isEmpty();
+    assertThat(dailyLedger.getIngredientQuantities()).isEmpty();
+  }
+
+  @Test
+  public void givenTwoReservations_whenRecord_thenCustomersAndRestrictionsAreAccumulated() {
+    // given
+    ReservationEvaluation aReservationEvaluation = new ReservationEvaluationBuilder().withCustomer(RestrictionType.VEGAN)
+                                                                                     .withCustomer(RestrictionType.VEGAN)
+                                                                                     .build();
+    ReservationEvaluation anotherReservationEvaluation = new ReservationEvaluationBuilder().withCustomer(RestrictionType.VEGAN)
+                                                                                           .withCustomer(RestrictionType.ILLNESS)
+                                                                                           .build();
+
+    // when
+    DailyLedger dailyLedger = new DailyLedger().record(aReservationEvaluation).record(anotherReservationEvaluation);
+
+    // then
+    assertThat(dailyLedger.getNumberOfCustomers()).isEqualTo(4);
+    assertThat(dailyLedger.getRestrictionTypeCount()).containsExactly(RestrictionType.VEGAN,
+                                                                      3,
+                                                                      RestrictionType.ILLNESS,
+                                                                      1);
+  }
+
+  @Test
+  public void givenTwoReservations_whenRecord_thenIngredientQuantitiesAreSummed() {
+    // given
+    ReservationEvaluation aReservationEvaluation = new ReservationEvaluationBuilder().withIngredient(IngredientName.CARROTS,
+                                                                                                     A_QUANTITY)
+                                                                                     .build();
+    ReservationEvaluation anotherReservationEvaluation = new ReservationEvaluationBuilder().withIngredient(IngredientName.CARROTS,
+                                                                                                           ANOTHER_QUANTITY)
+                                                                                           .withIngredient(IngredientName.TOMATO,
+                                                                                                           A_QUANTITY)
+                                                                                           .build();
+
+    // when
+    DailyLedger dailyLedger = new DailyLedger().record(aReservationEvaluation).record(anotherReservationEvaluation);
+
+    // then
+    assertThat(dailyLedger.hasCarrots()).isTrue();
+    assertThat(dailyLedger.getIngredientQuantities()).containsExactly(IngredientName.CARROTS,
+                                                                      A_QUANTITY.add(ANOTHER_QUANTITY),
+                                                                      IngredientName.TOMATO,
+                                                                      A_QUANTITY);
+  }
+
+  @Test
+  public void givenAReservationWithAnAllergicCustomer_whenRecord_thenAnAllergicCustomerIsPresent() {
+    // given
+    ReservationEvaluation reservationEvaluation = new ReservationEvaluationBuilder().withCustomer(RestrictionType.ALLERGIES)
+                                                                                    .build();
+
+    // when
+    DailyLedger dailyLedger = new DailyLedger().record(reservationEvaluation);
+
+    // then
+    assertThat(dailyLedger.hasAllergicCustomer()).isTrue();
+  }
+
+  @Test
+  public void givenADailyLedger_whenRecord_thenThePreviousDailyLedgerIsUnchanged() {
+    // given
+    DailyLedger dailyLedger = new DailyLedger();
+
+    // when
+    dailyLedger.record(new ReservationEvaluationBuilder().withCustomer(RestrictionType.ALLERGIES)
+                                                         .withIngredient(IngredientName.CARROTS, A_QUANTITY)
+                                                         .build());
+
+    // then
+    assertThat(dailyLedger.getNumberOfCustomers()).isEqualTo(0);
+    assertThat(dailyLedger.hasAllergicCustomer()).isFalse();
+    assertThat(dailyLedger.hasCarrots()).isFalse();
+  }
+}
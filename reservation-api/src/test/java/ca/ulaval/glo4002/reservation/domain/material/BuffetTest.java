@@ -4,6 +4,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -17,7 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import ca.ulaval.glo4002.reservation.domain.date.DinerPeriod;
 import ca.ulaval.glo4002.reservation.domain.report.ReportPeriod;
-import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationEvaluation;
 
 @ExtendWith(MockitoExtension.class)
 public class BuffetTest {
@@ -34,47 +35,21 @@ public class BuffetTest {
   private final static LocalDate REPORT_PERIOD_START = LocalDate.of(2150, 7, 23);
 
   private final static LocalDate REPORT_PERIOD_END = LocalDate.of(2150, 7, 25);
-  private final static LocalDateTime DINNER_DATE_BEFORE_REPORT_PERIOD = LocalDateTime.of(2150,
-                                                                                         7,
-                                                                                         22,
-                                                                                         3,
-                                                                                         5);
-  private final static LocalDateTime DINNER_DATE_AFTER_REPORT_PERIOD = LocalDateTime.of(2150,
-                                                                                        7,
-                                                                                        27,
-                                                                                        23,
-                                                                                        1);
-  private final static LocalDateTime A_DINNER_DATE_WITHIN_REPORT_PERIOD = LocalDateTime.of(2150,
-                                                                                           7,
-                                                                                           25,
-                                                                                           21,
-                                                                                           4);
-  private final static LocalDateTime ANOTHER_DINNER_DATE_WITHIN_REPORT_PERIOD = LocalDateTime.of(2150,
-                                                                                                 7,
-                                                                                                 24,
-                                                                                                 9,
-                                                                                                 2);
 
   @Mock(lenient = true)
-  private Reservation aReservation;
+  private ReservationEvaluation aReservation;
 
   @Mock
-  private Reservation anotherReservation;
-
-  @Mock
-  private Reservation reservationBeforeReportPeriod;
+  private ReservationEvaluation anotherReservation;
 
   @Mock
   private DailyDishesQuantityFactory dailyDishesQuantityFactory;
 
   @Mock
-  private DailyDishesQuantity dailyDishesQuantity;
+  private MaterialLedger materialLedger;
 
   @Mock
-  private DailyDishesQuantity anotherDailyDishesQuantity;
-
-  @Mock
-  private DailyDishesQuantity lastDailyDishesQuantityBeforeReportPeriodStart;
+  private DailyDishesQuantity dailyDishesQuantity;
 
   private DinerPeriod dinerPeriod = new DinerPeriod(REPORT_PERIOD_START, REPORT_PERIOD_END);
 
@@ -83,13 +58,14 @@ public class BuffetTest {
   @BeforeEach
   public void setUp() {
     givenAReservationWithDinnerDate(LOCAL_DATE_TIME_DINNER_DATE);
-    buffet = new Buffet(dailyDishesQuantityFactory);
+    buffet = new Buffet(dailyDishesQuantityFactory, materialLedger);
   }
 
   @Test
   public void givenEmptyBuffet_whenUpdateDailyDishesQuantity_thenDailyDishesQuantityIsCreatedForReservation() {
     // given
     givenAReservationWithDinnerDate(LOCAL_DATE_TIME_DINNER_DATE);
+    given(dailyDishesQuantityFactory.create(aReservation)).willReturn(dailyDishesQuantity);
 
     // when
     buffet.updateDailyDishesQuantity(aReservation);
@@ -99,133 +75,94 @@ public class BuffetTest {
   }
 
   @Test
-  public void whenUpdateDailyDishesQuantity_thenDinnerDateIsFetchFromReservation() {
-    // when
-    buffet.updateDailyDishesQuantity(aReservation);
-
-    // then
-    verify(aReservation).getDinnerDate();
-  }
-
-  @Test
-  public void givenNoMaterialQuantityAtDinnerDate_whenUpdateDailyDishesQuantity_thenDailyDishesQuantityIsCreatedAtDinnerDate() {
+  public void whenUpdateDailyDishesQuantity_thenTheDishesQuantityOfTheDinnerDateIsRecordedInTheMaterialLedger() {
     // given
-    givenAReservationWithDinnerDate(LOCAL_DATE_TIME_DINNER_DATE);
+    Map<Material, BigDecimal> dishesQuantity = Map.of(Material.FORK, BigDecimal.TEN);
     given(dailyDishesQuantityFactory.create(aReservation)).willReturn(dailyDishesQuantity);
+    given(dailyDishesQuantity.getDishesQuantity()).willReturn(dishesQuantity);
 
     // when
     buffet.updateDailyDishesQuantity(aReservation);
 
     // then
-    assertThat(buffet.getAllDailyDishesQuantity()
-                     .get(LOCAL_DATE_DINNER_DATE)).isEqualTo(dailyDishesQuantity);
-
+    verify(materialLedger).record(LOCAL_DATE_DINNER_DATE, dishesQuantity);
   }
 
   @Test
-  public void givenExistingDailyDishesQuantityAtDinnerDate_whenUpdateDailyDishesQuantity_thenExistingDailyDishesQuantityIsUpdated() {
+  public void whenGetMaterialReport_thenTheReportIsReadFromTheMaterialLedger() {
     // given
-    given(dailyDishesQuantityFactory.create(aReservation)).willReturn(dailyDishesQuantity);
-    buffet.updateDailyDishesQuantity(aReservation);
-    given(anotherReservation.getDinnerDate()).willReturn(LOCAL_DATE_TIME_DINNER_DATE);
-    given(anotherReservation.getNumberOfCustomers()).willReturn(ANOTHER_CUSTOMER_COUNT);
-    given(anotherReservation.getNumberOfRestrictions()).willReturn(ANOTHER_RESTRICTION_COUNT);
+    ReportPeriod reportPeriod = new ReportPeriod(REPORT_PERIOD_START, REPORT_PERIOD_END);
 
     // when
-    buffet.updateDailyDishesQuantity(anotherReservation);
+    buffet.getMaterialReport(reportPeriod);
 
     // then
-    verify(dailyDishesQuantity).updateQuantity(ANOTHER_CUSTOMER_COUNT, ANOTHER_RESTRICTION_COUNT);
+    verify(materialLedger).getReport(reportPeriod);
   }
 
   @Test
-  public void givenNoExistingDishesQuantity_whenGetDishesQuantity_thenDoNotReturnAnyDishesQuantity() {
+  public void whenUpdateDailyDishesQuantity_thenDinnerDateIsFetchFromReservation() {
     // given
-    ReportPeriod reportPeriod = new ReportPeriod(REPORT_PERIOD_START, REPORT_PERIOD_END);
+    given(dailyDishesQuantityFactory.create(aReservation)).willReturn(dailyDishesQuantity);
 
     // when
-    Map<LocalDate, DailyDishesQuantity> dailyDishesQuantities = buffet.getDishesQuantityByDate(reportPeriod);
+    buffet.updateDailyDishesQuantity(aReservation);
 
     // then
-    assertThat(dailyDishesQuantities).isEmpty();
+    verify(aReservation).getDinnerDay();
   }
 
   @Test
-  public void givenOnlyDishesQuantityWithinReportPeriod_whenGetDishesQuantity_thenReturnAllDishesQuantity() {
+  public void givenExistingDailyDishesQuantityAtDinnerDate_whenUpdateDailyDishesQuantity_thenExistingDailyDishesQuantityIsUpdated() {
     // given
-    ReportPeriod reportPeriod = new ReportPeriod(REPORT_PERIOD_START, REPORT_PERIOD_END);
-    given(aReservation.getDinnerDate()).willReturn(A_DINNER_DATE_WITHIN_REPORT_PERIOD);
-    given(anotherReservation.getDinnerDate()).willReturn(ANOTHER_DINNER_DATE_WITHIN_REPORT_PERIOD);
     given(dailyDishesQuantityFactory.create(aReservation)).willReturn(dailyDishesQuantity);
-    given(dailyDishesQuantityFactory.create(anotherReservation)).willReturn(anotherDailyDishesQuantity);
     buffet.updateDailyDishesQuantity(aReservation);
-    buffet.updateDailyDishesQuantity(anotherReservation);
+    given(anotherReservation.getDinnerDay()).willReturn(LOCAL_DATE_TIME_DINNER_DATE.toLocalDate());
+    given(anotherReservation.getNumberOfCustomers()).willReturn(ANOTHER_CUSTOMER_COUNT);
+    given(anotherReservation.getNumberOfRestrictions()).willReturn(ANOTHER_RESTRICTION_COUNT);
 
     // when
-    Map<LocalDate, DailyDishesQuantity> dailyDishesQuantities = buffet.getDishesQuantityByDate(reportPeriod);
+    buffet.updateDailyDishesQuantity(anotherReservation);
 
     // then
-    assertThat(dailyDishesQuantities).containsExactly(A_DINNER_DATE_WITHIN_REPORT_PERIOD.toLocalDate(),
-                                                      dailyDishesQuantity,
-                                                      ANOTHER_DINNER_DATE_WITHIN_REPORT_PERIOD.toLocalDate(),
-                                                      anotherDailyDishesQuantity);
+    verify(dailyDishesQuantity).updateQuantity(ANOTHER_CUSTOMER_COUNT, ANOTHER_RESTRICTION_COUNT);
+  }
 
+  private void givenAReservationWithDinnerDate(LocalDateTime dinnerDate) {
+    given(aReservation.getNumberOfCustomers()).willReturn(A_CUSTOMER_COUNT);
+    given(aReservation.getNumberOfRestrictions()).willReturn(A_RESTRICTION_COUNT);
+    given(aReservation.getDinnerDay()).willReturn(dinnerDate.toLocalDate());
   }
 
   @Test
-  public void givenDailyDishesQuantityWithinReportPeriodAndOneBefore_whenGetDishesQuantity_thenAllDailyDishesQuantityWithinPeriodAndTheLastOneBefore() {
+  public void whenRestoreDailyDishesQuantity_thenDishesQuantityIsRecordedInMaterialLedger() {
     // given
-    ReportPeriod reportPeriod = new ReportPeriod(REPORT_PERIOD_START, REPORT_PERIOD_END);
-    given(aReservation.getDinnerDate()).willReturn(A_DINNER_DATE_WITHIN_REPORT_PERIOD);
-    given(anotherReservation.getDinnerDate()).willReturn(ANOTHER_DINNER_DATE_WITHIN_REPORT_PERIOD);
-    given(reservationBeforeReportPeriod.getDinnerDate()).willReturn(DINNER_DATE_BEFORE_REPORT_PERIOD);
-    given(dailyDishesQuantityFactory.create(aReservation)).willReturn(dailyDishesQuantity);
-    given(dailyDishesQuantityFactory.create(anotherReservation)).willReturn(anotherDailyDishesQuantity);
-    given(dailyDishesQuantityFactory.create(reservationBeforeReportPeriod)).willReturn(lastDailyDishesQuantityBeforeReportPeriodStart);
-    buffet.updateDailyDishesQuantity(anotherReservation);
-    buffet.updateDailyDishesQuantity(aReservation);
-    buffet.updateDailyDishesQuantity(reservationBeforeReportPeriod);
+    Map<Material, BigDecimal> dishesQuantity = givenDishesQuantity();
 
     // when
-    Map<LocalDate, DailyDishesQuantity> dailyDishesQuantities = buffet.getDishesQuantityByDate(reportPeriod);
+    buffet.restoreDailyDishesQuantity(LOCAL_DATE_DINNER_DATE, dishesQuantity);
 
     // then
-    Map<LocalDate, DailyDishesQuantity> expectedQuantities = expectedDishesQuantitiesWithOneBeforeReportPeriod();
-    assertThat(dailyDishesQuantities).containsExactlyEntriesIn(expectedQuantities);
+    verify(materialLedger).record(LOCAL_DATE_DINNER_DATE, dishesQuantity);
   }
 
   @Test
-  public void givenOneDailyDishesQuantityWithinReportPeriodAndOneAfter_whenGetDishesQuantity_theReturnTheDishesQuantityWithinTheReportPeriod() {
+  public void givenARestoredDailyDishesQuantity_whenCopyDailyDishesQuantities_thenTheRestoredQuantitiesAreCopied() {
     // given
-    ReportPeriod reportPeriod = new ReportPeriod(REPORT_PERIOD_START, REPORT_PERIOD_END);
-    given(aReservation.getDinnerDate()).willReturn(A_DINNER_DATE_WITHIN_REPORT_PERIOD);
-    given(anotherReservation.getDinnerDate()).willReturn(DINNER_DATE_AFTER_REPORT_PERIOD);
-    given(dailyDishesQuantityFactory.create(aReservation)).willReturn(dailyDishesQuantity);
-    given(dailyDishesQuantityFactory.create(anotherReservation)).willReturn(anotherDailyDishesQuantity);
-    buffet.updateDailyDishesQuantity(anotherReservation);
-    buffet.updateDailyDishesQuantity(aReservation);
+    buffet.restoreDailyDishesQuantity(LOCAL_DATE_DINNER_DATE, givenDishesQuantity());
 
     // when
-    Map<LocalDate, DailyDishesQuantity> dailyDishesQuantities = buffet.getDishesQuantityByDate(reportPeriod);
+    Map<LocalDate, Map<Material, BigDecimal>> dishesQuantityPerDay = buffet.copyDailyDishesQuantities();
 
     // then
-    assertThat(dailyDishesQuantities).containsExactly(A_DINNER_DATE_WITHIN_REPORT_PERIOD.toLocalDate(),
-                                                      dailyDishesQuantity);
-  }
-
-  private void givenAReservationWithDinnerDate(LocalDateTime dinnerDate) {
-    given(aReservation.getNumberOfCustomers()).willReturn(A_CUSTOMER_COUNT);
-    given(aReservation.getNumberOfRestrictions()).willReturn(A_RESTRICTION_COUNT);
-    given(aReservation.getDinnerDate()).willReturn(dinnerDate);
+    assertThat(dishesQuantityPerDay).containsExactly(LOCAL_DATE_DINNER_DATE, givenDishesQuantity());
   }
 
-  private Map<LocalDate, DailyDishesQuantity> expectedDishesQuantitiesWithOneBeforeReportPeriod() {
-    Map<LocalDate, DailyDishesQuantity> dishesQuantities = new HashMap<>();
-    dishesQuantities.put(A_DINNER_DATE_WITHIN_REPORT_PERIOD.toLocalDate(), dailyDishesQuantity);
-    dishesQuantities.put(ANOTHER_DINNER_DATE_WITHIN_REPORT_PERIOD.toLocalDate(),
-                         anotherDailyDishesQuantity);
-    dishesQuantities.put(DINNER_DATE_BEFORE_REPORT_PERIOD.toLocalDate(),
-                         lastDailyDishesQuantityBeforeReportPeriodStart);
-    return dishesQuantities;
+  private Map<Material, BigDecimal> givenDishesQuantity() {
+    Map<Material, BigDecimal> dishesQuantity = new HashMap<>();
+    dishesQuantity.put(Material.FORK, BigDecimal.valueOf(17));
+    dishesQuantity.put(Material.PLATE, BigDecimal.valueOf(17));
+    dishesQuantity.put(Material.BOWL, BigDecimal.valueOf(12));
+    return dishesQuantity;
   }
 }
@@ -9,10 +9,12 @@ import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+
 public class CleanMaterialPriceCalculatorTest {
   private static final BigDecimal SOME_MATERIAL_QUANTITY = BigDecimal.valueOf(3);
-  private static final BigDecimal EXPECTED_PRICE_BASE_CUSTOMER = BigDecimal.valueOf(200);
-  private static final BigDecimal EXPECTED_EMPTY_PRICE = BigDecimal.ZERO;
+  private static final Money EXPECTED_PRICE_BASE_CUSTOMER = Money.of(200);
+  private static final Money EXPECTED_EMPTY_PRICE = Money.ZERO;
 
   private CleanMaterialPriceCalculator cleanMaterialPriceCalculator;
 
@@ -27,7 +29,7 @@ public class CleanMaterialPriceCalculatorTest {
     Map<Material, BigDecimal> cleanedDishes = givenDishesQuantity();
 
     // when
-    BigDecimal cleanPrice = cleanMaterialPriceCalculator.calculateCleaningPrice(cleanedDishes);
+    Money cleanPrice = cleanMaterialPriceCalculator.calculateCleaningPrice(cleanedDishes);
 
     // then
     assertThat(cleanPrice).isEquivalentAccordingToCompareTo(EXPECTED_PRICE_BASE_CUSTOMER);
@@ -39,7 +41,7 @@ public class CleanMaterialPriceCalculatorTest {
     Map<Material, BigDecimal> cleanedDishes = givenEmptyDishes();
 
     // when
-    BigDecimal cleanPrice = cleanMaterialPriceCalculator.calculateCleaningPrice(cleanedDishes);
+    Money cleanPrice = cleanMaterialPriceCalculator.calculateCleaningPrice(cleanedDishes);
 
     // then
     assertThat(cleanPrice).isEquivalentAccordingToCompareTo(EXPECTED_EMPTY_PRICE);
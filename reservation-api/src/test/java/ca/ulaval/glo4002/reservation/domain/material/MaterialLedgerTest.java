@@ -0,0 +1,183 @@
+package ca.ulaval.glo4002.reservation.domain.material;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.report.ReportPeriod;
+
+class MaterialLedgerTest {
+  private static final LocalDate A_DATE = LocalDate.of(2150, 7, 21);
+  private static final LocalDate A_LATER_DATE = LocalDate.of(2150, 7, 23);
+  private static final LocalDate A_DATE_IN_BETWEEN = LocalDate.of(2150, 7, 22);
+  private static final ReportPeriod A_PERIOD_STARTING_AFTER_THE_FIRST_DATE = new ReportPeriod(A_DATE_IN_BETWEEN,
+                                                                                              A_LATER_DATE);
+  private static final ReportPeriod A_PERIOD_WITHOUT_RESERVATIONS = new ReportPeriod(LocalDate.of(2150, 7, 25),
+                                                                                     LocalDate.of(2150, 7, 27));
+  private static final BigDecimal FEW_DISHES = BigDecimal.valueOf(5);
+  private static final BigDecimal MORE_DISHES = BigDecimal.valueOf(12);
+  private static final long A_SEED = 4002L;
+  private static final int NUMBER_OF_RANDOM_RESERVATIONS = 200;
+  private static final int NUMBER_OF_DAYS = 15;
+
+  private MaterialReportGenerator materialReportGenerator;
+  private MaterialLedger materialLedger;
+
+  @BeforeEach
+  public void setUpMaterialLedger() {
+    materialReportGenerator = new MaterialReportGenerator(new CleanMaterialPriceCalculator(),
+                                                          new MaterialToBuyPriceCalculator());
+    materialLedger = new MaterialLedger(materialReportGenerator);
+  }
+
+  @Test
+  public void givenADayBeforeThePeriod_whenGetReport_thenItIsNotReportedButItsDishesAreCleanedTheNextDay() {
+    // given
+    materialLedger.record(A_DATE, givenDishes(FEW_DISHES));
+    materialLedger.record(A_LATER_DATE, givenDishes(MORE_DISHES));
+
+    // when
+    MaterialReport materialReport = materialLedger.getReport(A_PERIOD_STARTING_AFTER_THE_FIRST_DATE);
+
+    // then
+    List<MaterialReportInformation> materialReportInformation = materialReport.getMaterialReportInformation();
+    assertThat(materialReportInformation).hasSize(1);
+    assertThat(materialReportInformation.get(0).getDate()).isEqualTo(A_LATER_DATE);
+    assertThat(materialReportInformation.get(0).getCleanedDishes().get(Material.BOWL)).isEqualTo(FEW_DISHES);
+    assertThat(materialReportInformation.get(0).getBoughtDishes().get(Material.BOWL)).isEqualTo(BigDecimal.valueOf(7));
+    assertThat(materialReport.getMaterialCost()).isEqualTo(materialReportInformation.get(0).getTotalPrice());
+  }
+
+  @Test
+  public void givenADayRecordedBeforeAnExistingDay_whenGetReport_thenTheExistingDayCleansTheDishesOfTheNewDay() {
+    // given
+    materialLedger.record(A_LATER_DATE, givenDishes(MORE_DISHES));
+    materialLedger.record(A_DATE_IN_BETWEEN, givenDishes(FEW_DISHES));
+
+    // when
+    MaterialReport materialReport = materialLedger.getReport(A_PERIOD_STARTING_AFTER_THE_FIRST_DATE);
+
+    // then
+    MaterialReportInformation laterDay = materialReport.getMaterialReportInformation().get(1);
+    assertThat(laterDay.getCleanedDishes().get(Material.FORK)).isEqualTo(FEW_DISHES);
+  }
+
+  @Test
+  public void givenADayRecordedTwice_whenGetReport_thenTheLastDishesQuantityIsUsed() {
+    // given
+    materialLedger.record(A_DATE, givenDishes(FEW_DISHES));
+    materialLedger.record(A_DATE, givenDishes(MORE_DISHES));
+
+    // when
+    MaterialReport materialReport = materialLedger.getReport(new ReportPeriod(A_DATE, A_DATE));
+
+    // then
+    assertThat(materialReport.getMaterialReportInformation()
+                             .get(0)
+                             .getBoughtDishes()
+                             .get(Material.SPOON)).isEqualTo(MORE_DISHES);
+  }
+
+  @Test
+  public void givenAPeriodWithoutReservations_whenGetReport_thenReportIsEmpty() {
+    // given
+    materialLedger.record(A_DATE, givenDishes(FEW_DISHES));
+
+    // when
+    MaterialReport materialReport = materialLedger.getReport(A_PERIOD_WITHOUT_RESERVATIONS);
+
+    // then
+    assertThat(materialReport.getMaterialReportInformation()).isEmpty();
+    assertThat(materialReport.getMaterialCost()).isEqualTo(Money.ZERO);
+  }
+
+  @Test
+  public void givenNoReservations_whenGetTotalMaterialCost_thenCostIsZero() {
+    // when
+    Money totalMaterialCost = materialLedger.getTotalMaterialCost();
+
+    // then
+    assertThat(totalMaterialCost).isEqualTo(Money.ZERO);
+  }
+
+  @Test
+  public void givenRandomReservations_whenGetReport_thenReportMatchesTheReportGeneratedFromScratch() {
+    // given
+    Random random = new Random(A_SEED);
+    Map<LocalDate, DailyDishesQuantity> dailyDishesQuantities = new HashMap<>();
+    for (int reservation = 0; reservation < NUMBER_OF_RANDOM_RESERVATIONS; reservation++) {
+      LocalDate date = A_DATE.plusDays(random.nextInt(NUMBER_OF_DAYS));
+      int numberOfCustomers = 1 + random.nextInt(6);
+      int numberOfRestrictions = random.nextInt(numberOfCustomers + 1);
+      dailyDishesQuantities.computeIfAbsent(date, newDate -> new DailyDishesQuantity())
+                           .updateQuantity(numberOfCustomers, numberOfRestrictions);
+      materialLedger.record(date, dailyDishesQuantities.get(date).getDishesQuantity());
+    }
+    MaterialReport expectedReport = new MaterialReport(generateMaterialReportInformationFromScratch(dailyDishesQuantities));
+    ReportPeriod reportPeriod = new ReportPeriod(A_DATE.plusDays(4), A_DATE.plusDays(10));
+
+    // when
+    MaterialReport materialReport = materialLedger.getReport(reportPeriod);
+
+    // then
+    List<MaterialReportInformation> expectedMaterialReportInformation = expectedReport.getMaterialReportInformation()
+                                                                                      .stream()
+                                                                                      .filter(information -> !information.getDate()
+                                                                                                                         .isBefore(reportPeriod.getStartDate())
+                                                                                                             && !information.getDate()
+                                                                                                                            .isAfter(reportPeriod.getEndDate()))
+                                                                                      .collect(Collectors.toList());
+    assertSameMaterialReportInformation(materialReport.getMaterialReportInformation(),
+                                        expectedMaterialReportInformation);
+    assertThat(materialReport.getMaterialCost()).isEqualTo(new MaterialReport(expectedMaterialReportInformation).getMaterialCost());
+    assertThat(materialLedger.getTotalMaterialCost()).isEqualTo(expectedReport.getMaterialCost());
+  }
+
+  private List<MaterialReportInformation> generateMaterialReportInformationFromScratch(Map<LocalDate, DailyDishesQuantity> dailyDishesQuantities) {
+    List<MaterialReportInformation> materialReportInformation = new ArrayList<>();
+    Map<Material, BigDecimal> availableDishes = materialReportGenerator.getInitialDishesQuantities();
+    for (LocalDate date : new TreeSet<>(dailyDishesQuantities.keySet())) {
+      Map<Material, BigDecimal> neededDishes = dailyDishesQuantities.get(date).getDishesQuantity();
+      materialReportInformation.add(materialReportGenerator.generateDailyMaterialReportInformation(date,
+                                                                                                  availableDishes,
+                                                                                                  neededDishes));
+      availableDishes = neededDishes;
+    }
+    return materialReportInformation;
+  }
+
+  private void assertSameMaterialReportInformation(List<MaterialReportInformation> materialReportInformation,
+                                                   List<MaterialReportInformation> expectedMaterialReportInformation)
+  {
+    assertThat(materialReportInformation).hasSize(expectedMaterialReportInformation.size());
+    for (int day = 0; day < expectedMaterialReportInformation.size(); day++) {
+      MaterialReportInformation dailyMaterialReportInformation = materialReportInformation.get(day);
+      MaterialReportInformation expectedDailyMaterialReportInformation = expectedMaterialReportInformation.get(day);
+      assertThat(dailyMaterialReportInformation.getDate()).isEqualTo(expectedDailyMaterialReportInformation.getDate());
+      assertThat(dailyMaterialReportInformation.getCleanedDishes()).isEqualTo(expectedDailyMaterialReportInformation.getCleanedDishes());
+      assertThat(dailyMaterialReportInformation.getBoughtDishes()).isEqualTo(expectedDailyMaterialReportInformation.getBoughtDishes());
+      assertThat(dailyMaterialReportInformation.getTotalPrice()).isEqualTo(expectedDailyMaterialReportInformation.getTotalPrice());
+    }
+  }
+
+  private Map<Material, BigDecimal> givenDishes(BigDecimal quantity) {
+    Map<Material, BigDecimal> dishes = new EnumMap<>(Material.class);
+    for (Material material : Material.values()) {
+      dishes.put(material, quantity);
+    }
+    return dishes;
+  }
+}
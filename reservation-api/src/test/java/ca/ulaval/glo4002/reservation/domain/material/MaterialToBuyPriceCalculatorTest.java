@@ -9,10 +9,12 @@ import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+
 public class MaterialToBuyPriceCalculatorTest {
-  private static final BigDecimal EXPECTED_PRICE_BASE_CUSTOMER = BigDecimal.valueOf(1200);
+  private static final Money EXPECTED_PRICE_BASE_CUSTOMER = Money.of(1200);
   private static final BigDecimal SOME_MATERIAL_QUANTITY = BigDecimal.valueOf(3);
-  private static final BigDecimal EXPECTED_EMPTY_PRICE = BigDecimal.ZERO;
+  private static final Money EXPECTED_EMPTY_PRICE = Money.ZERO;
 
   private MaterialToBuyPriceCalculator materialToBuyPriceCalculator;
 
@@ -27,7 +29,7 @@ public class MaterialToBuyPriceCalculatorTest {
     Map<Material, BigDecimal> boughtDishes = givenDishesQuantity();
 
     // when
-    BigDecimal buyPrice = materialToBuyPriceCalculator.calculateBuyPrice(boughtDishes);
+    Money buyPrice = materialToBuyPriceCalculator.calculateBuyPrice(boughtDishes);
 
     // then
     assertThat(buyPrice).isEquivalentAccordingToCompareTo(EXPECTED_PRICE_BASE_CUSTOMER);
@@ -39,7 +41,7 @@ public class MaterialToBuyPriceCalculatorTest {
     Map<Material, BigDecimal> boughtDishes = givenEmptyDishes();
 
     // when
-    BigDecimal buyPrice = materialToBuyPriceCalculator.calculateBuyPrice(boughtDishes);
+    Money buyPrice = materialToBuyPriceCalculator.calculateBuyPrice(boughtDishes);
 
     // then
     assertThat(buyPrice).isEquivalentAccordingToCompareTo(EXPECTED_EMPTY_PRICE);
@@ -0,0 +1,138 @@
+package ca.ulaval.glo4002.reservation.domain.money;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class MoneyTest {
+  private static final Money AN_AMOUNT = Money.of(1000);
+  private static final Money ANOTHER_AMOUNT = Money.ofCents(550);
+  private static final Money A_LARGE_AMOUNT = Money.ofCents(Long.MAX_VALUE - 1);
+
+  @Test
+  public void givenTwoAmounts_whenAdd_thenCentsAreSummed() {
+    // when
+    Money sum = AN_AMOUNT.add(ANOTHER_AMOUNT);
+
+    // then
+    assertThat(sum).isEqualTo(Money.ofCents(100550));
+  }
+
+  @Test
+  public void givenTwoAmounts_whenSubtract_thenCentsAreSubtracted() {
+    // when
+    Money difference = ANOTHER_AMOUNT.subtract(AN_AMOUNT);
+
+    // then
+    assertThat(difference).isEqualTo(Money.ofCents(-99450));
+  }
+
+  @Test
+  public void givenAnAmount_whenMultiply_thenCentsAreMultiplied() {
+    // when
+    Money product = ANOTHER_AMOUNT.multiply(3);
+
+    // then
+    assertThat(product).isEqualTo(Money.ofCents(1650));
+  }
+
+  @Test
+  public void givenALargeAmount_whenAddOverflows_thenThrowArithmeticException() {
+    // when
+    Executable addingPastTheLimit = () -> A_LARGE_AMOUNT.add(ANOTHER_AMOUNT);
+
+    // then
+    assertThrows(ArithmeticException.class, addingPastTheLimit);
+  }
+
+  @Test
+  public void givenALargeAmount_whenMultiplyOverflows_thenThrowArithmeticException() {
+    // when
+    Executable multiplyingPastTheLimit = () -> A_LARGE_AMOUNT.multiply(2);
+
+    // then
+    assertThrows(ArithmeticException.class, multiplyingPastTheLimit);
+  }
+
+  @Test
+  public void givenTooManyUnits_whenOf_thenThrowArithmeticException() {
+    // when
+    Executable creatingPastTheLimit = () -> Money.of(Long.MAX_VALUE / 10);
+
+    // then
+    assertThrows(ArithmeticException.class, creatingPastTheLimit);
+  }
+
+  @Test
+  public void givenAnAmountWithMoreThanTwoDecimals_whenValueOf_thenThrowArithmeticException() {
+    // when
+    Executable convertingWithoutRounding = () -> Money.valueOf(new BigDecimal("12.345"));
+
+    // then
+    assertThrows(ArithmeticException.class, convertingWithoutRounding);
+  }
+
+  @Test
+  public void givenAnAmountWithMoreThanTwoDecimals_whenValueOfWithARoundingMode_thenAmountIsRounded() {
+    // when
+    Money roundedUp = Money.valueOf(new BigDecimal("12.345"), RoundingMode.HALF_UP);
+    Money roundedDown = Money.valueOf(new BigDecimal("12.345"), RoundingMode.HALF_DOWN);
+
+    // then
+    assertThat(roundedUp).isEqualTo(Money.ofCents(1235));
+    assertThat(roundedDown).isEqualTo(Money.ofCents(1234));
+  }
+
+  @Test
+  public void givenAWholeAmount_whenToBigDecimal_thenScaleIsZero() {
+    // when
+    BigDecimal amount = AN_AMOUNT.toBigDecimal();
+
+    // then
+    assertThat(amount).isEqualTo(BigDecimal.valueOf(1000));
+  }
+
+  @Test
+  public void givenAnAmountWithTenths_whenToBigDecimal_thenScaleIsOne() {
+    // when
+    BigDecimal amount = ANOTHER_AMOUNT.toBigDecimal();
+
+    // then
+    assertThat(amount).isEqualTo(new BigDecimal("5.5"));
+  }
+
+  @Test
+  public void givenAnAmountWithCents_whenToBigDecimal_thenScaleIsTwo() {
+    // when
+    BigDecimal amount = Money.ofCents(1234).toBigDecimal();
+
+    // then
+    assertThat(amount).isEqualTo(new BigDecimal("12.34"));
+  }
+
+  @Test
+  public void givenABigDecimal_whenValueOfThenToBigDecimal_thenAmountIsUnchanged() {
+    // given
+    BigDecimal amount = new BigDecimal("-42.07");
+
+    // when
+    BigDecimal roundTrip = Money.valueOf(amount).toBigDecimal();
+
+    // then
+    assertThat(roundTrip).isEqualTo(amount);
+  }
+
+  @Test
+  public void givenTwoAmounts_whenCompareTo_thenAmountsAreOrderedByValue() {
+    // when
+    int comparison = ANOTHER_AMOUNT.compareTo(AN_AMOUNT);
+
+    // then
+    assertThat(comparison).isLessThan(0);
+  }
+}
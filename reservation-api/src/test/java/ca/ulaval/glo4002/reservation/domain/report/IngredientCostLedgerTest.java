@@ -0,0 +1,380 @@
+package ca.ulaval.glo4002.reservation.domain.report;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.report.exception.IngredientNotFoundException;
+import ca.ulaval.glo4002.reservation.infra.inmemory.InMemoryIngredientQuantityRepository;
+
+class IngredientCostLedgerTest {
+  private static final LocalDate A_DATE = LocalDate.of(2150, 7, 21);
+  private static final LocalDate ANOTHER_DATE = LocalDate.of(2150, 7, 22);
+  private static final LocalDate A_DATE_OUTSIDE_THE_PERIOD = LocalDate.of(2150, 7, 28);
+  private static final ReportPeriod A_PERIOD = new ReportPeriod(A_DATE, ANOTHER_DATE);
+  private static final int A_NUMBER_OF_DAYS_PER_TASK = 4;
+  private static final IngredientName AN_INGREDIENT = IngredientName.PEPPERONI;
+  private static final IngredientName ANOTHER_INGREDIENT = IngredientName.KIWI;
+  private static final BigDecimal A_QUANTITY = BigDecimal.valueOf(2.5);
+  private static final BigDecimal ANOTHER_QUANTITY = BigDecimal.valueOf(4);
+  private static final IngredientPrices SOME_PRICES = IngredientPrices.of(Map.of(AN_INGREDIENT,
+                                                                                 BigDecimal.valueOf(6.99),
+                                                                                 ANOTHER_INGREDIENT,
+                                                                                 BigDecimal.valueOf(0.99)));
+  private static final IngredientPrices OTHER_PRICES = IngredientPrices.of(Map.of(AN_INGREDIENT,
+                                                                                  BigDecimal.valueOf(7.5),
+                                                                                  ANOTHER_INGREDIENT,
+                                                                                  BigDecimal.valueOf(1)));
+  private static final long A_SEED = 4002L;
+  private static final int NUMBER_OF_RANDOM_RESERVATIONS = 300;
+  private static final int NUMBER_OF_DAYS = 10;
+  private static final int NUMBER_OF_RANDOM_PERIODS = 20;
+
+  private IngredientCostLedger ingredientCostLedger;
+
+  @BeforeEach
+  public void setUpIngredientCostLedger() {
+    ingredientCostLedger = new IngredientCostLedger(new ParallelDailyReportEngine(ForkJoinPool.commonPool(),
+                                                                                  A_NUMBER_OF_DAYS_PER_TASK));
+  }
+
+  @Test
+  public void givenRecordedDays_whenGetReport_thenOnlyTheDaysOfThePeriodAreReported() {
+    // given
+    ingredientCostLedger.record(A_DATE, Map.of(AN_INGREDIENT, A_QUANTITY));
+    ingredientCostLedger.record(A_DATE_OUTSIDE_THE_PERIOD, Map.of(AN_INGREDIENT, A_QUANTITY));
+
+    // when
+    IngredientReport ingredientReport = ingredientCostLedger.getReport(A_PERIOD, SOME_PRICES);
+
+    // then
+    assertThat(ingredientReport.getDailyIngredientsInformation().keySet()).containsExactly(A_DATE);
+  }
+
+  @Test
+  public void givenTwoRecordsOnTheSameDay_whenGetReport_thenQuantitiesAreSummedAndPriced() {
+    // given
+    ingredientCostLedger.record(A_DATE, Map.of(AN_INGREDIENT, A_QUANTITY));
+    ingredientCostLedger.record(A_DATE, Map.of(AN_INGREDIENT, ANOTHER_QUANTITY, ANOTHER_INGREDIENT, A_QUANTITY));
+
+    // when
+    IngredientReport ingredientReport = ingredientCostLedger.getReport(A_PERIOD, SOME_PRICES);
+
+    // then
+    DailyIngredientReportInformation day = ingredientReport.getDailyIngredientsInformation().get(A_DATE);
+    assertThat(day.getIngredientsReportInformation()).containsExactly(new IngredientReportInformation(AN_INGREDIENT,
+                                                                                                      BigDecimal.valueOf(6.5),
+                                                                                                      BigDecimal.valueOf(45.435)),
+                                                                      new IngredientReportInformation(ANOTHER_INGREDIENT,
+                                                                                                      A_QUANTITY,
+                                                                                                      BigDecimal.valueOf(2.475)));
+    assertThat(day.calculateDailyTotalPrice()).isEqualTo(new BigDecimal("47.910"));
+  }
+
+  @Test
+  public void givenUnchangedPricesAndQuantities_whenGetReportAgain_thenThePricedDayIsReused() {
+    // given
+    ingredientCostLedger.record(A_DATE, Map.of(AN_INGREDIENT, A_QUANTITY));
+    IngredientReport firstReport = ingredientCostLedger.getReport(A_PERIOD, SOME_PRICES);
+
+    // when
+    IngredientReport secondReport = ingredientCostLedger.getReport(A_PERIOD, IngredientPrices.of(SOME_PRICES.toMap()));
+
+    // then
+    assertThat(secondReport.getDailyIngredientsInformation()
+                           .get(A_DATE)).isSameInstanceAs(firstReport.getDailyIngredientsInformation().get(A_DATE));
+  }
+
+  @Test
+  public void givenANewRecordOnADay_whenGetReport_thenOnlyThatDayIsPricedAgain() {
+    // given
+    ingredientCostLedger.record(A_DATE, Map.of(AN_INGREDIENT, A_QUANTITY));
+    ingredientCostLedger.record(ANOTHER_DATE, Map.of(AN_INGREDIENT, A_QUANTITY));
+    IngredientReport firstReport = ingredientCostLedger.getReport(A_PERIOD, SOME_PRICES);
+    ingredientCostLedger.record(A_DATE, Map.of(AN_INGREDIENT, A_QUANTITY));
+
+    // when
+    IngredientReport secondReport = ingredientCostLedger.getReport(A_PERIOD, SOME_PRICES);
+
+    // then
+    assertThat(secondReport.getDailyIngredientsInformation()
+                           .get(ANOTHER_DATE)).isSameInstanceAs(firstReport.getDailyIngredientsInformation()
+                                                                           .get(ANOTHER_DATE));
+    assertThat(secondReport.getDailyIngredientsInformation()
+                           .get(A_DATE)
+                           .calculateDailyTotalPrice()).isEqualTo(new BigDecimal("34.950"));
+  }
+
+  @Test
+  public void givenNewPrices_whenGetReport_thenDaysAreRepriced() {
+    // given
+    ingredientCostLedger.record(A_DATE, Map.of(AN_INGREDIENT, A_QUANTITY));
+    ingredientCostLedger.getReport(A_PERIOD, SOME_PRICES);
+
+    // when
+    IngredientReport ingredientReport = ingredientCostLedger.getReport(A_PERIOD, OTHER_PRICES);
+
+    // then
+    assertThat(ingredientReport.calculateTotalPriceForEntireReport()).isEqualTo(BigDecimal.valueOf(18.75));
+  }
+
+  @Test
+  public void givenAnIngredientWithoutPrice_whenGetReport_thenThrowIngredientNotFoundException() {
+    // given
+    ingredientCostLedger.record(A_DATE, Map.of(IngredientName.BACON, A_QUANTITY));
+
+    // when
+    Executable gettingTheReport = () -> ingredientCostLedger.getReport(A_PERIOD, SOME_PRICES);
+
+    // then
+    assertThrows(IngredientNotFoundException.class, gettingTheReport);
+  }
+
+  @Test
+  public void givenRecordedDays_whenGetTotalReport_thenQuantitiesOfThePeriodAreSummedPerIngredientAndPriced() {
+    // given
+    ingredientCostLedger.record(A_DATE, Map.of(AN_INGREDIENT, A_QUANTITY));
+    ingredientCostLedger.record(ANOTHER_DATE, Map.of(AN_INGREDIENT, ANOTHER_QUANTITY, ANOTHER_INGREDIENT, A_QUANTITY));
+    ingredientCostLedger.record(A_DATE_OUTSIDE_THE_PERIOD, Map.of(AN_INGREDIENT, A_QUANTITY));
+
+    // when
+    IngredientReport ingredientReport = ingredientCostLedger.getTotalReport(A_PERIOD, SOME_PRICES);
+
+    // then
+    assertThat(ingredientReport.generateTotalIngredientReportInformation()).containsExactly(AN_INGREDIENT,
+                                                                                           new IngredientReportInformation(AN_INGREDIENT,
+                                                                                                                           BigDecimal.valueOf(6.5),
+                                                                                                                           BigDecimal.valueOf(45.435)),
+                                                                                           ANOTHER_INGREDIENT,
+                                                                                           new IngredientReportInformation(ANOTHER_INGREDIENT,
+                                                                                                                           A_QUANTITY,
+                                                                                                                           BigDecimal.valueOf(2.475)));
+    assertThat(ingredientReport.calculateTotalPriceForEntireReport()).isEqualTo(new BigDecimal("47.910"));
+  }
+
+  @Test
+  public void givenNoRecordInThePeriod_whenGetTotalReport_thenReportIsEmpty() {
+    // given
+    ingredientCostLedger.record(A_DATE_OUTSIDE_THE_PERIOD, Map.of(IngredientName.BACON, A_QUANTITY));
+
+    // when
+    IngredientReport ingredientReport = ingredientCostLedger.getTotalReport(A_PERIOD, SOME_PRICES);
+
+    // then
+    assertThat(ingredientReport.generateTotalIngredientReportInformation()).isEmpty();
+    assertThat(ingredientReport.calculateTotalPriceForEntireReport()).isEqualTo(BigDecimal.valueOf(0));
+  }
+
+  @Test
+  public void givenAnIngredientWithoutPrice_whenGetTotalReport_thenThrowIngredientNotFoundException() {
+    // given
+    ingredientCostLedger.record(A_DATE, Map.of(IngredientName.BACON, A_QUANTITY));
+
+    // when
+    Executable gettingTheReport = () -> ingredientCostLedger.getTotalReport(A_PERIOD, SOME_PRICES);
+
+    // then
+    assertThrows(IngredientNotFoundException.class, gettingTheReport);
+  }
+
+  @Test
+  public void givenRecordedDays_whenGetTotalCost_thenEveryRecordedDayIsPriced() {
+    // given
+    ingredientCostLedger.record(A_DATE, Map.of(AN_INGREDIENT, A_QUANTITY));
+    ingredientCostLedger.record(ANOTHER_DATE, Map.of(AN_INGREDIENT, ANOTHER_QUANTITY, ANOTHER_INGREDIENT, A_QUANTITY));
+
+    // when
+    BigDecimal totalCost = ingredientCostLedger.getTotalCost(SOME_PRICES);
+
+    // then
+    assertThat(totalCost).isEqualTo(new BigDecimal("47.910"));
+  }
+
+  @Test
+  public void givenNoRecord_whenGetTotalCost_thenTotalCostIsZero() {
+    // when
+    BigDecimal totalCost = ingredientCostLedger.getTotalCost(SOME_PRICES);
+
+    // then
+    assertThat(totalCost).isEqualTo(BigDecimal.valueOf(0));
+  }
+
+  @Test
+  public void givenAPricedTotalCost_whenRecordingAnotherDay_thenTotalCostIncludesTheNewDay() {
+    // given
+    ingredientCostLedger.record(A_DATE, Map.of(AN_INGREDIENT, A_QUANTITY));
+    ingredientCostLedger.getTotalCost(SOME_PRICES);
+    ingredientCostLedger.record(ANOTHER_DATE, Map.of(AN_INGREDIENT, ANOTHER_QUANTITY, ANOTHER_INGREDIENT, A_QUANTITY));
+
+    // when
+    BigDecimal totalCost = ingredientCostLedger.getTotalCost(SOME_PRICES);
+
+    // then
+    assertThat(totalCost).isEqualTo(new BigDecimal("47.910"));
+  }
+
+  @Test
+  public void givenNewPrices_whenGetTotalCost_thenTotalCostIsRepriced() {
+    // given
+    ingredientCostLedger.record(A_DATE, Map.of(AN_INGREDIENT, A_QUANTITY));
+    ingredientCostLedger.getTotalCost(SOME_PRICES);
+
+    // when
+    BigDecimal totalCost = ingredientCostLedger.getTotalCost(OTHER_PRICES);
+
+    // then
+    assertThat(totalCost).isEqualTo(BigDecimal.valueOf(18.75));
+  }
+
+  @Test
+  public void givenAnIngredientWithoutPrice_whenGetTotalCost_thenThrowIngredientNotFoundException() {
+    // given
+    ingredientCostLedger.getTotalCost(SOME_PRICES);
+    ingredientCostLedger.record(A_DATE, Map.of(IngredientName.BACON, A_QUANTITY));
+
+    // when
+    Executable gettingTheTotalCost = () -> ingredientCostLedger.getTotalCost(SOME_PRICES);
+
+    // then
+    assertThrows(IngredientNotFoundException.class, gettingTheTotalCost);
+  }
+
+  @Test
+  public void givenRandomReservations_whenGetTotalCost_thenTotalCostMatchesTheReportGeneratedFromScratch() {
+    // given
+    Random random = new Random(A_SEED);
+    InMemoryIngredientQuantityRepository ingredientQuantityRepository = new InMemoryIngredientQuantityRepository();
+    IngredientPrices ingredientPrices = givenPricesForEveryIngredient(random);
+    List<LocalDate> days = A_DATE.datesUntil(A_DATE.plusDays(NUMBER_OF_DAYS)).collect(Collectors.toList());
+    for (int reservation = 0; reservation < NUMBER_OF_RANDOM_RESERVATIONS; reservation++) {
+      LocalDate date = days.get(random.nextInt(NUMBER_OF_DAYS));
+      Map<IngredientName, BigDecimal> ingredientsQuantity = givenRandomIngredientsQuantity(random);
+      ingredientQuantityRepository.updateIngredientsQuantity(new HashMap<>(ingredientsQuantity), date);
+      ingredientCostLedger.record(date, ingredientsQuantity);
+      if (reservation % 50 == 0) {
+        ingredientCostLedger.getTotalCost(ingredientPrices);
+      }
+    }
+    IngredientReport expectedReport = givenAReportGeneratedFromScratch(ingredientPrices,
+                                                                       ingredientQuantityRepository,
+                                                                       days);
+
+    // when
+    BigDecimal totalCost = ingredientCostLedger.getTotalCost(ingredientPrices);
+
+    // then
+    assertThat(totalCost).isEqualTo(expectedReport.calculateTotalPriceForEntireReport());
+  }
+
+  @Test
+  public void givenRandomReservations_whenGetTotalReportForRandomPeriods_thenTotalsMatchTheReportGeneratedFromScratch() {
+    // given
+    Random random = new Random(A_SEED);
+    InMemoryIngredientQuantityRepository ingredientQuantityRepository = new InMemoryIngredientQuantityRepository();
+    IngredientPrices ingredientPrices = givenPricesForEveryIngredient(random);
+    List<LocalDate> days = A_DATE.datesUntil(A_DATE.plusDays(NUMBER_OF_DAYS)).collect(Collectors.toList());
+    for (int reservation = 0; reservation < NUMBER_OF_RANDOM_RESERVATIONS; reservation++) {
+      LocalDate date = days.get(random.nextInt(NUMBER_OF_DAYS));
+      Map<IngredientName, BigDecimal> ingredientsQuantity = givenRandomIngredientsQuantity(random);
+      ingredientQuantityRepository.updateIngredientsQuantity(new HashMap<>(ingredientsQuantity), date);
+      ingredientCostLedger.record(date, ingredientsQuantity);
+    }
+
+    for (int query = 0; query < NUMBER_OF_RANDOM_PERIODS; query++) {
+      int firstDay = random.nextInt(NUMBER_OF_DAYS);
+      int lastDay = firstDay + random.nextInt(NUMBER_OF_DAYS - firstDay);
+      IngredientReport expectedReport = givenAReportGeneratedFromScratch(ingredientPrices,
+                                                                         ingredientQuantityRepository,
+                                                                         days.subList(firstDay, lastDay + 1));
+
+      // when
+      IngredientReport ingredientReport = ingredientCostLedger.getTotalReport(new ReportPeriod(days.get(firstDay),
+                                                                                               days.get(lastDay)),
+                                                                              ingredientPrices);
+
+      // then
+      assertThat(ingredientReport.calculateTotalPriceForEntireReport()).isEqualTo(expectedReport.calculateTotalPriceForEntireReport());
+      assertThat(ingredientReport.generateTotalIngredientReportInformation()).isEqualTo(expectedReport.generateTotalIngredientReportInformation());
+    }
+  }
+
+  @Test
+  public void givenRandomReservations_whenGetReport_thenReportMatchesTheReportGeneratedFromScratch() {
+    // given
+    Random random = new Random(A_SEED);
+    InMemoryIngredientQuantityRepository ingredientQuantityRepository = new InMemoryIngredientQuantityRepository();
+    IngredientPrices ingredientPrices = givenPricesForEveryIngredient(random);
+    List<LocalDate> days = A_DATE.datesUntil(A_DATE.plusDays(NUMBER_OF_DAYS)).collect(Collectors.toList());
+    ReportPeriod period = new ReportPeriod(A_DATE, A_DATE.plusDays(NUMBER_OF_DAYS - 1));
+    for (int reservation = 0; reservation < NUMBER_OF_RANDOM_RESERVATIONS; reservation++) {
+      LocalDate date = days.get(random.nextInt(NUMBER_OF_DAYS));
+      Map<IngredientName, BigDecimal> ingredientsQuantity = givenRandomIngredientsQuantity(random);
+      ingredientQuantityRepository.updateIngredientsQuantity(new HashMap<>(ingredientsQuantity), date);
+      ingredientCostLedger.record(date, ingredientsQuantity);
+      if (reservation % 50 == 0) {
+        ingredientCostLedger.getReport(period, ingredientPrices);
+      }
+    }
+    IngredientReport expectedReport = givenAReportGeneratedFromScratch(ingredientPrices,
+                                                                       ingredientQuantityRepository,
+                                                                       days);
+
+    // when
+    IngredientReport ingredientReport = ingredientCostLedger.getReport(period, ingredientPrices);
+
+    // then
+    assertThat(ingredientReport.calculateTotalPriceForEntireReport()
+                               .compareTo(expectedReport.calculateTotalPriceForEntireReport())).isEqualTo(0);
+    assertThat(ingredientReport.generateTotalIngredientReportInformation()).isEqualTo(expectedReport.generateTotalIngredientReportInformation());
+  }
+
+  private IngredientPrices givenPricesForEveryIngredient(Random random) {
+    Map<IngredientName, BigDecimal> ingredientNameToPrice = new EnumMap<>(IngredientName.class);
+    for (IngredientName ingredientName : IngredientName.values()) {
+      ingredientNameToPrice.put(ingredientName, BigDecimal.valueOf(random.nextInt(10000), 2));
+    }
+    return IngredientPrices.of(ingredientNameToPrice);
+  }
+
+  private Map<IngredientName, BigDecimal> givenRandomIngredientsQuantity(Random random) {
+    Map<IngredientName, BigDecimal> ingredientsQuantity = new EnumMap<>(IngredientName.class);
+    for (IngredientName ingredientName : IngredientName.values()) {
+      if (random.nextInt(4) == 0) {
+        ingredientsQuantity.put(ingredientName, BigDecimal.valueOf(random.nextInt(1000), random.nextInt(3)));
+      }
+    }
+    return ingredientsQuantity;
+  }
+
+  private IngredientReport givenAReportGeneratedFromScratch(IngredientPrices ingredientPrices,
+                                                            InMemoryIngredientQuantityRepository ingredientQuantityRepository,
+                                                            List<LocalDate> period)
+  {
+    Map<LocalDate, DailyIngredientReportInformation> dailyIngredientsInformation = new HashMap<>();
+    ingredientQuantityRepository.getReportIngredientQuantity(period).forEach((date, ingredientsQuantity) -> {
+      Set<IngredientReportInformation> ingredientsReportInformation = new HashSet<>();
+      ingredientsQuantity.forEach((ingredientName, quantity) -> {
+        BigDecimal totalPrice = ingredientPrices.getPricePerKg(ingredientName).multiply(quantity);
+        ingredientsReportInformation.add(new IngredientReportInformation(ingredientName, quantity, totalPrice));
+      });
+      dailyIngredientsInformation.put(date, new DailyIngredientReportInformation(ingredientsReportInformation));
+    });
+    return new IngredientReport(dailyIngredientsInformation);
+  }
+}
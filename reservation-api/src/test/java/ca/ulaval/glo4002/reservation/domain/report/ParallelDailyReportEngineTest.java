@@ -0,0 +1,114 @@
+package ca.ulaval.glo4002.reservation.domain.report;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import ca.ulaval.glo4002.reservation.domain.report.exception.IngredientNotFoundException;
+
+public class ParallelDailyReportEngineTest {
+  private static final int A_PARALLELISM = 4;
+  private static final int A_NUMBER_OF_DAYS_PER_TASK = 8;
+  private static final int A_LARGE_NUMBER_OF_DAYS = 1000;
+  private static final int A_FAILING_DAY = 513;
+
+  private ForkJoinPool forkJoinPool;
+  private ParallelDailyReportEngine parallelDailyReportEngine;
+
+  @BeforeEach
+  public void setUpEngine() {
+    forkJoinPool = new ForkJoinPool(A_PARALLELISM);
+    parallelDailyReportEngine = new ParallelDailyReportEngine(forkJoinPool, A_NUMBER_OF_DAYS_PER_TASK);
+  }
+
+  @AfterEach
+  public void shutDownPool() {
+    forkJoinPool.shutdownNow();
+  }
+
+  @Test
+  public void givenManyDays_whenComputeEachDay_thenResultsAreTheSequentialResultsInDayOrder() {
+    // given
+    List<Long> days = givenRandomDays(A_LARGE_NUMBER_OF_DAYS);
+    List<Long> expectedResults = new ArrayList<>();
+    for (Long day : days) {
+      expectedResults.add(computeDay(day));
+    }
+
+    // when
+    List<Long> results = parallelDailyReportEngine.computeEachDay(days, this::computeDay);
+
+    // then
+    assertThat(results).containsExactlyElementsIn(expectedResults).inOrder();
+  }
+
+  @Test
+  public void givenFewerDaysThanOneTask_whenComputeEachDay_thenDaysAreComputedOnTheCallingThread() {
+    // given
+    List<Long> days = givenRandomDays(A_NUMBER_OF_DAYS_PER_TASK);
+    Thread callingThread = Thread.currentThread();
+
+    // when
+    List<Thread> computingThreads = parallelDailyReportEngine.computeEachDay(days, day -> Thread.currentThread());
+
+    // then
+    assertThat(new HashSet<>(computingThreads)).containsExactly(callingThread);
+  }
+
+  @Test
+  public void givenManyDays_whenComputeEachDay_thenEveryDayIsComputedOnce() {
+    // given
+    List<Long> days = givenRandomDays(A_LARGE_NUMBER_OF_DAYS);
+    AtomicInteger numberOfComputedDays = new AtomicInteger();
+
+    // when
+    parallelDailyReportEngine.computeEachDay(days, day -> numberOfComputedDays.incrementAndGet());
+
+    // then
+    assertThat(numberOfComputedDays.get()).isEqualTo(A_LARGE_NUMBER_OF_DAYS);
+  }
+
+  @Test
+  public void givenADayThatFails_whenComputeEachDay_thenTheExceptionIsPropagated() {
+    // given
+    List<Long> days = new ArrayList<>();
+    for (long day = 0; day < A_LARGE_NUMBER_OF_DAYS; day++) {
+      days.add(day);
+    }
+
+    // when
+    Executable computingEachDay = () -> parallelDailyReportEngine.computeEachDay(days, day -> {
+      if (day == A_FAILING_DAY) {
+        throw new IngredientNotFoundException();
+      }
+      return day;
+    });
+
+    // then
+    assertThrows(IngredientNotFoundException.class, computingEachDay);
+  }
+
+  private List<Long> givenRandomDays(int numberOfDays) {
+    Random random = new Random(4002L);
+    List<Long> days = new ArrayList<>();
+    for (int day = 0; day < numberOfDays; day++) {
+      days.add(random.nextLong());
+    }
+    return days;
+  }
+
+  private Long computeDay(Long day) {
+    return Long.rotateLeft(day, 7) ^ (day * 31);
+  }
+}
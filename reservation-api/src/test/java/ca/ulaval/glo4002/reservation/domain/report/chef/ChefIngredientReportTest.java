@@ -2,7 +2,7 @@ package ca.ulaval.glo4002.reservation.domain.report.chef;
 
 import static com.google.common.truth.Truth.assertThat;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import ca.ulaval.glo4002.reservation.domain.chef.Chef;
 import ca.ulaval.glo4002.reservation.domain.chef.ChefPriority;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
 
 public class ChefIngredientReportTest {
@@ -18,8 +19,8 @@ public class ChefIngredientReportTest {
   private static final ChefPriority A_CHEF_TYPE = ChefPriority.SECOND;
   private static final String A_CHEF_NAME = "Bob Smarties";
   private static final Set<RestrictionType> SOME_SPECIALTIES = Set.of(RestrictionType.VEGAN);
-  private static final String A_DATE = "2020-10-23";
-  private static final BigDecimal A_PRICE = BigDecimal.TEN;
+  private static final LocalDate A_DATE = LocalDate.of(2020, 10, 23);
+  private static final Money A_PRICE = Money.of(10);
 
   private ChefReport chefReport;
 
@@ -2,7 +2,7 @@ package ca.ulaval.glo4002.reservation.domain.report.chef;
 
 import static com.google.common.truth.Truth.assertThat;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import ca.ulaval.glo4002.reservation.domain.chef.Chef;
 import ca.ulaval.glo4002.reservation.domain.chef.ChefPriority;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
 
 class ChefReportInformationComparatorTest {
@@ -20,7 +21,7 @@ class ChefReportInformationComparatorTest {
   private static final Chef A_CHEF = new Chef(A_CHEF_NAME, A_CHEF_TYPE, SOME_SPECIALTIES);
 
   private static final Set<Chef> SOME_CHEFS = Set.of(A_CHEF);
-  private static final BigDecimal A_TOTAL_PRICE = BigDecimal.TEN;
+  private static final Money A_TOTAL_PRICE = Money.of(10);
   private ChefReportInformationComparator comparator;
 
   @BeforeEach
@@ -31,7 +32,7 @@ class ChefReportInformationComparatorTest {
   @Test
   public void givenChefReportInformationWithSameDates_whenCompare_thenReturnZero() {
     // given
-    String date = "2020-12-12";
+    LocalDate date = LocalDate.of(2020, 12, 12);
     ChefReportInformation chefReportInformation = givenAChefReportInformationWithDate(date);
 
     // when
@@ -44,8 +45,8 @@ class ChefReportInformationComparatorTest {
   @Test
   public void givenFirstChefReportInformationWithEarlierDate_whenCompare_thenReturnNegativeOne() {
     // given
-    String earlierDate = "2020-12-12";
-    String laterDate = "2021-12-12";
+    LocalDate earlierDate = LocalDate.of(2020, 12, 12);
+    LocalDate laterDate = LocalDate.of(2021, 12, 12);
     ChefReportInformation earlierChefReportInformation = givenAChefReportInformationWithDate(earlierDate);
     ChefReportInformation laterChefReportInformation = givenAChefReportInformationWithDate(laterDate);
 
@@ -59,8 +60,8 @@ class ChefReportInformationComparatorTest {
   @Test
   public void givenFirstChefReportInformationWithLaterDate_whenCompare_thenReturnNegativeOne() {
     // given
-    String earlierDate = "2020-12-12";
-    String laterDate = "2021-12-12";
+    LocalDate earlierDate = LocalDate.of(2020, 12, 12);
+    LocalDate laterDate = LocalDate.of(2021, 12, 12);
     ChefReportInformation earlierChefReportInformation = givenAChefReportInformationWithDate(earlierDate);
     ChefReportInformation laterChefReportInformation = givenAChefReportInformationWithDate(laterDate);
 
@@ -71,7 +72,7 @@ class ChefReportInformationComparatorTest {
     assertThat(result).isEqualTo(1);
   }
 
-  private ChefReportInformation givenAChefReportInformationWithDate(String date) {
+  private ChefReportInformation givenAChefReportInformationWithDate(LocalDate date) {
     return new ChefReportInformation(SOME_CHEFS, date, A_TOTAL_PRICE);
   }
 
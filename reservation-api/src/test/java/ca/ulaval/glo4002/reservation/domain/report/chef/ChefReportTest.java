@@ -2,7 +2,8 @@ package ca.ulaval.glo4002.reservation.domain.report.chef;
 
 import static com.google.common.truth.Truth.assertThat;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import ca.ulaval.glo4002.reservation.domain.chef.Chef;
 import ca.ulaval.glo4002.reservation.domain.chef.ChefPriority;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -22,10 +24,11 @@ class ChefReportTest {
   private static final Set<RestrictionType> SOME_SPECIALTIES = Set.of(RestrictionType.NONE);
   private static final Chef A_CHEF = new Chef(A_CHEF_NAME, A_CHEF_TYPE, SOME_SPECIALTIES);
   private static final Set<Chef> SOME_CHEFS = Set.of(A_CHEF);
-  private static final BigDecimal A_TOTAL_PRICE = BigDecimal.valueOf(1205);
-  private static final BigDecimal ANOTHER_TOTAL_PRICE = BigDecimal.valueOf(53425);
-  private static final String FIRST_DATE = "2150-07-22";
-  private static final String SECOND_DATE = "2150-07-24";
+  private static final Money A_TOTAL_PRICE = Money.of(1205);
+  private static final Money ANOTHER_TOTAL_PRICE = Money.of(53425);
+  private static final LocalDate FIRST_DATE = LocalDate.of(2150, 7, 22);
+  private static final LocalDate SECOND_DATE = LocalDate.of(2150, 7, 24);
+  private static final LocalDate THIRD_DATE = LocalDate.of(2150, 7, 26);
 
   private ChefReport chefReport;
 
@@ -45,6 +48,35 @@ class ChefReportTest {
     assertThat(chefReport.getChefReportInformations().get(1).getDate()).isEqualTo(SECOND_DATE);
   }
 
+  @Test
+  public void whenAddingReportInformationOutOfOrder_thenReportInformationAreKeptChronologically() {
+    // when
+    chefReport.addChefReportInformation(THIRD_DATE, SOME_CHEFS, A_TOTAL_PRICE);
+    chefReport.addChefReportInformation(FIRST_DATE, SOME_CHEFS, A_TOTAL_PRICE);
+    chefReport.addChefReportInformation(SECOND_DATE, SOME_CHEFS, ANOTHER_TOTAL_PRICE);
+
+    // then
+    assertThat(chefReport.getChefReportInformations().get(0).getDate()).isEqualTo(FIRST_DATE);
+    assertThat(chefReport.getChefReportInformations().get(1).getDate()).isEqualTo(SECOND_DATE);
+    assertThat(chefReport.getChefReportInformations().get(2).getDate()).isEqualTo(THIRD_DATE);
+  }
+
+  @Test
+  public void givenChronologicalReportInformation_whenCreatingReport_thenReportKeepsTheirOrder() {
+    // given
+    ChefReportInformation firstChefReportInformation = new ChefReportInformation(SOME_CHEFS, FIRST_DATE);
+    ChefReportInformation secondChefReportInformation = new ChefReportInformation(SOME_CHEFS, SECOND_DATE);
+
+    // when
+    ChefReport chronologicalChefReport = new ChefReport(List.of(firstChefReportInformation,
+                                                                secondChefReportInformation));
+
+    // then
+    assertThat(chronologicalChefReport.getChefReportInformations()).containsExactly(firstChefReportInformation,
+                                                                                    secondChefReportInformation)
+                                                                   .inOrder();
+  }
+
   @Test
   public void givenAListOfReportInformation_whenGetTotalPrice_thenShouldReturnTheRightNumber() {
     // given
@@ -52,10 +84,10 @@ class ChefReportTest {
     chefReport.addChefReportInformation(FIRST_DATE, SOME_CHEFS, ANOTHER_TOTAL_PRICE);
 
     // when
-    BigDecimal actualPrice = chefReport.getTotalChefPrice();
+    Money actualPrice = chefReport.getTotalChefPrice();
 
     // when
-    BigDecimal expectedPrice = A_TOTAL_PRICE.add(ANOTHER_TOTAL_PRICE);
+    Money expectedPrice = A_TOTAL_PRICE.add(ANOTHER_TOTAL_PRICE);
     assertThat(actualPrice).isEqualTo(expectedPrice);
 
 
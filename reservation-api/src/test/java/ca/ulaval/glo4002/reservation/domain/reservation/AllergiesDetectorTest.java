@@ -1,55 +1,39 @@
 package ca.ulaval.glo4002.reservation.domain.reservation;
 
 import static com.google.common.truth.Truth.assertThat;
-import static org.mockito.BDDMockito.given;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.util.*;
 
-import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
-import ca.ulaval.glo4002.reservation.domain.reservation.ingredient.ReservationIngredientCalculator;
-import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-import ca.ulaval.glo4002.reservation.domain.builder.CustomerBuilder;
-import ca.ulaval.glo4002.reservation.domain.builder.ReservationBuilder;
-import ca.ulaval.glo4002.reservation.domain.builder.TableBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.ReservationEvaluationBuilder;
 import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.ledger.DailyLedger;
 
-@ExtendWith(MockitoExtension.class)
 class AllergiesDetectorTest {
   private static final RestrictionType ALLERGIES_RESTRICTION = RestrictionType.ALLERGIES;
   private static final RestrictionType VEGAN_RESTRICTION = RestrictionType.VEGAN;
   private static final RestrictionType NONE_RESTRICTION = RestrictionType.NONE;
   private static final IngredientName CARROTS_INGREDIENT = IngredientName.CARROTS;
-  private static final LocalDateTime A_DATE_TIME = LocalDateTime.of(2050, 7, 20, 9, 33, 20, 0);
-
-  @Mock
-  private ReservationIngredientCalculator reservationIngredientCalculator;
+  private static final BigDecimal A_QUANTITY = BigDecimal.valueOf(2.0);
 
   private AllergiesDetector allergiesDetector;
 
   @BeforeEach
   public void setUp() {
-    allergiesDetector = new AllergiesDetector(reservationIngredientCalculator);
+    allergiesDetector = new AllergiesDetector();
   }
 
   @Test
   public void givenReservationWithoutAllergies_whenCheckingIfAllergicFriendly_thenReservationIsAllowed() {
     // given
-    Reservation reservation = givenReservationWithoutAllergicCustomer();
-    List<Reservation> existingReservations = givenNoPriorReservations();
-    Map<IngredientName, BigDecimal> dailyIngredients = givenNoCarrotsInReservationDayMenu();
+    ReservationEvaluation reservationEvaluation = givenReservationWithoutAllergicCustomer();
+    DailyLedger dailyLedger = givenNoPriorReservations();
 
     // when
-    boolean isReservationAllowed = allergiesDetector.isReservationAllergicFriendly(reservation,
-                                                                                   existingReservations,
-                                                                                   dailyIngredients);
+    boolean isReservationAllowed = allergiesDetector.isReservationAllergicFriendly(reservationEvaluation,
+                                                                                   dailyLedger);
 
     // then
     assertThat(isReservationAllowed).isTrue();
@@ -58,14 +42,12 @@ class AllergiesDetectorTest {
   @Test
   public void givenAllergiesAndCarrotsInReservationDayMenu_whenCheckingIfAllergicFriendly_thenReservationIsForbidden() {
     // given
-    Reservation reservation = givenReservationWithAllergicCustomer();
-    List<Reservation> existingReservations = Collections.singletonList(reservation);
-    Map<IngredientName, BigDecimal> dailyIngredients = givenCarrotInReservationDayMenu();
+    ReservationEvaluation reservationEvaluation = givenReservationWithAllergicCustomer();
+    DailyLedger dailyLedger = givenCarrotInReservationDayMenu();
 
     // when
-    boolean isReservationAllowed = allergiesDetector.isReservationAllergicFriendly(reservation,
-                                                                                   existingReservations,
-                                                                                   dailyIngredients);
+    boolean isReservationAllowed = allergiesDetector.isReservationAllergicFriendly(reservationEvaluation,
+                                                                                   dailyLedger);
 
     // then
     assertThat(isReservationAllowed).isFalse();
@@ -74,14 +56,12 @@ class AllergiesDetectorTest {
   @Test
   public void givenAllergiesAndNoCarrotsInReservationDayMenu_whenCheckingIfAllergicFriendly_thenReservationIsAllowed() {
     // given
-    Reservation reservation = givenReservationWithAllergicCustomer();
-    List<Reservation> existingReservations = Collections.singletonList(reservation);
-    Map<IngredientName, BigDecimal> dailyIngredients = givenNoCarrotsInReservationDayMenu();
+    ReservationEvaluation reservationEvaluation = givenReservationWithAllergicCustomer();
+    DailyLedger dailyLedger = givenNoCarrotsInReservationDayMenu();
 
     // when
-    boolean isReservationAllowed = allergiesDetector.isReservationAllergicFriendly(reservation,
-                                                                                   existingReservations,
-                                                                                   dailyIngredients);
+    boolean isReservationAllowed = allergiesDetector.isReservationAllergicFriendly(reservationEvaluation,
+                                                                                   dailyLedger);
 
     // then
     assertThat(isReservationAllowed).isTrue();
@@ -90,16 +70,15 @@ class AllergiesDetectorTest {
   @Test
   public void givenReservationWithoutCarrots_whenCheckingIfAllergicFriendly_thenReservationIsAllowed() {
     // given
-    Reservation reservation = givenReservationWithoutAllergicCustomer();
-    Map<IngredientName, BigDecimal> ingredientQuantity = givenIngredientQuantity(IngredientName.BACON);
-    given(reservationIngredientCalculator.getReservationIngredientsQuantity(reservation)).willReturn(ingredientQuantity);
-    List<Reservation> existingReservations = Collections.singletonList(reservation);
-    Map<IngredientName, BigDecimal> dailyIngredients = givenNoCarrotsInReservationDayMenu();
+    ReservationEvaluation reservationEvaluation = new ReservationEvaluationBuilder().withCustomer(VEGAN_RESTRICTION)
+                                                                                    .withIngredient(IngredientName.BACON,
+                                                                                                    A_QUANTITY)
+                                                                                    .build();
+    DailyLedger dailyLedger = givenAllergicCustomerInReservationDay();
 
     // when
-    boolean isReservationAllowed = allergiesDetector.isReservationAllergicFriendly(reservation,
-                                                                                   existingReservations,
-                                                                                   dailyIngredients);
+    boolean isReservationAllowed = allergiesDetector.isReservationAllergicFriendly(reservationEvaluation,
+                                                                                   dailyLedger);
 
     // then
     assertThat(isReservationAllowed).isTrue();
@@ -108,16 +87,12 @@ class AllergiesDetectorTest {
   @Test
   public void givenCarrotsAndNoAllergiesInReservationDate_whenCheckingIfAllergicFriendly_thenReservationIsAllowed() {
     // given
-    Reservation reservation = givenReservationWithCarrots();
-    Map<IngredientName, BigDecimal> ingredientQuantity = givenIngredientQuantity(CARROTS_INGREDIENT);
-    given(reservationIngredientCalculator.getReservationIngredientsQuantity(reservation)).willReturn(ingredientQuantity);
-    List<Reservation> existingReservations = Collections.singletonList(reservation);
-    Map<IngredientName, BigDecimal> dailyIngredients = givenNoCarrotsInReservationDayMenu();
+    ReservationEvaluation reservationEvaluation = givenReservationWithCarrots();
+    DailyLedger dailyLedger = givenNoCarrotsInReservationDayMenu();
 
     // when
-    boolean isReservationAllowed = allergiesDetector.isReservationAllergicFriendly(reservation,
-                                                                                   existingReservations,
-                                                                                   dailyIngredients);
+    boolean isReservationAllowed = allergiesDetector.isReservationAllergicFriendly(reservationEvaluation,
+                                                                                   dailyLedger);
 
     // then
     assertThat(isReservationAllowed).isTrue();
@@ -126,15 +101,12 @@ class AllergiesDetectorTest {
   @Test
   public void givenCarrotsAndAllergiesInReservationDate_whenCheckingIfAllergicFriendly_thenReservationIsForbidden() {
     // given
-    Reservation reservation = givenReservationWithCarrots();
-    Map<IngredientName, BigDecimal> ingredientQuantity = givenIngredientQuantity(CARROTS_INGREDIENT);
-    given(reservationIngredientCalculator.getReservationIngredientsQuantity(reservation)).willReturn(ingredientQuantity);
-    List<Reservation> existingReservations = createReservationRepositoryWithAllergies();
+    ReservationEvaluation reservationEvaluation = givenReservationWithCarrots();
+    DailyLedger dailyLedger = givenAllergicCustomerInReservationDay();
 
     // when
-    boolean isReservationAllowed = allergiesDetector.isReservationAllergicFriendly(reservation,
-                                                                                   existingReservations,
-                                                                                   ingredientQuantity);
+    boolean isReservationAllowed = allergiesDetector.isReservationAllergicFriendly(reservationEvaluation,
+                                                                                   dailyLedger);
 
     // then
     assertThat(isReservationAllowed).isFalse();
@@ -143,72 +115,54 @@ class AllergiesDetectorTest {
   @Test
   public void givenReservationWithAllergicCustomerAndCarrots_whenCheckingIfAllergicFriendly_thenReservationIsForbidden() {
     // given
-    Reservation reservation = givenReservationWithAllergicCustomerAndCarrots();
-    Map<IngredientName, BigDecimal> menuWithCarrots = Collections.singletonMap(CARROTS_INGREDIENT,
-                                                                               BigDecimal.valueOf(1.0));
-    List<Reservation> existingReservations = givenNoPriorReservations();
+    ReservationEvaluation reservationEvaluation = new ReservationEvaluationBuilder().withCustomer(ALLERGIES_RESTRICTION)
+                                                                                    .withCustomer(NONE_RESTRICTION)
+                                                                                    .withIngredient(CARROTS_INGREDIENT,
+                                                                                                    A_QUANTITY)
+                                                                                    .build();
+    DailyLedger dailyLedger = givenNoPriorReservations();
 
     // when
-    boolean isReservationAllowed = allergiesDetector.isReservationAllergicFriendly(reservation,
-                                                                                   existingReservations,
-                                                                                   menuWithCarrots);
+    boolean isReservationAllowed = allergiesDetector.isReservationAllergicFriendly(reservationEvaluation,
+                                                                                   dailyLedger);
 
     // then
     assertThat(isReservationAllowed).isFalse();
   }
 
-  private Reservation givenReservationWithoutAllergicCustomer() {
-    Customer nonAllergicCustomer = new CustomerBuilder().withRestriction(VEGAN_RESTRICTION).build();
-    Table table = new TableBuilder().withCustomer(nonAllergicCustomer).build();
-    return new ReservationBuilder().withTable(table).withDinnerDate(A_DATE_TIME).build();
-  }
-
-  private Reservation givenReservationWithAllergicCustomer() {
-    Customer allergicCustomer = new CustomerBuilder().withRestriction(ALLERGIES_RESTRICTION)
-                                                     .build();
-    Table table = new TableBuilder().withCustomer(allergicCustomer).build();
-    return new ReservationBuilder().withTable(table).withDinnerDate(A_DATE_TIME).build();
-  }
-
-  private Reservation givenReservationWithCarrots() {
-    Customer noneRestrictionCustomer = new CustomerBuilder().withRestriction(NONE_RESTRICTION)
-                                                            .build();
-    Table table = new TableBuilder().withCustomer(noneRestrictionCustomer).build();
-    return new ReservationBuilder().withTable(table).withDinnerDate(A_DATE_TIME).build();
+  private ReservationEvaluation givenReservationWithoutAllergicCustomer() {
+    return new ReservationEvaluationBuilder().withCustomer(VEGAN_RESTRICTION).build();
   }
 
-  private Reservation givenReservationWithAllergicCustomerAndCarrots() {
-    Customer carrotCustomer = new CustomerBuilder().withRestriction(NONE_RESTRICTION).build();
-    Customer allergicCustomer = new CustomerBuilder().withRestriction(ALLERGIES_RESTRICTION)
-                                                     .build();
-    Table table = new TableBuilder().withCustomer(allergicCustomer)
-                                    .withCustomer(carrotCustomer)
-                                    .build();
-    return new ReservationBuilder().withTable(table).withDinnerDate(A_DATE_TIME).build();
+  private ReservationEvaluation givenReservationWithAllergicCustomer() {
+    return new ReservationEvaluationBuilder().withCustomer(ALLERGIES_RESTRICTION).build();
   }
 
-  private List<Reservation> createReservationRepositoryWithAllergies() {
-    Customer customer = new CustomerBuilder().withRestriction(ALLERGIES_RESTRICTION).build();
-    Table table = new TableBuilder().withCustomer(customer).build();
-    Reservation reservation = new ReservationBuilder().withTable(table)
-                                                      .withDinnerDate(AllergiesDetectorTest.A_DATE_TIME)
-                                                      .build();
-    return Collections.singletonList(reservation);
+  private ReservationEvaluation givenReservationWithCarrots() {
+    return new ReservationEvaluationBuilder().withCustomer(NONE_RESTRICTION)
+                                             .withIngredient(CARROTS_INGREDIENT, A_QUANTITY)
+                                             .build();
   }
 
-  private Map<IngredientName, BigDecimal> givenIngredientQuantity(IngredientName ingredient) {
-    return Map.of(ingredient, BigDecimal.valueOf(2.0));
+  private DailyLedger givenAllergicCustomerInReservationDay() {
+    return new DailyLedger().record(givenReservationWithAllergicCustomer());
   }
 
-  private List<Reservation> givenNoPriorReservations() {
-    return new ArrayList<>();
+  private DailyLedger givenNoPriorReservations() {
+    return new DailyLedger();
   }
 
-  private Map<IngredientName, BigDecimal> givenNoCarrotsInReservationDayMenu() {
-    return new HashMap<>();
+  private DailyLedger givenNoCarrotsInReservationDayMenu() {
+    return new DailyLedger().record(new ReservationEvaluationBuilder().withCustomer(VEGAN_RESTRICTION)
+                                                                      .withIngredient(IngredientName.TOMATO,
+                                                                                      BigDecimal.ONE)
+                                                                      .build());
   }
 
-  private Map<IngredientName, BigDecimal> givenCarrotInReservationDayMenu() {
-    return Map.of(IngredientName.CARROTS, BigDecimal.ONE);
+  private DailyLedger givenCarrotInReservationDayMenu() {
+    return new DailyLedger().record(new ReservationEvaluationBuilder().withCustomer(NONE_RESTRICTION)
+                                                                      .withIngredient(CARROTS_INGREDIENT,
+                                                                                      BigDecimal.ONE)
+                                                                      .build());
   }
-}
\ No newline at end of file
+}
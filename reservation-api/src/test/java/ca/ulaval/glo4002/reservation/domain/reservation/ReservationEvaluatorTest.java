@@ -0,0 +1,85 @@
+package ca.ulaval.glo4002.reservation.domain.reservation;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ca.ulaval.glo4002.reservation.domain.builder.CustomerBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.ReservationBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.TableBuilder;
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.reservation.ingredient.IngredientCalculator;
+import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationEvaluatorTest {
+  private static final LocalDateTime A_DINNER_DATE = LocalDateTime.of(2150, 7, 22, 20, 0);
+  private static final Map<IngredientName, BigDecimal> SOME_INGREDIENTS_QUANTITY = Map.of(IngredientName.CARROTS,
+                                                                                          BigDecimal.TEN);
+
+  @Mock
+  private IngredientCalculator ingredientCalculator;
+
+  private ReservationEvaluator reservationEvaluator;
+  private Reservation reservation;
+
+  @BeforeEach
+  public void setUpReservationEvaluator() {
+    reservationEvaluator = new ReservationEvaluator(ingredientCalculator);
+    Table aTable = new TableBuilder().withCustomer(new CustomerBuilder().build())
+                                     .withCustomer(new CustomerBuilder().withRestriction(RestrictionType.VEGAN)
+                                                                        .withRestriction(RestrictionType.ALLERGIES)
+                                                                        .build())
+                                     .build();
+    Table anotherTable = new TableBuilder().withCustomer(new CustomerBuilder().withRestriction(RestrictionType.VEGETARIAN)
+                                                                              .build())
+                                           .build();
+    reservation = new ReservationBuilder().withDinnerDate(A_DINNER_DATE)
+                                          .withTable(aTable)
+                                          .withTable(anotherTable)
+                                          .build();
+  }
+
+  @Test
+  public void givenAReservation_whenEvaluate_thenCountsMatchTheReservation() {
+    // given
+    given(ingredientCalculator.getIngredientsQuantity(any())).willReturn(SOME_INGREDIENTS_QUANTITY);
+
+    // when
+    ReservationEvaluation reservationEvaluation = reservationEvaluator.evaluate(reservation);
+
+    // then
+    assertThat(reservationEvaluation.getReservation()).isEqualTo(reservation);
+    assertThat(reservationEvaluation.getDinnerDay()).isEqualTo(A_DINNER_DATE.toLocalDate());
+    assertThat(reservationEvaluation.getNumberOfCustomers()).isEqualTo(reservation.getNumberOfCustomers());
+    assertThat(reservationEvaluation.getNumberOfRestrictions()).isEqualTo(reservation.getNumberOfRestrictions());
+    assertThat(reservationEvaluation.getRestrictionTypeCount()).isEqualTo(reservation.getRestrictionTypeCount());
+    assertThat(reservationEvaluation.getReservationFees()).isEqualTo(reservation.getReservationFees());
+    assertThat(reservationEvaluation.hasAllergicCustomer()).isTrue();
+  }
+
+  @Test
+  public void givenAReservation_whenEvaluate_thenIngredientsAreComputedOnceFromTheRestrictionTypeCount() {
+    // given
+    given(ingredientCalculator.getIngredientsQuantity(reservation.getRestrictionTypeCount())).willReturn(SOME_INGREDIENTS_QUANTITY);
+
+    // when
+    ReservationEvaluation reservationEvaluation = reservationEvaluator.evaluate(reservation);
+
+    // then
+    verify(ingredientCalculator).getIngredientsQuantity(reservation.getRestrictionTypeCount());
+    assertThat(reservationEvaluation.getIngredientsQuantity()).isEqualTo(SOME_INGREDIENTS_QUANTITY);
+    assertThat(reservationEvaluation.containsIngredient(IngredientName.CARROTS)).isTrue();
+  }
+}
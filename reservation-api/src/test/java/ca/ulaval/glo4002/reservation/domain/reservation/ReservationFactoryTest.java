@@ -17,6 +17,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import ca.ulaval.glo4002.reservation.domain.ReservationRequest;
+import ca.ulaval.glo4002.reservation.domain.builder.CustomerBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.TableBuilder;
 import ca.ulaval.glo4002.reservation.domain.date.*;
 import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningEvent;
 
@@ -43,8 +45,7 @@ public class ReservationFactoryTest {
   @Mock
   private List<TableDto> tableDtos;
 
-  @Mock
-  private List<Table> tables;
+  private final List<Table> tables = List.of(new TableBuilder().withCustomer(new CustomerBuilder().build()).build());
 
   @Mock
   private Period dinnerDinerPeriod;
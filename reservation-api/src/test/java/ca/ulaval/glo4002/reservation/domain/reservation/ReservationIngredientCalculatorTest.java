@@ -1,62 +1,64 @@
 package ca.ulaval.glo4002.reservation.domain.reservation;
 
 import static com.google.common.truth.Truth.assertThat;
-import static org.mockito.BDDMockito.given;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 
-import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
 import ca.ulaval.glo4002.reservation.domain.reservation.ingredient.ReservationIngredientCalculator;
-import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
-import org.junit.jupiter.api.BeforeEach;
+import ca.ulaval.glo4002.reservation.domain.util.MapUtil;
+import ca.ulaval.glo4002.reservation.infra.inmemory.CourseRecipeFactory;
+import ca.ulaval.glo4002.reservation.infra.inmemory.FullCourseFactory;
+import ca.ulaval.glo4002.reservation.infra.inmemory.InMemoryMenuRepository;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-import ca.ulaval.glo4002.reservation.domain.builder.CustomerBuilder;
-import ca.ulaval.glo4002.reservation.domain.builder.ReservationBuilder;
-import ca.ulaval.glo4002.reservation.domain.builder.TableBuilder;
 import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
 import ca.ulaval.glo4002.reservation.domain.fullcourse.MenuRepository;
 
-@ExtendWith(MockitoExtension.class)
 class ReservationIngredientCalculatorTest {
-
-  private ReservationIngredientCalculator reservationIngredientCalculator;
-
-  @Mock
-  MenuRepository menuRepository;
-
-  @BeforeEach
-  public void setUp() {
-    reservationIngredientCalculator = new ReservationIngredientCalculator(menuRepository);
-  }
+  private static final long A_SEED = 4002L;
+  private static final int NUMBER_OF_RANDOM_RESERVATIONS = 200;
+  private static final int MAXIMUM_COUNT_PER_RESTRICTION_TYPE = 42;
 
   @Test
-  public void whenGetReservationIngredientsQuantity_thenReturnIngredientsQuantity() {
+  public void givenRandomRestrictionTypeCounts_whenGetIngredientsQuantity_thenTheResultMatchesMergingTheMenuMaps() {
     // given
-    Customer customer = new CustomerBuilder().withRestriction(RestrictionType.VEGAN).build();
-    Table table = new TableBuilder().withCustomer(customer).build();
-    Reservation reservation = new ReservationBuilder().withTable(table).build();
-    Map<IngredientName, BigDecimal> veganMenu = givenVeganCourseIngredientsQuantity();
-    given(menuRepository.getIngredientsQuantityByRestrictionType(RestrictionType.VEGAN)).willReturn(veganMenu);
+    MenuRepository inMemoryMenuRepository = new InMemoryMenuRepository(new FullCourseFactory(new CourseRecipeFactory()));
+    ReservationIngredientCalculator calculator = new ReservationIngredientCalculator(inMemoryMenuRepository);
+    Random random = new Random(A_SEED);
 
-    // when
-    Map<IngredientName, BigDecimal> ingredientQuantity = reservationIngredientCalculator.getReservationIngredientsQuantity(reservation);
+    for (int reservation = 0; reservation < NUMBER_OF_RANDOM_RESERVATIONS; reservation++) {
+      Map<RestrictionType, Integer> restrictionTypeCount = givenRandomRestrictionTypeCount(random);
+
+      // when
+      Map<IngredientName, BigDecimal> ingredientsQuantity = calculator.getIngredientsQuantity(restrictionTypeCount);
+
+      // then
+      assertThat(ingredientsQuantity).isEqualTo(mergeMenuMaps(inMemoryMenuRepository, restrictionTypeCount));
+    }
+  }
 
-    // then
-    assertThat(ingredientQuantity).isEqualTo(veganMenu);
+  private Map<RestrictionType, Integer> givenRandomRestrictionTypeCount(Random random) {
+    Map<RestrictionType, Integer> restrictionTypeCount = new HashMap<>();
+    for (RestrictionType restrictionType : RestrictionType.values()) {
+      if (random.nextBoolean()) {
+        restrictionTypeCount.put(restrictionType, 1 + random.nextInt(MAXIMUM_COUNT_PER_RESTRICTION_TYPE));
+      }
+    }
+    return restrictionTypeCount;
   }
 
-  private Map<IngredientName, BigDecimal> givenVeganCourseIngredientsQuantity() {
-    Map<IngredientName, BigDecimal> ingredientDoubleMap = new HashMap<>();
-    ingredientDoubleMap.put(IngredientName.TOMATO, BigDecimal.valueOf(5.0));
-    ingredientDoubleMap.put(IngredientName.KIWI, BigDecimal.valueOf(8.0));
-    ingredientDoubleMap.put(IngredientName.WORCESTERSHIRE_SAUCE, BigDecimal.valueOf(5.0));
-    ingredientDoubleMap.put(IngredientName.KIMCHI, BigDecimal.valueOf(10.0));
-    return ingredientDoubleMap;
+  private Map<IngredientName, BigDecimal> mergeMenuMaps(MenuRepository menuRepository,
+                                                        Map<RestrictionType, Integer> restrictionTypeCount)
+  {
+    Map<IngredientName, BigDecimal> ingredientsQuantity = new HashMap<>();
+    for (Map.Entry<RestrictionType, Integer> count : restrictionTypeCount.entrySet()) {
+      Map<IngredientName, BigDecimal> menuIngredients = new HashMap<>(menuRepository.getIngredientsQuantityByRestrictionType(count.getKey()));
+      menuIngredients.replaceAll((ingredientName, quantity) -> quantity.multiply(BigDecimal.valueOf(count.getValue())));
+      MapUtil.merge(ingredientsQuantity, menuIngredients);
+    }
+    return ingredientsQuantity;
   }
 }
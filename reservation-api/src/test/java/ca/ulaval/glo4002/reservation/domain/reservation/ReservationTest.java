@@ -4,11 +4,14 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.BDDMockito.given;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
 import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
 import org.junit.jupiter.api.Test;
@@ -18,18 +21,34 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import ca.ulaval.glo4002.reservation.domain.builder.CustomerBuilder;
 import ca.ulaval.glo4002.reservation.domain.builder.ReservationBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.TableBuilder;
 
 @ExtendWith(MockitoExtension.class)
 public class ReservationTest {
 
-  private static final BigDecimal NO_COST = BigDecimal.ZERO;
-  private static final BigDecimal A_TABLE_EXPECTED_PRICE = BigDecimal.valueOf(2500);
-  private static final BigDecimal ANOTHER_TABLE_EXPECTED_PRICE = BigDecimal.valueOf(2500);
-  private static final BigDecimal PRICE_WITH_TWO_TABLES = BigDecimal.valueOf(5000);
+  private static final Money NO_COST = Money.ZERO;
+  private static final Money A_TABLE_EXPECTED_PRICE = Money.of(2500);
+  private static final Money ANOTHER_TABLE_EXPECTED_PRICE = Money.of(2500);
+  private static final Money PRICE_WITH_TWO_TABLES = Money.of(5000);
   private static final Map<RestrictionType, Integer> TWO_VEGANS = Collections.singletonMap(RestrictionType.VEGAN,
                                                                                            2);
   private static final RestrictionType ALLERGIES_RESTRICTION = RestrictionType.ALLERGIES;
   private static final RestrictionType NONE_RESTRICTION = RestrictionType.NONE;
+  private static final long A_SEED = 4002L;
+  private static final int NUMBER_OF_RANDOM_RESERVATIONS = 500;
+  private static final int MAXIMUM_NUMBER_OF_TABLES = 3;
+  private static final int MAXIMUM_CUSTOMERS_PER_TABLE = 4;
+  private static final BigDecimal BASIC_CUSTOMER_FEES = BigDecimal.valueOf(1000);
+  private static final Map<RestrictionType, BigDecimal> RESTRICTION_FEES = Map.of(RestrictionType.VEGETARIAN,
+                                                                                  BigDecimal.valueOf(500),
+                                                                                  RestrictionType.VEGAN,
+                                                                                  BigDecimal.valueOf(1000),
+                                                                                  RestrictionType.ALLERGIES,
+                                                                                  BigDecimal.ZERO,
+                                                                                  RestrictionType.ILLNESS,
+                                                                                  BigDecimal.ZERO,
+                                                                                  RestrictionType.NONE,
+                                                                                  BigDecimal.ZERO);
 
   @Mock
   private Table aTable;
@@ -44,7 +63,7 @@ public class ReservationTest {
     Reservation reservation = new ReservationBuilder().withTable(aTable).build();
 
     // when
-    BigDecimal price = reservation.getReservationFees();
+    Money price = reservation.getReservationFees();
 
     // then
     assertThat(price).isEqualTo(NO_COST);
@@ -57,7 +76,7 @@ public class ReservationTest {
     Reservation reservation = new ReservationBuilder().withTable(aTable).build();
 
     // when
-    BigDecimal price = reservation.getReservationFees();
+    Money price = reservation.getReservationFees();
 
     // then
     assertThat(price).isEqualTo(A_TABLE_EXPECTED_PRICE);
@@ -73,7 +92,7 @@ public class ReservationTest {
                                                       .build();
 
     // when
-    BigDecimal price = reservation.getReservationFees();
+    Money price = reservation.getReservationFees();
 
     // then
     assertThat(price).isEqualTo(PRICE_WITH_TWO_TABLES);
@@ -82,14 +101,32 @@ public class ReservationTest {
   @Test
   public void givenAReservationWithTwoVeganCustomers_whenGetRestrictionTypeCount_thenReturnRestrictionTypeCount() {
     // given
-    given(aTable.getRestrictionTypeCount()).willReturn(TWO_VEGANS);
-    Reservation reservation = new ReservationBuilder().withTable(aTable).build();
+    Table table = new TableBuilder().withCustomer(new CustomerBuilder().withRestriction(RestrictionType.VEGAN).build())
+                                    .withCustomer(new CustomerBuilder().withRestriction(RestrictionType.VEGAN).build())
+                                    .build();
+    Reservation reservation = new ReservationBuilder().withTable(table).build();
 
     // when
     Map<RestrictionType, Integer> restrictionTypeCount = reservation.getRestrictionTypeCount();
 
     // then
-    assertThat(restrictionTypeCount.get(RestrictionType.VEGAN)).isEqualTo(2);
+    assertThat(restrictionTypeCount).isEqualTo(TWO_VEGANS);
+  }
+
+  @Test
+  public void givenAReservationWithTwoVeganCustomers_whenGetRestrictionCount_thenReturnTheNumberOfVegans() {
+    // given
+    Table table = new TableBuilder().withCustomer(new CustomerBuilder().withRestriction(RestrictionType.VEGAN).build())
+                                    .withCustomer(new CustomerBuilder().withRestriction(RestrictionType.VEGAN).build())
+                                    .build();
+    Reservation reservation = new ReservationBuilder().withTable(table).build();
+
+    // when
+    int numberOfVegans = reservation.getRestrictionCount(RestrictionType.VEGAN);
+
+    // then
+    assertThat(numberOfVegans).isEqualTo(2);
+    assertThat(reservation.getRestrictionCount(RestrictionType.ILLNESS)).isEqualTo(0);
   }
 
   @Test
@@ -98,8 +135,8 @@ public class ReservationTest {
     Customer customer = new CustomerBuilder().withRestriction(ALLERGIES_RESTRICTION)
                                              .withRestriction(NONE_RESTRICTION)
                                              .build();
-    given(aTable.getCustomers()).willReturn(Collections.singletonList(customer));
-    Reservation reservation = new ReservationBuilder().withTable(aTable).build();
+    Table table = new TableBuilder().withCustomer(customer).build();
+    Reservation reservation = new ReservationBuilder().withTable(table).build();
 
     // when
     Set<RestrictionType> restrictionTypes = reservation.getRestrictionTypes();
@@ -155,11 +192,13 @@ public class ReservationTest {
   @Test
   public void givenAReservationWithCustomersWithRestrictions_whenGetCountOfRestriction_thenReturnTheTotalCountOfRestrictions() {
     // given
-    given(aTable.getRestrictionTypeCount()).willReturn(Map.of(ALLERGIES_RESTRICTION,
-                                                              2,
-                                                              NONE_RESTRICTION,
-                                                              1));
-    given(anotherTable.getRestrictionTypeCount()).willReturn(Map.of(ALLERGIES_RESTRICTION, 4));
+    Customer anAllergicCustomer = new CustomerBuilder().withRestriction(ALLERGIES_RESTRICTION).build();
+    Customer aCustomerWithoutRestriction = new CustomerBuilder().build();
+    Table aTable = new TableBuilder().withCustomers(List.of(anAllergicCustomer,
+                                                            anAllergicCustomer,
+                                                            aCustomerWithoutRestriction))
+                                     .build();
+    Table anotherTable = new TableBuilder().withCustomers(Collections.nCopies(4, anAllergicCustomer)).build();
     Reservation reservation = new ReservationBuilder().withTable(aTable)
                                                       .withTable(anotherTable)
                                                       .build();
@@ -171,6 +210,60 @@ public class ReservationTest {
     assertThat(numberOfRestrictions).isEqualTo(6);
   }
 
+  @Test
+  public void givenRandomReservations_whenGetReservationFees_thenFeesMatchTheBigDecimalComputation() {
+    // given
+    Random random = new Random(A_SEED);
+
+    for (int index = 0; index < NUMBER_OF_RANDOM_RESERVATIONS; index++) {
+      List<Table> tables = givenRandomTables(random);
+      ReservationBuilder reservationBuilder = new ReservationBuilder();
+      tables.forEach(reservationBuilder::withTable);
+      Reservation reservation = reservationBuilder.build();
+
+      // when
+      BigDecimal reservationFees = reservation.getReservationFees().toBigDecimal();
+
+      // then
+      assertThat(reservationFees).isEqualTo(computeFeesWithBigDecimal(tables));
+    }
+  }
+
+  private List<Table> givenRandomTables(Random random) {
+    RestrictionType[] restrictionTypes = RestrictionType.values();
+    List<Table> tables = new ArrayList<>();
+    int numberOfTables = 1 + random.nextInt(MAXIMUM_NUMBER_OF_TABLES);
+    for (int table = 0; table < numberOfTables; table++) {
+      List<Customer> customers = new ArrayList<>();
+      int numberOfCustomers = 1 + random.nextInt(MAXIMUM_CUSTOMERS_PER_TABLE);
+      for (int customer = 0; customer < numberOfCustomers; customer++) {
+        CustomerBuilder customerBuilder = new CustomerBuilder();
+        for (RestrictionType restrictionType : restrictionTypes) {
+          if (random.nextBoolean()) {
+            customerBuilder.withRestriction(restrictionType);
+          }
+        }
+        customers.add(customerBuilder.build());
+      }
+      tables.add(new Table(customers));
+    }
+    return tables;
+  }
+
+  private BigDecimal computeFeesWithBigDecimal(List<Table> tables) {
+    BigDecimal reservationFees = BigDecimal.ZERO;
+    for (Table table : tables) {
+      for (Customer customer : table.getCustomers()) {
+        BigDecimal customerFees = BASIC_CUSTOMER_FEES;
+        for (RestrictionType restrictionType : customer.getRestrictions()) {
+          customerFees = customerFees.add(RESTRICTION_FEES.get(restrictionType));
+        }
+        reservationFees = reservationFees.add(customerFees);
+      }
+    }
+    return reservationFees;
+  }
+
   private Table givenATableWithTwoCustomers() {
     Customer aCustomer = new CustomerBuilder().build();
     Customer anotherCustomer = new CustomerBuilder().build();
@@ -2,8 +2,9 @@ package ca.ulaval.glo4002.reservation.domain.reservation.customer;
 
 import static com.google.common.truth.Truth.assertThat;
 
-import java.math.BigDecimal;
+import java.util.Set;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
 import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
 import org.junit.jupiter.api.Test;
@@ -11,10 +12,11 @@ import org.junit.jupiter.api.Test;
 import ca.ulaval.glo4002.reservation.domain.builder.CustomerBuilder;
 
 public class CustomerTest {
-  private static final BigDecimal BASE_PRICE = BigDecimal.valueOf(1000);
+  private static final String A_NAME = "Lise";
+  private static final Money BASE_PRICE = Money.of(1000);
   private static final RestrictionType A_RESTRICTION_WITHOUT_FEE = RestrictionType.ALLERGIES;
-  private static final BigDecimal CUSTOMER_FEES_WITH_VEGAN_RESTRICTION = BigDecimal.valueOf(2000);
-  private static final BigDecimal CUSTOMER_FEES_WITH_VEGAN_AND_ILLNESS_RESTRICTION = BigDecimal.valueOf(2000);
+  private static final Money CUSTOMER_FEES_WITH_VEGAN_RESTRICTION = Money.of(2000);
+  private static final Money CUSTOMER_FEES_WITH_VEGAN_AND_ILLNESS_RESTRICTION = Money.of(2000);
 
   @Test
   public void givenCustomerWithoutRestrictions_whenGetCustomerFees_thenReturnBasePrice() {
@@ -22,7 +24,7 @@ public class CustomerTest {
     Customer customer = new CustomerBuilder().build();
 
     // when
-    BigDecimal price = customer.getCustomerFees();
+    Money price = customer.getCustomerFees();
 
     // then
     assertThat(price).isEqualTo(BASE_PRICE);
@@ -34,7 +36,7 @@ public class CustomerTest {
     Customer customer = new CustomerBuilder().withRestriction(A_RESTRICTION_WITHOUT_FEE).build();
 
     // when
-    BigDecimal price = customer.getCustomerFees();
+    Money price = customer.getCustomerFees();
 
     // then
     assertThat(price).isEqualTo(BASE_PRICE);
@@ -46,7 +48,7 @@ public class CustomerTest {
     Customer customer = new CustomerBuilder().withRestriction(RestrictionType.VEGAN).build();
 
     // when
-    BigDecimal price = customer.getCustomerFees();
+    Money price = customer.getCustomerFees();
 
     // then
     assertThat(price).isEqualTo(CUSTOMER_FEES_WITH_VEGAN_RESTRICTION);
@@ -60,9 +62,51 @@ public class CustomerTest {
                                              .build();
 
     // when
-    BigDecimal price = customer.getCustomerFees();
+    Money price = customer.getCustomerFees();
 
     // then
     assertThat(price).isEqualTo(CUSTOMER_FEES_WITH_VEGAN_AND_ILLNESS_RESTRICTION);
   }
+
+  @Test
+  public void givenCustomerWithManyRestrictions_whenGetRestrictions_thenReturnTheRestrictionsOfItsMask() {
+    // given
+    Customer customer = new CustomerBuilder().withRestriction(RestrictionType.VEGAN)
+                                             .withRestriction(RestrictionType.ILLNESS)
+                                             .build();
+
+    // when
+    Set<RestrictionType> restrictions = customer.getRestrictions();
+
+    // then
+    assertThat(restrictions).containsExactly(RestrictionType.VEGAN, RestrictionType.ILLNESS);
+  }
+
+  @Test
+  public void givenCustomerCreatedFromARestrictionMask_whenHasRestriction_thenOnlyTheRestrictionsOfTheMaskArePresent() {
+    // given
+    Customer customer = new Customer(A_NAME, RestrictionType.VEGAN.getMask() | RestrictionType.ILLNESS.getMask());
+
+    // when
+    boolean isVegan = customer.hasRestriction(RestrictionType.VEGAN);
+
+    // then
+    assertThat(isVegan).isTrue();
+    assertThat(customer.hasRestriction(RestrictionType.ILLNESS)).isTrue();
+    assertThat(customer.hasRestriction(RestrictionType.VEGETARIAN)).isFalse();
+  }
+
+  @Test
+  public void givenARestrictionMask_whenGetCustomerFees_thenReturnTheSameFeesAsACustomerWithTheseRestrictions() {
+    // given
+    Customer customer = new CustomerBuilder().withRestriction(RestrictionType.VEGAN)
+                                             .withRestriction(RestrictionType.VEGETARIAN)
+                                             .build();
+
+    // when
+    Money price = Customer.getCustomerFees(customer.getRestrictionMask());
+
+    // then
+    assertThat(price).isEqualTo(customer.getCustomerFees());
+  }
 }
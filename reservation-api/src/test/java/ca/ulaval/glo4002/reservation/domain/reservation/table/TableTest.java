@@ -3,10 +3,10 @@ package ca.ulaval.glo4002.reservation.domain.reservation.table;
 import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.BDDMockito.given;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Map;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
 import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
 import ca.ulaval.glo4002.reservation.domain.reservation.table.Table;
@@ -20,10 +20,10 @@ import ca.ulaval.glo4002.reservation.domain.builder.TableBuilder;
 
 @ExtendWith(MockitoExtension.class)
 public class TableTest {
-  private static final BigDecimal NO_PRICE = BigDecimal.ZERO;
-  private static final BigDecimal A_TABLE_EXPECTED_PRICE = BigDecimal.valueOf(1000);
-  private static final BigDecimal ANOTHER_TABLE_EXPECTED_PRICE = BigDecimal.valueOf(3000);
-  private static final BigDecimal TWO_TABLE_EXPECTED_PRICE = BigDecimal.valueOf(4000);
+  private static final Money NO_PRICE = Money.ZERO;
+  private static final Money A_TABLE_EXPECTED_PRICE = Money.of(1000);
+  private static final Money ANOTHER_TABLE_EXPECTED_PRICE = Money.of(3000);
+  private static final Money TWO_TABLE_EXPECTED_PRICE = Money.of(4000);
   private static final int TWO_VEGANS = 2;
   private static final int ONE_CUSTOMER_WITH_ALLERGIES = 1;
   private static final int ONE_CUSTOMER_WITH_NO_RESTRICTION = 1;
@@ -40,7 +40,7 @@ public class TableTest {
     Table table = new TableBuilder().build();
 
     // when
-    BigDecimal price = table.getTableReservationFees();
+    Money price = table.getTableReservationFees();
 
     // then
     assertThat(price).isEqualTo(NO_PRICE);
@@ -53,7 +53,7 @@ public class TableTest {
     Table table = new TableBuilder().withCustomer(aCustomer).build();
 
     // when
-    BigDecimal price = table.getTableReservationFees();
+    Money price = table.getTableReservationFees();
 
     // then
     assertThat(price).isEqualTo(A_TABLE_EXPECTED_PRICE);
@@ -67,7 +67,7 @@ public class TableTest {
     Table table = new TableBuilder().withCustomer(aCustomer).withCustomer(anotherCustomer).build();
 
     // when
-    BigDecimal totalPrice = table.getTableReservationFees();
+    Money totalPrice = table.getTableReservationFees();
 
     // then
     assertThat(totalPrice).isEqualTo(TWO_TABLE_EXPECTED_PRICE);
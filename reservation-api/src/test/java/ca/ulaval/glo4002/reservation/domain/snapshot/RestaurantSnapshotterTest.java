@@ -0,0 +1,127 @@
+package ca.ulaval.glo4002.reservation.domain.snapshot;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ca.ulaval.glo4002.reservation.domain.Restaurant;
+
+@ExtendWith(MockitoExtension.class)
+public class RestaurantSnapshotterTest {
+  private static final long A_DATA_VERSION = 12;
+  private static final long A_NEWER_DATA_VERSION = 13;
+
+  @Mock
+  private Restaurant restaurant;
+
+  @Mock
+  private RestaurantSnapshotStore restaurantSnapshotStore;
+
+  @Mock
+  private RestaurantSnapshot restaurantSnapshot;
+
+  private RestaurantSnapshotter restaurantSnapshotter;
+
+  @BeforeEach
+  public void setUp() {
+    restaurantSnapshotter = new RestaurantSnapshotter(restaurant, restaurantSnapshotStore);
+  }
+
+  @Test
+  public void whenRun_thenASnapshotOfTheRestaurantIsSaved() {
+    // given
+    given(restaurant.getDataVersion()).willReturn(A_DATA_VERSION);
+    given(restaurant.takeSnapshot()).willReturn(restaurantSnapshot);
+
+    // when
+    restaurantSnapshotter.run();
+
+    // then
+    verify(restaurantSnapshotStore).save(restaurantSnapshot);
+  }
+
+  @Test
+  public void givenNoChangeSinceTheLastSnapshot_whenRun_thenNoSnapshotIsTaken() {
+    // given
+    given(restaurant.getDataVersion()).willReturn(A_DATA_VERSION);
+    given(restaurant.takeSnapshot()).willReturn(restaurantSnapshot);
+    restaurantSnapshotter.run();
+
+    // when
+    restaurantSnapshotter.run();
+
+    // then
+    verify(restaurant, times(1)).takeSnapshot();
+  }
+
+  @Test
+  public void givenAChangeSinceTheLastSnapshot_whenRun_thenANewSnapshotIsSaved() {
+    // given
+    given(restaurant.getDataVersion()).willReturn(A_DATA_VERSION, A_NEWER_DATA_VERSION);
+    given(restaurant.takeSnapshot()).willReturn(restaurantSnapshot);
+    restaurantSnapshotter.run();
+
+    // when
+    restaurantSnapshotter.run();
+
+    // then
+    verify(restaurantSnapshotStore, times(2)).save(restaurantSnapshot);
+  }
+
+  @Test
+  public void givenASnapshotThatCouldNotBeWritten_whenRunAgain_thenTheSnapshotIsRetried() {
+    // given
+    given(restaurant.getDataVersion()).willReturn(A_DATA_VERSION);
+    given(restaurant.takeSnapshot()).willReturn(restaurantSnapshot);
+    willThrow(new UncheckedIOException(new IOException())).willDoNothing()
+                                                          .given(restaurantSnapshotStore)
+                                                          .save(restaurantSnapshot);
+    restaurantSnapshotter.run();
+
+    // when
+    restaurantSnapshotter.run();
+
+    // then
+    verify(restaurantSnapshotStore, times(2)).save(restaurantSnapshot);
+  }
+
+  @Test
+  public void givenSnapshotsThatCouldNotBeWritten_whenRun_thenTheConsecutiveFailuresAreCounted() {
+    // given
+    given(restaurant.getDataVersion()).willReturn(A_DATA_VERSION);
+    given(restaurant.takeSnapshot()).willReturn(restaurantSnapshot);
+    willThrow(new UncheckedIOException(new IOException())).given(restaurantSnapshotStore).save(restaurantSnapshot);
+    restaurantSnapshotter.run();
+
+    // when
+    restaurantSnapshotter.run();
+
+    // then
+    assertThat(restaurantSnapshotter.getNumberOfConsecutiveFailures()).isEqualTo(2);
+  }
+
+  @Test
+  public void givenASnapshotThatCouldNotBeTaken_whenRunAgain_thenTheFailuresAreResetOnceASnapshotIsSaved() {
+    // given
+    given(restaurant.getDataVersion()).willReturn(A_DATA_VERSION);
+    given(restaurant.takeSnapshot()).willThrow(new IllegalStateException()).willReturn(restaurantSnapshot);
+    restaurantSnapshotter.run();
+
+    // when
+    restaurantSnapshotter.run();
+
+    // then
+    verify(restaurantSnapshotStore).save(restaurantSnapshot);
+    assertThat(restaurantSnapshotter.getNumberOfConsecutiveFailures()).isEqualTo(0);
+  }
+}
@@ -0,0 +1,122 @@
+package ca.ulaval.glo4002.reservation.domain.util;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DateRangeSegmentTreeTest {
+  private static final LocalDate A_DATE = LocalDate.of(2150, 7, 20);
+  private static final LocalDate ANOTHER_DATE = LocalDate.of(2150, 7, 24);
+  private static final LocalDate A_DATE_MONTHS_BEFORE = LocalDate.of(2150, 3, 1);
+  private static final LocalDate A_DATE_YEARS_AFTER = LocalDate.of(2153, 1, 1);
+  private static final long A_SEED = 4002L;
+  private static final int NUMBER_OF_DAYS = 1000;
+  private static final int NUMBER_OF_RANDOM_ADDITIONS = 2000;
+  private static final int NUMBER_OF_RANDOM_QUERIES = 200;
+
+  private DateRangeSegmentTree<Long> dateRangeSegmentTree;
+
+  @BeforeEach
+  public void setUpDateRangeSegmentTree() {
+    dateRangeSegmentTree = new DateRangeSegmentTree<>(0L, Long::sum);
+  }
+
+  @Test
+  public void givenAnEmptyTree_whenSum_thenIdentityIsReturned() {
+    // when
+    long sum = dateRangeSegmentTree.sum(A_DATE, ANOTHER_DATE);
+
+    // then
+    assertThat(sum).isEqualTo(0L);
+  }
+
+  @Test
+  public void givenValuesOnSomeDays_whenSum_thenOnlyTheDaysOfTheRangeAreSummed() {
+    // given
+    dateRangeSegmentTree.add(A_DATE, 3L);
+    dateRangeSegmentTree.add(A_DATE, 4L);
+    dateRangeSegmentTree.add(ANOTHER_DATE, 5L);
+    dateRangeSegmentTree.add(ANOTHER_DATE.plusDays(1), 11L);
+
+    // when
+    long sum = dateRangeSegmentTree.sum(A_DATE, ANOTHER_DATE);
+
+    // then
+    assertThat(sum).isEqualTo(12L);
+  }
+
+  @Test
+  public void givenValuesFarBeforeAndAfterTheFirstDay_whenSum_thenTheTreeGrowsToCoverThem() {
+    // given
+    dateRangeSegmentTree.add(A_DATE, 1L);
+    dateRangeSegmentTree.add(A_DATE_MONTHS_BEFORE, 10L);
+    dateRangeSegmentTree.add(A_DATE_YEARS_AFTER, 100L);
+
+    // when
+    long sumOfEveryDay = dateRangeSegmentTree.sum(LocalDate.MIN, LocalDate.MAX);
+    long sumFromTheFirstDay = dateRangeSegmentTree.sum(A_DATE, A_DATE_YEARS_AFTER);
+
+    // then
+    assertThat(sumOfEveryDay).isEqualTo(111L);
+    assertThat(sumFromTheFirstDay).isEqualTo(101L);
+  }
+
+  @Test
+  public void givenARangeEndingBeforeItStarts_whenSum_thenIdentityIsReturned() {
+    // given
+    dateRangeSegmentTree.add(A_DATE, 1L);
+
+    // when
+    long sum = dateRangeSegmentTree.sum(ANOTHER_DATE, A_DATE);
+
+    // then
+    assertThat(sum).isEqualTo(0L);
+  }
+
+  @Test
+  public void givenQuantitiesWithDifferentScales_whenSum_thenOnlyTheScalesOfTheRangeAreKept() {
+    // given
+    DateRangeSegmentTree<BigDecimal> quantities = new DateRangeSegmentTree<>(BigDecimal.ZERO, BigDecimal::add);
+    quantities.add(A_DATE, new BigDecimal("1.125"));
+    quantities.add(ANOTHER_DATE, new BigDecimal("2.5"));
+
+    // when
+    BigDecimal sum = quantities.sum(ANOTHER_DATE, ANOTHER_DATE);
+
+    // then
+    assertThat(sum.toPlainString()).isEqualTo("2.5");
+  }
+
+  @Test
+  public void givenRandomValues_whenSumRandomRanges_thenSumsMatchADayByDaySum() {
+    // given
+    Random random = new Random(A_SEED);
+    long[] valuesPerDay = new long[NUMBER_OF_DAYS];
+    for (int addition = 0; addition < NUMBER_OF_RANDOM_ADDITIONS; addition++) {
+      int day = random.nextInt(NUMBER_OF_DAYS);
+      long value = random.nextInt(1000) - 500;
+      valuesPerDay[day] += value;
+      dateRangeSegmentTree.add(A_DATE.plusDays(day), value);
+    }
+
+    for (int query = 0; query < NUMBER_OF_RANDOM_QUERIES; query++) {
+      int firstDay = random.nextInt(NUMBER_OF_DAYS);
+      int lastDay = firstDay + random.nextInt(NUMBER_OF_DAYS - firstDay);
+      long expectedSum = 0;
+      for (int day = firstDay; day <= lastDay; day++) {
+        expectedSum += valuesPerDay[day];
+      }
+
+      // when
+      long sum = dateRangeSegmentTree.sum(A_DATE.plusDays(firstDay), A_DATE.plusDays(lastDay));
+
+      // then
+      assertThat(sum).isEqualTo(expectedSum);
+    }
+  }
+}
@@ -3,7 +3,8 @@ package ca.ulaval.glo4002.reservation.infra.inmemory;
 import static com.google.common.truth.Truth.assertThat;
 
 import java.time.LocalDate;
-import java.util.Map;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +14,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import ca.ulaval.glo4002.reservation.domain.chef.Chef;
 import ca.ulaval.glo4002.reservation.domain.chef.ChefPriority;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.report.chef.ChefReportInformation;
 import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,6 +24,7 @@ public class InMemoryChefRepositoryTest {
   private static final String A_CHEF_NAME = "A Name";
   private static final Set<RestrictionType> SOME_SPECIALTIES = Set.of(RestrictionType.NONE);
   private static final Chef A_CHEF = new Chef(A_CHEF_NAME, A_CHEF_TYPE, SOME_SPECIALTIES);
+  private static final Chef ANOTHER_CHEF = new Chef("Another Name", ChefPriority.EIGHTH, SOME_SPECIALTIES);
 
   private InMemoryChefRepository inMemoryChefRepository;
 
@@ -32,7 +36,7 @@ public class InMemoryChefRepositoryTest {
   @Test
   public void givenNoReservation_whenRestaurantChefByDayIsEmpty_thenMapShouldBeEmpty() {
     // when
-    Map<LocalDate, Set<Chef>> chefsByDay = inMemoryChefRepository.getAllChefsWorkSchedule();
+    NavigableMap<LocalDate, ChefReportInformation> chefsByDay = inMemoryChefRepository.getChefSchedule();
 
     // then
     assertThat(chefsByDay).isEmpty();
@@ -48,8 +52,53 @@ public class InMemoryChefRepositoryTest {
     inMemoryChefRepository.updateRestaurantChefs(dinnerDate, newChefs);
 
     // then
-    assertThat(inMemoryChefRepository.getAllChefsWorkSchedule()).containsEntry(dinnerDate,
-                                                                               newChefs);
+    assertThat(inMemoryChefRepository.getChefSchedule().get(dinnerDate).getChefs()).isEqualTo(newChefs);
+  }
+
+  @Test
+  public void whenUpdateRestaurantChef_thenDailyChefCostIsPrecomputed() {
+    // given
+    LocalDate dinnerDate = LocalDate.of(2000, 12, 12);
+
+    // when
+    inMemoryChefRepository.updateRestaurantChefs(dinnerDate, Set.of(A_CHEF, ANOTHER_CHEF));
+
+    // then
+    Money expectedPrice = A_CHEF.getPrice().add(ANOTHER_CHEF.getPrice());
+    assertThat(inMemoryChefRepository.getChefSchedule().get(dinnerDate).getTotalPrice()).isEqualTo(expectedPrice);
+  }
+
+  @Test
+  public void givenChefsHiredOnTheSameDateTwice_whenGetTotalChefCost_thenOnlyTheLatestChefsOfTheDayAreCounted() {
+    // given
+    LocalDate aDate = LocalDate.of(2000, 12, 12);
+    LocalDate anotherDate = LocalDate.of(2000, 12, 13);
+    inMemoryChefRepository.updateRestaurantChefs(aDate, Set.of(A_CHEF));
+    inMemoryChefRepository.updateRestaurantChefs(anotherDate, Set.of(A_CHEF));
+    inMemoryChefRepository.updateRestaurantChefs(aDate, Set.of(A_CHEF, ANOTHER_CHEF));
+
+    // when
+    Money totalChefCost = inMemoryChefRepository.getTotalChefCost();
+
+    // then
+    assertThat(totalChefCost).isEqualTo(A_CHEF.getPrice().multiply(2).add(ANOTHER_CHEF.getPrice()));
+  }
+
+  @Test
+  public void givenChefsHiredOutOfOrder_whenGetChefSchedule_thenDaysAreInChronologicalOrder() {
+    // given
+    LocalDate aDate = LocalDate.of(2000, 12, 12);
+    LocalDate anEarlierDate = LocalDate.of(2000, 12, 10);
+    LocalDate aLaterDate = LocalDate.of(2001, 1, 3);
+    inMemoryChefRepository.updateRestaurantChefs(aDate, Set.of(A_CHEF));
+    inMemoryChefRepository.updateRestaurantChefs(aLaterDate, Set.of(A_CHEF));
+    inMemoryChefRepository.updateRestaurantChefs(anEarlierDate, Set.of(A_CHEF));
+
+    // when
+    NavigableMap<LocalDate, ChefReportInformation> chefSchedule = inMemoryChefRepository.getChefSchedule();
+
+    // then
+    assertThat(chefSchedule.keySet()).containsExactlyElementsIn(List.of(anEarlierDate, aDate, aLaterDate)).inOrder();
   }
 
   @Test
@@ -62,12 +111,12 @@ public class InMemoryChefRepositoryTest {
     inMemoryChefRepository.updateRestaurantChefs(aDate, someChefs);
     inMemoryChefRepository.updateRestaurantChefs(anotherDate, someOtherChefs);
 
-    Map<LocalDate, Set<Chef>> expectedChefs = Map.of(aDate, someChefs, anotherDate, someOtherChefs);
-
     // when
-    Map<LocalDate, Set<Chef>> actualChefs = inMemoryChefRepository.getAllChefsWorkSchedule();
+    NavigableMap<LocalDate, ChefReportInformation> actualChefs = inMemoryChefRepository.getChefSchedule();
 
     // then
-    assertThat(actualChefs).isEqualTo(expectedChefs);
+    assertThat(actualChefs.keySet()).containsExactly(aDate, anotherDate);
+    assertThat(actualChefs.get(aDate).getChefs()).isEqualTo(someChefs);
+    assertThat(actualChefs.get(anotherDate).getChefs()).isEqualTo(someOtherChefs);
   }
 }
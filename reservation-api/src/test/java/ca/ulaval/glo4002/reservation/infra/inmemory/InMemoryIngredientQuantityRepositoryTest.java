@@ -6,6 +6,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -90,6 +91,21 @@ public class InMemoryIngredientQuantityRepositoryTest {
     assertThat(ingredientsQuantity).isEqualTo(givenIngredientsQuantityEquivalentToTwoOfTheSameReservation());
   }
 
+  @Test
+  public void givenUnmodifiableReservationIngredients_whenUpdateIngredientInformationTwice_thenQuantitiesAreAdded() {
+    // given
+    inMemoryIngredientQuantityRepository.updateIngredientsQuantity(Collections.unmodifiableMap(givenIngredientsQuantity()),
+                                                                   A_DINNER_DATE.toLocalDate());
+
+    // when
+    inMemoryIngredientQuantityRepository.updateIngredientsQuantity(Collections.unmodifiableMap(givenIngredientsQuantity()),
+                                                                   A_DINNER_DATE.toLocalDate());
+
+    // then
+    Map<IngredientName, BigDecimal> ingredientsQuantity = inMemoryIngredientQuantityRepository.getIngredientsQuantityByDate(A_DINNER_DATE.toLocalDate());
+    assertThat(ingredientsQuantity).isEqualTo(givenIngredientsQuantityEquivalentToTwoOfTheSameReservation());
+  }
+
   @Test
   public void givenAReservation_whenUpdateIngredientInformation_thenIngredientAreCalculatedForAllCustomers() {
     // given
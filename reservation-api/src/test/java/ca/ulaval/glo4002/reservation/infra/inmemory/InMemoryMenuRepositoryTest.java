@@ -5,6 +5,7 @@ import static com.google.common.truth.Truth.assertThat;
 import java.math.BigDecimal;
 import java.util.Map;
 
+import ca.ulaval.glo4002.reservation.domain.fullcourse.FullCourse;
 import ca.ulaval.glo4002.reservation.domain.fullcourse.MenuRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,4 +33,19 @@ public class InMemoryMenuRepositoryTest {
     // then
     assertThat(ingredientsQuantity).isNotEmpty();
   }
+
+  @Test
+  public void whenGetIngredientVector_thenItHoldsTheIngredientQuantitiesOfTheFullCourse() {
+    // given
+    Map<RestrictionType, FullCourse> fullCourses = fullCourseFactory.create();
+
+    for (RestrictionType restrictionType : RestrictionType.values()) {
+      // when
+      Map<IngredientName, BigDecimal> ingredientsQuantity = menuRepository.getIngredientVectorByRestrictionType(restrictionType)
+                                                                          .getIngredientsQuantity();
+
+      // then
+      assertThat(ingredientsQuantity).isEqualTo(fullCourses.get(restrictionType).getIngredientQuantities());
+    }
+  }
 }
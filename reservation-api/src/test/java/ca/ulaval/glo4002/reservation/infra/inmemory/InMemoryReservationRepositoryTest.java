@@ -3,11 +3,12 @@ package ca.ulaval.glo4002.reservation.infra.inmemory;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,8 +24,8 @@ import ca.ulaval.glo4002.reservation.service.reservation.exception.ReservationNo
 public class InMemoryReservationRepositoryTest {
   private static final LocalDateTime A_DATE = LocalDateTime.of(2020, 7, 20, 23, 23);
   private static final LocalDateTime ANOTHER_DATE = LocalDateTime.of(2050, 1, 14, 1, 4);
-  private static final BigDecimal A_PRICE = BigDecimal.valueOf(75432);
-  private static final BigDecimal ANOTHER_PRICE = BigDecimal.valueOf(32456);
+  private static final Money A_PRICE = Money.of(75432);
+  private static final Money ANOTHER_PRICE = Money.of(32456);
 
   @Mock
   private Reservation aReservation;
@@ -35,17 +36,23 @@ public class InMemoryReservationRepositoryTest {
   @Mock
   private ReservationNumber reservationId;
 
+  @Mock
+  private ReservationNumber anotherReservationId;
+
   private InMemoryReservationRepository reservationRepository;
 
   @BeforeEach
   public void setUp() {
     reservationRepository = new InMemoryReservationRepository();
+    lenient().when(aReservation.getReservationFees()).thenReturn(A_PRICE);
+    lenient().when(anotherReservation.getReservationFees()).thenReturn(ANOTHER_PRICE);
   }
 
   @Test
   public void givenAReservation_whenSaveReservation_thenReturnReservationId() {
     // given
     given(aReservation.getReservationId()).willReturn(reservationId);
+    given(aReservation.getDinnerDate()).willReturn(A_DATE);
 
     // when
     ReservationNumber expectedReservationId = reservationRepository.saveReservation(aReservation);
@@ -58,6 +65,7 @@ public class InMemoryReservationRepositoryTest {
   public void givenAReservation_whenGetReservationById_thenReturnProperReservation() {
     // given
     given(aReservation.getReservationId()).willReturn(reservationId);
+    given(aReservation.getDinnerDate()).willReturn(A_DATE);
     reservationRepository.saveReservation(aReservation);
 
     // when
@@ -81,6 +89,8 @@ public class InMemoryReservationRepositoryTest {
     // given
     given(aReservation.getDinnerDate()).willReturn(A_DATE);
     given(anotherReservation.getDinnerDate()).willReturn(ANOTHER_DATE);
+    given(aReservation.getReservationId()).willReturn(reservationId);
+    given(anotherReservation.getReservationId()).willReturn(anotherReservationId);
     reservationRepository.saveReservation(aReservation);
     reservationRepository.saveReservation(anotherReservation);
 
@@ -97,6 +107,8 @@ public class InMemoryReservationRepositoryTest {
     // given
     given(aReservation.getDinnerDate()).willReturn(A_DATE);
     given(anotherReservation.getDinnerDate()).willReturn(A_DATE);
+    given(aReservation.getReservationId()).willReturn(reservationId);
+    given(anotherReservation.getReservationId()).willReturn(anotherReservationId);
     reservationRepository.saveReservation(aReservation);
     reservationRepository.saveReservation(anotherReservation);
 
@@ -108,6 +120,40 @@ public class InMemoryReservationRepositoryTest {
     assertThat(reservations).contains(anotherReservation);
   }
 
+  @Test
+  public void givenManyReservationsAtDifferentTimesOfTheSameDay_whenGetReservationByDate_thenTheyAreReturnedInSavingOrder() {
+    // given
+    given(aReservation.getReservationId()).willReturn(reservationId);
+    given(anotherReservation.getReservationId()).willReturn(anotherReservationId);
+    given(aReservation.getDinnerDate()).willReturn(A_DATE);
+    given(anotherReservation.getDinnerDate()).willReturn(A_DATE.plusMinutes(30));
+    reservationRepository.saveReservation(aReservation);
+    reservationRepository.saveReservation(anotherReservation);
+
+    // when
+    List<Reservation> reservations = reservationRepository.getReservationsByDate(A_DATE.withHour(0));
+
+    // then
+    assertThat(reservations).containsExactly(aReservation, anotherReservation).inOrder();
+  }
+
+  @Test
+  public void givenReservationsAtDifferentDates_whenGetAllReservations_thenTheyAreReturnedByDinnerDate() {
+    // given
+    given(aReservation.getReservationId()).willReturn(reservationId);
+    given(anotherReservation.getReservationId()).willReturn(anotherReservationId);
+    given(aReservation.getDinnerDate()).willReturn(ANOTHER_DATE);
+    given(anotherReservation.getDinnerDate()).willReturn(A_DATE);
+    reservationRepository.saveReservation(aReservation);
+    reservationRepository.saveReservation(anotherReservation);
+
+    // when
+    List<Reservation> reservations = reservationRepository.getAllReservations();
+
+    // then
+    assertThat(reservations).containsExactly(anotherReservation, aReservation).inOrder();
+  }
+
   @Test
   public void givenNotExistingReservation_whenGetReservationById_thenThrowNonExistingReservationException() {
     // when
@@ -120,18 +166,18 @@ public class InMemoryReservationRepositoryTest {
   @Test
   public void givenAListOfReservation_whenGetTotalReservationFees_thenShouldReturnTheRightTotal() {
     // given
-    given(aReservation.getReservationFees()).willReturn(A_PRICE);
-    given(anotherReservation.getReservationFees()).willReturn(ANOTHER_PRICE);
+    given(aReservation.getReservationId()).willReturn(reservationId);
+    given(anotherReservation.getReservationId()).willReturn(anotherReservationId);
+    given(aReservation.getDinnerDate()).willReturn(A_DATE);
+    given(anotherReservation.getDinnerDate()).willReturn(ANOTHER_DATE);
     reservationRepository.saveReservation(aReservation);
     reservationRepository.saveReservation(anotherReservation);
 
     // when
-    BigDecimal actualPrice = reservationRepository.getTotalReservationIncome();
+    Money actualPrice = reservationRepository.getTotalReservationIncome();
 
     // then
-    BigDecimal expectedTotalPrice = A_PRICE.add(ANOTHER_PRICE);
+    Money expectedTotalPrice = A_PRICE.add(ANOTHER_PRICE);
     assertThat(actualPrice).isEqualTo(expectedTotalPrice);
-
-
   }
 }
@@ -0,0 +1,110 @@
+package ca.ulaval.glo4002.reservation.infra.jdbc;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.NavigableMap;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ca.ulaval.glo4002.reservation.domain.chef.Chef;
+import ca.ulaval.glo4002.reservation.domain.chef.ChefPriority;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.report.chef.ChefReportInformation;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+
+public class JdbcChefRepositoryTest {
+  private static final String AN_IN_MEMORY_DATABASE = "jdbc:h2:mem:";
+  private static final int A_BATCH_SIZE = 64;
+  private static final LocalDate A_DINNER_DATE = LocalDate.of(2150, 7, 21);
+  private static final LocalDate ANOTHER_DINNER_DATE = LocalDate.of(2150, 7, 20);
+  private static final int A_NUMBER_OF_CUSTOMERS = 3;
+
+  private final Chef aChef = new Chef("Bob Smarties", ChefPriority.SECOND, Set.of(RestrictionType.VEGAN));
+  private final Chef anotherChef = new Chef("Écharlotte Cardin",
+                                            ChefPriority.SIXTH,
+                                            Set.of(RestrictionType.VEGAN, RestrictionType.ALLERGIES));
+
+  private JdbcWriter jdbcWriter;
+  private JdbcChefRepository chefRepository;
+
+  @BeforeEach
+  public void setUp() throws SQLException {
+    jdbcWriter = new JdbcWriter(DriverManager.getConnection(AN_IN_MEMORY_DATABASE), JdbcWriteMode.IMMEDIATE, A_BATCH_SIZE);
+    chefRepository = new JdbcChefRepository(jdbcWriter, Set.of(aChef, anotherChef));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    jdbcWriter.close();
+  }
+
+  @Test
+  public void givenHiredChefs_whenGetChefSchedule_thenTheChefsAreScheduledAtTheirDinnerDate() {
+    // given
+    aChef.addCustomers(A_NUMBER_OF_CUSTOMERS);
+    chefRepository.updateRestaurantChefs(A_DINNER_DATE, Set.of(aChef, anotherChef));
+
+    // when
+    NavigableMap<LocalDate, ChefReportInformation> chefSchedule = chefRepository.getChefSchedule();
+
+    // then
+    assertThat(chefSchedule.keySet()).containsExactly(A_DINNER_DATE);
+    assertThat(chefSchedule.get(A_DINNER_DATE).getChefs()).containsExactly(aChef, anotherChef);
+  }
+
+  @Test
+  public void givenChefsHiredTwiceOnTheSameDate_whenGetChefSchedule_thenTheLastChefsAreScheduled() {
+    // given
+    chefRepository.updateRestaurantChefs(A_DINNER_DATE, Set.of(aChef, anotherChef));
+    chefRepository.updateRestaurantChefs(A_DINNER_DATE, Set.of(anotherChef));
+
+    // when
+    NavigableMap<LocalDate, ChefReportInformation> chefSchedule = chefRepository.getChefSchedule();
+
+    // then
+    assertThat(chefSchedule.get(A_DINNER_DATE).getChefs()).containsExactly(anotherChef);
+  }
+
+  @Test
+  public void givenChefsHiredAtManyDates_whenGetChefSchedule_thenTheScheduleIsOrderedByDinnerDate() {
+    // given
+    chefRepository.updateRestaurantChefs(A_DINNER_DATE, Set.of(aChef));
+    chefRepository.updateRestaurantChefs(ANOTHER_DINNER_DATE, Set.of());
+
+    // when
+    NavigableMap<LocalDate, ChefReportInformation> chefSchedule = chefRepository.getChefSchedule();
+
+    // then
+    assertThat(chefSchedule.keySet()).containsExactly(ANOTHER_DINNER_DATE, A_DINNER_DATE).inOrder();
+    assertThat(chefSchedule.get(ANOTHER_DINNER_DATE).getChefs()).isEmpty();
+  }
+
+  @Test
+  public void givenChefsHiredAtManyDates_whenGetTotalChefCost_thenReturnTheCostOfTheScheduledChefs() {
+    // given
+    chefRepository.updateRestaurantChefs(A_DINNER_DATE, Set.of(aChef, anotherChef));
+    chefRepository.updateRestaurantChefs(A_DINNER_DATE, Set.of(aChef));
+    chefRepository.updateRestaurantChefs(ANOTHER_DINNER_DATE, Set.of(anotherChef));
+
+    // when
+    Money totalChefCost = chefRepository.getTotalChefCost();
+
+    // then
+    assertThat(totalChefCost).isEqualTo(aChef.getPrice().add(anotherChef.getPrice()));
+  }
+
+  @Test
+  public void whenGetAllChefs_thenReturnTheAvailableChefs() {
+    // when
+    Set<Chef> chefs = chefRepository.getAllChefs();
+
+    // then
+    assertThat(chefs).containsExactly(aChef, anotherChef);
+  }
+}
@@ -0,0 +1,116 @@
+package ca.ulaval.glo4002.reservation.infra.jdbc;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+
+public class JdbcIngredientQuantityRepositoryTest {
+  private static final String AN_IN_MEMORY_DATABASE = "jdbc:h2:mem:";
+  private static final int A_BATCH_SIZE = 64;
+  private static final LocalDate A_DINNER_DATE = LocalDate.of(2150, 7, 21);
+  private static final LocalDate ANOTHER_DINNER_DATE = LocalDate.of(2150, 7, 23);
+  private static final LocalDate A_DATE_WITHOUT_INGREDIENTS = LocalDate.of(2150, 7, 22);
+
+  private JdbcWriter jdbcWriter;
+  private JdbcIngredientQuantityRepository ingredientQuantityRepository;
+
+  @BeforeEach
+  public void setUp() throws SQLException {
+    jdbcWriter = new JdbcWriter(DriverManager.getConnection(AN_IN_MEMORY_DATABASE), JdbcWriteMode.IMMEDIATE, A_BATCH_SIZE);
+    ingredientQuantityRepository = new JdbcIngredientQuantityRepository(jdbcWriter);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    jdbcWriter.close();
+  }
+
+  @Test
+  public void whenInitialized_thenRepositoryIsEmpty() {
+    // when
+    boolean isQuantityEmpty = ingredientQuantityRepository.isQuantityEmpty();
+
+    // then
+    assertThat(isQuantityEmpty).isTrue();
+  }
+
+  @Test
+  public void givenADateWithIngredients_whenUpdateIngredientsQuantity_thenRepositoryIsNotEmpty() {
+    // when
+    ingredientQuantityRepository.updateIngredientsQuantity(givenIngredientsQuantity(), A_DINNER_DATE);
+
+    // then
+    assertThat(ingredientQuantityRepository.isQuantityEmpty()).isFalse();
+  }
+
+  @Test
+  public void givenTwoUpdatesOnTheSameDate_whenGetIngredientsQuantityByDate_thenQuantitiesAreAdded() {
+    // given
+    ingredientQuantityRepository.updateIngredientsQuantity(givenIngredientsQuantity(), A_DINNER_DATE);
+    ingredientQuantityRepository.updateIngredientsQuantity(givenIngredientsQuantity(), A_DINNER_DATE);
+
+    // when
+    Map<IngredientName, BigDecimal> ingredientsQuantity = ingredientQuantityRepository.getIngredientsQuantityByDate(A_DINNER_DATE);
+
+    // then
+    assertThat(ingredientsQuantity.get(IngredientName.TOFU)).isEquivalentAccordingToCompareTo(new BigDecimal("20.5"));
+    assertThat(ingredientsQuantity.get(IngredientName.BACON)).isEquivalentAccordingToCompareTo(BigDecimal.valueOf(10));
+  }
+
+  @Test
+  public void givenNoIngredientsAtDate_whenGetIngredientsQuantityByDate_thenReturnEmptyMap() {
+    // given
+    ingredientQuantityRepository.updateIngredientsQuantity(givenIngredientsQuantity(), A_DINNER_DATE);
+
+    // when
+    Map<IngredientName, BigDecimal> ingredientsQuantity = ingredientQuantityRepository.getIngredientsQuantityByDate(A_DATE_WITHOUT_INGREDIENTS);
+
+    // then
+    assertThat(ingredientsQuantity).isEmpty();
+  }
+
+  @Test
+  public void givenIngredientsAtManyDates_whenGetReportIngredientQuantity_thenOnlyTheReportDatesAreReturned() {
+    // given
+    ingredientQuantityRepository.updateIngredientsQuantity(givenIngredientsQuantity(), A_DINNER_DATE);
+    ingredientQuantityRepository.updateIngredientsQuantity(givenIngredientsQuantity(), A_DATE_WITHOUT_INGREDIENTS.minusYears(1));
+    ingredientQuantityRepository.updateIngredientsQuantity(givenIngredientsQuantity(), ANOTHER_DINNER_DATE);
+
+    // when
+    Map<LocalDate, Map<IngredientName, BigDecimal>> ingredientsQuantityPerDay = ingredientQuantityRepository.getReportIngredientQuantity(List.of(A_DINNER_DATE,
+                                                                                                                                                A_DATE_WITHOUT_INGREDIENTS,
+                                                                                                                                                ANOTHER_DINNER_DATE));
+
+    // then
+    assertThat(ingredientsQuantityPerDay.keySet()).containsExactly(A_DINNER_DATE, ANOTHER_DINNER_DATE);
+  }
+
+  @Test
+  public void givenIngredientsAtManyDates_whenGetAllIngredients_thenEveryDateIsReturned() {
+    // given
+    ingredientQuantityRepository.updateIngredientsQuantity(givenIngredientsQuantity(), A_DINNER_DATE);
+    ingredientQuantityRepository.updateIngredientsQuantity(givenIngredientsQuantity(), ANOTHER_DINNER_DATE);
+
+    // when
+    Map<LocalDate, Map<IngredientName, BigDecimal>> ingredientsQuantityPerDay = ingredientQuantityRepository.getAllIngredients();
+
+    // then
+    assertThat(ingredientsQuantityPerDay.keySet()).containsExactly(A_DINNER_DATE, ANOTHER_DINNER_DATE);
+    assertThat(ingredientsQuantityPerDay.get(ANOTHER_DINNER_DATE)).hasSize(2);
+  }
+
+  private Map<IngredientName, BigDecimal> givenIngredientsQuantity() {
+    return Map.of(IngredientName.TOFU, new BigDecimal("10.25"), IngredientName.BACON, BigDecimal.valueOf(5));
+  }
+}
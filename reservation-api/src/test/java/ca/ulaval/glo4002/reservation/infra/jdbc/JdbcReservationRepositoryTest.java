@@ -0,0 +1,195 @@
+package ca.ulaval.glo4002.reservation.infra.jdbc;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import ca.ulaval.glo4002.reservation.domain.builder.CustomerBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.ReservationBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.TableBuilder;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.VendorId;
+import ca.ulaval.glo4002.reservation.infra.journal.ReservationRecordCodec;
+import ca.ulaval.glo4002.reservation.service.reservation.exception.ReservationNotFoundException;
+
+public class JdbcReservationRepositoryTest {
+  private static final String AN_IN_MEMORY_DATABASE = "jdbc:h2:mem:";
+  private static final int A_BATCH_SIZE = 64;
+  private static final LocalDateTime A_DINNER_DATE = LocalDateTime.of(2150, 7, 21, 19, 30);
+  private static final LocalDateTime ANOTHER_DINNER_DATE = LocalDateTime.of(2150, 7, 20, 20, 0);
+  private static final String A_RESERVATION_NUMBER = "TEAM-4002";
+  private static final String ANOTHER_RESERVATION_NUMBER = "TEAM-2004";
+  private static final String A_THIRD_RESERVATION_NUMBER = "TEAM-1";
+
+  private JdbcWriter jdbcWriter;
+  private JdbcReservationRepository reservationRepository;
+
+  @BeforeEach
+  public void setUp() throws SQLException {
+    jdbcWriter = new JdbcWriter(DriverManager.getConnection(AN_IN_MEMORY_DATABASE), JdbcWriteMode.IMMEDIATE, A_BATCH_SIZE);
+    reservationRepository = new JdbcReservationRepository(jdbcWriter, new ReservationRecordCodec());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    jdbcWriter.close();
+  }
+
+  @Test
+  public void givenAReservation_whenSaveReservation_thenReturnReservationId() {
+    // given
+    Reservation reservation = givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE);
+
+    // when
+    ReservationNumber reservationId = reservationRepository.saveReservation(reservation);
+
+    // then
+    assertThat(reservationId).isEqualTo(reservation.getReservationId());
+  }
+
+  @Test
+  public void givenASavedReservation_whenGetReservationById_thenTheReservationIsRead() {
+    // given
+    Reservation reservation = givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE);
+    reservationRepository.saveReservation(reservation);
+
+    // when
+    Reservation actualReservation = reservationRepository.getReservationById(reservation.getReservationId());
+
+    // then
+    assertThat(actualReservation.getReservationId()).isEqualTo(reservation.getReservationId());
+    assertThat(actualReservation.getDinnerDate()).isEqualTo(A_DINNER_DATE);
+    assertThat(actualReservation.getReservationDate()).isEqualTo(reservation.getReservationDate());
+    assertThat(actualReservation.getRestrictionTypeCount()).isEqualTo(reservation.getRestrictionTypeCount());
+  }
+
+  @Test
+  public void givenNotExistingReservation_whenGetReservationById_thenThrowReservationNotFoundException() {
+    // given
+    reservationRepository.saveReservation(givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE));
+
+    // when
+    Executable gettingReservationById = () -> reservationRepository.getReservationById(givenAReservationId(ANOTHER_RESERVATION_NUMBER));
+
+    // then
+    assertThrows(ReservationNotFoundException.class, gettingReservationById);
+  }
+
+  @Test
+  public void givenReservationsAtDifferentDates_whenGetReservationsByDate_thenOnlyTheReservationsOfTheDateAreReturnedInSavingOrder() {
+    // given
+    reservationRepository.saveReservation(givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE));
+    reservationRepository.saveReservation(givenAReservation(ANOTHER_RESERVATION_NUMBER, ANOTHER_DINNER_DATE));
+    reservationRepository.saveReservation(givenAReservation(A_THIRD_RESERVATION_NUMBER, A_DINNER_DATE.minusHours(1)));
+
+    // when
+    List<Reservation> reservations = reservationRepository.getReservationsByDate(A_DINNER_DATE.withHour(0));
+
+    // then
+    assertThat(toReservationNumbers(reservations)).containsExactly(A_RESERVATION_NUMBER, A_THIRD_RESERVATION_NUMBER)
+                                                  .inOrder();
+  }
+
+  @Test
+  public void givenReservationsAtDifferentDates_whenGetAllReservations_thenTheyAreReturnedByDinnerDate() {
+    // given
+    reservationRepository.saveReservation(givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE));
+    reservationRepository.saveReservation(givenAReservation(ANOTHER_RESERVATION_NUMBER, ANOTHER_DINNER_DATE));
+
+    // when
+    List<Reservation> reservations = reservationRepository.getAllReservations();
+
+    // then
+    assertThat(toReservationNumbers(reservations)).containsExactly(ANOTHER_RESERVATION_NUMBER, A_RESERVATION_NUMBER)
+                                                  .inOrder();
+  }
+
+  @Test
+  public void givenSavedReservations_whenGetTotalReservationIncome_thenReturnTheSumOfTheirFees() {
+    // given
+    Reservation reservation = givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE);
+    Reservation anotherReservation = givenAReservation(ANOTHER_RESERVATION_NUMBER, ANOTHER_DINNER_DATE);
+    reservationRepository.saveReservation(reservation);
+    reservationRepository.saveReservation(anotherReservation);
+
+    // when
+    Money totalReservationIncome = reservationRepository.getTotalReservationIncome();
+
+    // then
+    assertThat(totalReservationIncome).isEqualTo(reservation.getReservationFees()
+                                                            .add(anotherReservation.getReservationFees()));
+  }
+
+  @Test
+  public void givenNoReservation_whenGetTotalReservationIncome_thenReturnZero() {
+    // when
+    Money totalReservationIncome = reservationRepository.getTotalReservationIncome();
+
+    // then
+    assertThat(totalReservationIncome).isEqualTo(Money.ZERO);
+  }
+
+  @Test
+  public void givenAnAlreadySavedReservationId_whenSaveReservation_thenThrowJdbcWriteException() {
+    // given
+    reservationRepository.saveReservation(givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE));
+
+    // when
+    Executable savingReservation = () -> reservationRepository.saveReservation(givenAReservation(A_RESERVATION_NUMBER,
+                                                                                                 ANOTHER_DINNER_DATE));
+
+    // then
+    assertThrows(JdbcWriteException.class, savingReservation);
+  }
+
+  @Test
+  public void givenADuplicateWriteBehindSave_whenGetAllReservations_thenThrowJdbcWriteException() throws SQLException {
+    // given
+    jdbcWriter.close();
+    jdbcWriter = new JdbcWriter(DriverManager.getConnection(AN_IN_MEMORY_DATABASE), JdbcWriteMode.WRITE_BEHIND, A_BATCH_SIZE);
+    reservationRepository = new JdbcReservationRepository(jdbcWriter, new ReservationRecordCodec());
+    reservationRepository.saveReservation(givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE));
+    reservationRepository.saveReservation(givenAReservation(A_RESERVATION_NUMBER, ANOTHER_DINNER_DATE));
+
+    // when
+    Executable gettingReservations = () -> reservationRepository.getAllReservations();
+
+    // then
+    assertThrows(JdbcWriteException.class, gettingReservations);
+  }
+
+  private Reservation givenAReservation(String reservationNumber, LocalDateTime dinnerDate) {
+    return new ReservationBuilder().withId(givenAReservationId(reservationNumber))
+                                   .withDinnerDate(dinnerDate)
+                                   .withTable(new TableBuilder().withCustomer(new CustomerBuilder().withRestriction(RestrictionType.VEGAN)
+                                                                                                   .build())
+                                                                .withCustomer(new CustomerBuilder().build())
+                                                                .build())
+                                   .build();
+  }
+
+  private ReservationNumber givenAReservationId(String reservationNumber) {
+    ReservationNumber reservationId = new VendorId();
+    reservationId.setReservationNumber(reservationNumber);
+    return reservationId;
+  }
+
+  private List<String> toReservationNumbers(List<Reservation> reservations) {
+    return reservations.stream()
+                       .map(reservation -> reservation.getReservationId().getReservationNumber())
+                       .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,165 @@
+package ca.ulaval.glo4002.reservation.infra.jdbc;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+public class JdbcWriterTest {
+  private static final String AN_IN_MEMORY_DATABASE = "jdbc:h2:mem:";
+  private static final int A_BATCH_SIZE = 8;
+  private static final int MANY_WRITES = 100;
+  private static final String CREATE_TABLE = "CREATE TABLE numbers (number INT PRIMARY KEY)";
+  private static final String INSERT = "INSERT INTO numbers (number) VALUES (?)";
+  private static final String DELETE = "DELETE FROM numbers WHERE number = ?";
+  private static final String COUNT = "SELECT COUNT(*) FROM numbers";
+
+  private JdbcWriter jdbcWriter;
+
+  @AfterEach
+  public void tearDown() {
+    jdbcWriter.close();
+  }
+
+  @Test
+  public void givenWriteBehindWrites_whenRead_thenTheWritesAreVisible() throws SQLException {
+    // given
+    jdbcWriter = givenAJdbcWriter(JdbcWriteMode.WRITE_BEHIND);
+    for (int number = 0; number < MANY_WRITES; number++) {
+      jdbcWriter.write(insert(number));
+    }
+
+    // when
+    int numberOfRows = jdbcWriter.read(this::count);
+
+    // then
+    assertThat(numberOfRows).isEqualTo(MANY_WRITES);
+  }
+
+  @Test
+  public void givenWritesOnDifferentStatements_whenWrite_thenTheirOrderIsKept() throws SQLException {
+    // given
+    jdbcWriter = givenAJdbcWriter(JdbcWriteMode.IMMEDIATE);
+
+    // when
+    jdbcWriter.write(batch -> {
+      insert(1).write(batch);
+      delete(1).write(batch);
+      insert(1).write(batch);
+    });
+
+    // then
+    assertThat(jdbcWriter.read(this::count)).isEqualTo(1);
+  }
+
+  @Test
+  public void givenAFailingImmediateWrite_whenWrite_thenThrowJdbcWriteException() throws SQLException {
+    // given
+    jdbcWriter = givenAJdbcWriter(JdbcWriteMode.IMMEDIATE);
+    jdbcWriter.write(insert(1));
+
+    // when
+    Executable writing = () -> jdbcWriter.write(insert(1));
+
+    // then
+    assertThrows(JdbcWriteException.class, writing);
+  }
+
+  @Test
+  public void givenAFailingWriteBehindWrite_whenFlush_thenThrowJdbcWriteException() throws SQLException {
+    // given
+    jdbcWriter = givenAJdbcWriter(JdbcWriteMode.WRITE_BEHIND);
+    jdbcWriter.write(insert(1));
+    jdbcWriter.write(insert(1));
+
+    // when
+    Executable flushing = () -> jdbcWriter.flush();
+
+    // then
+    assertThrows(JdbcWriteException.class, flushing);
+  }
+
+  @Test
+  public void givenAFailingWriteBehindWrite_whenFlush_thenOnlyThatWriteFails() throws SQLException {
+    // given
+    jdbcWriter = givenAJdbcWriter(JdbcWriteMode.WRITE_BEHIND);
+    CompletableFuture<Void> firstWrite = jdbcWriter.write(insert(1));
+    CompletableFuture<Void> secondWrite = jdbcWriter.write(insert(2));
+    CompletableFuture<Void> duplicateWrite = jdbcWriter.write(insert(1));
+
+    // when
+    assertThrows(JdbcWriteException.class, () -> jdbcWriter.flush());
+
+    // then
+    assertThat(firstWrite.isCompletedExceptionally()).isFalse();
+    assertThat(secondWrite.isCompletedExceptionally()).isFalse();
+    assertThat(duplicateWrite.isCompletedExceptionally()).isTrue();
+  }
+
+  @Test
+  public void givenAFailingWriteBehindWrite_whenRead_thenThrowJdbcWriteException() throws SQLException {
+    // given
+    jdbcWriter = givenAJdbcWriter(JdbcWriteMode.WRITE_BEHIND);
+    jdbcWriter.write(insert(1));
+    jdbcWriter.write(insert(1));
+
+    // when
+    Executable reading = () -> jdbcWriter.read(this::count);
+
+    // then
+    assertThrows(JdbcWriteException.class, reading);
+  }
+
+  @Test
+  public void givenAReportedWriteBehindFailure_whenRead_thenTheOtherWritesOfItsBatchAreVisible() throws SQLException {
+    // given
+    jdbcWriter = givenAJdbcWriter(JdbcWriteMode.WRITE_BEHIND);
+    jdbcWriter.write(insert(1));
+    jdbcWriter.write(insert(2));
+    jdbcWriter.write(insert(1));
+    assertThrows(JdbcWriteException.class, () -> jdbcWriter.flush());
+
+    // when
+    int numberOfRows = jdbcWriter.read(this::count);
+
+    // then
+    assertThat(numberOfRows).isEqualTo(2);
+  }
+
+  private JdbcWriter givenAJdbcWriter(JdbcWriteMode writeMode) throws SQLException {
+    JdbcWriter jdbcWriter = new JdbcWriter(DriverManager.getConnection(AN_IN_MEMORY_DATABASE), writeMode, A_BATCH_SIZE);
+    jdbcWriter.execute(CREATE_TABLE);
+    return jdbcWriter;
+  }
+
+  private JdbcWrite insert(int number) {
+    return batch -> {
+      PreparedStatement insert = batch.add(INSERT);
+      insert.setInt(1, number);
+      insert.addBatch();
+    };
+  }
+
+  private JdbcWrite delete(int number) {
+    return batch -> {
+      PreparedStatement delete = batch.add(DELETE);
+      delete.setInt(1, number);
+      delete.addBatch();
+    };
+  }
+
+  private int count(JdbcStatements statements) throws SQLException {
+    try (ResultSet count = statements.prepare(COUNT).executeQuery()) {
+      count.next();
+      return count.getInt(1);
+    }
+  }
+}
@@ -0,0 +1,262 @@
+package ca.ulaval.glo4002.reservation.infra.journal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ca.ulaval.glo4002.reservation.domain.Restaurant;
+import ca.ulaval.glo4002.reservation.domain.builder.CustomerBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.ReservationBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.TableBuilder;
+import ca.ulaval.glo4002.reservation.domain.journal.JournalCommit;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.VendorId;
+
+@ExtendWith(MockitoExtension.class)
+public class FileRestaurantJournalTest {
+  private static final String A_VENDOR_CODE = "TEAM";
+  private static final LocalDateTime A_DINNER_DATE = LocalDateTime.of(2150, 7, 21, 20, 0);
+  private static final Duration NO_GROUP_COMMIT_WINDOW = Duration.ZERO;
+  private static final Duration A_LONG_GROUP_COMMIT_WINDOW = Duration.ofMillis(200);
+  private static final int A_NUMBER_OF_RECORDS = 16;
+  private static final int A_NUMBER_OF_RECORDS_LARGER_THAN_THE_REPLAY_BUFFER = 4096;
+  private static final byte[] A_TORN_RECORD = { 0, 0, 0, 64, 12, 34 };
+  private static final int A_CORRUPTED_PAYLOAD_OFFSET = 12;
+  private static final long START_OF_JOURNAL = 0;
+
+  @TempDir
+  public Path journalDirectory;
+
+  @Mock
+  private Restaurant restaurant;
+
+  @Captor
+  private ArgumentCaptor<Reservation> reservationCaptor;
+
+  private Path journalFile;
+  private FileRestaurantJournal restaurantJournal;
+
+  @BeforeEach
+  public void setUp() {
+    journalFile = journalDirectory.resolve("restaurant.journal");
+    restaurantJournal = openJournal(NO_GROUP_COMMIT_WINDOW);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    restaurantJournal.close();
+  }
+
+  @Test
+  public void givenRecordedReservations_whenReplayAfterReopening_thenReservationsAreRestoredInRecordingOrder() {
+    // given
+    List<ReservationNumber> reservationIds = recordReservations(A_NUMBER_OF_RECORDS);
+    reopenJournal();
+
+    // when
+    restaurantJournal.replay(restaurant, START_OF_JOURNAL);
+
+    // then
+    verify(restaurant, times(A_NUMBER_OF_RECORDS)).restoreReservation(reservationCaptor.capture());
+    assertThat(restoredReservationIds()).containsExactlyElementsIn(reservationIds).inOrder();
+  }
+
+  @Test
+  public void givenAJournalLargerThanTheReplayBuffer_whenReplay_thenEveryRecordIsRestoredInRecordingOrder() {
+    // given
+    List<ReservationNumber> reservationIds = recordReservations(A_NUMBER_OF_RECORDS_LARGER_THAN_THE_REPLAY_BUFFER);
+    reopenJournal();
+
+    // when
+    restaurantJournal.replay(restaurant, START_OF_JOURNAL);
+
+    // then
+    verify(restaurant, times(A_NUMBER_OF_RECORDS_LARGER_THAN_THE_REPLAY_BUFFER)).restoreReservation(reservationCaptor.capture());
+    assertThat(restoredReservationIds()).containsExactlyElementsIn(reservationIds).inOrder();
+  }
+
+  @Test
+  public void givenATornRecordAtTheEndOfTheJournal_whenReplay_thenTheTornRecordIsTruncated() throws Exception {
+    // given
+    recordReservations(1);
+    long completeJournalSize = Files.size(journalFile);
+    restaurantJournal.close();
+    Files.write(journalFile, A_TORN_RECORD, StandardOpenOption.APPEND);
+    restaurantJournal = openJournal(NO_GROUP_COMMIT_WINDOW);
+
+    // when
+    restaurantJournal.replay(restaurant, START_OF_JOURNAL);
+
+    // then
+    verify(restaurant).restoreReservation(any());
+    assertThat(Files.size(journalFile)).isEqualTo(completeJournalSize);
+  }
+
+  @Test
+  public void givenATruncatedJournal_whenRecordAgain_thenNewRecordsFollowTheLastCompleteRecord() throws Exception {
+    // given
+    ReservationNumber firstReservationId = recordReservations(1).get(0);
+    restaurantJournal.close();
+    Files.write(journalFile, A_TORN_RECORD, StandardOpenOption.APPEND);
+    restaurantJournal = openJournal(NO_GROUP_COMMIT_WINDOW);
+    restaurantJournal.replay(mock(Restaurant.class), START_OF_JOURNAL);
+
+    // when
+    ReservationNumber secondReservationId = recordReservations(1).get(0);
+
+    // then
+    reopenJournal();
+    restaurantJournal.replay(restaurant, START_OF_JOURNAL);
+    verify(restaurant, times(2)).restoreReservation(reservationCaptor.capture());
+    assertThat(restoredReservationIds()).containsExactly(firstReservationId, secondReservationId).inOrder();
+  }
+
+  @Test
+  public void givenACorruptedRecord_whenReplay_thenReplayStopsBeforeTheCorruptedRecord() throws Exception {
+    // given
+    recordReservations(1);
+    long firstRecordEnd = Files.size(journalFile);
+    recordReservations(1);
+    restaurantJournal.close();
+    byte[] journal = Files.readAllBytes(journalFile);
+    journal[(int) firstRecordEnd + A_CORRUPTED_PAYLOAD_OFFSET] ^= 0x7F;
+    Files.write(journalFile, journal);
+    restaurantJournal = openJournal(NO_GROUP_COMMIT_WINDOW);
+
+    // when
+    restaurantJournal.replay(restaurant, START_OF_JOURNAL);
+
+    // then
+    verify(restaurant).restoreReservation(any());
+    assertThat(Files.size(journalFile)).isEqualTo(firstRecordEnd);
+  }
+
+  @Test
+  public void givenRecordsAppendedWithinTheGroupCommitWindow_whenRecord_thenTheyShareGroupCommits() {
+    // given
+    restaurantJournal.close();
+    restaurantJournal = openJournal(A_LONG_GROUP_COMMIT_WINDOW);
+    List<JournalCommit> journalCommits = new ArrayList<>();
+
+    // when
+    for (int record = 0; record < A_NUMBER_OF_RECORDS; record++) {
+      journalCommits.add(restaurantJournal.recordReservation(givenAReservation()));
+    }
+    journalCommits.forEach(JournalCommit::awaitDurability);
+
+    // then
+    assertThat(restaurantJournal.getNumberOfGroupCommits()).isLessThan((long) A_NUMBER_OF_RECORDS);
+  }
+
+  @Test
+  public void givenRecordedReservations_whenFlush_thenTheJournalPositionMatchesTheJournalSize() throws Exception {
+    // given
+    restaurantJournal.close();
+    restaurantJournal = openJournal(A_LONG_GROUP_COMMIT_WINDOW);
+    for (int record = 0; record < A_NUMBER_OF_RECORDS; record++) {
+      restaurantJournal.recordReservation(givenAReservation());
+    }
+
+    // when
+    restaurantJournal.flush().awaitDurability();
+
+    // then
+    assertThat(restaurantJournal.getJournalPosition()).isEqualTo(Files.size(journalFile));
+  }
+
+  @Test
+  public void givenAJournalPosition_whenReplayFromIt_thenOnlyTheFollowingRecordsAreReplayed() {
+    // given
+    recordReservations(A_NUMBER_OF_RECORDS);
+    long journalPosition = restaurantJournal.getJournalPosition();
+    List<ReservationNumber> followingReservationIds = recordReservations(A_NUMBER_OF_RECORDS);
+    reopenJournal();
+
+    // when
+    restaurantJournal.replay(restaurant, journalPosition);
+
+    // then
+    verify(restaurant, times(A_NUMBER_OF_RECORDS)).restoreReservation(reservationCaptor.capture());
+    assertThat(restoredReservationIds()).containsExactlyElementsIn(followingReservationIds).inOrder();
+  }
+
+  @Test
+  public void givenAPositionBeyondTheEndOfTheJournal_whenReplay_thenThrowCorruptedJournalException() {
+    // given
+    recordReservations(1);
+    long journalPositionBeyondTheEnd = restaurantJournal.getJournalPosition() + 1;
+    reopenJournal();
+
+    // when
+    Executable replaying = () -> restaurantJournal.replay(restaurant, journalPositionBeyondTheEnd);
+
+    // then
+    assertThrows(CorruptedJournalException.class, replaying);
+  }
+
+  @Test
+  public void givenAClosedJournal_whenRecordReservation_thenThrowJournalWriteException() {
+    // given
+    restaurantJournal.close();
+
+    // when
+    Executable recordingReservation = () -> restaurantJournal.recordReservation(givenAReservation());
+
+    // then
+    assertThrows(JournalWriteException.class, recordingReservation);
+  }
+
+  private List<ReservationNumber> recordReservations(int numberOfReservations) {
+    List<ReservationNumber> reservationIds = new ArrayList<>();
+    for (int record = 0; record < numberOfReservations; record++) {
+      Reservation reservation = givenAReservation();
+      restaurantJournal.recordReservation(reservation).awaitDurability();
+      reservationIds.add(reservation.getReservationId());
+    }
+    return reservationIds;
+  }
+
+  private List<ReservationNumber> restoredReservationIds() {
+    List<ReservationNumber> reservationIds = new ArrayList<>();
+    reservationCaptor.getAllValues().forEach(reservation -> reservationIds.add(reservation.getReservationId()));
+    return reservationIds;
+  }
+
+  private void reopenJournal() {
+    restaurantJournal.close();
+    restaurantJournal = openJournal(NO_GROUP_COMMIT_WINDOW);
+  }
+
+  private FileRestaurantJournal openJournal(Duration groupCommitWindow) {
+    return new FileRestaurantJournal(journalFile, new JournalRecordCodec(new ReservationRecordCodec()), groupCommitWindow, JournalSyncPolicy.NONE);
+  }
+
+  private Reservation givenAReservation() {
+    return new ReservationBuilder().withId(new VendorId(A_VENDOR_CODE))
+                                   .withDinnerDate(A_DINNER_DATE)
+                                   .withTable(new TableBuilder().withCustomer(new CustomerBuilder().withAnyRestriction()
+                                                                                                   .build())
+                                                                .build())
+                                   .build();
+  }
+}
@@ -0,0 +1,202 @@
+package ca.ulaval.glo4002.reservation.infra.journal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ca.ulaval.glo4002.reservation.domain.Restaurant;
+import ca.ulaval.glo4002.reservation.domain.builder.CustomerBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.ReservationBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.TableBuilder;
+import ca.ulaval.glo4002.reservation.domain.date.DinerPeriod;
+import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningConfigurationRequest;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.VendorId;
+
+@ExtendWith(MockitoExtension.class)
+public class JournalRecordCodecTest {
+  private static final String A_VENDOR_CODE = "TEAM";
+  private static final LocalDateTime A_DINNER_DATE = LocalDateTime.of(2150, 7, 21, 19, 30, 15, 123000000);
+  private static final DinerPeriod A_DINNER_PERIOD = new DinerPeriod(LocalDate.of(2150, 7, 20),
+                                                                     LocalDate.of(2150, 7, 30));
+  private static final DinerPeriod A_RESERVATION_PERIOD = new DinerPeriod(LocalDate.of(2150, 1, 1),
+                                                                          LocalDate.of(2150, 7, 16));
+  private static final byte AN_UNKNOWN_RECORD_TYPE = 42;
+  private static final byte A_LEGACY_RESERVATION_RECORD_TYPE = 1;
+  private static final String A_NAME_WITH_A_NUL_AND_AN_EMOJI = "Jo\u0000hn \uD83C\uDF7D";
+  private static final String A_RESERVATION_NUMBER = "TEAM-4002";
+
+  @Mock
+  private Restaurant restaurant;
+
+  @Captor
+  private ArgumentCaptor<Reservation> reservationCaptor;
+
+  @Captor
+  private ArgumentCaptor<HoppeningConfigurationRequest> hoppeningConfigurationCaptor;
+
+  private JournalRecordCodec journalRecordCodec;
+
+  @BeforeEach
+  public void setUp() {
+    journalRecordCodec = new JournalRecordCodec(new ReservationRecordCodec());
+  }
+
+  @Test
+  public void givenAnEncodedReservation_whenReplay_thenTheSameReservationIsRestored() {
+    // given
+    Reservation reservation = givenAReservation();
+    byte[] record = journalRecordCodec.encodeReservation(reservation);
+
+    // when
+    journalRecordCodec.replay(ByteBuffer.wrap(record), restaurant);
+
+    // then
+    verify(restaurant).restoreReservation(reservationCaptor.capture());
+    Reservation restoredReservation = reservationCaptor.getValue();
+    assertThat(restoredReservation.getReservationId()).isEqualTo(reservation.getReservationId());
+    assertThat(restoredReservation.getDinnerDate()).isEqualTo(reservation.getDinnerDate());
+    assertThat(restoredReservation.getReservationDate()).isEqualTo(reservation.getReservationDate());
+    assertThat(restoredReservation.getTables()).hasSize(reservation.getTables().size());
+    assertThat(restoredReservation.getRestrictionTypeCount()).isEqualTo(reservation.getRestrictionTypeCount());
+  }
+
+  @Test
+  public void givenAnEncodedReservation_whenReplay_thenCustomersKeepTheirNamesAndRestrictions() {
+    // given
+    Reservation reservation = givenAReservation();
+    byte[] record = journalRecordCodec.encodeReservation(reservation);
+
+    // when
+    journalRecordCodec.replay(ByteBuffer.wrap(record), restaurant);
+
+    // then
+    verify(restaurant).restoreReservation(reservationCaptor.capture());
+    List<Customer> restoredCustomers = reservationCaptor.getValue().getCustomers();
+    List<Customer> customers = reservation.getCustomers();
+    assertThat(restoredCustomers).hasSize(customers.size());
+    for (int customer = 0; customer < customers.size(); customer++) {
+      assertThat(restoredCustomers.get(customer).getName()).isEqualTo(customers.get(customer).getName());
+      assertThat(restoredCustomers.get(customer).getRestrictions()).isEqualTo(customers.get(customer).getRestrictions());
+    }
+  }
+
+  @Test
+  public void givenACustomerNameWithANulAndAnEmoji_whenReplay_thenTheNameIsRestoredUnchanged() {
+    // given
+    Reservation reservation = givenAReservationForACustomerNamed(A_NAME_WITH_A_NUL_AND_AN_EMOJI);
+    byte[] record = journalRecordCodec.encodeReservation(reservation);
+
+    // when
+    journalRecordCodec.replay(ByteBuffer.wrap(record), restaurant);
+
+    // then
+    verify(restaurant).restoreReservation(reservationCaptor.capture());
+    assertThat(reservationCaptor.getValue().getCustomers().get(0).getName()).isEqualTo(A_NAME_WITH_A_NUL_AND_AN_EMOJI);
+  }
+
+  @Test
+  public void givenALegacyReservationRecord_whenReplay_thenItsModifiedUtf8NamesAreDecoded() throws IOException {
+    // given
+    byte[] record = givenALegacyReservationRecordForACustomerNamed(A_NAME_WITH_A_NUL_AND_AN_EMOJI);
+
+    // when
+    journalRecordCodec.replay(ByteBuffer.wrap(record), restaurant);
+
+    // then
+    verify(restaurant).restoreReservation(reservationCaptor.capture());
+    Reservation restoredReservation = reservationCaptor.getValue();
+    assertThat(restoredReservation.getReservationId().getReservationNumber()).isEqualTo(A_RESERVATION_NUMBER);
+    assertThat(restoredReservation.getCustomers().get(0).getName()).isEqualTo(A_NAME_WITH_A_NUL_AND_AN_EMOJI);
+  }
+
+  @Test
+  public void givenAnEncodedHoppeningConfiguration_whenReplay_thenTheSamePeriodsAreRestored() {
+    // given
+    byte[] record = journalRecordCodec.encodeHoppeningConfiguration(new HoppeningConfigurationRequest(A_DINNER_PERIOD,
+                                                                                                      A_RESERVATION_PERIOD));
+
+    // when
+    journalRecordCodec.replay(ByteBuffer.wrap(record), restaurant);
+
+    // then
+    verify(restaurant).restoreHoppeningConfiguration(hoppeningConfigurationCaptor.capture());
+    HoppeningConfigurationRequest restoredConfiguration = hoppeningConfigurationCaptor.getValue();
+    assertThat(restoredConfiguration.getDinnerDinerPeriod().getStartDate()).isEqualTo(A_DINNER_PERIOD.getStartDate());
+    assertThat(restoredConfiguration.getDinnerDinerPeriod().getEndDate()).isEqualTo(A_DINNER_PERIOD.getEndDate());
+    assertThat(restoredConfiguration.getReservationDinerPeriod().getStartDate()).isEqualTo(A_RESERVATION_PERIOD.getStartDate());
+    assertThat(restoredConfiguration.getReservationDinerPeriod().getEndDate()).isEqualTo(A_RESERVATION_PERIOD.getEndDate());
+  }
+
+  @Test
+  public void givenARecordOfUnknownType_whenReplay_thenThrowCorruptedJournalException() {
+    // given
+    ByteBuffer record = ByteBuffer.wrap(new byte[] { AN_UNKNOWN_RECORD_TYPE });
+
+    // when
+    Executable replaying = () -> journalRecordCodec.replay(record, restaurant);
+
+    // then
+    assertThrows(CorruptedJournalException.class, replaying);
+  }
+
+  private Reservation givenAReservationForACustomerNamed(String name) {
+    return new ReservationBuilder().withId(new VendorId(A_VENDOR_CODE))
+                                   .withDinnerDate(A_DINNER_DATE)
+                                   .withTable(new TableBuilder().withCustomer(new CustomerBuilder().withName(name)
+                                                                                                   .build())
+                                                                .build())
+                                   .build();
+  }
+
+  private byte[] givenALegacyReservationRecordForACustomerNamed(String name) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream output = new DataOutputStream(bytes)) {
+      output.writeByte(A_LEGACY_RESERVATION_RECORD_TYPE);
+      output.writeUTF(A_RESERVATION_NUMBER);
+      output.writeLong(A_DINNER_DATE.toEpochSecond(ZoneOffset.UTC));
+      output.writeInt(A_DINNER_DATE.getNano());
+      output.writeLong(A_DINNER_DATE.toEpochSecond(ZoneOffset.UTC));
+      output.writeInt(A_DINNER_DATE.getNano());
+      output.writeByte(1);
+      output.writeByte(1);
+      output.writeUTF(name);
+      output.writeInt(RestrictionType.VEGAN.getMask());
+    }
+    return bytes.toByteArray();
+  }
+
+  private Reservation givenAReservation() {
+    return new ReservationBuilder().withId(new VendorId(A_VENDOR_CODE))
+                                   .withDinnerDate(A_DINNER_DATE)
+                                   .withTable(new TableBuilder().withCustomer(new CustomerBuilder().withRestriction(RestrictionType.VEGAN)
+                                                                                                   .withRestriction(RestrictionType.ALLERGIES)
+                                                                                                   .build())
+                                                                .withCustomer(new CustomerBuilder().build())
+                                                                .build())
+                                   .withTable(new TableBuilder().withCustomer(new CustomerBuilder().withRestriction(RestrictionType.ILLNESS)
+                                                                                                   .build())
+                                                                .build())
+                                   .build();
+  }
+}
@@ -0,0 +1,252 @@
+package ca.ulaval.glo4002.reservation.infra.mapped;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+import ca.ulaval.glo4002.reservation.domain.builder.CustomerBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.ReservationBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.TableBuilder;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.VendorId;
+import ca.ulaval.glo4002.reservation.service.reservation.exception.ReservationNotFoundException;
+
+public class MappedReservationRepositoryTest {
+  private static final int A_SEGMENT_SIZE = 4096;
+  private static final int A_SMALL_SEGMENT_SIZE = 128;
+  private static final LocalDateTime A_DINNER_DATE = LocalDateTime.of(2150, 7, 21, 19, 30);
+  private static final LocalDateTime ANOTHER_DINNER_DATE = LocalDateTime.of(2150, 7, 20, 20, 0);
+  private static final LocalDateTime A_RESERVATION_DATE = LocalDateTime.of(2150, 5, 21, 15, 23);
+  private static final String A_CUSTOMER_NAME = "Kévin Tremblay";
+  private static final String ANOTHER_CUSTOMER_NAME = "Jane";
+  private static final String A_RESERVATION_NUMBER = "TEAM-4002";
+  private static final String ANOTHER_RESERVATION_NUMBER = "TEAM-2004";
+  private static final int MANY_RESERVATIONS = 2000;
+
+  @TempDir
+  public Path segmentDirectory;
+
+  private MappedReservationRepository reservationRepository;
+
+  @BeforeEach
+  public void setUp() {
+    reservationRepository = new MappedReservationRepository(segmentDirectory, A_SEGMENT_SIZE);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    reservationRepository.close();
+  }
+
+  @Test
+  public void givenAReservation_whenSaveReservation_thenReturnReservationId() {
+    // given
+    Reservation reservation = givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE);
+
+    // when
+    ReservationNumber reservationId = reservationRepository.saveReservation(reservation);
+
+    // then
+    assertThat(reservationId).isEqualTo(reservation.getReservationId());
+  }
+
+  @Test
+  public void givenASavedReservation_whenGetReservationById_thenIdAndDatesAreRead() {
+    // given
+    Reservation reservation = givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE);
+    reservationRepository.saveReservation(reservation);
+
+    // when
+    Reservation actualReservation = reservationRepository.getReservationById(reservation.getReservationId());
+
+    // then
+    assertThat(actualReservation.getReservationId()).isEqualTo(reservation.getReservationId());
+    assertThat(actualReservation.getDinnerDate()).isEqualTo(A_DINNER_DATE);
+    assertThat(actualReservation.getReservationDate()).isEqualTo(A_RESERVATION_DATE);
+  }
+
+  @Test
+  public void givenASavedReservation_whenGetReservationById_thenCustomersAndRestrictionsAreRead() {
+    // given
+    Reservation reservation = givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE);
+    reservationRepository.saveReservation(reservation);
+
+    // when
+    Reservation actualReservation = reservationRepository.getReservationById(reservation.getReservationId());
+
+    // then
+    assertThat(actualReservation.getTables()).hasSize(2);
+    assertThat(actualReservation.getNumberOfCustomers()).isEqualTo(3);
+    List<Customer> customers = actualReservation.getCustomers();
+    assertThat(customers.get(0).getName()).isEqualTo(A_CUSTOMER_NAME);
+    assertThat(customers.get(0).getRestrictions()).containsExactly(RestrictionType.VEGAN, RestrictionType.ALLERGIES);
+    assertThat(customers.get(2).getRestrictions()).isEmpty();
+    assertThat(actualReservation.getRestrictionTypeCount()).isEqualTo(reservation.getRestrictionTypeCount());
+    assertThat(actualReservation.getReservationFees()).isEqualTo(reservation.getReservationFees());
+  }
+
+  @Test
+  public void givenADinnerDateWithSeconds_whenGetReservationById_thenTheDinnerDateIsKeptToTheMinute() {
+    // given
+    Reservation reservation = givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE.withSecond(42).withNano(123));
+    reservationRepository.saveReservation(reservation);
+
+    // when
+    Reservation actualReservation = reservationRepository.getReservationById(reservation.getReservationId());
+
+    // then
+    assertThat(actualReservation.getDinnerDate()).isEqualTo(A_DINNER_DATE);
+  }
+
+  @Test
+  public void givenNotExistingReservation_whenGetReservationById_thenThrowReservationNotFoundException() {
+    // given
+    reservationRepository.saveReservation(givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE));
+
+    // when
+    Executable gettingReservationById = () -> reservationRepository.getReservationById(givenAReservationId(ANOTHER_RESERVATION_NUMBER));
+
+    // then
+    assertThrows(ReservationNotFoundException.class, gettingReservationById);
+  }
+
+  @Test
+  public void givenReservationsAtDifferentDates_whenGetReservationsByDate_thenOnlyTheReservationsOfTheDateAreReturnedInSavingOrder() {
+    // given
+    reservationRepository.saveReservation(givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE));
+    reservationRepository.saveReservation(givenAReservation(ANOTHER_RESERVATION_NUMBER, ANOTHER_DINNER_DATE));
+    reservationRepository.saveReservation(givenAReservation("TEAM-1", A_DINNER_DATE.plusHours(1)));
+
+    // when
+    List<Reservation> reservations = reservationRepository.getReservationsByDate(A_DINNER_DATE.withHour(0));
+
+    // then
+    assertThat(toReservationNumbers(reservations)).containsExactly(A_RESERVATION_NUMBER, "TEAM-1").inOrder();
+  }
+
+  @Test
+  public void givenReservationsAtDifferentDates_whenGetAllReservations_thenTheyAreReturnedByDinnerDate() {
+    // given
+    reservationRepository.saveReservation(givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE));
+    reservationRepository.saveReservation(givenAReservation(ANOTHER_RESERVATION_NUMBER, ANOTHER_DINNER_DATE));
+
+    // when
+    List<Reservation> reservations = reservationRepository.getAllReservations();
+
+    // then
+    assertThat(toReservationNumbers(reservations)).containsExactly(ANOTHER_RESERVATION_NUMBER, A_RESERVATION_NUMBER)
+                                                  .inOrder();
+  }
+
+  @Test
+  public void givenSavedReservations_whenGetTotalReservationIncome_thenReturnTheSumOfTheirFees() {
+    // given
+    Reservation reservation = givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE);
+    Reservation anotherReservation = givenAReservation(ANOTHER_RESERVATION_NUMBER, ANOTHER_DINNER_DATE);
+    reservationRepository.saveReservation(reservation);
+    reservationRepository.saveReservation(anotherReservation);
+
+    // when
+    Money totalReservationIncome = reservationRepository.getTotalReservationIncome();
+
+    // then
+    assertThat(totalReservationIncome).isEqualTo(reservation.getReservationFees()
+                                                            .add(anotherReservation.getReservationFees()));
+  }
+
+  @Test
+  public void givenMoreReservationsThanASegmentCanHold_whenGetReservationById_thenEveryReservationIsFound() {
+    // given
+    reservationRepository.close();
+    reservationRepository = new MappedReservationRepository(segmentDirectory, A_SMALL_SEGMENT_SIZE);
+    List<Reservation> reservations = new ArrayList<>();
+    for (int index = 0; index < MANY_RESERVATIONS; index++) {
+      Reservation reservation = givenAReservation("TEAM-" + index, A_DINNER_DATE.plusDays(index % 7));
+      reservationRepository.saveReservation(reservation);
+      reservations.add(reservation);
+    }
+
+    // when
+    List<String> actualReservationNumbers = new ArrayList<>();
+    for (Reservation reservation : reservations) {
+      actualReservationNumbers.add(reservationRepository.getReservationById(reservation.getReservationId())
+                                                        .getReservationId()
+                                                        .getReservationNumber());
+    }
+
+    // then
+    assertThat(actualReservationNumbers).isEqualTo(toReservationNumbers(reservations));
+  }
+
+  @Test
+  public void givenAReservationSavedAgain_whenGetReservationById_thenTheLatestRecordIsReturned() {
+    // given
+    reservationRepository.saveReservation(givenAReservation(A_RESERVATION_NUMBER, A_DINNER_DATE));
+    reservationRepository.saveReservation(givenAReservation(A_RESERVATION_NUMBER, ANOTHER_DINNER_DATE));
+
+    // when
+    Reservation reservation = reservationRepository.getReservationById(givenAReservationId(A_RESERVATION_NUMBER));
+
+    // then
+    assertThat(reservation.getDinnerDate()).isEqualTo(ANOTHER_DINNER_DATE);
+  }
+
+  @Test
+  public void givenAReservationLargerThanASegment_whenSaveReservation_thenThrowReservationRecordTooLargeException() {
+    // given
+    reservationRepository.close();
+    reservationRepository = new MappedReservationRepository(segmentDirectory, A_SMALL_SEGMENT_SIZE);
+    Reservation reservation = givenAReservation("TEAM-" + "4".repeat(A_SMALL_SEGMENT_SIZE), A_DINNER_DATE);
+
+    // when
+    Executable savingReservation = () -> reservationRepository.saveReservation(reservation);
+
+    // then
+    assertThrows(ReservationRecordTooLargeException.class, savingReservation);
+  }
+
+  private Reservation givenAReservation(String reservationNumber, LocalDateTime dinnerDate) {
+    return new ReservationBuilder().withId(givenAReservationId(reservationNumber))
+                                   .withDinnerDate(dinnerDate)
+                                   .withReservationDate(A_RESERVATION_DATE)
+                                   .withTable(new TableBuilder().withCustomer(new CustomerBuilder().withName(A_CUSTOMER_NAME)
+                                                                                                   .withRestriction(RestrictionType.VEGAN)
+                                                                                                   .withRestriction(RestrictionType.ALLERGIES)
+                                                                                                   .build())
+                                                                .build())
+                                   .withTable(new TableBuilder().withCustomer(new CustomerBuilder().withName(ANOTHER_CUSTOMER_NAME)
+                                                                                                   .withRestriction(RestrictionType.VEGETARIAN)
+                                                                                                   .build())
+                                                                .withCustomer(new CustomerBuilder().withName(ANOTHER_CUSTOMER_NAME)
+                                                                                                   .build())
+                                                                .build())
+                                   .build();
+  }
+
+  private ReservationNumber givenAReservationId(String reservationNumber) {
+    ReservationNumber reservationId = new VendorId();
+    reservationId.setReservationNumber(reservationNumber);
+    return reservationId;
+  }
+
+  private List<String> toReservationNumbers(List<Reservation> reservations) {
+    return reservations.stream()
+                       .map(reservation -> reservation.getReservationId().getReservationNumber())
+                       .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,277 @@
+package ca.ulaval.glo4002.reservation.infra.report;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.report.IngredientPriceRepository;
+import ca.ulaval.glo4002.reservation.domain.report.IngredientPrices;
+import ca.ulaval.glo4002.reservation.domain.report.exception.IngredientPriceUnavailableException;
+
+@ExtendWith(MockitoExtension.class)
+class CachedIngredientPriceRepositoryTest {
+  private static final Duration A_TIME_TO_LIVE = Duration.ofMinutes(5);
+  private static final Duration A_REFRESH_AHEAD = Duration.ofMinutes(1);
+  private static final Instant A_FETCH_TIME = Instant.parse("2150-07-20T12:00:00Z");
+  private static final Instant A_FRESH_TIME = A_FETCH_TIME.plus(Duration.ofMinutes(2));
+  private static final Instant A_REFRESH_AHEAD_TIME = A_FETCH_TIME.plus(Duration.ofMinutes(4));
+  private static final Instant AN_EXPIRED_TIME = A_FETCH_TIME.plus(Duration.ofMinutes(6));
+  private static final IngredientPrices SOME_PRICES = IngredientPrices.of(Map.of(IngredientName.TOMATO,
+                                                                                 BigDecimal.valueOf(2.5)));
+  private static final IngredientPrices OTHER_PRICES = IngredientPrices.of(Map.of(IngredientName.TOMATO,
+                                                                                  BigDecimal.valueOf(3.5)));
+
+  @Mock
+  private IngredientPriceRepository ingredientPriceRepository;
+
+  @Mock
+  private Clock clock;
+
+  private CachedIngredientPriceRepository cachedIngredientPriceRepository;
+
+  @BeforeEach
+  public void setUpCachedIngredientPriceRepository() {
+    cachedIngredientPriceRepository = new CachedIngredientPriceRepository(ingredientPriceRepository,
+                                                                          A_TIME_TO_LIVE,
+                                                                          A_REFRESH_AHEAD,
+                                                                          clock);
+  }
+
+  @Test
+  public void givenNoSnapshot_whenGetIngredientPrices_thenPricesAreFetchedAndAMissIsCounted() {
+    // given
+    given(clock.instant()).willReturn(A_FETCH_TIME);
+    given(ingredientPriceRepository.getIngredientPricesAsync()).willReturn(CompletableFuture.completedFuture(SOME_PRICES));
+
+    // when
+    IngredientPrices prices = cachedIngredientPriceRepository.getIngredientPrices();
+
+    // then
+    assertThat(prices).isEqualTo(SOME_PRICES);
+    assertThat(cachedIngredientPriceRepository.getMissCount()).isEqualTo(1);
+    assertThat(cachedIngredientPriceRepository.getHitCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void givenAFreshSnapshot_whenGetIngredientPrices_thenTheSnapshotIsReturnedWithoutFetching() {
+    // given
+    givenASnapshotFetchedAt(A_FETCH_TIME);
+    given(clock.instant()).willReturn(A_FRESH_TIME);
+
+    // when
+    IngredientPrices prices = cachedIngredientPriceRepository.getIngredientPrices();
+
+    // then
+    verify(ingredientPriceRepository).getIngredientPricesAsync();
+    assertThat(prices).isEqualTo(SOME_PRICES);
+    assertThat(cachedIngredientPriceRepository.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenASnapshotAboutToExpire_whenGetIngredientPrices_thenTheSnapshotIsReturnedAndARefreshIsStarted() {
+    // given
+    givenASnapshotFetchedAt(A_FETCH_TIME);
+    given(clock.instant()).willReturn(A_REFRESH_AHEAD_TIME);
+    given(ingredientPriceRepository.getIngredientPricesAsync()).willReturn(new CompletableFuture<>());
+
+    // when
+    IngredientPrices prices = cachedIngredientPriceRepository.getIngredientPrices();
+
+    // then
+    assertThat(prices).isEqualTo(SOME_PRICES);
+    verify(ingredientPriceRepository, times(2)).getIngredientPricesAsync();
+  }
+
+  @Test
+  public void givenARefreshInFlight_whenGetIngredientPrices_thenNoOtherRefreshIsStarted() {
+    // given
+    givenASnapshotFetchedAt(A_FETCH_TIME);
+    given(clock.instant()).willReturn(A_REFRESH_AHEAD_TIME);
+    given(ingredientPriceRepository.getIngredientPricesAsync()).willReturn(new CompletableFuture<>());
+    cachedIngredientPriceRepository.getIngredientPrices();
+
+    // when
+    cachedIngredientPriceRepository.getIngredientPrices();
+    cachedIngredientPriceRepository.getIngredientPrices();
+
+    // then
+    verify(ingredientPriceRepository, times(2)).getIngredientPricesAsync();
+  }
+
+  @Test
+  public void givenABackgroundRefreshCompleted_whenGetIngredientPrices_thenTheRefreshedPricesAreReturned() {
+    // given
+    givenASnapshotFetchedAt(A_FETCH_TIME);
+    given(clock.instant()).willReturn(A_REFRESH_AHEAD_TIME);
+    CompletableFuture<IngredientPrices> pendingRefresh = new CompletableFuture<>();
+    given(ingredientPriceRepository.getIngredientPricesAsync()).willReturn(pendingRefresh);
+    cachedIngredientPriceRepository.getIngredientPrices();
+    pendingRefresh.complete(OTHER_PRICES);
+
+    // when
+    IngredientPrices prices = cachedIngredientPriceRepository.getIngredientPrices();
+
+    // then
+    assertThat(prices).isEqualTo(OTHER_PRICES);
+    assertThat(cachedIngredientPriceRepository.getSnapshotAge()).isEqualTo(Optional.of(Duration.ZERO));
+  }
+
+  @Test
+  public void givenAnExpiredSnapshotAndAnUnavailableWarehouse_whenGetIngredientPrices_thenTheLastKnownGoodPricesAreReturned() {
+    // given
+    givenASnapshotFetchedAt(A_FETCH_TIME);
+    given(clock.instant()).willReturn(AN_EXPIRED_TIME);
+    given(ingredientPriceRepository.getIngredientPricesAsync()).willReturn(givenAnUnavailableWarehouse());
+
+    // when
+    IngredientPrices prices = cachedIngredientPriceRepository.getIngredientPrices();
+
+    // then
+    assertThat(prices).isEqualTo(SOME_PRICES);
+    assertThat(cachedIngredientPriceRepository.getMissCount()).isEqualTo(2);
+    assertThat(cachedIngredientPriceRepository.getRefreshFailureCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenNoSnapshotAndAnUnavailableWarehouse_whenGetIngredientPrices_thenThrowIngredientPriceUnavailableExceptionAndTheNextCallRetries() {
+    // given
+    given(ingredientPriceRepository.getIngredientPricesAsync()).willReturn(givenAnUnavailableWarehouse());
+
+    // when
+    Executable gettingPrices = () -> cachedIngredientPriceRepository.getIngredientPrices();
+
+    // then
+    assertThrows(IngredientPriceUnavailableException.class, gettingPrices);
+    assertThrows(IngredientPriceUnavailableException.class, gettingPrices);
+    verify(ingredientPriceRepository, times(2)).getIngredientPricesAsync();
+    assertThat(cachedIngredientPriceRepository.getSnapshotAge()).isEqualTo(Optional.empty());
+  }
+
+  @Test
+  public void givenNoSnapshotAndAnUnavailableWarehouse_whenGetIngredientPricesAsync_thenCompleteWithIngredientPriceUnavailableException() {
+    // given
+    given(ingredientPriceRepository.getIngredientPricesAsync()).willReturn(givenAnUnavailableWarehouse());
+
+    // when
+    CompletableFuture<IngredientPrices> prices = cachedIngredientPriceRepository.getIngredientPricesAsync();
+
+    // then
+    CompletionException failure = assertThrows(CompletionException.class, prices::join);
+    assertThat(failure).hasCauseThat().isInstanceOf(IngredientPriceUnavailableException.class);
+  }
+
+  @Test
+  public void givenAnExpiredSnapshotAndARefreshInFlight_whenGetIngredientPrices_thenTheStaleSnapshotIsReturnedWithoutWaiting() {
+    // given
+    givenASnapshotFetchedAt(A_FETCH_TIME);
+    given(clock.instant()).willReturn(AN_EXPIRED_TIME);
+    CompletableFuture<IngredientPrices> pendingRefresh = new CompletableFuture<>();
+    given(ingredientPriceRepository.getIngredientPricesAsync()).willReturn(pendingRefresh);
+
+    // when
+    IngredientPrices prices = cachedIngredientPriceRepository.getIngredientPrices();
+
+    // then
+    assertThat(prices).isEqualTo(SOME_PRICES);
+    verify(ingredientPriceRepository, times(2)).getIngredientPricesAsync();
+  }
+
+  @Test
+  public void givenAnExpiredSnapshot_whenGetIngredientPricesAsync_thenTheStaleSnapshotIsCompletedWhileTheRefreshRuns() {
+    // given
+    givenASnapshotFetchedAt(A_FETCH_TIME);
+    given(clock.instant()).willReturn(AN_EXPIRED_TIME);
+    CompletableFuture<IngredientPrices> pendingRefresh = new CompletableFuture<>();
+    given(ingredientPriceRepository.getIngredientPricesAsync()).willReturn(pendingRefresh);
+
+    // when
+    CompletableFuture<IngredientPrices> prices = cachedIngredientPriceRepository.getIngredientPricesAsync();
+
+    // then
+    assertThat(prices.join()).isEqualTo(SOME_PRICES);
+    pendingRefresh.complete(OTHER_PRICES);
+    assertThat(cachedIngredientPriceRepository.getIngredientPrices()).isEqualTo(OTHER_PRICES);
+  }
+
+  @Test
+  public void givenNoSnapshot_whenGetIngredientPrices_thenTheFetchedPricesAreGivenAFirstVersion() {
+    // given
+    given(clock.instant()).willReturn(A_FETCH_TIME);
+    given(ingredientPriceRepository.getIngredientPricesAsync()).willReturn(CompletableFuture.completedFuture(SOME_PRICES));
+
+    // when
+    IngredientPrices prices = cachedIngredientPriceRepository.getIngredientPrices();
+
+    // then
+    assertThat(prices.getVersion()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenARefreshReturningTheSamePrices_whenGetIngredientPrices_thenThePricesVersionIsKept() {
+    // given
+    givenASnapshotFetchedAt(A_FETCH_TIME);
+    given(clock.instant()).willReturn(AN_EXPIRED_TIME);
+    given(ingredientPriceRepository.getIngredientPricesAsync()).willReturn(CompletableFuture.completedFuture(IngredientPrices.of(SOME_PRICES.toMap())));
+
+    // when
+    IngredientPrices prices = cachedIngredientPriceRepository.getIngredientPrices();
+
+    // then
+    assertThat(prices.getVersion()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenARefreshReturningOtherPrices_whenGetIngredientPrices_thenThePricesVersionIsIncremented() {
+    // given
+    givenASnapshotFetchedAt(A_FETCH_TIME);
+    given(clock.instant()).willReturn(AN_EXPIRED_TIME);
+    given(ingredientPriceRepository.getIngredientPricesAsync()).willReturn(CompletableFuture.completedFuture(OTHER_PRICES));
+
+    // when
+    IngredientPrices prices = cachedIngredientPriceRepository.getIngredientPrices();
+
+    // then
+    assertThat(prices.getVersion()).isEqualTo(2);
+  }
+
+  @Test
+  public void givenARefreshAheadLongerThanTheTimeToLive_whenCreate_thenThrowIllegalArgumentException() {
+    // when
+    Executable creatingTheRepository = () -> new CachedIngredientPriceRepository(ingredientPriceRepository,
+                                                                                  A_REFRESH_AHEAD,
+                                                                                  A_TIME_TO_LIVE,
+                                                                                  clock);
+
+    // then
+    assertThrows(IllegalArgumentException.class, creatingTheRepository);
+  }
+
+  private void givenASnapshotFetchedAt(Instant fetchTime) {
+    given(clock.instant()).willReturn(fetchTime);
+    given(ingredientPriceRepository.getIngredientPricesAsync()).willReturn(CompletableFuture.completedFuture(SOME_PRICES));
+    cachedIngredientPriceRepository.getIngredientPrices();
+  }
+
+  private CompletableFuture<IngredientPrices> givenAnUnavailableWarehouse() {
+    return CompletableFuture.failedFuture(new IngredientPriceUnavailableException(new Exception()));
+  }
+}
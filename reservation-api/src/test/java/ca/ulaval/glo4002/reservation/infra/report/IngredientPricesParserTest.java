@@ -0,0 +1,77 @@
+package ca.ulaval.glo4002.reservation.infra.report;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.report.IngredientPrices;
+
+class IngredientPricesParserTest {
+  private static final String SOME_INGREDIENTS = "[{\"name\":\"Tomato\",\"pricePerKg\":2.35},"
+      + "{\"id\":7,\"tags\":[\"fresh\",{\"origin\":\"local\"}],\"pricePerKg\":12,\"name\":\"Kiwi\"}]";
+  private static final String AN_UNKNOWN_INGREDIENT = "[{\"name\":\"invalidIngredientName\",\"pricePerKg\":1.5},"
+      + "{\"name\":\"Chocolate\",\"pricePerKg\":10.0}]";
+  private static final String AN_INGREDIENT_WITHOUT_PRICE = "[{\"name\":\"Tomato\"}]";
+  private static final String NOT_AN_ARRAY = "{\"name\":\"Tomato\",\"pricePerKg\":2.35}";
+
+  private IngredientPricesParser ingredientPricesParser;
+
+  @BeforeEach
+  public void setUpIngredientPricesParser() {
+    ingredientPricesParser = new IngredientPricesParser(new JsonFactory());
+  }
+
+  @Test
+  public void givenIngredients_whenParse_thenPricesAreIndexedByIngredientName() throws IOException {
+    // when
+    IngredientPrices ingredientPrices = ingredientPricesParser.parse(asStream(SOME_INGREDIENTS));
+
+    // then
+    assertThat(ingredientPrices.getPricePerKg(IngredientName.TOMATO)).isEqualTo(BigDecimal.valueOf(2.35));
+    assertThat(ingredientPrices.getPricePerKg(IngredientName.KIWI)).isEqualTo(BigDecimal.valueOf(12.0));
+    assertThat(ingredientPrices.toMap()).hasSize(2);
+  }
+
+  @Test
+  public void givenAnUnknownIngredient_whenParse_thenItIsIgnored() throws IOException {
+    // when
+    IngredientPrices ingredientPrices = ingredientPricesParser.parse(asStream(AN_UNKNOWN_INGREDIENT));
+
+    // then
+    assertThat(ingredientPrices.toMap()).containsExactly(IngredientName.CHOCOLATE, BigDecimal.valueOf(10.0));
+  }
+
+  @Test
+  public void givenAnIngredientWithoutPrice_whenParse_thenItIsIgnored() throws IOException {
+    // when
+    IngredientPrices ingredientPrices = ingredientPricesParser.parse(asStream(AN_INGREDIENT_WITHOUT_PRICE));
+
+    // then
+    assertThat(ingredientPrices.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void givenSomethingElseThanAnArray_whenParse_thenThrowIOException() {
+    // when
+    Executable parsing = () -> ingredientPricesParser.parse(asStream(NOT_AN_ARRAY));
+
+    // then
+    assertThrows(IOException.class, parsing);
+  }
+
+  private InputStream asStream(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,174 @@
+package ca.ulaval.glo4002.reservation.infra.snapshot;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ca.ulaval.glo4002.reservation.domain.builder.CustomerBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.ReservationBuilder;
+import ca.ulaval.glo4002.reservation.domain.builder.TableBuilder;
+import ca.ulaval.glo4002.reservation.domain.chef.Chef;
+import ca.ulaval.glo4002.reservation.domain.chef.ChefPriority;
+import ca.ulaval.glo4002.reservation.domain.date.DinerPeriod;
+import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
+import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningConfigurationRequest;
+import ca.ulaval.glo4002.reservation.domain.material.Material;
+import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
+import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.VendorId;
+import ca.ulaval.glo4002.reservation.domain.snapshot.RestaurantSnapshot;
+import ca.ulaval.glo4002.reservation.infra.journal.ReservationRecordCodec;
+
+public class FileRestaurantSnapshotStoreTest {
+  private static final long A_JOURNAL_POSITION = 8192;
+  private static final String A_VENDOR_CODE = "TEAM";
+  private static final LocalDate A_DINNER_DAY = LocalDate.of(2150, 7, 21);
+  private static final LocalDateTime A_DINNER_DATE = A_DINNER_DAY.atTime(19, 30);
+  private static final DinerPeriod A_DINNER_PERIOD = new DinerPeriod(LocalDate.of(2150, 7, 20),
+                                                                     LocalDate.of(2150, 7, 30));
+  private static final DinerPeriod A_RESERVATION_PERIOD = new DinerPeriod(LocalDate.of(2150, 1, 1),
+                                                                          LocalDate.of(2150, 7, 16));
+  private static final BigDecimal A_QUANTITY = new BigDecimal("12.375");
+  private static final BigDecimal ANOTHER_QUANTITY = BigDecimal.valueOf(7);
+  private static final int A_NUMBER_OF_CUSTOMERS = 3;
+
+  @TempDir
+  public Path snapshotDirectory;
+
+  private Path snapshotFile;
+  private FileRestaurantSnapshotStore restaurantSnapshotStore;
+
+  @BeforeEach
+  public void setUp() {
+    snapshotFile = snapshotDirectory.resolve("restaurant.snapshot");
+    restaurantSnapshotStore = new FileRestaurantSnapshotStore(snapshotFile,
+                                                              new RestaurantSnapshotCodec(new ReservationRecordCodec()));
+  }
+
+  @Test
+  public void givenNoSavedSnapshot_whenLoadLatest_thenNoSnapshotIsLoaded() {
+    // when
+    Optional<RestaurantSnapshot> restaurantSnapshot = restaurantSnapshotStore.loadLatest();
+
+    // then
+    assertThat(restaurantSnapshot.isPresent()).isFalse();
+  }
+
+  @Test
+  public void givenASavedSnapshot_whenLoadLatest_thenJournalPositionAndHoppeningConfigurationAreLoaded() {
+    // given
+    restaurantSnapshotStore.save(givenASnapshot());
+
+    // when
+    RestaurantSnapshot restaurantSnapshot = restaurantSnapshotStore.loadLatest().orElseThrow();
+
+    // then
+    assertThat(restaurantSnapshot.getJournalPosition()).isEqualTo(A_JOURNAL_POSITION);
+    HoppeningConfigurationRequest hoppeningConfiguration = restaurantSnapshot.getHoppeningConfiguration();
+    assertThat(hoppeningConfiguration.getDinnerDinerPeriod().getStartDate()).isEqualTo(A_DINNER_PERIOD.getStartDate());
+    assertThat(hoppeningConfiguration.getDinnerDinerPeriod().getEndDate()).isEqualTo(A_DINNER_PERIOD.getEndDate());
+    assertThat(hoppeningConfiguration.getReservationDinerPeriod().getStartDate()).isEqualTo(A_RESERVATION_PERIOD.getStartDate());
+    assertThat(hoppeningConfiguration.getReservationDinerPeriod().getEndDate()).isEqualTo(A_RESERVATION_PERIOD.getEndDate());
+  }
+
+  @Test
+  public void givenASavedSnapshot_whenLoadLatest_thenReservationsAreLoaded() {
+    // given
+    RestaurantSnapshot savedSnapshot = givenASnapshot();
+    restaurantSnapshotStore.save(savedSnapshot);
+
+    // when
+    RestaurantSnapshot restaurantSnapshot = restaurantSnapshotStore.loadLatest().orElseThrow();
+
+    // then
+    Reservation savedReservation = savedSnapshot.getReservations().get(0);
+    Reservation reservation = restaurantSnapshot.getReservations().get(0);
+    assertThat(restaurantSnapshot.getReservations()).hasSize(1);
+    assertThat(reservation.getReservationId()).isEqualTo(savedReservation.getReservationId());
+    assertThat(reservation.getDinnerDate()).isEqualTo(savedReservation.getDinnerDate());
+    assertThat(reservation.getRestrictionTypeCount()).isEqualTo(savedReservation.getRestrictionTypeCount());
+  }
+
+  @Test
+  public void givenASavedSnapshot_whenLoadLatest_thenDailyQuantitiesAndChefScheduleAreLoaded() {
+    // given
+    RestaurantSnapshot savedSnapshot = givenASnapshot();
+    restaurantSnapshotStore.save(savedSnapshot);
+
+    // when
+    RestaurantSnapshot restaurantSnapshot = restaurantSnapshotStore.loadLatest().orElseThrow();
+
+    // then
+    assertThat(restaurantSnapshot.getIngredientsQuantityPerDay()).isEqualTo(savedSnapshot.getIngredientsQuantityPerDay());
+    assertThat(restaurantSnapshot.getDishesQuantityPerDay()).isEqualTo(savedSnapshot.getDishesQuantityPerDay());
+    assertThat(restaurantSnapshot.getChefSchedule()).isEqualTo(savedSnapshot.getChefSchedule());
+  }
+
+  @Test
+  public void givenTwoSavedSnapshots_whenLoadLatest_thenTheLastSnapshotIsLoaded() {
+    // given
+    restaurantSnapshotStore.save(givenASnapshot());
+    restaurantSnapshotStore.save(givenAnEmptySnapshot(A_JOURNAL_POSITION * 2));
+
+    // when
+    RestaurantSnapshot restaurantSnapshot = restaurantSnapshotStore.loadLatest().orElseThrow();
+
+    // then
+    assertThat(restaurantSnapshot.getJournalPosition()).isEqualTo(A_JOURNAL_POSITION * 2);
+    assertThat(restaurantSnapshot.getReservations()).isEmpty();
+  }
+
+  @Test
+  public void givenACorruptedSnapshot_whenLoadLatest_thenNoSnapshotIsLoaded() throws Exception {
+    // given
+    restaurantSnapshotStore.save(givenASnapshot());
+    byte[] snapshot = Files.readAllBytes(snapshotFile);
+    snapshot[snapshot.length / 2] ^= 0x7F;
+    Files.write(snapshotFile, snapshot);
+
+    // when
+    Optional<RestaurantSnapshot> restaurantSnapshot = restaurantSnapshotStore.loadLatest();
+
+    // then
+    assertThat(restaurantSnapshot.isPresent()).isFalse();
+  }
+
+  private RestaurantSnapshot givenASnapshot() {
+    Reservation reservation = new ReservationBuilder().withId(new VendorId(A_VENDOR_CODE))
+                                                      .withDinnerDate(A_DINNER_DATE)
+                                                      .withTable(new TableBuilder().withCustomer(new CustomerBuilder().withRestriction(RestrictionType.VEGAN)
+                                                                                                                      .build())
+                                                                                   .withCustomer(new CustomerBuilder().build())
+                                                                                   .build())
+                                                      .build();
+    Chef chef = new Chef("Bob Smarties", ChefPriority.SECOND, Set.of(RestrictionType.VEGAN));
+    chef.addCustomers(A_NUMBER_OF_CUSTOMERS);
+    return new RestaurantSnapshot(A_JOURNAL_POSITION,
+                                  new HoppeningConfigurationRequest(A_DINNER_PERIOD, A_RESERVATION_PERIOD),
+                                  List.of(reservation),
+                                  Map.of(A_DINNER_DAY, Map.of(IngredientName.TOFU, A_QUANTITY)),
+                                  Map.of(A_DINNER_DAY, Map.of(Material.FORK, ANOTHER_QUANTITY, Material.PLATE, A_QUANTITY)),
+                                  Map.of(A_DINNER_DAY, Set.of(chef)));
+  }
+
+  private RestaurantSnapshot givenAnEmptySnapshot(long journalPosition) {
+    return new RestaurantSnapshot(journalPosition,
+                                  new HoppeningConfigurationRequest(A_DINNER_PERIOD, A_RESERVATION_PERIOD),
+                                  List.of(),
+                                  Map.of(),
+                                  Map.of(),
+                                  Map.of());
+  }
+}
@@ -4,13 +4,8 @@ import static com.google.common.truth.Truth.assertThat;
 
 import ca.ulaval.glo4002.reservation.domain.Restaurant;
 import ca.ulaval.glo4002.reservation.domain.RestaurantFinance;
-import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
-import ca.ulaval.glo4002.reservation.domain.material.DailyDishesQuantity;
-import ca.ulaval.glo4002.reservation.domain.material.MaterialReport;
-import ca.ulaval.glo4002.reservation.domain.material.MaterialReportGenerator;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.report.*;
-import ca.ulaval.glo4002.reservation.infra.inmemory.InMemoryIngredientQuantityRepository;
-import ca.ulaval.glo4002.reservation.infra.report.IngredientPriceDto;
 import ca.ulaval.glo4002.reservation.service.report.chef.ChefReportService;
 import ca.ulaval.glo4002.reservation.service.report.finance.FinanceService;
 import ca.ulaval.glo4002.reservation.service.report.finance.RestaurantFinanceService;
@@ -22,50 +17,27 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.mockito.Mockito.verify;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.util.List;
-import java.util.Map;
 
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
 public class RestaurantFinanceServiceTest {
 
-    private static final BigDecimal AN_INCOME = BigDecimal.valueOf(3456);
-    private static final BigDecimal A_CHEF_FEES = BigDecimal.valueOf(345546);
-    private static final BigDecimal A_MATERIAL_COST = BigDecimal.valueOf(13423);
+    private static final Money AN_INCOME = Money.of(3456);
+    private static final Money A_CHEF_FEES = Money.of(345546);
+    private static final Money A_MATERIAL_COST = Money.of(13423);
     private static final BigDecimal A_INGREDIENT_COST = BigDecimal.valueOf(3425);
+    private static final IngredientPrices SOME_INGREDIENT_PRICES = IngredientPrices.empty();
 
     @Mock
-    private InMemoryIngredientQuantityRepository inMemoryIngredientQuantityRepository;
+    private IngredientCostLedger ingredientCostLedger;
 
     @Mock
     private IngredientPriceRepository ingredientPriceRepository;
 
-    @Mock
-    private IngredientReportGenerator ingredientReportGenerator;
-
     @Mock
     private Restaurant restaurant;
 
-    @Mock
-    private MaterialReportGenerator materialReportGenerator;
-
-    @Mock
-    private Map<LocalDate, DailyDishesQuantity> dailyDishesQuantities;
-
-    @Mock
-    private MaterialReport materialReport;
-
-    @Mock
-    private List<IngredientPriceDto> ingredientPrices;
-
-    @Mock
-    private IngredientReport ingredientReport;
-
-    @Mock
-    private Map<LocalDate, Map<IngredientName, BigDecimal>> dateToIngredientQuantities;
-
     @Mock
     ChefReportService chefReportService;
 
@@ -75,8 +47,8 @@ public class RestaurantFinanceServiceTest {
 
     @BeforeEach
     public void setUpRestaurantFinanceService() {
-        restaurantFinanceService = new RestaurantFinanceService(inMemoryIngredientQuantityRepository, ingredientPriceRepository, ingredientReportGenerator,
-                restaurant, materialReportGenerator, chefReportService);
+        restaurantFinanceService = new RestaurantFinanceService(ingredientCostLedger, ingredientPriceRepository, restaurant,
+                chefReportService);
 
             givenRightInformation();
 
@@ -87,68 +59,47 @@ public class RestaurantFinanceServiceTest {
     @Test
     public void givenARestaurantIncome_whenCalculateRestaurantFinance_thenShouldBeTheRightIncome() {
         // then
-        assertThat(restaurantFinance.getIncome()).isEqualTo(AN_INCOME);
-    }
-
-    @Test
-    public void givenTheRightInformation_whenCalculateRestaurantFinance_thenChefReportServiceFeesShouldBeCall() {
-        // then
-        verify(chefReportService).getTotalChefFees();
+        assertThat(restaurantFinance.getIncome()).isEqualTo(AN_INCOME.toBigDecimal());
     }
 
     @Test
-    public void givenTheRightInformation_whenCalculateRestaurantFinance_thenMaterialReportGetMaterialCostShouldBeCall() {
+    public void givenTheRightInformation_whenCalculateRestaurantFinance_thenExpenseIsTheSumOfEveryRunningCost() {
         // then
-        verify(materialReport).getMaterialCost();
+        BigDecimal expectedExpense = A_CHEF_FEES.toBigDecimal().add(A_INGREDIENT_COST).add(A_MATERIAL_COST.toBigDecimal());
+        assertThat(restaurantFinance.getExpense()).isEqualTo(expectedExpense);
     }
 
     @Test
-    public void givenTheRightInformation_whenCalculateRestaurantFinance_thenRestaurantGetTotalDishesShouldBeCall() {
+    public void givenTheRightInformation_whenCalculateRestaurantFinance_thenChefReportServiceFeesShouldBeCall() {
         // then
-        verify(restaurant).getRestaurantTotalDishes();
+        verify(chefReportService).getTotalChefFees();
     }
 
     @Test
-    public void givenTheRightInformation_whenCalculateRestaurantFinance_thenMaterialReportGeneratorGetTotalMaterialReportShouldBeCall() {
+    public void givenTheRightInformation_whenCalculateRestaurantFinance_thenRestaurantGetMaterialCostShouldBeCall() {
         // then
-        verify(materialReportGenerator).generateTotalMaterialReport(dailyDishesQuantities);
+        verify(restaurant).getMaterialCost();
     }
 
     @Test
     public void givenTheRightInformation_whenCalculateRestaurantFinance_thenIngredientPriceRepositoryGetIngredientsPriceShouldBeCall() {
         // then
-        verify(ingredientPriceRepository).getIngredientsPrice();
-    }
-
-    @Test
-    public void givenTheRightInformation_whenCalculateRestaurantFinance_thenIngredientQuantityRepositoryGetAllIngredientShouldBeCall() {
-        // then
-        verify(inMemoryIngredientQuantityRepository).getAllIngredients();
-    }
-
-    @Test
-    public void givenTheRightInformation_whenCalculateRestaurantFinance_thenIngredientReportCalculateTotalPriceShouldBeCall() {
-        // then
-        verify(ingredientReport).calculateTotalPriceForEntireReport();
+        verify(ingredientPriceRepository).getIngredientPrices();
     }
 
     @Test
-    public void givenTheRightInformation_whenCalculateRestaurantFinance_thenIngredientReportGeneratorGenerateReportShouldBeCall() {
+    public void givenTheRightInformation_whenCalculateRestaurantFinance_thenIngredientCostLedgerTotalCostShouldBeCall() {
         // then
-        verify(ingredientReportGenerator).generateReport(ingredientPrices, dateToIngredientQuantities);
+        verify(ingredientCostLedger).getTotalCost(SOME_INGREDIENT_PRICES);
     }
 
 
     private void givenRightInformation() {
         given(chefReportService.getTotalChefFees()).willReturn(A_CHEF_FEES);
         given(restaurant.getRestaurantIncome()).willReturn(AN_INCOME);
-        given(restaurant.getRestaurantTotalDishes()).willReturn(dailyDishesQuantities);
-        given(materialReport.getMaterialCost()).willReturn(A_MATERIAL_COST);
-        given(materialReportGenerator.generateTotalMaterialReport(dailyDishesQuantities)).willReturn(materialReport);
-        given(ingredientPriceRepository.getIngredientsPrice()).willReturn(ingredientPrices);
-        given(inMemoryIngredientQuantityRepository.getAllIngredients()).willReturn(dateToIngredientQuantities);
-        given(ingredientReport.calculateTotalPriceForEntireReport()).willReturn(A_INGREDIENT_COST);
-        given(ingredientReportGenerator.generateReport(ingredientPrices, dateToIngredientQuantities)).willReturn(ingredientReport);
+        given(restaurant.getMaterialCost()).willReturn(A_MATERIAL_COST);
+        given(ingredientPriceRepository.getIngredientPrices()).willReturn(SOME_INGREDIENT_PRICES);
+        given(ingredientCostLedger.getTotalCost(SOME_INGREDIENT_PRICES)).willReturn(A_INGREDIENT_COST);
 
     }
 }
@@ -1,13 +1,12 @@
 package ca.ulaval.glo4002.reservation.service.report;
 
+import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import ca.ulaval.glo4002.reservation.service.report.chef.ReportService;
@@ -21,14 +20,13 @@ import ca.ulaval.glo4002.reservation.domain.Restaurant;
 import ca.ulaval.glo4002.reservation.domain.date.DinerPeriod;
 import ca.ulaval.glo4002.reservation.domain.fullcourse.IngredientName;
 import ca.ulaval.glo4002.reservation.domain.hoppening.HoppeningEvent;
-import ca.ulaval.glo4002.reservation.domain.material.DailyDishesQuantity;
-import ca.ulaval.glo4002.reservation.domain.material.MaterialReportGenerator;
+import ca.ulaval.glo4002.reservation.domain.report.IngredientCostLedger;
 import ca.ulaval.glo4002.reservation.domain.report.IngredientPriceRepository;
-import ca.ulaval.glo4002.reservation.domain.report.IngredientReportGenerator;
+import ca.ulaval.glo4002.reservation.domain.report.IngredientPrices;
+import ca.ulaval.glo4002.reservation.domain.report.IngredientReportType;
 import ca.ulaval.glo4002.reservation.domain.report.ReportPeriod;
 import ca.ulaval.glo4002.reservation.domain.report.ReportPeriodFactory;
-import ca.ulaval.glo4002.reservation.infra.inmemory.InMemoryIngredientQuantityRepository;
-import ca.ulaval.glo4002.reservation.infra.report.IngredientPriceDto;
+import ca.ulaval.glo4002.reservation.domain.report.ReportVersion;
 
 @ExtendWith(MockitoExtension.class)
 public class ReportServiceTest {
@@ -38,12 +36,13 @@ public class ReportServiceTest {
   private static final String REPORT_START_DATE = "2150-07-21";
   private static final String REPORT_END_DATE = "2150-07-29";
 
-  private static final LocalDate A_DATE = LocalDate.of(2150, 7, 20);
   private static final IngredientName AN_INGREDIENT_NAME = IngredientName.BUTTERNUT_SQUASH;
-  private static final BigDecimal A_QUANTITY = BigDecimal.valueOf(5.0);
+  private static final BigDecimal A_PRICE = BigDecimal.valueOf(10.42);
+  private static final long A_DATA_VERSION = 12;
+  private static final long A_PRICES_VERSION = 3;
 
   @Mock
-  private InMemoryIngredientQuantityRepository inMemoryIngredientQuantityRepository;
+  private IngredientCostLedger ingredientCostLedger;
 
   @Mock
   private IngredientPriceRepository ingredientPriceRepository;
@@ -51,24 +50,9 @@ public class ReportServiceTest {
   @Mock
   private ReportPeriod reportPeriod;
 
-  @Mock
-  private IngredientPriceDto anIngredientPriceDto;
-
-  @Mock
-  private IngredientReportGenerator ingredientReportGenerator;
-
   @Mock
   private Restaurant restaurant;
 
-  @Mock
-  private MaterialReportGenerator materialReportGenerator;
-
-  @Mock
-  private DailyDishesQuantity dailyDishesQuantity;
-
-  @Mock
-  private Map<LocalDate, DailyDishesQuantity> dailyDishesQuantities;
-
   @Mock
   private ReportPeriodFactory reportPeriodFactory;
 
@@ -82,19 +66,16 @@ public class ReportServiceTest {
 
   @BeforeEach
   public void setUpIngredientReportService() {
-    dailyDishesQuantities.put(START_LOCAL_DATE, dailyDishesQuantity);
-    reportService = new ReportService(inMemoryIngredientQuantityRepository,
+    reportService = new ReportService(ingredientCostLedger,
                                       ingredientPriceRepository,
-                                      ingredientReportGenerator,
                                       restaurant,
-                                      materialReportGenerator,
                                       reportPeriodFactory);
   }
 
   @BeforeEach
   public void setUpHoppeningEvent() {
-    given(hoppeningEvent.getDinnerDinerPeriod()).willReturn(dinnerDinerPeriod);
-    given(restaurant.getHoppeningEvent()).willReturn(hoppeningEvent);
+    lenient().when(hoppeningEvent.getDinnerDinerPeriod()).thenReturn(dinnerDinerPeriod);
+    lenient().when(restaurant.getHoppeningEvent()).thenReturn(hoppeningEvent);
   }
 
   @Test
@@ -104,76 +85,74 @@ public class ReportServiceTest {
             END_LOCAL_DATE,
             dinnerDinerPeriod)).willReturn(reportPeriod);
 
-    reportService.getIngredientReport(REPORT_START_DATE, REPORT_END_DATE);
+    reportService.getIngredientReport(REPORT_START_DATE, REPORT_END_DATE, IngredientReportType.UNIT);
 
     // then
-    verify(ingredientPriceRepository).getIngredientsPrice();
+    verify(ingredientPriceRepository).getIngredientPrices();
   }
 
   @Test
-  public void whenGetIngredientReport_ThenIngredientsQuantityAreRetrieved() {
+  public void whenGetIngredientReport_thenReportPeriodFactoryCreateIsCalled() {
     // given
     given(reportPeriodFactory.create(START_LOCAL_DATE,
                                      END_LOCAL_DATE,
             dinnerDinerPeriod)).willReturn(reportPeriod);
 
     // when
-    reportService.getIngredientReport(REPORT_START_DATE, REPORT_END_DATE);
+    reportService.getIngredientReport(REPORT_START_DATE, REPORT_END_DATE, IngredientReportType.UNIT);
 
     // then
-    verify(inMemoryIngredientQuantityRepository).getReportIngredientQuantity(reportPeriod.getAllDaysOfPeriod());
+    verify(reportPeriodFactory).create(START_LOCAL_DATE, END_LOCAL_DATE, dinnerDinerPeriod);
   }
 
   @Test
-  public void whenGetIngredientReport_thenReportPeriodFactoryCreateIsCalled() {
+  public void givenIngredientPrices_whenGetUnitIngredientReport_thenReportIsReadFromTheCostLedgerForThePeriod() {
     // given
     given(reportPeriodFactory.create(START_LOCAL_DATE,
                                      END_LOCAL_DATE,
             dinnerDinerPeriod)).willReturn(reportPeriod);
+    IngredientPrices ingredientPrices = givenIngredientPrices();
+    given(ingredientPriceRepository.getIngredientPrices()).willReturn(ingredientPrices);
 
     // when
-    reportService.getIngredientReport(REPORT_START_DATE, REPORT_END_DATE);
+    reportService.getIngredientReport(REPORT_START_DATE, REPORT_END_DATE, IngredientReportType.UNIT);
 
     // then
-    verify(reportPeriodFactory).create(START_LOCAL_DATE, END_LOCAL_DATE, dinnerDinerPeriod);
+    verify(ingredientCostLedger).getReport(reportPeriod, ingredientPrices);
   }
 
   @Test
-  public void givenIngredientPriceDtosAndIngredientsQuantity_whenGetIngredientReport_thenReportIsGenerated() {
+  public void givenIngredientPrices_whenGetTotalIngredientReport_thenTotalReportIsReadFromTheCostLedgerForThePeriod() {
     // given
     given(reportPeriodFactory.create(START_LOCAL_DATE,
                                      END_LOCAL_DATE,
             dinnerDinerPeriod)).willReturn(reportPeriod);
-    List<IngredientPriceDto> ingredientPriceDtos = givenIngredientPriceDtos();
-    given(ingredientPriceRepository.getIngredientsPrice()).willReturn(ingredientPriceDtos);
-
-    Map<LocalDate, Map<IngredientName, BigDecimal>> ingredientsQuantity = givenIngredientsQuantity();
-    given(inMemoryIngredientQuantityRepository.getReportIngredientQuantity(reportPeriod.getAllDaysOfPeriod())).willReturn(ingredientsQuantity);
+    IngredientPrices ingredientPrices = givenIngredientPrices();
+    given(ingredientPriceRepository.getIngredientPrices()).willReturn(ingredientPrices);
 
     // when
-    reportService.getIngredientReport(REPORT_START_DATE, REPORT_END_DATE);
+    reportService.getIngredientReport(REPORT_START_DATE, REPORT_END_DATE, IngredientReportType.TOTAL);
 
     // then
-    verify(ingredientReportGenerator).generateReport(ingredientPriceDtos, ingredientsQuantity);
+    verify(ingredientCostLedger).getTotalReport(reportPeriod, ingredientPrices);
   }
 
   @Test
-  public void whenGetMaterialReport_thenMaterialReportIsRetrieved() {
+  public void whenGetMaterialReport_thenMaterialReportIsRetrievedFromTheRestaurant() {
     // given
     given(reportPeriodFactory.create(START_LOCAL_DATE,
                                      END_LOCAL_DATE,
             dinnerDinerPeriod)).willReturn(reportPeriod);
-    given(restaurant.getDailyDishesQuantity(reportPeriod)).willReturn(dailyDishesQuantities);
 
     // when
     reportService.getMaterialReport(REPORT_START_DATE, REPORT_END_DATE);
 
     // then
-    verify(materialReportGenerator).generateReport(dailyDishesQuantities, reportPeriod);
+    verify(restaurant).getMaterialReport(reportPeriod);
   }
 
   @Test
-  public void whenGetMaterialReport_thenDailyDishesQuantityIsRetrieved() {
+  public void whenGetMaterialReport_thenReportPeriodFactoryCreateIsCalled() {
     // given
     given(reportPeriodFactory.create(START_LOCAL_DATE,
                                      END_LOCAL_DATE,
@@ -183,33 +162,35 @@ public class ReportServiceTest {
     reportService.getMaterialReport(REPORT_START_DATE, REPORT_END_DATE);
 
     // then
-    verify(restaurant).getDailyDishesQuantity(reportPeriod);
+    verify(reportPeriodFactory).create(START_LOCAL_DATE, END_LOCAL_DATE, dinnerDinerPeriod);
   }
 
   @Test
-  public void whenGetMaterialReport_thenReportPeriodFactoryCreateIsCalled() {
+  public void givenVersionedIngredientPrices_whenGetPricedReportVersion_thenVersionCombinesDataAndPricesVersions() {
     // given
-    given(reportPeriodFactory.create(START_LOCAL_DATE,
-                                     END_LOCAL_DATE,
-            dinnerDinerPeriod)).willReturn(reportPeriod);
+    given(restaurant.getDataVersion()).willReturn(A_DATA_VERSION);
+    given(ingredientPriceRepository.getIngredientPrices()).willReturn(givenIngredientPrices().withVersion(A_PRICES_VERSION));
 
     // when
-    reportService.getMaterialReport(REPORT_START_DATE, REPORT_END_DATE);
+    ReportVersion reportVersion = reportService.getPricedReportVersion();
 
     // then
-    verify(reportPeriodFactory).create(START_LOCAL_DATE, END_LOCAL_DATE, dinnerDinerPeriod);
+    assertThat(reportVersion).isEqualTo(new ReportVersion(A_DATA_VERSION, A_PRICES_VERSION));
   }
 
-  private List<IngredientPriceDto> givenIngredientPriceDtos() {
-    return Collections.singletonList(anIngredientPriceDto);
-  }
+  @Test
+  public void whenGetReportVersion_thenVersionIsTheDataVersionOfTheRestaurant() {
+    // given
+    given(restaurant.getDataVersion()).willReturn(A_DATA_VERSION);
 
-  private Map<LocalDate, Map<IngredientName, BigDecimal>> givenIngredientsQuantity() {
-    Map<IngredientName, BigDecimal> ingredientNameToQuantity = new HashMap<>();
-    ingredientNameToQuantity.put(AN_INGREDIENT_NAME, A_QUANTITY);
+    // when
+    ReportVersion reportVersion = reportService.getReportVersion();
+
+    // then
+    assertThat(reportVersion).isEqualTo(new ReportVersion(A_DATA_VERSION, 0));
+  }
 
-    Map<LocalDate, Map<IngredientName, BigDecimal>> dateToIngredientsQuantity = new HashMap<>();
-    dateToIngredientsQuantity.put(A_DATE, ingredientNameToQuantity);
-    return dateToIngredientsQuantity;
+  private IngredientPrices givenIngredientPrices() {
+    return IngredientPrices.of(Map.of(AN_INGREDIENT_NAME, A_PRICE));
   }
 }
@@ -0,0 +1,242 @@
+package ca.ulaval.glo4002.reservation.service.reservation;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ca.ulaval.glo4002.reservation.api.reservation.builder.CreateReservationRequestDtoBuilder;
+import ca.ulaval.glo4002.reservation.api.reservation.dto.CreateReservationRequestDto;
+import ca.ulaval.glo4002.reservation.domain.reservation.ReservationAdmission;
+import ca.ulaval.glo4002.reservation.domain.reservation.vendorCode.ReservationNumber;
+import ca.ulaval.glo4002.reservation.service.RestaurantService;
+import ca.ulaval.glo4002.reservation.service.reservation.exception.AdmissionQueueFullException;
+import ca.ulaval.glo4002.reservation.service.reservation.exception.ReservationTicketNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+public class ReservationAdmissionQueueTest {
+  private static final String A_DINNER_DATE = "2150-07-21T15:23:20.142Z";
+  private static final String THE_SAME_DINNER_DAY = "2150-07-21T19:00:00.000Z";
+  private static final String AN_UNKNOWN_TICKET_ID = "unknown";
+  private static final String TOO_MANY_PEOPLE = "TOO_MANY_PEOPLE";
+  private static final String A_DESCRIPTION = "A description";
+  private static final int A_SINGLE_DINNER_DAY_QUEUE = 1;
+  private static final int A_CAPACITY = 16;
+  private static final int A_BATCH_SIZE = 16;
+  private static final int MAXIMUM_COMPLETED_TICKETS = 16;
+
+  @Mock
+  private RestaurantService restaurantService;
+
+  @Mock
+  private ExecutorService admissionWorkers;
+
+  @Mock
+  private ReservationNumber reservationId;
+
+  private CreateReservationRequestDto aReservationRequestDto;
+  private CreateReservationRequestDto anotherReservationRequestDto;
+
+  @BeforeEach
+  public void setUp() {
+    aReservationRequestDto = new CreateReservationRequestDtoBuilder().withDinnerDate(A_DINNER_DATE).build();
+    anotherReservationRequestDto = new CreateReservationRequestDtoBuilder().withDinnerDate(THE_SAME_DINNER_DAY)
+                                                                           .build();
+  }
+
+  @Test
+  public void givenAFullDinnerDayQueue_whenSubmit_thenThrowAdmissionQueueFullException() {
+    // given
+    ReservationAdmissionQueue reservationAdmissionQueue = new ReservationAdmissionQueue(restaurantService,
+                                                                                        admissionWorkers,
+                                                                                        A_SINGLE_DINNER_DAY_QUEUE,
+                                                                                        1,
+                                                                                        A_BATCH_SIZE,
+                                                                                        MAXIMUM_COMPLETED_TICKETS);
+    reservationAdmissionQueue.submit(aReservationRequestDto);
+
+    // when
+    Executable submitting = () -> reservationAdmissionQueue.submit(anotherReservationRequestDto);
+
+    // then
+    assertThrows(AdmissionQueueFullException.class, submitting);
+  }
+
+  @Test
+  public void givenASubmittedRequest_whenItIsNotDrainedYet_thenItsTicketIsPending() {
+    // given
+    ReservationAdmissionQueue reservationAdmissionQueue = createReservationAdmissionQueue(A_BATCH_SIZE);
+
+    // when
+    ReservationTicket reservationTicket = reservationAdmissionQueue.submit(aReservationRequestDto);
+
+    // then
+    assertThat(reservationAdmissionQueue.getTicket(reservationTicket.getTicketId()).isPending()).isTrue();
+  }
+
+  @Test
+  public void givenRequestsForTheSameDinnerDay_whenTheQueueIsDrained_thenTheyAreAdmittedInOneBatch() {
+    // given
+    ReservationAdmissionQueue reservationAdmissionQueue = createReservationAdmissionQueue(A_BATCH_SIZE);
+    ReservationAdmission anAcceptance = ReservationAdmission.accepted(reservationId);
+    ReservationAdmission aRejection = ReservationAdmission.rejected(TOO_MANY_PEOPLE, A_DESCRIPTION);
+    given(restaurantService.makeReservations(List.of(aReservationRequestDto,
+                                                     anotherReservationRequestDto))).willReturn(List.of(anAcceptance,
+                                                                                                        aRejection));
+    ReservationTicket aReservationTicket = reservationAdmissionQueue.submit(aReservationRequestDto);
+    ReservationTicket anotherReservationTicket = reservationAdmissionQueue.submit(anotherReservationRequestDto);
+
+    // when
+    runScheduledDrains(1);
+
+    // then
+    assertThat(aReservationTicket.getAdmission()).isEqualTo(anAcceptance);
+    assertThat(anotherReservationTicket.getAdmission()).isEqualTo(aRejection);
+  }
+
+  @Test
+  public void givenMoreRequestsThanTheBatchSize_whenTheQueueIsDrained_thenTheRemainingRequestsAreScheduledAgain() {
+    // given
+    ReservationAdmissionQueue reservationAdmissionQueue = createReservationAdmissionQueue(1);
+    given(restaurantService.makeReservations(any())).willReturn(List.of(ReservationAdmission.accepted(reservationId)));
+    reservationAdmissionQueue.submit(aReservationRequestDto);
+    reservationAdmissionQueue.submit(anotherReservationRequestDto);
+
+    // when
+    runScheduledDrains(2);
+
+    // then
+    verify(restaurantService).makeReservations(List.of(aReservationRequestDto));
+    verify(restaurantService).makeReservations(List.of(anotherReservationRequestDto));
+  }
+
+  @Test
+  public void givenAnUnexpectedFailure_whenTheQueueIsDrained_thenTheTicketsOfTheBatchHaveFailed() {
+    // given
+    ReservationAdmissionQueue reservationAdmissionQueue = createReservationAdmissionQueue(A_BATCH_SIZE);
+    given(restaurantService.makeReservations(any())).willThrow(new IllegalStateException());
+    ReservationTicket reservationTicket = reservationAdmissionQueue.submit(aReservationRequestDto);
+
+    // when
+    runScheduledDrains(1);
+
+    // then
+    assertThat(reservationTicket.isPending()).isFalse();
+    assertThat(reservationTicket.hasFailed()).isTrue();
+  }
+
+  @Test
+  public void givenAFailingRequestInTheBatch_whenTheQueueIsDrained_thenOnlyItsTicketHasFailed() {
+    // given
+    ReservationAdmissionQueue reservationAdmissionQueue = createReservationAdmissionQueue(A_BATCH_SIZE);
+    ReservationAdmission anAcceptance = ReservationAdmission.accepted(reservationId);
+    given(restaurantService.makeReservations(List.of(aReservationRequestDto,
+                                                     anotherReservationRequestDto))).willThrow(new IllegalStateException());
+    given(restaurantService.makeReservations(List.of(aReservationRequestDto))).willReturn(List.of(anAcceptance));
+    given(restaurantService.makeReservations(List.of(anotherReservationRequestDto))).willThrow(new IllegalStateException());
+    ReservationTicket aReservationTicket = reservationAdmissionQueue.submit(aReservationRequestDto);
+    ReservationTicket anotherReservationTicket = reservationAdmissionQueue.submit(anotherReservationRequestDto);
+
+    // when
+    runScheduledDrains(1);
+
+    // then
+    assertThat(aReservationTicket.getAdmission()).isEqualTo(anAcceptance);
+    assertThat(anotherReservationTicket.hasFailed()).isTrue();
+  }
+
+  @Test
+  public void givenAClosedQueue_whenSubmit_thenTheTicketHasFailed() {
+    // given
+    ReservationAdmissionQueue reservationAdmissionQueue = createReservationAdmissionQueue(A_BATCH_SIZE);
+    willThrow(new RejectedExecutionException()).given(admissionWorkers).execute(any());
+
+    // when
+    ReservationTicket reservationTicket = reservationAdmissionQueue.submit(aReservationRequestDto);
+
+    // then
+    assertThat(reservationTicket.isPending()).isFalse();
+    assertThat(reservationTicket.hasFailed()).isTrue();
+  }
+
+  @Test
+  public void givenAnInterruptedShutdown_whenClose_thenTheInterruptionIsRestored() throws InterruptedException {
+    // given
+    ReservationAdmissionQueue reservationAdmissionQueue = createReservationAdmissionQueue(A_BATCH_SIZE);
+    given(admissionWorkers.awaitTermination(anyLong(), any())).willThrow(new InterruptedException());
+
+    // when
+    reservationAdmissionQueue.close();
+
+    // then
+    assertThat(Thread.interrupted()).isTrue();
+  }
+
+  @Test
+  public void givenMoreCompletedTicketsThanTheMaximum_whenGetTheOldestTicket_thenThrowReservationTicketNotFoundException() {
+    // given
+    ReservationAdmissionQueue reservationAdmissionQueue = new ReservationAdmissionQueue(restaurantService,
+                                                                                        admissionWorkers,
+                                                                                        A_SINGLE_DINNER_DAY_QUEUE,
+                                                                                        A_CAPACITY,
+                                                                                        A_BATCH_SIZE,
+                                                                                        1);
+    given(restaurantService.makeReservations(any())).willReturn(List.of(ReservationAdmission.accepted(reservationId),
+                                                                        ReservationAdmission.accepted(reservationId)));
+    ReservationTicket theOldestTicket = reservationAdmissionQueue.submit(aReservationRequestDto);
+    ReservationTicket theNewestTicket = reservationAdmissionQueue.submit(anotherReservationRequestDto);
+    runScheduledDrains(1);
+
+    // when
+    Executable gettingTheOldestTicket = () -> reservationAdmissionQueue.getTicket(theOldestTicket.getTicketId());
+
+    // then
+    assertThrows(ReservationTicketNotFoundException.class, gettingTheOldestTicket);
+    assertThat(reservationAdmissionQueue.getTicket(theNewestTicket.getTicketId())).isEqualTo(theNewestTicket);
+  }
+
+  @Test
+  public void givenAnUnknownTicket_whenGetTicket_thenThrowReservationTicketNotFoundException() {
+    // given
+    ReservationAdmissionQueue reservationAdmissionQueue = createReservationAdmissionQueue(A_BATCH_SIZE);
+
+    // when
+    Executable gettingTicket = () -> reservationAdmissionQueue.getTicket(AN_UNKNOWN_TICKET_ID);
+
+    // then
+    assertThrows(ReservationTicketNotFoundException.class, gettingTicket);
+  }
+
+  private ReservationAdmissionQueue createReservationAdmissionQueue(int maximumBatchSize) {
+    return new ReservationAdmissionQueue(restaurantService,
+                                         admissionWorkers,
+                                         A_SINGLE_DINNER_DAY_QUEUE,
+                                         A_CAPACITY,
+                                         maximumBatchSize,
+                                         MAXIMUM_COMPLETED_TICKETS);
+  }
+
+  private void runScheduledDrains(int numberOfDrains) {
+    ArgumentCaptor<Runnable> drain = ArgumentCaptor.forClass(Runnable.class);
+    for (int scheduledDrain = 1; scheduledDrain <= numberOfDrains; scheduledDrain++) {
+      verify(admissionWorkers, times(scheduledDrain)).execute(drain.capture());
+      drain.getValue().run();
+    }
+  }
+}
@@ -18,6 +18,7 @@ import ca.ulaval.glo4002.reservation.api.reservation.dto.ReservationDto;
 import ca.ulaval.glo4002.reservation.domain.builder.CustomerBuilder;
 import ca.ulaval.glo4002.reservation.domain.builder.ReservationBuilder;
 import ca.ulaval.glo4002.reservation.domain.builder.TableBuilder;
+import ca.ulaval.glo4002.reservation.domain.money.Money;
 import ca.ulaval.glo4002.reservation.domain.reservation.customer.Customer;
 import ca.ulaval.glo4002.reservation.domain.reservation.Reservation;
 import ca.ulaval.glo4002.reservation.domain.reservation.RestrictionType;
@@ -29,8 +30,8 @@ class ReservationAssemblerTest {
   private static final LocalDateTime DATE = LocalDateTime.of(2001, 9, 11, 16, 12, 12, 142000000);
   private static final String DATE_STRING = "2001-09-11T16:12:12.142Z";
   private static final String VEGAN_RESTRICTION = "vegan";
-  private static final BigDecimal A_ROUNDED_RESERVATION_PRICE = BigDecimal.valueOf(1234.57);
-  private static final BigDecimal A_RESERVATION_PRICE = BigDecimal.valueOf(1234.5678);
+  private static final BigDecimal A_ROUNDED_RESERVATION_PRICE = BigDecimal.valueOf(123450, 2);
+  private static final Money A_RESERVATION_PRICE = Money.ofCents(123450);
 
   @Mock
   private CustomerAssembler customerAssembler;